@@ -3331,4 +3331,202 @@ COMMENT ON COLUMN payments.updated_at IS '수정 시간';
 
 COMMENT ON COLUMN consultation_room.is_paid IS '결제 완료 여부 (0: 미결제, 1: 결제완료)';
 
- commit;
\ No newline at end of file
+ commit;
+
+/*================
+2026-10-18 테이블 추가
+ADOPTION_SYNC_STATE 테이블 추가 (유기동물 동기화 페이지 체크포인트)
+=================*/
+
+CREATE TABLE ADOPTION_SYNC_STATE (
+    sync_key             VARCHAR2(50)  PRIMARY KEY,
+    status               VARCHAR2(20),
+    total_count          NUMBER,
+    total_pages          NUMBER,
+    last_completed_page  NUMBER DEFAULT 0,
+    started_at           TIMESTAMP,
+    completed_at         TIMESTAMP,
+    updated_at           TIMESTAMP
+);
+
+COMMENT ON TABLE ADOPTION_SYNC_STATE IS '공공 API 유기동물 동기화 진행 상태';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.sync_key IS '동기화 단위 (FULL:ALL, FULL:시도코드)';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.status IS '상태 (RUNNING, INCOMPLETE, COMPLETED)';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.total_count IS 'API 전체 건수';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.total_pages IS '전체 페이지 수';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.last_completed_page IS '1페이지부터 연속으로 저장 완료된 마지막 페이지';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.started_at IS '전체 동기화 시작 일시';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.completed_at IS '전체 동기화 완료 일시';
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.updated_at IS '체크포인트 갱신 일시';
+
+commit;
+
+
+/*================
+2026-10-18 수정
+유기동물 증분 동기화 (기준일, 내용 해시) 컬럼 추가
+=================*/
+
+ALTER TABLE ADOPTION_SYNC_STATE ADD watermark DATE;
+ALTER TABLE SHELTER_ANIMALS ADD content_hash VARCHAR2(64);
+
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.watermark IS '증분 동기화 기준일 (마지막 성공 시 조회 종료일)';
+COMMENT ON COLUMN SHELTER_ANIMALS.content_hash IS '공공 API 매핑 필드 해시 (변경 감지용)';
+
+commit;
+
+
+/*================
+2026-10-18 수정
+유기동물 전체 동기화 세대 컬럼 및 정리(이력) 테이블 추가
+전체 동기화에서 확인되지 않은 동물, 공고가 끝난 동물은 SHELTER_ANIMALS_HISTORY 로 이동
+=================*/
+
+ALTER TABLE ADOPTION_SYNC_STATE ADD generation NUMBER(19);
+ALTER TABLE SHELTER_ANIMALS ADD sync_generation NUMBER(19);
+ALTER TABLE SHELTER_ANIMALS ADD retire_reason VARCHAR2(20);
+
+-- retire_reason 은 정리 청크 트랜잭션 안에서만 값이 있으므로 인덱스가 항상 비어 있음
+CREATE INDEX IDX_SHELTER_ANIMALS_RETIRE ON SHELTER_ANIMALS(RETIRE_REASON);
+CREATE INDEX IDX_SHELTER_ANIMALS_SYNC_GEN ON SHELTER_ANIMALS(SYNC_GENERATION);
+
+COMMENT ON COLUMN ADOPTION_SYNC_STATE.generation IS '전체 동기화 세대 (체크포인트가 속한 실행 회차)';
+COMMENT ON COLUMN SHELTER_ANIMALS.sync_generation IS '마지막으로 확인된 전체 동기화 세대';
+COMMENT ON COLUMN SHELTER_ANIMALS.retire_reason IS '이력 이동 표시 (정리 처리 중에만 사용)';
+
+CREATE TABLE SHELTER_ANIMALS_HISTORY (
+    animal_id            NUMBER        PRIMARY KEY,
+    shelter_id           NUMBER,
+    name                 VARCHAR2(100),
+    animal_type          VARCHAR2(30),
+    breed                VARCHAR2(50),
+    age                  NUMBER,
+    gender               CHAR(1),
+    neutered             CHAR(1),
+    status               VARCHAR2(20),
+    intake_date          DATE,
+    description          CLOB,
+    profile_image        VARCHAR2(255),
+    rename_filename      VARCHAR2(255),
+    original_filename    VARCHAR2(255),
+    desertion_no         VARCHAR2(50),
+    happen_date          DATE,
+    happen_place         VARCHAR2(200),
+    special_mark         VARCHAR2(1000),
+    public_notice_no     VARCHAR2(50),
+    public_notice_start  DATE,
+    public_notice_end    DATE,
+    image_url            VARCHAR2(500),
+    api_source           VARCHAR2(50),
+    weight               NUMBER(5,2),
+    color_cd             VARCHAR2(50),
+    process_state        VARCHAR2(20),
+    api_shelter_name     VARCHAR2(200),
+    api_shelter_tel      VARCHAR2(50),
+    api_shelter_addr     VARCHAR2(500),
+    api_org_nm           VARCHAR2(200),
+    content_hash         VARCHAR2(64),
+    sync_generation      NUMBER(19),
+    created_at           TIMESTAMP,
+    updated_at           TIMESTAMP,
+    retire_reason        VARCHAR2(20),
+    retired_at           TIMESTAMP
+);
+
+CREATE INDEX IDX_SA_HISTORY_DESERTION_NO ON SHELTER_ANIMALS_HISTORY(DESERTION_NO);
+CREATE INDEX IDX_SA_HISTORY_RETIRED_AT ON SHELTER_ANIMALS_HISTORY(RETIRED_AT);
+
+COMMENT ON TABLE SHELTER_ANIMALS_HISTORY IS '공공 API 피드에서 빠졌거나 공고가 끝난 유기동물 이력';
+COMMENT ON COLUMN SHELTER_ANIMALS_HISTORY.animal_id IS '원본 SHELTER_ANIMALS.animal_id';
+COMMENT ON COLUMN SHELTER_ANIMALS_HISTORY.retire_reason IS '이동 사유 (MISSING: 피드에서 사라짐, EXPIRED: 공고 종료)';
+COMMENT ON COLUMN SHELTER_ANIMALS_HISTORY.retired_at IS '이력 이동 일시';
+
+commit;
+
+
+/*================
+2026-10-18 수정
+유기동물 커서 목록용 인덱스 추가 (등록일, ID 내림차순)
+=================*/
+
+CREATE INDEX IDX_SHELTER_ANIMALS_CREATED_KEYSET ON SHELTER_ANIMALS(CREATED_AT DESC, ANIMAL_ID DESC);
+
+commit;
+
+
+/*================
+2026-10-18 테이블 추가
+ADOPTION_SAVED_SEARCH, ADOPTION_ALERT 테이블 추가 (저장된 검색 신규 동물 알림)
+=================*/
+
+CREATE TABLE ADOPTION_SAVED_SEARCH (
+    search_id     NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    user_id       NUMBER        NOT NULL,
+    login_id      VARCHAR2(50)  NOT NULL,
+    title         VARCHAR2(100),
+    region        VARCHAR2(100),
+    animal_type   VARCHAR2(30),
+    breed         VARCHAR2(50),
+    age_group     VARCHAR2(10),
+    gender        CHAR(1),
+    created_at    TIMESTAMP DEFAULT SYSTIMESTAMP,
+    CONSTRAINT fk_saved_search_user FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_SAVED_SEARCH_USER ON ADOPTION_SAVED_SEARCH(USER_ID);
+
+COMMENT ON TABLE ADOPTION_SAVED_SEARCH IS '사용자 저장 입양 동물 검색 조건';
+COMMENT ON COLUMN ADOPTION_SAVED_SEARCH.login_id IS 'STOMP 사용자 목적지용 로그인 ID';
+COMMENT ON COLUMN ADOPTION_SAVED_SEARCH.region IS '지역 (시도, 시도+시군구, 시군구)';
+COMMENT ON COLUMN ADOPTION_SAVED_SEARCH.age_group IS '나이대 (0, 1-2, 3-7, 8+)';
+
+CREATE TABLE ADOPTION_ALERT (
+    alert_id      NUMBER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    search_id     NUMBER        NOT NULL,
+    user_id       NUMBER        NOT NULL,
+    desertion_no  VARCHAR2(50)  NOT NULL,
+    delivered     CHAR(1) DEFAULT 'N' NOT NULL,
+    created_at    TIMESTAMP DEFAULT SYSTIMESTAMP,
+    CONSTRAINT fk_alert_saved_search FOREIGN KEY (search_id) REFERENCES ADOPTION_SAVED_SEARCH(search_id) ON DELETE CASCADE,
+    CONSTRAINT ck_alert_delivered CHECK (delivered IN ('Y','N'))
+);
+
+CREATE UNIQUE INDEX UK_ADOPTION_ALERT_SEARCH_ANIMAL ON ADOPTION_ALERT(SEARCH_ID, DESERTION_NO);
+CREATE INDEX IDX_ADOPTION_ALERT_USER ON ADOPTION_ALERT(USER_ID, DELIVERED);
+
+COMMENT ON TABLE ADOPTION_ALERT IS '저장된 검색에 맞는 신규 동물 알림';
+COMMENT ON COLUMN ADOPTION_ALERT.desertion_no IS '공공 API 유기번호';
+COMMENT ON COLUMN ADOPTION_ALERT.delivered IS '전달 여부 (Y: STOMP 전송 또는 목록 조회 완료, N: 대기)';
+
+commit;
+
+/*================
+2026-10-18 수정
+유기동물 공공데이터 보호소 연결 컬럼 추가 (보호소 관리번호, SHELTER_INFO FK)
+=================*/
+
+ALTER TABLE SHELTER_ANIMALS ADD api_care_reg_no VARCHAR2(50);
+ALTER TABLE SHELTER_ANIMALS ADD shelter_info_id NUMBER;
+ALTER TABLE SHELTER_ANIMALS ADD CONSTRAINT fk_animals_shelter_info
+    FOREIGN KEY (shelter_info_id) REFERENCES SHELTER_INFO(shelter_info_id);
+
+CREATE INDEX IDX_ANIMALS_SHELTER_INFO ON SHELTER_ANIMALS(SHELTER_INFO_ID);
+
+COMMENT ON COLUMN SHELTER_ANIMALS.api_care_reg_no IS '공공 API 보호소 관리번호';
+COMMENT ON COLUMN SHELTER_ANIMALS.shelter_info_id IS '연결된 공공데이터 보호소 (관리번호 > 전화번호 > 이름 순 매칭)';
+
+commit;
+
+/*================
+2026-10-18 수정
+유기동물 이력 테이블에 공공데이터 보호소 연결 컬럼 추가 (SHELTER_ANIMALS 와 같은 컬럼)
+이력은 보호소 정보가 정리되어도 남아야 하므로 SHELTER_INFO FK 는 두지 않음
+=================*/
+
+ALTER TABLE SHELTER_ANIMALS_HISTORY ADD api_care_reg_no VARCHAR2(50);
+ALTER TABLE SHELTER_ANIMALS_HISTORY ADD shelter_info_id NUMBER;
+
+COMMENT ON COLUMN SHELTER_ANIMALS_HISTORY.api_care_reg_no IS '공공 API 보호소 관리번호';
+COMMENT ON COLUMN SHELTER_ANIMALS_HISTORY.shelter_info_id IS '이동 시점에 연결되어 있던 공공데이터 보호소';
+
+commit;
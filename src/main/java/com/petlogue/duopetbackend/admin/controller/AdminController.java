@@ -3,10 +3,12 @@ package com.petlogue.duopetbackend.admin.controller;
 import com.petlogue.duopetbackend.admin.model.dto.DashboardDataDto;
 import com.petlogue.duopetbackend.admin.model.dto.UserReportCountDto;
 import com.petlogue.duopetbackend.admin.model.service.AdminService;
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionService;
 import com.petlogue.duopetbackend.board.model.dto.Board;
 import com.petlogue.duopetbackend.board.model.dto.Comments;
 import com.petlogue.duopetbackend.board.model.dto.Report;
 import com.petlogue.duopetbackend.board.model.service.BoardService;
+import com.petlogue.duopetbackend.common.http.OutboundHttpMetrics;
 import com.petlogue.duopetbackend.info.model.service.ShelterDataSyncService;
 import com.petlogue.duopetbackend.user.model.dto.UserDto;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +35,8 @@ public class AdminController {
     private final AdminService adminService;
     private final ShelterDataSyncService shelterDataSyncService;
     private final BoardService boardService;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+    private final AdoptionService adoptionService;
 
 
 
@@ -179,6 +184,43 @@ public class AdminController {
         return ResponseEntity.ok(reportCounts);
     }
 
+    /**
+     * 외부 API 호출 지표 조회 (엔드포인트별 호출/오류 수, 평균·최대·p50·p95 지연 ms)
+     * GET /admin/http-metrics
+     */
+    @GetMapping("/admin/http-metrics")
+    public ResponseEntity<Map<String, Map<String, Object>>> getOutboundHttpMetrics() {
+        return ResponseEntity.ok(outboundHttpMetrics.snapshot());
+    }
+
+    // =============== 입양 동물 데이터 동기화 관리 ===============
+
+    /**
+     * 입양 동물 증분 동기화 수동 실행
+     * POST /admin/adoption/sync/delta
+     *
+     * 관리자 권한 필요
+     */
+    @PostMapping("/admin/adoption/sync/delta")
+    public ResponseEntity<Map<String, Object>> syncAdoptionDelta() {
+        log.info("관리자 요청: 입양 동물 증분 동기화");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        try {
+            Map<String, Object> syncResult = adoptionService.syncAdoptionDelta();
+            result.put("status", "success");
+            result.put("message", "Delta synchronization completed");
+            result.putAll(syncResult);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("입양 동물 증분 동기화 실패", e);
+            result.put("status", "error");
+            result.put("message", e.getMessage());
+            result.put("type", e.getClass().getSimpleName());
+            return ResponseEntity.status(500).body(result);
+        }
+    }
+
     // =============== 보호소 데이터 동기화 관리 ===============
 
     /**
@@ -186,19 +228,19 @@ public class AdminController {
      * POST /admin/shelters/sync
      *
      * 관리자 권한 필요
-     * 공공데이터 API에서 최신 보호소 정보를 가져와 DB에 저장
+     * 공공데이터 API에서 최신 보호소 정보를 가져와 DB에 저장하고, 끝나면 결과 건수를 반환
+     * 자동 / 다른 수동 동기화가 실행 중이면 409
      */
     @PostMapping("/admin/shelters/sync")
     public ResponseEntity<?> syncShelterData() {
         log.info("관리자 요청: 보호소 데이터 수동 동기화");
 
         try {
-            // 비동기로 실행하여 응답 지연 방지
-            new Thread(() -> {
-                shelterDataSyncService.triggerManualSync();
-            }).start();
-
-            return ResponseEntity.ok().body("{\"message\": \"보호소 데이터 동기화가 시작되었습니다. 완료까지 몇 분이 소요될 수 있습니다.\"}");
+            Map<String, Object> result = shelterDataSyncService.triggerManualSync();
+            if (Boolean.TRUE.equals(result.get("alreadyRunning"))) {
+                return ResponseEntity.status(409).body(result);
+            }
+            return ResponseEntity.ok(result);
         } catch (Exception e) {
             log.error("보호소 데이터 동기화 실행 실패", e);
             return ResponseEntity.status(500).body("{\"error\": \"동기화 실행 실패: " + e.getMessage() + "\"}");
@@ -217,11 +259,35 @@ public class AdminController {
         log.info("관리자 요청: 보호소 데이터 매칭");
 
         try {
-            shelterDataSyncService.matchExistingShelters();
-            return ResponseEntity.ok().body("{\"message\": \"보호소 매칭이 완료되었습니다.\"}");
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("message", "보호소 매칭이 완료되었습니다.");
+            result.putAll(shelterDataSyncService.matchExistingShelters());
+            return ResponseEntity.ok().body(result);
         } catch (Exception e) {
             log.error("보호소 데이터 매칭 실패", e);
             return ResponseEntity.status(500).body("{\"error\": \"매칭 실패: " + e.getMessage() + "\"}");
         }
     }
+
+    /**
+     * 저장된 입양 동물의 공공데이터 보호소 연결 재계산
+     * POST /admin/shelters/link
+     *
+     * 관리자 권한 필요
+     * 보호소 데이터 동기화 / 매칭 후 실행
+     */
+    @PostMapping("/admin/shelters/link")
+    public ResponseEntity<?> relinkShelterInfo() {
+        log.info("관리자 요청: 입양 동물 보호소 연결 재계산");
+
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("message", "보호소 연결 재계산이 완료되었습니다.");
+            result.putAll(adoptionService.relinkShelterInfo());
+            return ResponseEntity.ok().body(result);
+        } catch (Exception e) {
+            log.error("보호소 연결 재계산 실패", e);
+            return ResponseEntity.status(500).body("{\"error\": \"연결 재계산 실패: " + e.getMessage() + "\"}");
+        }
+    }
 }
@@ -50,6 +50,7 @@ public class AdminService {
     private final ReportRepository reportRepository;
     private final CommentsRepository commentsRepository;
     private final BoardRepository boardRepository;
+    private final RestTemplate restTemplate;
     private final String aiApiKey;
     private final String aiServerUrl;
 
@@ -63,6 +64,7 @@ public class AdminService {
             ReportRepository reportRepository,
             CommentsRepository commentsRepository,
             BoardRepository boardRepository,
+            RestTemplate restTemplate, // 공용 커넥션 풀/재시도/지표가 적용된 RestTemplate
             @Value("${duopet.ai.api-key}") String aiApiKey, // @Value를 파라미터에 직접 적용
             @Value("${duopet.ai.server-url}") String aiServerUrl
     ) {
@@ -71,6 +73,7 @@ public class AdminService {
         this.reportRepository = reportRepository;
         this.commentsRepository = commentsRepository;
         this.boardRepository = boardRepository;
+        this.restTemplate = restTemplate;
         this.aiApiKey = aiApiKey;
         this.aiServerUrl = aiServerUrl;
     }
@@ -187,8 +190,6 @@ public class AdminService {
     public void resyncChatbotData() {
         log.info("챗봇 데이터 동기화 서비스 로직 시작");
 
-        RestTemplate restTemplate = new RestTemplate();
-
         HttpHeaders headers = new HttpHeaders();
         // 클래스 필드에 주입된 aiApiKey 사용
         headers.set("X-API-KEY", this.aiApiKey);
@@ -1,19 +1,20 @@
 package com.petlogue.duopetbackend.admin.model.service;
 
 import com.petlogue.duopetbackend.admin.model.dto.ShoppingResponseDto;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 
 @Service
+@RequiredArgsConstructor
 public class ShoppingService {
 
+    private final RestClient outboundRestClient;
+
     @Value("${naver.api.client-id}")
     private String naverApiClientId;
 
@@ -21,12 +22,6 @@ public class ShoppingService {
     private String naverApiClientSecret;
 
     public ShoppingResponseDto search(String query, Integer display, Integer start) {
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Naver-Client-Id", naverApiClientId);
-        headers.set("X-Naver-Client-Secret", naverApiClientSecret);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
         URI uri = UriComponentsBuilder
                 .fromUriString("https://openapi.naver.com")
                 .path("/v1/search/shop.json")
@@ -38,7 +33,12 @@ public class ShoppingService {
                 .build()
                 .toUri();
 
-        return restTemplate.exchange(uri, HttpMethod.GET, entity, ShoppingResponseDto.class).getBody();
+        return outboundRestClient.get()
+                .uri(uri)
+                .header("X-Naver-Client-Id", naverApiClientId)
+                .header("X-Naver-Client-Secret", naverApiClientSecret)
+                .retrieve()
+                .body(ShoppingResponseDto.class);
     }
 
 }
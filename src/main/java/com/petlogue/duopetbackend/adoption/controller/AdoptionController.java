@@ -1,6 +1,9 @@
 package com.petlogue.duopetbackend.adoption.controller;
 
 import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAnimalDto;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionCursorPage;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionSearchResult;
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionImageCache;
 import com.petlogue.duopetbackend.adoption.model.service.AdoptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,12 +11,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -51,6 +63,62 @@ public class AdoptionController {
         return ResponseEntity.ok(animals);
     }
     
+    /**
+     * 입양 가능 동물 목록 조회 (커서 기반 무한 스크롤)
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor 를 그대로 전달
+     */
+    @GetMapping("/animals/scroll")
+    public ResponseEntity<AdoptionCursorPage> getAvailableAnimalsScroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
+        
+        try {
+            return ResponseEntity.ok(adoptionService.getAvailableAnimalsAfter(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 동물 사진 프록시 (디스크 캐시 + 썸네일)
+     * 원본은 최초 요청 시 한 번만 내려받고, 이후에는 ETag 와 장기 캐시 헤더로 응답
+     */
+    @GetMapping("/images/{desertionNo}")
+    public ResponseEntity<Resource> getAnimalImage(
+            @PathVariable String desertionNo,
+            @RequestParam(defaultValue = "true") boolean thumbnail,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        try {
+            Optional<AdoptionImageCache.CachedImage> found = adoptionService.getAnimalImage(desertionNo, thumbnail);
+            if (found.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            AdoptionImageCache.CachedImage image = found.get();
+            CacheControl cacheControl = CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic();
+            if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(image.etag()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(image.etag())
+                        .cacheControl(cacheControl)
+                        .build();
+            }
+            
+            MediaType contentType = MediaType.parseMediaType(image.contentType());
+            // 스트림을 먼저 열어 두면 전송이 끝날 때까지 캐시에서 밀려나도 파일이 지워지지 않음 (닫기는 컨버터가 처리)
+            InputStream stream = adoptionService.openAnimalImage(image);
+            return ResponseEntity.ok()
+                    .eTag(image.etag())
+                    .cacheControl(cacheControl)
+                    .contentType(contentType)
+                    .contentLength(image.size())
+                    .body(new InputStreamResource(stream));
+        } catch (Exception e) {
+            log.warn("Failed to serve animal image: desertionNo={}, error={}", desertionNo, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+    }
+    
     /**
      * 동물 상세 정보 조회
      */
@@ -79,6 +147,48 @@ public class AdoptionController {
         return ResponseEntity.ok(animals);
     }
     
+    /**
+     * 동물 검색 (커서 기반 무한 스크롤, 등록일 내림차순)
+     */
+    @GetMapping("/animals/search/scroll")
+    public ResponseEntity<AdoptionCursorPage> searchAnimalsScroll(
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String neutered,
+            @RequestParam(required = false) String ageGroup,
+            @RequestParam(required = false) String breed,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
+        
+        try {
+            return ResponseEntity.ok(adoptionService.searchAnimalsAfter(
+                    region, type, gender, neutered, ageGroup, breed, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * 패싯 검색 (결과 페이지 + 지역/축종/성별/중성화/나이대/품종별 건수)
+     * ageGroup: 0, 1-2, 3-7, 8+, unknown
+     */
+    @GetMapping("/animals/faceted-search")
+    public ResponseEntity<AdoptionSearchResult> searchAnimalsWithFacets(
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String neutered,
+            @RequestParam(required = false) String ageGroup,
+            @RequestParam(required = false) String breed,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+        
+        AdoptionSearchResult result = adoptionService.searchAnimalsWithFacets(
+                region, type, gender, neutered, ageGroup, breed, PageRequest.of(page, size));
+        return ResponseEntity.ok(result);
+    }
+    
     /**
      * 데이터 동기화 수동 실행 (관리자용)
      */
@@ -151,6 +261,14 @@ public class AdoptionController {
         return ResponseEntity.ok(result);
     }
     
+    /**
+     * 유기동물 통계 (보호상태별 / 축종별 / 시도별 건수)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(adoptionService.getAdoptionStats());
+    }
+    
     /**
      * 데이터베이스 현황 조회
      */
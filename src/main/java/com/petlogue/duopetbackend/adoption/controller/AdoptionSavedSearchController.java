@@ -0,0 +1,68 @@
+package com.petlogue.duopetbackend.adoption.controller;
+
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAlertDto;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionSavedSearchDto;
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionAlertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장된 검색 / 신규 동물 알림 (로그인 필요)
+ * 실시간 알림은 STOMP /user/queue/adoption-alerts 로 전달되고, 접속 중이 아니었던 알림은 /alerts 로 조회
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/adoption/saved-searches")
+@RequiredArgsConstructor
+public class AdoptionSavedSearchController {
+
+    private final AdoptionAlertService adoptionAlertService;
+
+    /**
+     * 검색 조건 저장
+     */
+    @PostMapping
+    public ResponseEntity<?> createSavedSearch(@RequestAttribute("userId") Long userId,
+                                               @RequestAttribute("loginId") String loginId,
+                                               @RequestBody AdoptionSavedSearchDto request) {
+        try {
+            return ResponseEntity.ok(adoptionAlertService.createSavedSearch(userId, loginId, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 내 저장된 검색 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<AdoptionSavedSearchDto>> getSavedSearches(@RequestAttribute("userId") Long userId) {
+        return ResponseEntity.ok(adoptionAlertService.getSavedSearches(userId));
+    }
+
+    /**
+     * 저장된 검색 삭제
+     */
+    @DeleteMapping("/{searchId}")
+    public ResponseEntity<Void> deleteSavedSearch(@RequestAttribute("userId") Long userId,
+                                                  @PathVariable Long searchId) {
+        return adoptionAlertService.deleteSavedSearch(userId, searchId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 신규 동물 알림 목록 (조회한 대기 알림은 전달 완료 처리)
+     */
+    @GetMapping("/alerts")
+    public ResponseEntity<List<AdoptionAlertDto>> getAlerts(@RequestAttribute("userId") Long userId,
+                                                            @RequestParam(defaultValue = "false") boolean pendingOnly,
+                                                            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(adoptionAlertService.getAlerts(userId, pendingOnly, size));
+    }
+}
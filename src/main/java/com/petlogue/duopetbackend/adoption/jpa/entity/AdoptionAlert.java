@@ -0,0 +1,40 @@
+package com.petlogue.duopetbackend.adoption.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 검색에 맞는 신규 동물 알림
+ * 동기화 배치 INSERT 는 animal_id 를 돌려받지 않으므로 유기번호로 동물을 가리킨다.
+ */
+@Entity
+@Table(name = "ADOPTION_ALERT")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdoptionAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "alert_id")
+    private Long alertId;
+
+    @Column(name = "search_id", nullable = false)
+    private Long searchId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "desertion_no", length = 50, nullable = false)
+    private String desertionNo;
+
+    @Column(name = "delivered", length = 1)
+    private String delivered; // Y: STOMP 전송 또는 조회 완료, N: 대기
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -121,4 +121,16 @@ public class AdoptionAnimal {
     
     @Column(name = "api_org_nm", length = 200) 
     private String apiOrgNm; // 관할기관
+    
+    @Column(name = "api_care_reg_no", length = 50)
+    private String apiCareRegNo; // 보호소 관리번호
+    
+    @Column(name = "shelter_info_id")
+    private Long shelterInfoId; // 연결된 공공데이터 보호소 (SHELTER_INFO)
+    
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 공공 API 매핑 필드 해시 (변경 감지용)
+    
+    @Column(name = "sync_generation")
+    private Long syncGeneration; // 마지막으로 이 동물을 확인한 전체 동기화 세대
 }
\ No newline at end of file
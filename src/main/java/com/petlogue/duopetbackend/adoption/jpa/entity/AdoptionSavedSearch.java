@@ -0,0 +1,53 @@
+package com.petlogue.duopetbackend.adoption.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자가 저장한 입양 동물 검색 조건 (신규 동물 알림용)
+ */
+@Entity
+@Table(name = "ADOPTION_SAVED_SEARCH")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdoptionSavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "search_id")
+    private Long searchId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "login_id", length = 50, nullable = false)
+    private String loginId; // STOMP 사용자 목적지 (/user/{loginId}/queue/...)
+
+    @Column(name = "title", length = 100)
+    private String title;
+
+    @Column(name = "region", length = 100)
+    private String region; // 시도, 시도+시군구, 시군구
+
+    @Column(name = "animal_type", length = 30)
+    private String animalType;
+
+    @Column(name = "breed", length = 50)
+    private String breed;
+
+    @Column(name = "age_group", length = 10)
+    private String ageGroup; // 0, 1-2, 3-7, 8+
+
+    @Column(name = "gender", length = 1)
+    private String gender; // M, F
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,58 @@
+package com.petlogue.duopetbackend.adoption.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 공공 API 유기동물 동기화 진행 상태 (페이지 체크포인트)
+ * 동기화 단위(전국 또는 시도 코드)별로 한 행을 유지한다.
+ */
+@Entity
+@Table(name = "ADOPTION_SYNC_STATE")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdoptionSyncState {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_INCOMPLETE = "INCOMPLETE";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(name = "sync_key", length = 50)
+    private String syncKey; // FULL:ALL, FULL:6410000 등
+
+    @Column(name = "status", length = 20)
+    private String status; // RUNNING, INCOMPLETE, COMPLETED
+
+    @Column(name = "total_count")
+    private Integer totalCount; // 마지막 조회 시 API 전체 건수
+
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Column(name = "last_completed_page")
+    private Integer lastCompletedPage; // 1페이지부터 연속으로 저장 완료된 마지막 페이지
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "watermark")
+    private LocalDate watermark; // 증분 동기화 기준일 (마지막 성공 시 조회 종료일)
+
+    @Column(name = "generation")
+    private Long generation; // 전체 동기화 세대 (체크포인트가 속한 실행 회차)
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
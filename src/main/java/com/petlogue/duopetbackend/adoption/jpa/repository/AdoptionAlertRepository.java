@@ -0,0 +1,34 @@
+package com.petlogue.duopetbackend.adoption.jpa.repository;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAlert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface AdoptionAlertRepository extends JpaRepository<AdoptionAlert, Long> {
+
+    // 사용자 알림 목록 (최신순)
+    List<AdoptionAlert> findByUserIdOrderByAlertIdDesc(Long userId, Pageable pageable);
+
+    // 아직 전달되지 않은 알림 (최신순)
+    List<AdoptionAlert> findByUserIdAndDeliveredOrderByAlertIdDesc(Long userId, String delivered, Pageable pageable);
+
+    // 조회한 알림만 전달 완료 처리
+    @Modifying
+    @Transactional
+    @Query("UPDATE AdoptionAlert a SET a.delivered = 'Y' WHERE a.alertId IN :alertIds AND a.delivered = 'N'")
+    int markDeliveredByIds(@Param("alertIds") List<Long> alertIds);
+
+    // 저장된 검색 삭제 시 알림도 함께 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AdoptionAlert a WHERE a.searchId = :searchId")
+    int deleteBySearchId(@Param("searchId") Long searchId);
+}
@@ -1,13 +1,19 @@
 package com.petlogue.duopetbackend.adoption.jpa.repository;
 
+import com.petlogue.duopetbackend.admin.model.dto.StatItemDto;
 import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +23,13 @@ public interface AdoptionAnimalRepository extends JpaRepository<AdoptionAnimal,
     // 유기번호로 동물 찾기 (중복 체크용)
     Optional<AdoptionAnimal> findByDesertionNo(String desertionNo);
     
+    // 유기번호 목록으로 일괄 조회 (동기화 배치 저장 시 기존 데이터 확인용)
+    List<AdoptionAnimal> findByDesertionNoIn(Collection<String> desertionNos);
+    
+    // 유기번호로 원본 이미지 URL 조회 (이미지 프록시용)
+    @Query("SELECT a.imageUrl FROM AdoptionAnimal a WHERE a.desertionNo = :desertionNo")
+    Optional<String> findImageUrlByDesertionNo(@Param("desertionNo") String desertionNo);
+    
     // 유기번호 존재 여부 확인 (중복 체크용)
     boolean existsByDesertionNo(String desertionNo);
     
@@ -36,33 +49,66 @@ public interface AdoptionAnimalRepository extends JpaRepository<AdoptionAnimal,
            "AND a.animalType = :type")
     Page<AdoptionAnimal> findByAnimalType(@Param("type") String type, Pageable pageable);
     
-    // 메인 화면용 랜덤 동물 조회 (이미지가 있는 동물만)
-    @Query(value = "SELECT * FROM (" +
-           "SELECT * FROM SHELTER_ANIMALS " +
-           "WHERE process_state IN ('protect', '보호중') AND status = 'AVAILABLE' " +
-           "AND image_url IS NOT NULL " +
-           "ORDER BY DBMS_RANDOM.VALUE) " +
-           "WHERE ROWNUM <= :limit", nativeQuery = true)
-    List<AdoptionAnimal> findRandomAnimals(@Param("limit") int limit);
+    // 메인 화면 랜덤 후보 ID 조회 (보호중 + 이미지가 있는 동물만, AdoptionRandomPool 재구성용)
+    @Query("SELECT a.animalId FROM AdoptionAnimal a " +
+           "WHERE a.processState IN ('protect', '보호중') AND a.status = 'AVAILABLE' " +
+           "AND a.imageUrl IS NOT NULL")
+    List<Long> findRandomEligibleIds();
+    
+    // 패싯 검색 색인용 입양 가능 동물 전체 (보호소 함께 조회, 등록일 내림차순 = 색인 번호 순서)
+    @Query("SELECT a FROM AdoptionAnimal a LEFT JOIN FETCH a.shelter " +
+           "WHERE a.processState IN ('protect', '보호중') AND a.status = 'AVAILABLE' " +
+           "ORDER BY a.createdAt DESC NULLS LAST, a.animalId DESC")
+    List<AdoptionAnimal> findAvailableForIndex();
+    
+    // 커서 기반 입양 가능 동물 목록 - (등록일, ID) 가 커서보다 뒤인 행만 인덱스 순서로 조회 (COUNT 없음)
+    @Query("SELECT a FROM AdoptionAnimal a LEFT JOIN FETCH a.shelter " +
+           "WHERE a.processState IN ('protect', '보호중') AND a.status = 'AVAILABLE' " +
+           "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.animalId < :animalId)) " +
+           "ORDER BY a.createdAt DESC, a.animalId DESC")
+    List<AdoptionAnimal> findAvailableAfter(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("animalId") Long animalId,
+                                            Limit limit);
+    
+    // 색인 patch 용 ID 목록 조회 (보호소 함께 조회)
+    @Query("SELECT a FROM AdoptionAnimal a LEFT JOIN FETCH a.shelter WHERE a.animalId IN :ids")
+    List<AdoptionAnimal> findWithShelterByAnimalIdIn(@Param("ids") Collection<Long> ids);
     
     // 보호소별 동물 조회
     @Query("SELECT a FROM AdoptionAnimal a WHERE a.shelter.shelterId = :shelterId")
     List<AdoptionAnimal> findByShelterId(@Param("shelterId") Long shelterId);
     
-    // 복합 검색 (지역, 동물종류, 성별, 중성화여부)
-    @Query("SELECT a FROM AdoptionAnimal a LEFT JOIN a.shelter s " +
-           "WHERE a.processState IN ('protect', '보호중') " +
-           "AND a.status = 'AVAILABLE' " +
-           "AND (:region IS NULL OR s.address LIKE %:region% OR a.apiShelterAddr LIKE %:region%) " +
-           "AND (:type IS NULL OR a.animalType = :type) " +
-           "AND (:gender IS NULL OR a.gender = :gender) " +
-           "AND (:neutered IS NULL OR a.neutered = :neutered)")
-    Page<AdoptionAnimal> searchAnimals(@Param("region") String region,
-                                      @Param("type") String type,
-                                      @Param("gender") String gender,
-                                      @Param("neutered") String neutered,
-                                      Pageable pageable);
-    
     // 최근 저장된 동물 조회
     List<AdoptionAnimal> findTop5ByOrderByCreatedAtDesc();
+    
+    // 통계용 보호상태별 건수
+    @Query("SELECT new com.petlogue.duopetbackend.admin.model.dto.StatItemDto(a.processState, COUNT(a)) " +
+           "FROM AdoptionAnimal a GROUP BY a.processState")
+    List<StatItemDto> countGroupByProcessState();
+    
+    // 통계용 축종별 건수
+    @Query("SELECT new com.petlogue.duopetbackend.admin.model.dto.StatItemDto(a.animalType, COUNT(a)) " +
+           "FROM AdoptionAnimal a GROUP BY a.animalType")
+    List<StatItemDto> countGroupByAnimalType();
+    
+    // 통계용 관할기관/보호소 주소별 건수 (시도 합산은 서비스에서) - [orgNm, shelterAddr, count]
+    @Query("SELECT a.apiOrgNm, a.apiShelterAddr, COUNT(a) FROM AdoptionAnimal a " +
+           "GROUP BY a.apiOrgNm, a.apiShelterAddr")
+    List<Object[]> countGroupByOrgAndAddress();
+    
+    // 비정상 나이 데이터 건수
+    @Query("SELECT COUNT(a) FROM AdoptionAnimal a WHERE a.age < :minAge OR a.age > :maxAge")
+    long countInvalidAge(@Param("minAge") int minAge, @Param("maxAge") int maxAge);
+    
+    // 비정상 나이 데이터 샘플 조회 (정리 결과 표시용)
+    @Query("SELECT a FROM AdoptionAnimal a WHERE a.age < :minAge OR a.age > :maxAge ORDER BY a.animalId")
+    List<AdoptionAnimal> findInvalidAge(@Param("minAge") int minAge, @Param("maxAge") int maxAge, Pageable pageable);
+    
+    // 비정상 나이 값을 NULL 로 정리 (청크 단위, 호출마다 별도 트랜잭션)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE SHELTER_ANIMALS SET age = NULL, updated_at = SYSTIMESTAMP " +
+           "WHERE (age < :minAge OR age > :maxAge) AND ROWNUM <= :chunkSize", nativeQuery = true)
+    int clearInvalidAgeChunk(@Param("minAge") int minAge, @Param("maxAge") int maxAge,
+                             @Param("chunkSize") int chunkSize);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.petlogue.duopetbackend.adoption.jpa.repository;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AdoptionSavedSearchRepository extends JpaRepository<AdoptionSavedSearch, Long> {
+
+    // 사용자별 저장된 검색 목록 (최신순)
+    List<AdoptionSavedSearch> findByUserIdOrderBySearchIdDesc(Long userId);
+
+    long countByUserId(Long userId);
+}
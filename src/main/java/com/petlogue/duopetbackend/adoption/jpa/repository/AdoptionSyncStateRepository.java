@@ -0,0 +1,9 @@
+package com.petlogue.duopetbackend.adoption.jpa.repository;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AdoptionSyncStateRepository extends JpaRepository<AdoptionSyncState, String> {
+}
@@ -0,0 +1,24 @@
+package com.petlogue.duopetbackend.adoption.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 검색 신규 동물 알림 (STOMP 전송 및 알림 목록 조회)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdoptionAlertDto {
+
+    private Long searchId;
+    private String searchTitle;
+    private String desertionNo;
+    private AdoptionAnimalDto animal; // 이미 입양/반환되어 목록에서 빠진 동물이면 null
+    private LocalDateTime createdAt;
+}
@@ -3,7 +3,11 @@ package com.petlogue.duopetbackend.adoption.model.dto;
 import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
 import lombok.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.HexFormat;
 
 @Getter
 @Setter
@@ -18,6 +22,8 @@ public class AdoptionAnimalDto {
     private String shelterPhone;
     private String shelterAddress;
     private String orgNm; // 관할기관
+    private String careRegNo; // 보호소 관리번호 (변경 감지 해시에는 포함하지 않음)
+    private Long shelterInfoId; // 연결된 공공데이터 보호소
     
     // 기본 정보
     private String name;
@@ -48,6 +54,16 @@ public class AdoptionAnimalDto {
     private String sexCd;  // gender와 동일한 값
     private String kindCd; // breed와 동일한 값
     
+    /**
+     * 목록 카드용 썸네일 URL (이미지 프록시 경유, 원본 이미지가 없으면 표시용 이미지)
+     */
+    public String getThumbnailUrl() {
+        if (this.imageUrl != null && !this.imageUrl.trim().isEmpty() && this.desertionNo != null) {
+            return "/api/adoption/images/" + this.desertionNo + "?thumbnail=true";
+        }
+        return getDisplayImageUrl();
+    }
+    
     /**
      * 표시용 이미지 URL 반환 (fallback 처리 포함)
      * @return 이미지 URL 또는 기본 이미지 경로
@@ -70,6 +86,33 @@ public class AdoptionAnimalDto {
         }
     }
     
+    /**
+     * 공공 API에서 매핑되는 필드의 해시 (SHA-256, hex)
+     * 동기화 시 기존 데이터와 비교해 변경이 없으면 UPDATE를 생략하는 데 사용
+     * @return 64자리 해시 문자열
+     */
+    public String computeContentHash() {
+        Object[] fields = {
+                animalType, breed, age, gender, neutered,
+                happenDate, happenPlace, specialMark,
+                publicNoticeNo, publicNoticeStart, publicNoticeEnd,
+                imageUrl, weight, colorCd, processState,
+                shelterName, shelterPhone, shelterAddress, orgNm
+        };
+        
+        StringBuilder sb = new StringBuilder(256);
+        for (Object field : fields) {
+            sb.append(field != null ? field : "").append('\u001F');
+        }
+        
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
     // Entity -> DTO 변환
     public static AdoptionAnimalDto from(AdoptionAnimal entity) {
         return AdoptionAnimalDto.builder()
@@ -79,6 +122,8 @@ public class AdoptionAnimalDto {
                 .shelterPhone(entity.getShelter() != null ? entity.getShelter().getPhone() : entity.getApiShelterTel())
                 .shelterAddress(entity.getShelter() != null ? entity.getShelter().getAddress() : entity.getApiShelterAddr())
                 .orgNm(entity.getApiOrgNm())
+                .careRegNo(entity.getApiCareRegNo())
+                .shelterInfoId(entity.getShelterInfoId())
                 .name(entity.getName())
                 .animalType(entity.getAnimalType())
                 .breed(entity.getBreed())
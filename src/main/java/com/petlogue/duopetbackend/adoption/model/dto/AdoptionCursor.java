@@ -0,0 +1,53 @@
+package com.petlogue.duopetbackend.adoption.model.dto;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 입양 동물 목록 커서 (등록일 내림차순, 같은 등록일은 animalId 내림차순)
+ * 클라이언트에는 base64url 문자열로만 전달하고, 내용은 서버에서만 해석한다.
+ */
+public record AdoptionCursor(LocalDateTime createdAt, long animalId) {
+
+    // 첫 페이지 조회용 - 모든 동물보다 앞선 위치
+    public static final AdoptionCursor FIRST = new AdoptionCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public static AdoptionCursor of(AdoptionAnimal animal) {
+        return new AdoptionCursor(animal.getCreatedAt(), animal.getAnimalId());
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static AdoptionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new AdoptionCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + animalId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 주어진 행이 정렬 순서상 이 커서보다 뒤(다음 페이지 쪽)에 있는지 여부
+     */
+    public boolean precedes(LocalDateTime otherCreatedAt, long otherAnimalId) {
+        int compare = otherCreatedAt.compareTo(createdAt);
+        return compare < 0 || (compare == 0 && otherAnimalId < animalId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.petlogue.duopetbackend.adoption.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 결과 (무한 스크롤용)
+ * totalElements 는 메모리 색인 기준 건수로, 동기화 직후 잠시 실제 DB 건수와 다를 수 있다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdoptionCursorPage {
+
+    private List<AdoptionAnimalDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+    private long totalElements;
+}
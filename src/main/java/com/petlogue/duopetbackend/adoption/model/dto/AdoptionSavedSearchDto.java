@@ -0,0 +1,39 @@
+package com.petlogue.duopetbackend.adoption.model.dto;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSavedSearch;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 검색 요청/응답
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdoptionSavedSearchDto {
+
+    private Long searchId;
+    private String title;
+    private String region;     // 시도("경기"), 시도+시군구("경기 수원시"), 시군구("수원시")
+    private String animalType;
+    private String breed;
+    private String ageGroup;   // 0, 1-2, 3-7, 8+
+    private String gender;     // M, F
+    private LocalDateTime createdAt;
+
+    public static AdoptionSavedSearchDto from(AdoptionSavedSearch entity) {
+        return AdoptionSavedSearchDto.builder()
+                .searchId(entity.getSearchId())
+                .title(entity.getTitle())
+                .region(entity.getRegion())
+                .animalType(entity.getAnimalType())
+                .breed(entity.getBreed())
+                .ageGroup(entity.getAgeGroup())
+                .gender(entity.getGender())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+}
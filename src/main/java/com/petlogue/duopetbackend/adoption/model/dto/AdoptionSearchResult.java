@@ -0,0 +1,29 @@
+package com.petlogue.duopetbackend.adoption.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 검색 결과 (한 페이지 + 패싯별 값 건수)
+ * facets 예) { "sido": {"경기": 120, "서울": 80}, "gender": {"M": 110, "F": 90} }
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdoptionSearchResult {
+
+    private List<AdoptionAnimalDto> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    // 패싯 이름 -> (값 -> 건수), 각 패싯은 자기 자신을 뺀 나머지 조건으로 집계
+    private Map<String, Map<String, Integer>> facets;
+}
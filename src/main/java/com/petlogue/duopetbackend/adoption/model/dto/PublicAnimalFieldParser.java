@@ -0,0 +1,275 @@
+package com.petlogue.duopetbackend.adoption.model.dto;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 공공 API 동물 필드 파서 (나이 / 체중 / 날짜)
+ * 대부분을 차지하는 "2023(년생)", "3.2(Kg)", "20240115" 형식은 정규식 없이 직접 읽고,
+ * 그 외 형식만 미리 컴파일한 패턴으로 처리한다. 결과는 기존 정규식 파싱과 같다.
+ * 같은 원본 값이 반복되므로 나이/체중은 원본 문자열 기준으로 캐시한다. ("dddd(년생)" 은 캐시 조회보다 직접 읽는 쪽이 빠름)
+ * 처리량 비교는 테스트 소스의 PublicAnimalFieldParserBenchmark 참고.
+ */
+public final class PublicAnimalFieldParser {
+
+    private static final Pattern BIRTH_YEAR_PATTERN = Pattern.compile("(\\d{4})\\s*\\(\\s*년생\\s*\\)");
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\b(20[0-2][0-9])\\b");
+    private static final Pattern MONTH_PATTERN = Pattern.compile("(\\d+)\\s*개월");
+    private static final Pattern SIMPLE_AGE_PATTERN = Pattern.compile("\\b([0-9]|[1-2][0-9]|30)\\b");
+
+    private static final String BIRTH_YEAR_SUFFIX = "(년생)";
+
+    // 캐시 크기 상한 - 넘으면 비우고 다시 채움 (원본 값 종류는 수백~수천 개 수준)
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    // null 결과를 캐시하기 위한 표식
+    private static final Integer NO_AGE = Integer.MIN_VALUE;
+    private static final Double NO_WEIGHT = Double.NaN;
+
+    // 가수부가 2^53 미만이고 10^n 이 정확히 표현되는 범위에서는 나눗셈 한 번이 parseDouble 과 같은 값
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private static final Map<String, Integer> AGE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Double> WEIGHT_CACHE = new ConcurrentHashMap<>();
+
+    // 나이는 현재 연도 기준이므로 연도가 바뀌면 캐시를 비움
+    private static volatile int ageCacheYear;
+
+    // 현재 연도와 다음 해가 시작되는 시각 (Year.now() 는 호출마다 시간대 계산을 하므로 해가 바뀔 때만 호출)
+    private static volatile int currentYear;
+    private static volatile long nextYearStartMillis;
+
+    private PublicAnimalFieldParser() {
+    }
+
+    /**
+     * 나이 파싱 (올해 기준, 캐시 사용)
+     * @param ageData 공공 API의 age 필드 값 (예: "2024(년생)", "3", "6개월")
+     * @return 파싱된 나이 (실패시 null)
+     */
+    public static Integer parseAge(String ageData) {
+        if (ageData == null) {
+            return null;
+        }
+        int currentYear = currentYear();
+        int birthYear = readBirthYear(ageData);
+        if (birthYear >= 0) {
+            return ageFromBirthYear(birthYear, currentYear);
+        }
+        if (currentYear != ageCacheYear) {
+            AGE_CACHE.clear();
+            ageCacheYear = currentYear;
+        }
+
+        Integer cached = AGE_CACHE.get(ageData);
+        if (cached == null) {
+            Integer parsed = parseAge(ageData, currentYear);
+            cached = parsed != null ? parsed : NO_AGE;
+            put(AGE_CACHE, ageData, cached);
+        }
+        return cached.equals(NO_AGE) ? null : cached;
+    }
+
+    /**
+     * 나이 파싱 (기준 연도 지정, 캐시 없음)
+     * 우선순위: 출생년도("2024(년생)") > 4자리 연도 > 개월 수 > 단순 숫자(0~30)
+     */
+    public static Integer parseAge(String ageData, int currentYear) {
+        if (ageData == null) {
+            return null;
+        }
+        String cleanData = ageData.trim();
+        if (cleanData.isEmpty()) {
+            return null;
+        }
+
+        // 1. "2024(년생)" - 가장 흔한 형식은 직접 읽음
+        int birthYear = readBirthYear(cleanData);
+        if (birthYear < 0) {
+            Matcher birthYearMatcher = BIRTH_YEAR_PATTERN.matcher(cleanData);
+            if (birthYearMatcher.find()) {
+                birthYear = Integer.parseInt(birthYearMatcher.group(1));
+            }
+        }
+        if (birthYear >= 0) {
+            // 범위를 벗어나도 다른 형식으로 보지 않음
+            return ageFromBirthYear(birthYear, currentYear);
+        }
+
+        try {
+            // 2. 일반적인 4자리 연도 패턴 (년생 표기 없이)
+            Matcher yearMatcher = YEAR_PATTERN.matcher(cleanData);
+            if (yearMatcher.find()) {
+                int age = currentYear - Integer.parseInt(yearMatcher.group(1));
+                if (age >= 0 && age <= 35) {
+                    return age;
+                }
+            }
+
+            // 3. "개월" 단위 처리 (예: "6개월" -> 0세)
+            Matcher monthMatcher = MONTH_PATTERN.matcher(cleanData);
+            if (monthMatcher.find()) {
+                int months = Integer.parseInt(monthMatcher.group(1));
+                if (months >= 0 && months <= 60) { // 최대 5년까지
+                    return months / 12; // 12개월 미만은 0세로 처리
+                }
+            }
+
+            // 4. 단순 나이 숫자 패턴 (독립된 숫자, 0-30 범위)
+            Matcher simpleAgeMatcher = SIMPLE_AGE_PATTERN.matcher(cleanData);
+            if (simpleAgeMatcher.find()) {
+                return Integer.parseInt(simpleAgeMatcher.group(1));
+            }
+            return null;
+        } catch (NumberFormatException e) {
+            // 개월 수가 int 범위를 넘는 경우
+            return null;
+        }
+    }
+
+    /**
+     * 체중 파싱 - 숫자와 소수점만 남겨 실수로 변환 (예: "3.2(Kg)" -> 3.2), 캐시 사용
+     * @return 체중 (숫자가 없거나 소수점이 여러 개면 null)
+     */
+    public static Double parseWeight(String weight) {
+        if (weight == null) {
+            return null;
+        }
+        Double cached = WEIGHT_CACHE.get(weight);
+        if (cached == null) {
+            Double parsed = parseWeightUncached(weight);
+            cached = parsed != null ? parsed : NO_WEIGHT;
+            put(WEIGHT_CACHE, weight, cached);
+        }
+        return cached.isNaN() ? null : cached;
+    }
+
+    /**
+     * 날짜 변환 (YYYYMMDD -> LocalDate), 형식이 다르거나 없는 날짜면 null
+     */
+    public static LocalDate parseDate(String dateStr) {
+        if (dateStr == null || dateStr.length() != 8) {
+            return null;
+        }
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        for (int i = 0; i < 8; i++) {
+            int digit = dateStr.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            if (i < 4) {
+                year = year * 10 + digit;
+            } else if (i < 6) {
+                month = month * 10 + digit;
+            } else {
+                day = day * 10 + digit;
+            }
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 출생년도 -> 나이 (출생년도가 1990-현재년도 범위이고 나이가 0-35 일 때만)
+     */
+    private static Integer ageFromBirthYear(int birthYear, int currentYear) {
+        int age = currentYear - birthYear;
+        return birthYear >= 1990 && birthYear <= currentYear && age >= 0 && age <= 35 ? age : null;
+    }
+
+    private static int currentYear() {
+        if (System.currentTimeMillis() >= nextYearStartMillis) {
+            Year year = Year.now();
+            currentYear = year.getValue();
+            // 연도를 먼저 기록해야 다른 스레드가 새 경계와 이전 연도를 함께 보지 않음
+            nextYearStartMillis = year.plusYears(1).atDay(1).atStartOfDay(ZoneId.systemDefault())
+                    .toInstant().toEpochMilli();
+        }
+        return currentYear;
+    }
+
+    /**
+     * "dddd(년생)" 형식이면 출생년도, 아니면 -1
+     */
+    private static int readBirthYear(String value) {
+        if (value.length() != 4 + BIRTH_YEAR_SUFFIX.length() || !value.endsWith(BIRTH_YEAR_SUFFIX)) {
+            return -1;
+        }
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            year = year * 10 + digit;
+        }
+        return year;
+    }
+
+    private static Double parseWeightUncached(String weight) {
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        int dots = 0;
+        boolean sawDigit = false;
+        for (int i = 0; i < weight.length(); i++) {
+            char c = weight.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || c != '0') {
+                    digits++;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (dots > 0) {
+                    scale++;
+                }
+                if (digits > MAX_FAST_DIGITS || scale > MAX_FAST_DIGITS) {
+                    return parseStripped(weight);
+                }
+            } else if (c == '.') {
+                dots++;
+            }
+        }
+        if (dots > 1 || !sawDigit) {
+            return null; // "3.2.1", "." , "(Kg)" 등
+        }
+        return mantissa / POWERS_OF_TEN[scale];
+    }
+
+    // 긴 숫자는 기존 방식 그대로 문자열을 만들어 변환
+    private static Double parseStripped(String weight) {
+        StringBuilder stripped = new StringBuilder(weight.length());
+        for (int i = 0; i < weight.length(); i++) {
+            char c = weight.charAt(i);
+            if (c >= '0' && c <= '9' || c == '.') {
+                stripped.append(c);
+            }
+        }
+        try {
+            return Double.parseDouble(stripped.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static <V> void put(Map<String, V> cache, String key, V value) {
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+}
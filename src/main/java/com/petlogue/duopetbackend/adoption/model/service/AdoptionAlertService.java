@@ -0,0 +1,277 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAlert;
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSavedSearch;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAlertRepository;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAnimalRepository;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionSavedSearchRepository;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAlertDto;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAnimalDto;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionSavedSearchDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 검색 관리 및 신규 동물 알림
+ * 동기화 청크에서 새로 저장된 동물을 술어 색인으로 한 번에 매칭하고,
+ * 알림은 모두 저장한 뒤 접속 중인 사용자에게는 STOMP(/user/queue/adoption-alerts)로 바로 보낸다.
+ * 접속하지 않은 사용자는 알림 목록 조회 시 받아 간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdoptionAlertService {
+
+    public static final String ALERT_DESTINATION = "/queue/adoption-alerts";
+
+    // 같은 검색/동물 알림은 한 번만 (재등록된 동물 중복 방지)
+    private static final String INSERT_ALERT_SQL =
+            "INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(ADOPTION_ALERT, UK_ADOPTION_ALERT_SEARCH_ANIMAL) */ " +
+            "INTO ADOPTION_ALERT (search_id, user_id, desertion_no, delivered, created_at) VALUES (?, ?, ?, 'N', ?)";
+
+    private static final String MARK_DELIVERED_SQL =
+            "UPDATE ADOPTION_ALERT SET delivered = 'Y' WHERE search_id = ? AND desertion_no = ?";
+
+    private final AdoptionSavedSearchRepository adoptionSavedSearchRepository;
+    private final AdoptionAlertRepository adoptionAlertRepository;
+    private final AdoptionAnimalRepository adoptionAnimalRepository;
+    private final AdoptionSavedSearchMatcher matcher;
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+
+    // 동기화 스레드를 막지 않도록 알림 저장/전송은 별도 스레드 한 곳에서 순서대로 처리
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "adoption-alert-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${adoption.alert.max-searches-per-user:20}")
+    private int maxSearchesPerUser;
+
+    // 한 번의 STOMP 메시지에 담는 최대 동물 수 (나머지는 건수만 전달, 목록 조회로 확인)
+    @Value("${adoption.alert.max-animals-per-push:20}")
+    private int maxAnimalsPerPush;
+
+    /**
+     * 검색 조건 저장
+     * @throws IllegalArgumentException 조건이 잘못되었거나 저장 개수 초과
+     */
+    @Transactional
+    public AdoptionSavedSearchDto createSavedSearch(Long userId, String loginId, AdoptionSavedSearchDto request) {
+        if (adoptionSavedSearchRepository.countByUserId(userId) >= maxSearchesPerUser) {
+            throw new IllegalArgumentException("저장할 수 있는 검색은 최대 " + maxSearchesPerUser + "개입니다.");
+        }
+
+        AdoptionSavedSearch search = AdoptionSavedSearch.builder()
+                .userId(userId)
+                .loginId(loginId)
+                .title(request.getTitle())
+                .region(trimToNull(request.getRegion()))
+                .animalType(trimToNull(request.getAnimalType()))
+                .breed(trimToNull(request.getBreed()))
+                .ageGroup(trimToNull(request.getAgeGroup()))
+                .gender(trimToNull(request.getGender()))
+                .build();
+        AdoptionSavedSearchMatcher.constraintsOf(search); // 저장 전 검증
+
+        AdoptionSavedSearch saved = adoptionSavedSearchRepository.save(search);
+        afterCommit(() -> matcher.add(saved));
+        return AdoptionSavedSearchDto.from(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AdoptionSavedSearchDto> getSavedSearches(Long userId) {
+        return adoptionSavedSearchRepository.findByUserIdOrderBySearchIdDesc(userId).stream()
+                .map(AdoptionSavedSearchDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 저장된 검색 삭제 (본인 것만)
+     * @return 삭제 여부
+     */
+    @Transactional
+    public boolean deleteSavedSearch(Long userId, Long searchId) {
+        AdoptionSavedSearch search = adoptionSavedSearchRepository.findById(searchId).orElse(null);
+        if (search == null || !search.getUserId().equals(userId)) {
+            return false;
+        }
+        adoptionAlertRepository.deleteBySearchId(searchId);
+        adoptionSavedSearchRepository.delete(search);
+        afterCommit(() -> matcher.remove(searchId));
+        return true;
+    }
+
+    /**
+     * 알림 목록 조회 - 이번에 반환한 대기 알림만 전달 완료로 처리
+     * @param pendingOnly true 면 아직 전달되지 않은 알림만
+     */
+    @Transactional
+    public List<AdoptionAlertDto> getAlerts(Long userId, boolean pendingOnly, int size) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, 100)));
+        List<AdoptionAlert> alerts = pendingOnly
+                ? adoptionAlertRepository.findByUserIdAndDeliveredOrderByAlertIdDesc(userId, "N", page)
+                : adoptionAlertRepository.findByUserIdOrderByAlertIdDesc(userId, page);
+        if (alerts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> titles = adoptionSavedSearchRepository
+                .findAllById(alerts.stream().map(AdoptionAlert::getSearchId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(AdoptionSavedSearch::getSearchId,
+                        search -> search.getTitle() != null ? search.getTitle() : "", (a, b) -> a));
+        Map<String, AdoptionAnimalDto> animals = adoptionAnimalRepository
+                .findByDesertionNoIn(alerts.stream().map(AdoptionAlert::getDesertionNo).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(AdoptionAnimal::getDesertionNo, AdoptionAnimalDto::from, (a, b) -> a));
+
+        // 이번에 돌려주는 알림만 - 페이지 밖의 대기 알림은 다음 조회에서 받아 감
+        List<Long> pendingIds = alerts.stream()
+                .filter(alert -> "N".equals(alert.getDelivered()))
+                .map(AdoptionAlert::getAlertId)
+                .toList();
+        if (!pendingIds.isEmpty()) {
+            adoptionAlertRepository.markDeliveredByIds(pendingIds);
+        }
+
+        return alerts.stream()
+                .map(alert -> AdoptionAlertDto.builder()
+                        .searchId(alert.getSearchId())
+                        .searchTitle(titles.get(alert.getSearchId()))
+                        .desertionNo(alert.getDesertionNo())
+                        .animal(animals.get(alert.getDesertionNo()))
+                        .createdAt(alert.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 동기화 청크에서 새로 저장된 동물을 저장된 검색과 매칭해 알림 대기열에 넣음
+     * 동물 목록은 호출 스레드에서 DTO 로 바꿔 두고, 매칭/저장/전송은 알림 스레드에서 처리
+     */
+    public void notifyNewAnimals(List<AdoptionAnimal> inserted) {
+        List<AdoptionAnimalDto> animals = inserted.stream()
+                .filter(AdoptionSearchIndex::isAvailable)
+                .map(AdoptionAnimalDto::from)
+                .collect(Collectors.toList());
+        if (animals.isEmpty()) {
+            return;
+        }
+
+        dispatcher.execute(() -> {
+            try {
+                dispatch(animals);
+            } catch (Exception e) {
+                log.error("Failed to dispatch saved search alerts for {} animals", animals.size(), e);
+            }
+        });
+    }
+
+    private void dispatch(List<AdoptionAnimalDto> animals) {
+        List<AdoptionSavedSearchMatcher.Match> matches = matcher.match(animals);
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ALERT_SQL, matches, matches.size(), (ps, match) -> {
+            ps.setLong(1, match.criteria().searchId());
+            ps.setLong(2, match.criteria().userId());
+            ps.setString(3, match.animal().getDesertionNo());
+            ps.setTimestamp(4, now);
+        });
+
+        // 접속 중인 사용자에게만 사용자별로 한 번에 전송
+        Map<String, List<AdoptionSavedSearchMatcher.Match>> byUser = matches.stream()
+                .collect(Collectors.groupingBy(match -> match.criteria().loginId(), LinkedHashMap::new,
+                        Collectors.toList()));
+        List<AdoptionSavedSearchMatcher.Match> delivered = new ArrayList<>();
+        byUser.forEach((loginId, userMatches) -> {
+            if (simpUserRegistry.getUser(loginId) == null) {
+                return;
+            }
+            try {
+                messagingTemplate.convertAndSendToUser(loginId, ALERT_DESTINATION, toPayload(userMatches, now));
+                delivered.addAll(userMatches);
+            } catch (Exception e) {
+                log.warn("Failed to push adoption alerts to {}: {}", loginId, e.getMessage());
+            }
+        });
+
+        if (!delivered.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_DELIVERED_SQL, delivered, delivered.size(), (ps, match) -> {
+                ps.setLong(1, match.criteria().searchId());
+                ps.setString(2, match.animal().getDesertionNo());
+            });
+        }
+
+        log.info("Saved search alerts: animals={}, matches={}, users={}, pushed={}",
+                animals.size(), matches.size(), byUser.size(), delivered.size());
+    }
+
+    private Map<String, Object> toPayload(List<AdoptionSavedSearchMatcher.Match> matches, Timestamp now) {
+        Function<AdoptionSavedSearchMatcher.Match, AdoptionAlertDto> toDto = match -> AdoptionAlertDto.builder()
+                .searchId(match.criteria().searchId())
+                .searchTitle(match.criteria().title())
+                .desertionNo(match.animal().getDesertionNo())
+                .animal(match.animal())
+                .createdAt(now.toLocalDateTime())
+                .build();
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", "NEW_ANIMALS");
+        payload.put("count", matches.size());
+        payload.put("alerts", matches.stream().limit(maxAnimalsPerPush).map(toDto).collect(Collectors.toList()));
+        return payload;
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 매칭 색인 반영은 커밋 후에 (롤백된 검색이 색인에 남지 않도록), 트랜잭션 밖이면 바로
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+import com.petlogue.duopetbackend.info.model.service.ShelterInfoLinker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 유기동물 동기화용 JDBC 배치 저장소
+ * 청크 하나를 하나의 트랜잭션에서 INSERT / UPDATE 배치로 반영한다.
+ * 전체 동기화 정리 단계에서는 대상 행을 청크 단위로 표시한 뒤 이력 테이블로 옮긴다.
+ */
+@Slf4j
+@Component
+public class AdoptionAnimalBatchWriter {
+
+    // 이력 이동 사유 (피드에서 사라짐 / 공고 종료)
+    public static final String REASON_MISSING = "MISSING";
+    public static final String REASON_EXPIRED = "EXPIRED";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO SHELTER_ANIMALS (" +
+            "desertion_no, name, animal_type, breed, age, gender, neutered, " +
+            "happen_date, happen_place, special_mark, public_notice_no, public_notice_start, public_notice_end, " +
+            "image_url, weight, color_cd, process_state, intake_date, api_source, status, " +
+            "api_shelter_name, api_shelter_tel, api_shelter_addr, api_org_nm, api_care_reg_no, shelter_info_id, " +
+            "content_hash, sync_generation, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE SHELTER_ANIMALS SET " +
+            "animal_type = ?, breed = ?, age = ?, gender = ?, neutered = ?, " +
+            "happen_date = ?, happen_place = ?, special_mark = ?, public_notice_no = ?, " +
+            "public_notice_start = ?, public_notice_end = ?, image_url = ?, weight = ?, color_cd = ?, " +
+            "process_state = ?, intake_date = ?, " +
+            "api_shelter_name = ?, api_shelter_tel = ?, api_shelter_addr = ?, api_org_nm = ?, " +
+            "api_care_reg_no = ?, shelter_info_id = ?, content_hash = ?, " +
+            "sync_generation = COALESCE(?, sync_generation), updated_at = ? " +
+            "WHERE animal_id = ?";
+
+    // 내용이 같아 UPDATE 를 생략한 동물도 이번 세대에 확인했음을 기록
+    private static final String STAMP_SQL =
+            "UPDATE SHELTER_ANIMALS SET sync_generation = ? WHERE animal_id = ?";
+
+    // 보호소 연결만 바뀐 동물 (내용 해시는 그대로)
+    private static final String LINK_SQL =
+            "UPDATE SHELTER_ANIMALS SET api_care_reg_no = ?, shelter_info_id = ? WHERE animal_id = ?";
+
+    private static final String LINK_SCAN_SQL =
+            "SELECT animal_id, api_care_reg_no, api_shelter_name, api_shelter_tel, shelter_info_id " +
+            "FROM SHELTER_ANIMALS WHERE desertion_no IS NOT NULL";
+
+    private static final String RETIRE_MISSING_SQL =
+            "UPDATE SHELTER_ANIMALS SET status = 'NOT_AVAILABLE', retire_reason = '" + REASON_MISSING + "' " +
+            "WHERE retire_reason IS NULL AND desertion_no IS NOT NULL " +
+            "AND (sync_generation IS NULL OR sync_generation < ?) AND ROWNUM <= ?";
+
+    private static final String RETIRE_EXPIRED_SQL =
+            "UPDATE SHELTER_ANIMALS SET status = 'NOT_AVAILABLE', retire_reason = '" + REASON_EXPIRED + "' " +
+            "WHERE retire_reason IS NULL AND desertion_no IS NOT NULL " +
+            "AND public_notice_end < ? AND NVL(process_state, '-') NOT IN ('protect', '보호중') AND ROWNUM <= ?";
+
+    // SHELTER_ANIMALS -> SHELTER_ANIMALS_HISTORY 로 옮기는 컬럼 (엔티티에 매핑된 컬럼은 모두 포함해야 함)
+    public static final String HISTORY_COLUMNS =
+            "animal_id, shelter_id, name, animal_type, breed, age, gender, neutered, status, intake_date, " +
+            "description, profile_image, rename_filename, original_filename, desertion_no, " +
+            "happen_date, happen_place, special_mark, public_notice_no, public_notice_start, public_notice_end, " +
+            "image_url, api_source, weight, color_cd, process_state, " +
+            "api_shelter_name, api_shelter_tel, api_shelter_addr, api_org_nm, api_care_reg_no, shelter_info_id, " +
+            "content_hash, sync_generation, " +
+            "created_at, updated_at, retire_reason";
+
+    private static final String MOVE_TO_HISTORY_SQL =
+            "INSERT INTO SHELTER_ANIMALS_HISTORY (" + HISTORY_COLUMNS + ", retired_at) " +
+            "SELECT " + HISTORY_COLUMNS + ", ? FROM SHELTER_ANIMALS WHERE retire_reason IS NOT NULL";
+
+    private static final String DELETE_RETIRED_SQL =
+            "DELETE FROM SHELTER_ANIMALS WHERE retire_reason IS NOT NULL";
+
+    private static final String COUNT_SYNCED_SQL =
+            "SELECT COUNT(*) FROM SHELTER_ANIMALS WHERE desertion_no IS NOT NULL";
+
+    private static final String COUNT_MISSING_SQL =
+            "SELECT COUNT(*) FROM SHELTER_ANIMALS WHERE desertion_no IS NOT NULL " +
+            "AND (sync_generation IS NULL OR sync_generation < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AdoptionAnimalBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 신규/기존 동물을 하나의 트랜잭션에서 배치로 저장
+     * 실패 시 청크 전체가 롤백되며 예외를 그대로 던진다.
+     * @param links 내용 변경 없이 보호소 연결만 바뀐 동물
+     * @param stampIds 내용 변경 없이 세대만 기록할 동물 ID
+     * @param generation 전체 동기화 세대 (증분 동기화는 null)
+     */
+    public void write(List<AdoptionAnimal> inserts, List<AdoptionAnimal> updates, List<AdoptionAnimal> links,
+                      List<Long> stampIds, Long generation) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(),
+                        (ps, animal) -> bindInsert(ps, animal, now));
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(),
+                        (ps, animal) -> bindUpdate(ps, animal, now));
+            }
+            if (!links.isEmpty()) {
+                jdbcTemplate.batchUpdate(LINK_SQL, links, links.size(), (ps, animal) -> {
+                    ps.setString(1, animal.getApiCareRegNo());
+                    setLong(ps, 2, animal.getShelterInfoId());
+                    ps.setLong(3, animal.getAnimalId());
+                });
+            }
+            if (generation != null && !stampIds.isEmpty()) {
+                jdbcTemplate.batchUpdate(STAMP_SQL, stampIds, stampIds.size(), (ps, animalId) -> {
+                    ps.setLong(1, generation);
+                    ps.setLong(2, animalId);
+                });
+            }
+        });
+
+        log.debug("Batch written: inserted={}, updated={}, linked={}, stamped={}",
+                inserts.size(), updates.size(), links.size(), generation != null ? stampIds.size() : 0);
+    }
+
+    /**
+     * 저장된 공공 API 동물 전체를 한 번 훑으며 보호소 연결을 다시 계산 (해시 조인)
+     * 행은 fetch size 단위로 흘려 읽고, 연결이 바뀐 행만 chunkSize 건씩 별도 트랜잭션으로 UPDATE
+     * @return 연결이 바뀐 건수
+     */
+    public int relinkShelterInfo(ShelterInfoLinker linker, int chunkSize) {
+        List<Object[]> changed = new ArrayList<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LINK_SCAN_SQL);
+            ps.setFetchSize(Math.max(chunkSize, 500));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long animalId = rs.getLong(1);
+            String careRegNo = rs.getString(2);
+            long current = rs.getLong(5);
+            Long currentId = rs.wasNull() ? null : current;
+            Long resolved = linker.resolveId(careRegNo, rs.getString(3), rs.getString(4));
+            if (!Objects.equals(currentId, resolved)) {
+                changed.add(new Object[] {careRegNo, resolved, animalId});
+            }
+        });
+
+        for (int from = 0; from < changed.size(); from += chunkSize) {
+            List<Object[]> chunk = changed.subList(from, Math.min(from + chunkSize, changed.size()));
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(LINK_SQL, chunk, chunk.size(), (ps, row) -> {
+                        ps.setString(1, (String) row[0]);
+                        setLong(ps, 2, (Long) row[1]);
+                        ps.setLong(3, (Long) row[2]);
+                    }));
+        }
+        return changed.size();
+    }
+
+    /**
+     * 이번 세대에서 확인되지 않은 동물을 최대 chunkSize 건 이력 테이블로 이동 (청크마다 별도 트랜잭션)
+     * @return 이동한 건수 (0 이면 더 이상 대상 없음)
+     */
+    public int retireMissingChunk(long generation, int chunkSize) {
+        return retireChunk(RETIRE_MISSING_SQL, generation, chunkSize);
+    }
+
+    /**
+     * 공고 종료일이 cutoff 이전이고 보호 상태가 끝난 동물을 최대 chunkSize 건 이력 테이블로 이동
+     * @return 이동한 건수 (0 이면 더 이상 대상 없음)
+     */
+    public int expireNoticeChunk(LocalDate cutoff, int chunkSize) {
+        return retireChunk(RETIRE_EXPIRED_SQL, Date.valueOf(cutoff), chunkSize);
+    }
+
+    /**
+     * 공공 API 동기화 대상 건수와 그중 이번 세대에서 확인되지 않은 건수 - [전체, 미확인]
+     */
+    public long[] countMissing(long generation) {
+        Long total = jdbcTemplate.queryForObject(COUNT_SYNCED_SQL, Long.class);
+        Long missing = jdbcTemplate.queryForObject(COUNT_MISSING_SQL, Long.class, generation);
+        return new long[] {total != null ? total : 0L, missing != null ? missing : 0L};
+    }
+
+    /**
+     * 대상 행에 정리 사유를 표시하는 UPDATE 한 번 -> 표시된 행을 이력으로 복사 -> 삭제
+     * 세 문장이 한 트랜잭션이므로 표시된 행은 커밋 전에 모두 옮겨진다.
+     */
+    private int retireChunk(String markSql, Object criteria, int chunkSize) {
+        Integer moved = transactionTemplate.execute(status -> {
+            int marked = jdbcTemplate.update(markSql, criteria, chunkSize);
+            if (marked == 0) {
+                return 0;
+            }
+            int copied = jdbcTemplate.update(MOVE_TO_HISTORY_SQL, Timestamp.valueOf(LocalDateTime.now()));
+            int deleted = jdbcTemplate.update(DELETE_RETIRED_SQL);
+            if (copied != marked || deleted != marked) {
+                throw new IllegalStateException("Retire chunk mismatch: marked=" + marked
+                        + ", copied=" + copied + ", deleted=" + deleted);
+            }
+            return marked;
+        });
+        return moved != null ? moved : 0;
+    }
+
+    private void bindInsert(PreparedStatement ps, AdoptionAnimal a, Timestamp now) throws SQLException {
+        int i = 1;
+        ps.setString(i++, a.getDesertionNo());
+        ps.setString(i++, a.getName());
+        ps.setString(i++, a.getAnimalType());
+        ps.setString(i++, a.getBreed());
+        setInteger(ps, i++, a.getAge());
+        ps.setString(i++, a.getGender());
+        ps.setString(i++, a.getNeutered());
+        setDate(ps, i++, a.getHappenDate());
+        ps.setString(i++, a.getHappenPlace());
+        ps.setString(i++, a.getSpecialMark());
+        ps.setString(i++, a.getPublicNoticeNo());
+        setDate(ps, i++, a.getPublicNoticeStart());
+        setDate(ps, i++, a.getPublicNoticeEnd());
+        ps.setString(i++, a.getImageUrl());
+        setDouble(ps, i++, a.getWeight());
+        ps.setString(i++, a.getColorCd());
+        ps.setString(i++, a.getProcessState());
+        setDate(ps, i++, a.getIntakeDate());
+        ps.setString(i++, a.getApiSource());
+        ps.setString(i++, a.getStatus());
+        ps.setString(i++, a.getApiShelterName());
+        ps.setString(i++, a.getApiShelterTel());
+        ps.setString(i++, a.getApiShelterAddr());
+        ps.setString(i++, a.getApiOrgNm());
+        ps.setString(i++, a.getApiCareRegNo());
+        setLong(ps, i++, a.getShelterInfoId());
+        ps.setString(i++, a.getContentHash());
+        setLong(ps, i++, a.getSyncGeneration());
+        ps.setTimestamp(i++, now);
+        ps.setTimestamp(i, now);
+    }
+
+    private void bindUpdate(PreparedStatement ps, AdoptionAnimal a, Timestamp now) throws SQLException {
+        int i = 1;
+        ps.setString(i++, a.getAnimalType());
+        ps.setString(i++, a.getBreed());
+        setInteger(ps, i++, a.getAge());
+        ps.setString(i++, a.getGender());
+        ps.setString(i++, a.getNeutered());
+        setDate(ps, i++, a.getHappenDate());
+        ps.setString(i++, a.getHappenPlace());
+        ps.setString(i++, a.getSpecialMark());
+        ps.setString(i++, a.getPublicNoticeNo());
+        setDate(ps, i++, a.getPublicNoticeStart());
+        setDate(ps, i++, a.getPublicNoticeEnd());
+        ps.setString(i++, a.getImageUrl());
+        setDouble(ps, i++, a.getWeight());
+        ps.setString(i++, a.getColorCd());
+        ps.setString(i++, a.getProcessState());
+        setDate(ps, i++, a.getIntakeDate());
+        ps.setString(i++, a.getApiShelterName());
+        ps.setString(i++, a.getApiShelterTel());
+        ps.setString(i++, a.getApiShelterAddr());
+        ps.setString(i++, a.getApiOrgNm());
+        ps.setString(i++, a.getApiCareRegNo());
+        setLong(ps, i++, a.getShelterInfoId());
+        ps.setString(i++, a.getContentHash());
+        setLong(ps, i++, a.getSyncGeneration());
+        ps.setTimestamp(i++, now);
+        ps.setLong(i, a.getAnimalId());
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DATE);
+        } else {
+            ps.setDate(index, Date.valueOf(value));
+        }
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+}
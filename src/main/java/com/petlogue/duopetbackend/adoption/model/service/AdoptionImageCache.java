@@ -0,0 +1,528 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 유기동물 사진 디스크 캐시 (이미지 프록시용)
+ * - 원본은 최초 요청 시 한 번만 내려받아 저장 (같은 키 동시 요청은 하나의 다운로드를 공유)
+ * - 썸네일은 고정 폭으로 최초 요청 시 생성
+ * - 전체 용량을 넘으면 가장 오래 사용하지 않은 파일부터 삭제 (LRU), 전송 중인 파일은 전송이 끝난 뒤 삭제
+ * 사용 순서는 메모리에서만 관리하고 파일 확인 / 삭제 / 시각 기록은 잠금 밖에서 한다.
+ * 캐시 키는 유기번호 + 이미지 URL 해시이므로 같은 키의 내용은 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+public class AdoptionImageCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // 마지막 사용 시각을 파일에 기록하는 최소 간격 (재시작 후 순서 복원용이므로 대략이면 충분)
+    private static final long TOUCH_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final RestClient outboundRestClient;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final long maxImageBytes;
+    private final long maxImagePixels;
+    private final int thumbnailWidth;
+
+    // 파일명 -> 캐시 항목, 접근 순서 유지 (가장 앞이 가장 오래 사용하지 않은 항목)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final ConcurrentMap<String, CompletableFuture<CachedImage>> inflight = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor prefetchExecutor;
+
+    /**
+     * 캐시된 이미지 파일 정보
+     */
+    public record CachedImage(Path path, long size, String contentType, String etag) {
+    }
+
+    /**
+     * 캐시 항목 상태 - 필드는 this 잠금 안에서만 변경
+     */
+    private static final class Entry {
+        private final CachedImage image;
+        // 마지막으로 파일에 사용 시각을 기록한 System.nanoTime()
+        private long touchedAt;
+        // 열려 있는 스트림 수
+        private int readers;
+        // 캐시에서 빠졌지만 스트림이 열려 있어 파일 삭제를 미룬 상태
+        private boolean deletePending;
+
+        private Entry(CachedImage image) {
+            this.image = image;
+            this.touchedAt = System.nanoTime();
+        }
+    }
+
+    public AdoptionImageCache(
+            RestClient outboundRestClient,
+            @Value("${adoption.image-cache.dir:${java.io.tmpdir}/duopet-image-cache}") String cacheDir,
+            @Value("${adoption.image-cache.max-bytes:1073741824}") long maxBytes,
+            @Value("${adoption.image-cache.max-image-bytes:10485760}") long maxImageBytes,
+            @Value("${adoption.image-cache.max-image-pixels:25000000}") long maxImagePixels,
+            @Value("${adoption.image-cache.thumbnail-width:320}") int thumbnailWidth,
+            @Value("${adoption.image-cache.prefetch-threads:2}") int prefetchThreads) {
+        this.outboundRestClient = outboundRestClient;
+        this.cacheDir = Paths.get(cacheDir);
+        this.maxBytes = maxBytes;
+        this.maxImageBytes = maxImageBytes;
+        this.maxImagePixels = maxImagePixels;
+        this.thumbnailWidth = thumbnailWidth;
+
+        // 사전 다운로드는 대기열이 가득 차면 버림 (요청 시 다시 받으면 됨)
+        this.prefetchExecutor = new ThreadPoolExecutor(prefetchThreads, prefetchThreads,
+                30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1000), new ThreadPoolExecutor.DiscardPolicy());
+        this.prefetchExecutor.allowCoreThreadTimeOut(true);
+
+        loadExisting();
+    }
+
+    /**
+     * 원본 또는 썸네일 조회 (없으면 내려받거나 생성)
+     * @param thumbnail true 면 고정 폭 썸네일 (원본이 더 좁으면 원본)
+     */
+    public CachedImage get(String desertionNo, String imageUrl, boolean thumbnail) {
+        String originalKey = keyOf(desertionNo, imageUrl);
+        CachedImage original = load(originalKey, () -> download(originalKey, imageUrl));
+        if (!thumbnail) {
+            return original;
+        }
+
+        String thumbnailKey = originalKey + "-w" + thumbnailWidth;
+        return load(thumbnailKey, () -> createThumbnail(original, thumbnailKey));
+    }
+
+    /**
+     * 신규 동물 사진 미리 받기 (동기화 후 호출, 실패는 무시)
+     * @param images 유기번호 -> 이미지 URL
+     */
+    public void prefetch(Map<String, String> images) {
+        images.forEach((desertionNo, imageUrl) -> prefetchExecutor.execute(() -> {
+            try {
+                String key = keyOf(desertionNo, imageUrl);
+                load(key, () -> download(key, imageUrl));
+            } catch (Exception e) {
+                log.debug("Image prefetch failed: desertionNo={}, error={}", desertionNo, e.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * 캐시 파일 읽기 스트림 - 닫을 때까지는 캐시에서 밀려나도 파일을 지우지 않음
+     * get() 직후 호출하는 것을 전제로 하며, 그 사이에 이미 밀려나 삭제됐다면 IOException
+     */
+    public InputStream openStream(CachedImage image) throws IOException {
+        String key = image.path().getFileName().toString();
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.image == image) {
+                entry.readers++;
+            } else {
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            return Files.newInputStream(image.path());
+        }
+
+        Entry pinned = entry;
+        try {
+            return new FilterInputStream(Files.newInputStream(image.path())) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        if (!closed) {
+                            closed = true;
+                            release(pinned);
+                        }
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            release(pinned);
+            throw e;
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * 캐시 조회 후 없으면 producer 로 생성 - 같은 키는 동시에 하나만 생성
+     */
+    private CachedImage load(String key, FileProducer producer) {
+        CachedImage cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<CachedImage> mine = new CompletableFuture<>();
+        CompletableFuture<CachedImage> existing = inflight.putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            CachedImage loaded = lookup(key);
+            if (loaded == null) {
+                loaded = register(key, producer.produce());
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (IOException e) {
+            UncheckedIOException failure = new UncheckedIOException("이미지 캐시 실패: " + key, e);
+            mine.completeExceptionally(failure);
+            throw failure;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    private Path download(String key, String imageUrl) throws IOException {
+        Path temp = Files.createTempFile(cacheDir, key, TEMP_SUFFIX);
+        try {
+            outboundRestClient.get()
+                    .uri(URI.create(imageUrl))
+                    .exchange((request, response) -> {
+                        if (!response.getStatusCode().is2xxSuccessful()) {
+                            throw new IOException("원본 이미지 응답 오류: " + response.getStatusCode().value());
+                        }
+                        try (InputStream in = response.getBody()) {
+                            copyLimited(in, temp);
+                        }
+                        return null;
+                    });
+
+            Path target = cacheDir.resolve(key);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void copyLimited(InputStream in, Path target) throws IOException {
+        try (var out = Files.newOutputStream(target)) {
+            byte[] buffer = new byte[8192];
+            long written = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                written += read;
+                if (written > maxImageBytes) {
+                    throw new IOException("이미지 크기 제한 초과: " + maxImageBytes + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * 고정 폭 JPEG 썸네일 생성 - 절반씩 줄여 가며 축소해 계단 현상을 줄임
+     * 원본 폭이 썸네일 폭 이하면 디코딩 없이 원본 파일을 그대로 복사
+     * 크기는 헤더에서 먼저 읽어 화소 수 제한을 넘으면 디코딩하지 않음 (작은 파일로 큰 메모리를 쓰게 하는 이미지 차단)
+     */
+    private Path createThumbnail(CachedImage original, String key) throws IOException {
+        Path target = cacheDir.resolve(key);
+        Path temp = Files.createTempFile(cacheDir, key, TEMP_SUFFIX);
+        // 디코딩 중에 원본이 밀려나도 지워지지 않도록 캐시 스트림으로 읽음
+        try (InputStream file = openStream(original);
+             ImageInputStream in = new MemoryCacheImageInputStream(file)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식: " + original.path().getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxImagePixels) {
+                    throw new IOException("이미지 해상도 제한 초과: " + width + "x" + height);
+                }
+
+                if (width <= thumbnailWidth) {
+                    Files.copy(original.path(), temp, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    writeThumbnail(reader.read(0), temp);
+                }
+            } finally {
+                reader.dispose();
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeThumbnail(BufferedImage source, Path target) throws IOException {
+        int height = Math.max(1, (int) Math.round(source.getHeight() * (double) thumbnailWidth / source.getWidth()));
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(thumbnailWidth, w / 2);
+            h = w == thumbnailWidth ? height : Math.max(height, h / 2);
+            current = scale(current, w, h);
+        } while (w > thumbnailWidth);
+
+        if (!ImageIO.write(current, "jpg", target.toFile())) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * 캐시 조회 - 잠금 안에서는 메모리 상태만 보고 파일 확인 / 시각 기록은 잠금 밖에서 처리
+     */
+    private CachedImage lookup(String key) {
+        Entry entry;
+        boolean touch = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            long now = System.nanoTime();
+            if (now - entry.touchedAt >= TOUCH_INTERVAL_NANOS) {
+                entry.touchedAt = now;
+                touch = true;
+            }
+        }
+
+        if (!Files.exists(entry.image.path())) {
+            // 외부에서 지워진 파일 - 아직 같은 항목이면 캐시에서도 제거
+            synchronized (this) {
+                if (entries.get(key) == entry) {
+                    entries.remove(key);
+                    totalBytes -= entry.image.size();
+                }
+            }
+            return null;
+        }
+        if (touch) {
+            touch(entry.image.path());
+        }
+        return entry.image;
+    }
+
+    private CachedImage register(String key, Path path) throws IOException {
+        CachedImage image = describe(key, path);
+        List<Path> evicted;
+        synchronized (this) {
+            Entry previous = entries.put(key, new Entry(image));
+            if (previous != null) {
+                totalBytes -= previous.image.size();
+            }
+            totalBytes += image.size();
+            evicted = evictIfNeeded(key);
+        }
+        delete(evicted);
+        return image;
+    }
+
+    /**
+     * 용량 초과 시 가장 오래 사용하지 않은 항목부터 캐시에서 제거 (방금 추가한 항목은 제외)
+     * 스트림이 열린 항목은 마지막 스트림이 닫힐 때 지우고, 나머지는 지울 파일 목록으로 반환 (잠금 밖에서 삭제)
+     */
+    private List<Path> evictIfNeeded(String keep) {
+        List<Path> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            Entry entry = eldest.getValue();
+            it.remove();
+            totalBytes -= entry.image.size();
+            if (entry.readers > 0) {
+                entry.deletePending = true;
+            } else {
+                evicted.add(entry.image.path());
+            }
+        }
+        return evicted;
+    }
+
+    private void release(Entry entry) {
+        boolean delete;
+        synchronized (this) {
+            entry.readers--;
+            delete = entry.readers == 0 && entry.deletePending;
+        }
+        if (delete) {
+            delete(List.of(entry.image.path()));
+        }
+    }
+
+    private static void delete(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete evicted image: {}", path, e);
+            }
+        }
+    }
+
+    /**
+     * 재시작 시 기존 캐시 파일을 마지막 사용 시각 순서로 다시 등록
+     */
+    private void loadExisting() {
+        try {
+            Files.createDirectories(cacheDir);
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> stream = Files.list(cacheDir)) {
+                stream.filter(Files::isRegularFile).forEach(files::add);
+            }
+            files.sort(Comparator.comparing(AdoptionImageCache::lastModified));
+
+            List<CachedImage> images = new ArrayList<>();
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                images.add(describe(name, file));
+            }
+
+            List<Path> evicted;
+            synchronized (this) {
+                for (CachedImage image : images) {
+                    entries.put(image.path().getFileName().toString(), new Entry(image));
+                    totalBytes += image.size();
+                }
+                evicted = evictIfNeeded(null);
+            }
+            delete(evicted);
+            log.info("Image cache loaded: {} files, {} bytes ({})", entries.size(), totalBytes, cacheDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 캐시 디렉터리를 사용할 수 없습니다: " + cacheDir, e);
+        }
+    }
+
+    private static CachedImage describe(String key, Path path) throws IOException {
+        long size = Files.size(path);
+        String contentType;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            contentType = URLConnection.guessContentTypeFromStream(in);
+        }
+        if (contentType == null) {
+            contentType = "image/jpeg";
+        }
+        return new CachedImage(path, size, contentType, "\"" + key + "-" + size + "\"");
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    // 마지막 사용 시각을 파일에도 남겨 재시작 후 LRU 순서 복원
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // 순서 복원용이므로 실패해도 무시
+        }
+    }
+
+    /**
+     * 파일명 키: 유기번호(영숫자만) + 이미지 URL SHA-256 앞 12자리
+     */
+    static String keyOf(String desertionNo, String imageUrl) {
+        String safeNo = desertionNo.replaceAll("[^A-Za-z0-9_-]", "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(imageUrl.getBytes(StandardCharsets.UTF_8));
+            return safeNo + "-" + HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileProducer {
+        Path produce() throws IOException;
+    }
+}
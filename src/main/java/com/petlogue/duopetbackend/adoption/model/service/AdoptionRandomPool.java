@@ -0,0 +1,281 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAnimalRepository;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAnimalDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메인 화면 랜덤 동물용 후보 풀
+ * 보호중 + AVAILABLE + 이미지가 있는 동물 ID 를 메모리에 유지하고,
+ * 요청 시 풀에서 count 개를 뽑아 DTO 캐시로 채운다. (DB 정렬 없이 O(count))
+ * 전체 재구성은 동기화 완료 후, 기존 동물 변경은 청크 저장 직후 반영한다.
+ * 재구성과 변경 반영은 buildLock 으로 한 번에 하나씩만 실행해, 재구성 중 반영된 변경이 교체로 사라지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdoptionRandomPool {
+
+    private static final int MAX_SAMPLE_ATTEMPTS = 3;
+
+    private final AdoptionAnimalRepository adoptionAnimalRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재구성 / 변경 반영 직렬화 (DB 조회 동안 조회 요청은 막지 않음)
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final Map<Long, AdoptionAnimalDto> dtoCache = new ConcurrentHashMap<>();
+
+    // 풀 본체: ids[0..size) 와 id -> 위치 인덱스 (삭제는 마지막 원소와 자리 교체)
+    private long[] ids = new long[0];
+    private int size;
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 랜덤 동물 조회 - 풀에서 중복 없이 뽑은 뒤 캐시에 없는 것만 DB 에서 ID 로 조회
+     * 조회 시점에 조건을 벗어난 동물은 풀에서 빼고 다시 뽑는다.
+     */
+    public List<AdoptionAnimalDto> pick(int count) {
+        ensureLoaded();
+
+        List<AdoptionAnimalDto> result = new ArrayList<>(count);
+        Set<Long> chosen = new LinkedHashSet<>();
+        for (int attempt = 0; attempt < MAX_SAMPLE_ATTEMPTS && result.size() < count; attempt++) {
+            List<Long> sampled = sample(count - result.size(), chosen);
+            if (sampled.isEmpty()) {
+                break;
+            }
+            chosen.addAll(sampled);
+            result.addAll(hydrate(sampled));
+        }
+        return result;
+    }
+
+    /**
+     * DB 에서 후보 ID 전체를 다시 읽어 풀을 교체하고 DTO 캐시를 비움
+     */
+    public void rebuild() {
+        buildLock.lock();
+        try {
+            List<Long> eligible = adoptionAnimalRepository.findRandomEligibleIds();
+
+            lock.writeLock().lock();
+            try {
+                ids = new long[Math.max(16, eligible.size())];
+                size = 0;
+                positions.clear();
+                for (Long id : eligible) {
+                    addInternal(id);
+                }
+                dtoCache.clear();
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Random animal pool rebuilt: {} animals", eligible.size());
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 첫 조회 시 한 번만 재구성 (동시에 들어온 요청은 먼저 시작한 재구성을 기다림)
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        buildLock.lock();
+        try {
+            if (!loaded) {
+                rebuild();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 기존 동물 반영 - 조건에 맞으면 풀에 추가, 아니면 제거하고 캐시된 DTO 는 무효화
+     * (신규 INSERT 는 ID 를 모르므로 동기화 완료 후 rebuild 에서 반영)
+     */
+    public void refresh(Collection<AdoptionAnimal> animals) {
+        if (animals.isEmpty()) {
+            return;
+        }
+
+        buildLock.lock();
+        try {
+            // 아직 한 번도 만들지 않았으면 첫 재구성이 DB 에서 함께 읽음
+            if (!loaded) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                for (AdoptionAnimal animal : animals) {
+                    Long id = animal.getAnimalId();
+                    if (id == null) {
+                        continue;
+                    }
+                    dtoCache.remove(id);
+                    if (isEligible(animal)) {
+                        addInternal(id);
+                    } else {
+                        removeInternal(id);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static boolean isEligible(AdoptionAnimal animal) {
+        return ("protect".equals(animal.getProcessState()) || "보호중".equals(animal.getProcessState()))
+                && "AVAILABLE".equals(animal.getStatus())
+                && animal.getImageUrl() != null;
+    }
+
+    /**
+     * Floyd 알고리즘으로 풀에서 k 개를 중복 없이 추출 (exclude 에 있는 ID 는 제외)
+     */
+    private List<Long> sample(int k, Set<Long> exclude) {
+        lock.readLock().lock();
+        try {
+            int n = size;
+            if (n == 0 || k <= 0) {
+                return List.of();
+            }
+
+            List<Long> picked = new ArrayList<>(Math.min(k, n));
+            if (k >= n - exclude.size()) {
+                for (int i = 0; i < n; i++) {
+                    if (!exclude.contains(ids[i])) {
+                        picked.add(ids[i]);
+                    }
+                }
+            } else {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Set<Integer> indexes = new LinkedHashSet<>();
+                for (int j = n - k; j < n && picked.size() < k; j++) {
+                    int t = random.nextInt(j + 1);
+                    int index = indexes.add(t) ? t : j;
+                    indexes.add(index);
+                    if (!exclude.contains(ids[index])) {
+                        picked.add(ids[index]);
+                    }
+                }
+            }
+            Collections.shuffle(picked);
+            return picked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 캐시에 있는 DTO 는 그대로, 없는 것은 한 번의 IN 조회로 채움 (추출 순서 유지)
+     */
+    private List<AdoptionAnimalDto> hydrate(List<Long> sampled) {
+        List<Long> missing = new ArrayList<>();
+        for (Long id : sampled) {
+            if (!dtoCache.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<AdoptionAnimal> stale = new ArrayList<>();
+            Set<Long> deleted = new LinkedHashSet<>(missing);
+            for (AdoptionAnimal animal : adoptionAnimalRepository.findAllById(missing)) {
+                deleted.remove(animal.getAnimalId());
+                if (isEligible(animal)) {
+                    dtoCache.put(animal.getAnimalId(), AdoptionAnimalDto.from(animal));
+                } else {
+                    stale.add(animal);
+                }
+            }
+            refresh(stale);
+
+            // 삭제된 동물은 조회되지 않으므로 풀에서도 제거
+            if (!deleted.isEmpty()) {
+                removeAll(deleted);
+            }
+        }
+
+        List<AdoptionAnimalDto> result = new ArrayList<>(sampled.size());
+        for (Long id : sampled) {
+            AdoptionAnimalDto dto = dtoCache.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    private void removeAll(Collection<Long> animalIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : animalIds) {
+                removeInternal(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addInternal(long id) {
+        if (positions.containsKey(id)) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(16, size * 2));
+        }
+        ids[size] = id;
+        positions.put(id, size);
+        size++;
+    }
+
+    private void removeInternal(long id) {
+        Integer index = positions.remove(id);
+        if (index == null) {
+            return;
+        }
+        int last = size - 1;
+        if (index != last) {
+            long moved = ids[last];
+            ids[index] = moved;
+            positions.put(moved, index);
+        }
+        size = last;
+    }
+}
@@ -0,0 +1,299 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSavedSearch;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionSavedSearchRepository;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAnimalDto;
+import com.petlogue.duopetbackend.common.RegionName;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 저장된 검색 조건 술어 색인 (신규 동물 알림 매칭용)
+ * 저장된 검색마다 가장 선택도가 높은 조건 하나(anchor)를 골라 (패싯, 값) 아래에 등록해 두고,
+ * 신규 동물은 자기 패싯 값에 등록된 검색만 나머지 조건으로 확인한다.
+ * 검색 수가 많아도 동물 한 마리당 확인하는 검색은 해당 값에 걸린 것뿐이다.
+ * 전체 읽기는 add / remove 와 같은 쓰기 잠금 안에서 한다. 첫 읽기 전에 저장된 검색은 대기열에 두었다가
+ * 읽은 뒤 함께 등록한다. add / remove 는 저장 트랜잭션이 커밋된 뒤에만 호출된다. (AdoptionAlertService)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdoptionSavedSearchMatcher {
+
+    // 시도 없이 시군구 이름만 저장한 경우 ("수원시")
+    static final String FACET_SIGUNGU_NAME = "sigunguName";
+    // 시도와 시군구 접두어로 저장한 경우 ("서울 강남") - 동물의 시군구 키가 이 값으로 시작해야 함
+    static final String FACET_SIGUNGU_PREFIX = "sigunguPrefix";
+
+    // 선택도가 높은 순서 - 저장된 검색은 이 순서상 첫 번째 조건에 등록
+    private static final List<String> ANCHOR_ORDER = List.of(
+            AdoptionSearchIndex.FACET_BREED,
+            AdoptionSearchIndex.FACET_SIGUNGU,
+            FACET_SIGUNGU_NAME,
+            AdoptionSearchIndex.FACET_SIDO,
+            AdoptionSearchIndex.FACET_AGE,
+            AdoptionSearchIndex.FACET_TYPE,
+            AdoptionSearchIndex.FACET_GENDER);
+
+    private static final Set<String> AGE_GROUPS = Set.of("0", "1-2", "3-7", "8+");
+    private static final Set<String> GENDERS = Set.of("M", "F");
+
+    private final AdoptionSavedSearchRepository adoptionSavedSearchRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 패싯 -> 값 -> 그 값을 anchor 로 가진 검색
+    private final Map<String, Map<String, List<Criteria>>> anchors = new HashMap<>();
+    private final Map<Long, Criteria> bySearchId = new HashMap<>();
+    // 첫 읽기 전에 저장된 검색 (읽은 뒤 등록)
+    private final Map<Long, Criteria> pendingAdds = new LinkedHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 저장된 검색 하나의 매칭 조건 (패싯 -> 값, 모두 일치해야 함)
+     */
+    public record Criteria(long searchId, long userId, String loginId, String title,
+                           Map<String, String> constraints) {
+    }
+
+    /**
+     * 매칭 결과 한 건
+     */
+    public record Match(Criteria criteria, AdoptionAnimalDto animal) {
+    }
+
+    /**
+     * 저장된 검색 -> 패싯 조건 변환 (검색 색인과 같은 값 기준)
+     * @throws IllegalArgumentException 조건이 없거나 지역/나이대/성별 값을 알 수 없는 경우
+     */
+    public static Map<String, String> constraintsOf(AdoptionSavedSearch search) {
+        Map<String, String> constraints = new LinkedHashMap<>();
+
+        if (StringUtils.hasText(search.getRegion())) {
+            RegionName region = RegionName.parse(search.getRegion());
+            if (region.sigunguKey() != null) {
+                constraints.put(AdoptionSearchIndex.FACET_SIGUNGU, region.sigunguKey());
+            } else if (region.sigunguKeyPrefix() != null) {
+                constraints.put(AdoptionSearchIndex.FACET_SIDO, region.sido());
+                constraints.put(FACET_SIGUNGU_PREFIX, region.sigunguKeyPrefix());
+            } else if (region.sido() != null) {
+                constraints.put(AdoptionSearchIndex.FACET_SIDO, region.sido());
+            } else if (region.sigungu() != null) {
+                constraints.put(FACET_SIGUNGU_NAME, region.sigungu());
+            } else {
+                throw new IllegalArgumentException("지역을 인식할 수 없습니다: " + search.getRegion());
+            }
+        }
+        putIfText(constraints, AdoptionSearchIndex.FACET_TYPE, search.getAnimalType());
+        putIfText(constraints, AdoptionSearchIndex.FACET_BREED, search.getBreed());
+        if (StringUtils.hasText(search.getAgeGroup())) {
+            if (!AGE_GROUPS.contains(search.getAgeGroup().trim())) {
+                throw new IllegalArgumentException("나이대는 0, 1-2, 3-7, 8+ 중 하나여야 합니다.");
+            }
+            constraints.put(AdoptionSearchIndex.FACET_AGE, search.getAgeGroup().trim());
+        }
+        if (StringUtils.hasText(search.getGender())) {
+            if (!GENDERS.contains(search.getGender().trim())) {
+                throw new IllegalArgumentException("성별은 M 또는 F 여야 합니다.");
+            }
+            constraints.put(AdoptionSearchIndex.FACET_GENDER, search.getGender().trim());
+        }
+
+        if (constraints.isEmpty()) {
+            throw new IllegalArgumentException("검색 조건을 하나 이상 입력해야 합니다.");
+        }
+        return constraints;
+    }
+
+    /**
+     * 신규 동물 목록을 저장된 검색과 매칭
+     */
+    public List<Match> match(Collection<AdoptionAnimalDto> animals) {
+        if (!loaded) {
+            lock.writeLock().lock();
+            try {
+                // 동시에 들어온 매칭은 먼저 시작한 읽기를 기다림
+                if (!loaded) {
+                    load();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (AdoptionAnimalDto animal : animals) {
+                Map<String, String> values = valuesOf(animal);
+                values.forEach((facet, value) -> {
+                    List<Criteria> candidates = anchors.getOrDefault(facet, Map.of()).get(value);
+                    if (candidates == null) {
+                        return;
+                    }
+                    for (Criteria criteria : candidates) {
+                        if (matchesAll(criteria, values)) {
+                            matches.add(new Match(criteria, animal));
+                        }
+                    }
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    /**
+     * DB 의 저장된 검색 전체로 색인 재구성
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            load();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금을 잡은 상태에서 호출
+    private void load() {
+        List<AdoptionSavedSearch> searches = adoptionSavedSearchRepository.findAll();
+
+        anchors.clear();
+        bySearchId.clear();
+        int skipped = 0;
+        for (AdoptionSavedSearch search : searches) {
+            try {
+                register(toCriteria(search));
+            } catch (IllegalArgumentException e) {
+                skipped++;
+            }
+        }
+        for (Criteria criteria : pendingAdds.values()) {
+            unregister(criteria.searchId());
+            register(criteria);
+        }
+        pendingAdds.clear();
+        loaded = true;
+        log.info("Saved search matcher loaded: {} searches ({} skipped)", bySearchId.size(), skipped);
+    }
+
+    /**
+     * 새로 저장된 검색 등록
+     */
+    public void add(AdoptionSavedSearch search) {
+        Criteria criteria = toCriteria(search);
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                pendingAdds.put(criteria.searchId(), criteria);
+                return;
+            }
+            unregister(criteria.searchId());
+            register(criteria);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 검색 제거
+     */
+    public void remove(Long searchId) {
+        lock.writeLock().lock();
+        try {
+            pendingAdds.remove(searchId);
+            unregister(searchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bySearchId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Criteria toCriteria(AdoptionSavedSearch search) {
+        return new Criteria(search.getSearchId(), search.getUserId(), search.getLoginId(),
+                search.getTitle(), Map.copyOf(constraintsOf(search)));
+    }
+
+    private void register(Criteria criteria) {
+        String anchor = anchorOf(criteria);
+        anchors.computeIfAbsent(anchor, f -> new HashMap<>())
+                .computeIfAbsent(criteria.constraints().get(anchor), v -> new ArrayList<>())
+                .add(criteria);
+        bySearchId.put(criteria.searchId(), criteria);
+    }
+
+    private void unregister(Long searchId) {
+        Criteria criteria = bySearchId.remove(searchId);
+        if (criteria == null) {
+            return;
+        }
+        String anchor = anchorOf(criteria);
+        Map<String, List<Criteria>> byValue = anchors.get(anchor);
+        List<Criteria> bucket = byValue != null ? byValue.get(criteria.constraints().get(anchor)) : null;
+        if (bucket != null) {
+            bucket.removeIf(c -> c.searchId() == searchId);
+            if (bucket.isEmpty()) {
+                byValue.remove(criteria.constraints().get(anchor));
+            }
+        }
+    }
+
+    private static String anchorOf(Criteria criteria) {
+        for (String facet : ANCHOR_ORDER) {
+            if (criteria.constraints().containsKey(facet)) {
+                return facet;
+            }
+        }
+        throw new IllegalStateException("Saved search without constraints: " + criteria.searchId());
+    }
+
+    private static boolean matchesAll(Criteria criteria, Map<String, String> values) {
+        for (Map.Entry<String, String> constraint : criteria.constraints().entrySet()) {
+            if (FACET_SIGUNGU_PREFIX.equals(constraint.getKey())) {
+                String sigunguKey = values.get(AdoptionSearchIndex.FACET_SIGUNGU);
+                if (sigunguKey == null || !sigunguKey.startsWith(constraint.getValue())) {
+                    return false;
+                }
+            } else if (!constraint.getValue().equals(values.get(constraint.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> valuesOf(AdoptionAnimalDto animal) {
+        Map<String, String> values = AdoptionSearchIndex.facetValues(animal);
+        String sigungu = RegionName.parse(animal.getShelterAddress()).sigungu();
+        if (sigungu != null) {
+            values.put(FACET_SIGUNGU_NAME, sigungu);
+        }
+        return values;
+    }
+
+    private static void putIfText(Map<String, String> values, String facet, String value) {
+        if (StringUtils.hasText(value)) {
+            values.put(facet, value.trim());
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAnimalRepository;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAnimalDto;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionCursor;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionCursorPage;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionSearchResult;
+import com.petlogue.duopetbackend.common.RegionName;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 입양 가능 동물 패싯 검색 색인
+ * 보호중 + AVAILABLE 동물을 등록일 내림차순으로 0..n 번호를 매기고,
+ * 패싯 값(시도, 시군구, 축종, 성별, 중성화, 나이대, 품종)마다 해당 번호의 BitSet 을 유지한다.
+ * 검색은 조건 BitSet 의 AND, 페이지는 순서대로 set bit 를 건너뛰어 만든다.
+ * 전체 재구성은 동기화 완료 후, 기존 동물 변경은 청크 저장 직후 patch 로 반영한다.
+ * 재구성 시점의 (등록일, ID) 정렬 키를 함께 보관해 커서 목록은 이진 탐색으로 시작 위치를 찾는다.
+ * 재구성과 patch 는 buildLock 으로 한 번에 하나씩만 실행해, 재구성 중 들어온 patch 가 교체로 사라지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdoptionSearchIndex {
+
+    public static final String FACET_SIDO = "sido";
+    public static final String FACET_SIGUNGU = "sigungu";
+    public static final String FACET_TYPE = "animalType";
+    public static final String FACET_GENDER = "gender";
+    public static final String FACET_NEUTERED = "neutered";
+    public static final String FACET_AGE = "ageGroup";
+    public static final String FACET_BREED = "breed";
+
+    private static final List<String> FACETS = List.of(
+            FACET_SIDO, FACET_SIGUNGU, FACET_TYPE, FACET_GENDER, FACET_NEUTERED, FACET_AGE, FACET_BREED);
+
+    // 값이 많은 패싯은 건수 상위만 반환
+    private static final int MAX_FACET_VALUES = 30;
+
+    // 지역 조건은 시도/시군구 패싯 둘 다에 해당
+    private static final String FILTER_REGION = "region";
+
+    private final AdoptionAnimalRepository adoptionAnimalRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재구성 / patch 직렬화 (DB 조회 동안 검색은 막지 않음)
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    private AdoptionAnimalDto[] docs = new AdoptionAnimalDto[0];
+    private int docCount;
+    private Map<Long, Integer> ordinals = new HashMap<>();
+    private BitSet live = new BitSet();
+    private Map<String, Map<String, BitSet>> facets = new HashMap<>();
+    // 재구성 시점 정렬 키 (0..sortedCount 번호는 등록일, ID 내림차순 - patch 로 뒤에 붙은 번호는 제외)
+    private LocalDateTime[] sortCreatedAt = new LocalDateTime[0];
+    private long[] sortAnimalIds = new long[0];
+    private int sortedCount;
+    private volatile boolean loaded;
+
+    /**
+     * 패싯 검색 - 조건이 null/빈 값이면 해당 조건은 무시
+     * @param region 시도("경기", "경기도"), 시도+시군구("경기 수원시") 또는 시군구("수원시")
+     * @param ageGroup 나이대 (0, 1-2, 3-7, 8+, unknown)
+     * @param includeFacets false 면 패싯 집계를 생략 (목록만 필요한 기존 검색 API)
+     */
+    public AdoptionSearchResult search(String region, String type, String gender, String neutered,
+                                       String ageGroup, String breed, Pageable pageable,
+                                       boolean includeFacets) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            Map<String, BitSet> filters = buildFilters(region, type, gender, neutered, ageGroup, breed);
+
+            BitSet matched = intersect(filters, null);
+            int total = matched.cardinality();
+
+            int size = pageable.getPageSize();
+            long offset = pageable.getOffset();
+            List<AdoptionAnimalDto> content = new ArrayList<>(size);
+            int skipped = 0;
+            for (int i = matched.nextSetBit(0); i >= 0 && content.size() < size; i = matched.nextSetBit(i + 1)) {
+                if (skipped++ < offset) {
+                    continue;
+                }
+                content.add(docs[i]);
+            }
+
+            return AdoptionSearchResult.builder()
+                    .content(content)
+                    .page(pageable.getPageNumber())
+                    .size(size)
+                    .totalElements(total)
+                    .totalPages(size == 0 ? 0 : (total + size - 1) / size)
+                    .facets(includeFacets ? countFacets(filters) : Map.of())
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커서 기반 검색 - after 다음 위치부터 size 건 (등록일, ID 내림차순)
+     * 시작 위치는 정렬 키 이진 탐색으로 찾으므로 깊은 페이지도 비용이 같다.
+     * 마지막 재구성 이후 patch 로 새로 들어온 동물은 다음 재구성부터 목록에 나타난다.
+     */
+    public AdoptionCursorPage scroll(String region, String type, String gender, String neutered,
+                                     String ageGroup, String breed, AdoptionCursor after, int size) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            BitSet matched = intersect(buildFilters(region, type, gender, neutered, ageGroup, breed), null);
+
+            List<AdoptionAnimalDto> content = new ArrayList<>(size);
+            int last = -1;
+            boolean hasNext = false;
+            for (int i = matched.nextSetBit(firstOrdinalAfter(after)); i >= 0 && i < sortedCount;
+                 i = matched.nextSetBit(i + 1)) {
+                if (content.size() == size) {
+                    hasNext = true;
+                    break;
+                }
+                content.add(docs[i]);
+                last = i;
+            }
+
+            return AdoptionCursorPage.builder()
+                    .content(content)
+                    .size(size)
+                    .hasNext(hasNext)
+                    .nextCursor(hasNext ? new AdoptionCursor(sortCreatedAt[last], sortAnimalIds[last]).encode() : null)
+                    .totalElements(matched.cardinality())
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 입양 가능 동물 수 (목록 API 의 전체 건수로 사용 - COUNT 쿼리 대신)
+     */
+    public int availableCount() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB 에서 입양 가능 동물 전체를 읽어 색인을 새로 만든 뒤 교체
+     */
+    public void rebuild() {
+        buildLock.lock();
+        try {
+            load();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 첫 조회 시 한 번만 재구성 (동시에 들어온 요청은 먼저 시작한 재구성을 기다림)
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        buildLock.lock();
+        try {
+            if (!loaded) {
+                load();
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    // buildLock 을 잡은 상태에서 호출
+    private void load() {
+        List<AdoptionAnimal> animals = adoptionAnimalRepository.findAvailableForIndex();
+
+        AdoptionAnimalDto[] newDocs = new AdoptionAnimalDto[Math.max(16, animals.size())];
+        Map<Long, Integer> newOrdinals = new HashMap<>(animals.size() * 2);
+        BitSet newLive = new BitSet(animals.size());
+        Map<String, Map<String, BitSet>> newFacets = new HashMap<>();
+        LocalDateTime[] newSortCreatedAt = new LocalDateTime[animals.size()];
+        long[] newSortAnimalIds = new long[animals.size()];
+
+        int count = 0;
+        for (AdoptionAnimal animal : animals) {
+            int ordinal = count++;
+            // 등록일이 없는 동물은 조회 순서(NULLS LAST)대로 맨 뒤
+            newSortCreatedAt[ordinal] = animal.getCreatedAt() != null ? animal.getCreatedAt() : LocalDateTime.MIN;
+            newSortAnimalIds[ordinal] = animal.getAnimalId();
+            AdoptionAnimalDto dto = AdoptionAnimalDto.from(animal);
+            newDocs[ordinal] = dto;
+            newOrdinals.put(dto.getAnimalId(), ordinal);
+            newLive.set(ordinal);
+            facetValues(dto).forEach((facet, value) ->
+                    newFacets.computeIfAbsent(facet, f -> new HashMap<>())
+                            .computeIfAbsent(value, v -> new BitSet())
+                            .set(ordinal));
+        }
+
+        lock.writeLock().lock();
+        try {
+            docs = newDocs;
+            docCount = count;
+            ordinals = newOrdinals;
+            live = newLive;
+            facets = newFacets;
+            sortCreatedAt = newSortCreatedAt;
+            sortAnimalIds = newSortAnimalIds;
+            sortedCount = count;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Adoption search index rebuilt: {} animals", count);
+    }
+
+    /**
+     * 변경된 동물만 색인에 반영 (번호는 유지, 신규는 맨 뒤에 추가 - 정렬은 다음 rebuild 에서 복구)
+     */
+    public void patch(Collection<Long> animalIds) {
+        if (animalIds.isEmpty()) {
+            return;
+        }
+
+        buildLock.lock();
+        try {
+            // 아직 한 번도 만들지 않았으면 첫 재구성이 DB 에서 함께 읽음
+            if (loaded) {
+                applyPatch(animalIds);
+            }
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    // buildLock 을 잡은 상태에서 호출
+    private void applyPatch(Collection<Long> animalIds) {
+        Map<Long, AdoptionAnimal> current = new HashMap<>();
+        for (AdoptionAnimal animal : adoptionAnimalRepository.findWithShelterByAnimalIdIn(animalIds)) {
+            current.put(animal.getAnimalId(), animal);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : animalIds) {
+                Integer ordinal = ordinals.get(id);
+                if (ordinal != null) {
+                    clearDoc(ordinal);
+                }
+
+                AdoptionAnimal animal = current.get(id);
+                if (animal == null || !isAvailable(animal)) {
+                    if (ordinal != null) {
+                        ordinals.remove(id);
+                        docs[ordinal] = null;
+                    }
+                    continue;
+                }
+
+                if (ordinal == null) {
+                    ordinal = docCount++;
+                    if (ordinal == docs.length) {
+                        docs = Arrays.copyOf(docs, docs.length * 2);
+                    }
+                    ordinals.put(id, ordinal);
+                }
+                indexDoc(ordinal, AdoptionAnimalDto.from(animal));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static boolean isAvailable(AdoptionAnimal animal) {
+        return ("protect".equals(animal.getProcessState()) || "보호중".equals(animal.getProcessState()))
+                && "AVAILABLE".equals(animal.getStatus());
+    }
+
+    /**
+     * 나이(년) -> 나이대 구간
+     */
+    public static String ageGroup(Integer age) {
+        if (age == null || age < 0) {
+            return "unknown";
+        }
+        if (age == 0) {
+            return "0";
+        }
+        if (age <= 2) {
+            return "1-2";
+        }
+        return age <= 7 ? "3-7" : "8+";
+    }
+
+    /**
+     * 동물 한 마리의 패싯 값 (저장된 검색 알림 매칭에서도 같은 기준 사용)
+     */
+    static Map<String, String> facetValues(AdoptionAnimalDto dto) {
+        Map<String, String> values = new HashMap<>();
+        RegionName region = RegionName.parse(dto.getShelterAddress());
+        putIfText(values, FACET_SIDO, region.sido());
+        putIfText(values, FACET_SIGUNGU, region.sigunguKey());
+        putIfText(values, FACET_TYPE, dto.getAnimalType());
+        putIfText(values, FACET_GENDER, dto.getGender());
+        putIfText(values, FACET_NEUTERED, dto.getNeutered());
+        values.put(FACET_AGE, ageGroup(dto.getAge()));
+        putIfText(values, FACET_BREED, dto.getBreed());
+        return values;
+    }
+
+    private static void putIfText(Map<String, String> values, String facet, String value) {
+        if (StringUtils.hasText(value)) {
+            values.put(facet, value.trim());
+        }
+    }
+
+    private void indexDoc(int ordinal, AdoptionAnimalDto dto) {
+        docs[ordinal] = dto;
+        live.set(ordinal);
+        facetValues(dto).forEach((facet, value) ->
+                facets.computeIfAbsent(facet, f -> new HashMap<>())
+                        .computeIfAbsent(value, v -> new BitSet())
+                        .set(ordinal));
+    }
+
+    private void clearDoc(int ordinal) {
+        live.clear(ordinal);
+        AdoptionAnimalDto previous = docs[ordinal];
+        if (previous == null) {
+            return;
+        }
+        facetValues(previous).forEach((facet, value) -> {
+            Map<String, BitSet> byValue = facets.get(facet);
+            BitSet bits = byValue != null ? byValue.get(value) : null;
+            if (bits != null) {
+                bits.clear(ordinal);
+            }
+        });
+    }
+
+    /**
+     * 정렬 순서상 커서 바로 다음 번호 (이진 탐색)
+     */
+    private int firstOrdinalAfter(AdoptionCursor after) {
+        int low = 0;
+        int high = sortedCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (after.precedes(sortCreatedAt[mid], sortAnimalIds[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private Map<String, BitSet> buildFilters(String region, String type, String gender, String neutered,
+                                             String ageGroup, String breed) {
+        Map<String, BitSet> filters = new LinkedHashMap<>();
+        if (StringUtils.hasText(region)) {
+            filters.put(FILTER_REGION, resolveRegion(region.trim()));
+        }
+        addFilter(filters, FACET_TYPE, type);
+        addFilter(filters, FACET_GENDER, gender);
+        addFilter(filters, FACET_NEUTERED, neutered);
+        addFilter(filters, FACET_AGE, ageGroup);
+        addFilter(filters, FACET_BREED, breed);
+        return filters;
+    }
+
+    private void addFilter(Map<String, BitSet> filters, String facet, String value) {
+        if (!StringUtils.hasText(value)) {
+            return;
+        }
+        BitSet bits = facets.getOrDefault(facet, Map.of()).get(value.trim());
+        filters.put(facet, bits != null ? bits : new BitSet());
+    }
+
+    /**
+     * 지역 조건 -> 해당 동물 BitSet
+     * 시도/시도+시군구는 정확히, 시도+접두어("서울 강남")는 그 시도에서 접두어로 시작하는 시군구 전부,
+     * 시군구만 있으면 같은 이름의 시군구 전부,
+     * 그 외에는 시군구 키에 포함되는 값들의 합집합 (기존 LIKE 검색과 유사)
+     */
+    private BitSet resolveRegion(String region) {
+        RegionName parsed = RegionName.parse(region);
+        Map<String, BitSet> sidoBits = facets.getOrDefault(FACET_SIDO, Map.of());
+        Map<String, BitSet> sigunguBits = facets.getOrDefault(FACET_SIGUNGU, Map.of());
+
+        if (parsed.sigunguKey() != null) {
+            BitSet bits = sigunguBits.get(parsed.sigunguKey());
+            return bits != null ? bits : new BitSet();
+        }
+        if (parsed.sigunguKeyPrefix() != null) {
+            BitSet union = new BitSet();
+            sigunguBits.forEach((key, bits) -> {
+                if (key.startsWith(parsed.sigunguKeyPrefix())) {
+                    union.or(bits);
+                }
+            });
+            return union;
+        }
+        if (parsed.sido() != null) {
+            BitSet bits = sidoBits.get(parsed.sido());
+            return bits != null ? bits : new BitSet();
+        }
+
+        BitSet union = new BitSet();
+        String suffix = parsed.sigungu() != null ? " " + parsed.sigungu() : null;
+        sigunguBits.forEach((key, bits) -> {
+            if (suffix != null ? key.endsWith(suffix) : key.contains(region)) {
+                union.or(bits);
+            }
+        });
+        return union;
+    }
+
+    /**
+     * live 와 조건 BitSet 들의 교집합 (excludeKey 조건은 제외)
+     */
+    private BitSet intersect(Map<String, BitSet> filters, String excludeKey) {
+        BitSet result = (BitSet) live.clone();
+        filters.forEach((key, bits) -> {
+            if (!key.equals(excludeKey)) {
+                result.and(bits);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 패싯별 값 건수 - 각 패싯은 자기 조건을 뺀 나머지 조건의 결과 위에서 집계
+     */
+    private Map<String, Map<String, Integer>> countFacets(Map<String, BitSet> filters) {
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+        Map<String, BitSet> bases = new HashMap<>();
+        BitSet scratch = new BitSet(docCount);
+
+        for (String facet : FACETS) {
+            String excludeKey = FACET_SIDO.equals(facet) || FACET_SIGUNGU.equals(facet) ? FILTER_REGION : facet;
+            BitSet base = bases.computeIfAbsent(excludeKey, key -> intersect(filters, key));
+
+            List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+            facets.getOrDefault(facet, Map.of()).forEach((value, bits) -> {
+                scratch.clear();
+                scratch.or(base);
+                scratch.and(bits);
+                int count = scratch.cardinality();
+                if (count > 0) {
+                    counts.add(Map.entry(value, count));
+                }
+            });
+            counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            Map<String, Integer> values = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> entry : counts.subList(0, Math.min(MAX_FACET_VALUES, counts.size()))) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+            result.put(facet, values);
+        }
+        return result;
+    }
+}
@@ -2,25 +2,37 @@ package com.petlogue.duopetbackend.adoption.model.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAnimalDto;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionCursor;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionCursorPage;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionSearchResult;
 import com.petlogue.duopetbackend.adoption.model.dto.PublicAnimalApiResponse;
 import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
 import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAnimalRepository;
 import com.petlogue.duopetbackend.info.jpa.entity.ShelterEntity;
 import com.petlogue.duopetbackend.info.jpa.repository.ShelterRepository;
+import com.petlogue.duopetbackend.info.model.service.ShelterInfoLinker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.HashMap;
@@ -29,28 +41,77 @@ import java.util.HashMap;
 @Service
 public class AdoptionService {
     
+    // 정상 나이 범위 (이 범위를 벗어나면 정리 대상)
+    private static final int MIN_VALID_AGE = 0;
+    private static final int MAX_VALID_AGE = 30;
+    
+    // 커서 목록 한 번에 조회 가능한 최대 건수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final AdoptionAnimalRepository adoptionAnimalRepository;
     private final ShelterRepository shelterRepository;
     private final PublicDataApiClient publicDataApiClient;
+    private final AdoptionSyncEngine adoptionSyncEngine;
+    private final AdoptionAnimalBatchWriter adoptionAnimalBatchWriter;
+    private final AdoptionRandomPool adoptionRandomPool;
+    private final AdoptionSearchIndex adoptionSearchIndex;
+    private final AdoptionStatsCounter adoptionStatsCounter;
+    private final AdoptionImageCache adoptionImageCache;
+    private final AdoptionAlertService adoptionAlertService;
+    private final ShelterInfoLinker shelterInfoLinker;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
+    @Value("${adoption.sync.batch-size:500}")
+    private int syncBatchSize;
+    
+    @Value("${adoption.cleanup.chunk-size:1000}")
+    private int cleanupChunkSize;
+    
+    @Value("${adoption.sweep.chunk-size:500}")
+    private int sweepChunkSize;
+    
+    // 피드에서 사라진 동물이 이 비율을 넘으면 API 이상으로 보고 정리를 건너뜀
+    @Value("${adoption.sweep.max-retire-ratio:0.3}")
+    private double maxRetireRatio;
+    
+    // 공고 종료 후 이력으로 옮기기까지의 유예 일수
+    @Value("${adoption.sweep.notice-grace-days:0}")
+    private int noticeGraceDays;
+    
+    @Value("${adoption.image-cache.prefetch-on-sync:true}")
+    private boolean prefetchImagesOnSync;
+    
     public AdoptionService(AdoptionAnimalRepository adoptionAnimalRepository,
                           @Qualifier("infoShelterRepository") ShelterRepository shelterRepository,
-                          PublicDataApiClient publicDataApiClient) {
+                          PublicDataApiClient publicDataApiClient,
+                          AdoptionSyncEngine adoptionSyncEngine,
+                          AdoptionAnimalBatchWriter adoptionAnimalBatchWriter,
+                          AdoptionRandomPool adoptionRandomPool,
+                          AdoptionSearchIndex adoptionSearchIndex,
+                          AdoptionStatsCounter adoptionStatsCounter,
+                          AdoptionImageCache adoptionImageCache,
+                          AdoptionAlertService adoptionAlertService,
+                          ShelterInfoLinker shelterInfoLinker) {
         this.adoptionAnimalRepository = adoptionAnimalRepository;
         this.shelterRepository = shelterRepository;
         this.publicDataApiClient = publicDataApiClient;
+        this.adoptionSyncEngine = adoptionSyncEngine;
+        this.adoptionAnimalBatchWriter = adoptionAnimalBatchWriter;
+        this.adoptionRandomPool = adoptionRandomPool;
+        this.adoptionSearchIndex = adoptionSearchIndex;
+        this.adoptionStatsCounter = adoptionStatsCounter;
+        this.adoptionImageCache = adoptionImageCache;
+        this.adoptionAlertService = adoptionAlertService;
+        this.shelterInfoLinker = shelterInfoLinker;
     }
     
     /**
      * 메인 화면용 랜덤 동물 조회
+     * 메모리 후보 풀에서 추출하고 DTO 캐시로 채움 (DB 랜덤 정렬 없음)
      */
     @Transactional(readOnly = true)
     public List<AdoptionAnimalDto> getRandomAnimalsForMain(int count) {
-        List<AdoptionAnimal> animals = adoptionAnimalRepository.findRandomAnimals(count);
-        return animals.stream()
-                .map(AdoptionAnimalDto::from)
-                .collect(Collectors.toList());
+        return adoptionRandomPool.pick(count);
     }
     
     /**
@@ -62,6 +123,41 @@ public class AdoptionService {
                 .map(AdoptionAnimalDto::from);
     }
     
+    /**
+     * 보호 동물 목록 조회 (커서 기반, 등록일 내림차순)
+     * 커서 다음 위치부터 인덱스 순서로 size+1 건만 읽어 다음 페이지 여부를 판단하고,
+     * 전체 건수는 COUNT 쿼리 대신 검색 색인의 건수를 사용
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    @Transactional(readOnly = true)
+    public AdoptionCursorPage getAvailableAnimalsAfter(String cursor, int size) {
+        AdoptionCursor after = AdoptionCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        
+        List<AdoptionAnimal> rows = adoptionAnimalRepository.findAvailableAfter(
+                after.createdAt(), after.animalId(), Limit.of(limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<AdoptionAnimal> page = hasNext ? rows.subList(0, limit) : rows;
+        
+        return AdoptionCursorPage.builder()
+                .content(page.stream().map(AdoptionAnimalDto::from).collect(Collectors.toList()))
+                .size(limit)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? AdoptionCursor.of(page.get(page.size() - 1)).encode() : null)
+                .totalElements(adoptionSearchIndex.availableCount())
+                .build();
+    }
+    
+    /**
+     * 복합 검색 (커서 기반) - 패싯 검색 색인에서 커서 위치를 이진 탐색으로 찾아 이어서 조회
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public AdoptionCursorPage searchAnimalsAfter(String region, String type, String gender, String neutered,
+                                                 String ageGroup, String breed, String cursor, int size) {
+        return adoptionSearchIndex.scroll(region, type, gender, neutered, ageGroup, breed,
+                AdoptionCursor.decode(cursor), Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+    }
+    
     /**
      * 동물 상세 정보 조회
      */
@@ -73,14 +169,56 @@ public class AdoptionService {
     }
     
     /**
-     * 복합 검색
+     * 복합 검색 (패싯 검색 색인 사용, 등록일 내림차순)
      */
-    @Transactional(readOnly = true)
     public Page<AdoptionAnimalDto> searchAnimals(String region, String type, 
                                                 String gender, String neutered, 
                                                 Pageable pageable) {
-        return adoptionAnimalRepository.searchAnimals(region, type, gender, neutered, pageable)
-                .map(AdoptionAnimalDto::from);
+        AdoptionSearchResult result = adoptionSearchIndex.search(
+                region, type, gender, neutered, null, null, pageable, false);
+        return new PageImpl<>(result.getContent(), pageable, result.getTotalElements());
+    }
+    
+    /**
+     * 동물 사진 조회 (이미지 프록시) - 원본 URL 은 DB 에 저장된 값만 사용
+     * @return 캐시된 이미지, 동물이 없거나 사진이 없으면 empty
+     */
+    public Optional<AdoptionImageCache.CachedImage> getAnimalImage(String desertionNo, boolean thumbnail) {
+        return adoptionAnimalRepository.findImageUrlByDesertionNo(desertionNo)
+                .filter(url -> !url.isBlank())
+                .map(url -> adoptionImageCache.get(desertionNo, url, thumbnail));
+    }
+    
+    /**
+     * 캐시된 사진 읽기 스트림 (닫을 때까지 캐시 파일 삭제를 미룸)
+     */
+    public InputStream openAnimalImage(AdoptionImageCache.CachedImage image) throws IOException {
+        return adoptionImageCache.openStream(image);
+    }
+    
+    /**
+     * 신규 저장된 동물 사진을 이미지 캐시에 미리 받아 둠 (백그라운드)
+     */
+    private void prefetchImages(List<AdoptionAnimal> inserted) {
+        if (!prefetchImagesOnSync || inserted.isEmpty()) {
+            return;
+        }
+        Map<String, String> images = new LinkedHashMap<>();
+        for (AdoptionAnimal animal : inserted) {
+            if (animal.getImageUrl() != null && !animal.getImageUrl().isBlank()) {
+                images.put(animal.getDesertionNo(), animal.getImageUrl());
+            }
+        }
+        adoptionImageCache.prefetch(images);
+    }
+    
+    /**
+     * 패싯 검색 - 결과 페이지와 함께 패싯별 건수 반환
+     */
+    public AdoptionSearchResult searchAnimalsWithFacets(String region, String type, String gender,
+                                                        String neutered, String ageGroup, String breed,
+                                                        Pageable pageable) {
+        return adoptionSearchIndex.search(region, type, gender, neutered, ageGroup, breed, pageable, true);
     }
     
     /**
@@ -91,137 +229,291 @@ public class AdoptionService {
         syncAdoptionData();
     }
     
+    /**
+     * 공공 API 증분 동기화 (매시 30분 실행)
+     */
+    @Scheduled(cron = "${adoption.sync.delta-cron:0 30 * * * *}")
+    public void scheduledDeltaSyncAdoptionData() {
+        syncAdoptionDelta();
+    }
+    
     /**
      * 공공 API 데이터 동기화 (수동 실행용)
+     * totalCount 기준 전체 페이지를 조회하며, 중단 시 체크포인트 페이지부터 이어서 진행
+     * 저장한 동물에는 이번 세대를 기록하고, 끝나면 피드에서 사라진 동물과 공고가 끝난 동물을 이력으로 옮김
      */
     public Map<String, Object> syncAdoptionData() {
         log.info("Starting adoption data synchronization...");
         
-        Map<String, Object> result = new HashMap<>();
-        int successCount = 0;
-        int failureCount = 0;
-        int totalProcessed = 0;
+        AdoptionSyncEngine.SyncReport report = adoptionSyncEngine.syncAll(this::syncPage, this::sweepRetired);
+        rebuildReadModels();
+        
+        log.info("Adoption data synchronization completed. API total: {}, Processed: {}, Success: {}, Failed: {}, Pages failed: {}, Timed out: {}, Retired: {}, Expired: {}",
+                report.getApiTotalCount(), report.getTotalProcessed(), report.getSuccessCount(),
+                report.getFailureCount(), report.getPagesFailed(), report.isTimedOut(),
+                report.getRetiredCount(), report.getExpiredCount());
+        
+        return report.toMap();
+    }
+    
+    /**
+     * 전체 동기화 정리 단계 (mark-and-sweep)
+     * - 모든 페이지가 이번 세대로 저장되고 이번 세대로 확인된 동물 수가 API 전체 건수 이상인 경우에만,
+     *   세대가 기록되지 않은 동물을 이력 테이블로 이동
+     *   (긴 동기화 중 피드가 바뀌면 행이 페이지 경계를 넘어 밀려 한 번도 조회되지 않을 수 있음)
+     * - 공고 종료일이 지나고 보호 상태가 끝난 동물은 완료 여부와 관계없이 이동
+     * 청크마다 커밋하므로 중간에 실패해도 이미 옮긴 청크는 유지되고 다음 실행에서 이어서 처리된다.
+     */
+    private void sweepRetired(long generation, boolean complete, long feedTotal,
+                              AdoptionSyncEngine.SyncReport report) {
+        if (complete) {
+            long[] counts = adoptionAnimalBatchWriter.countMissing(generation);
+            long total = counts[0];
+            long missing = counts[1];
+            long seen = total - missing;
+            if (seen < feedTotal) {
+                log.warn("Skipping retirement of missing animals: only {} of {} feed animals seen in generation {} (rows shifted across pages)",
+                        seen, feedTotal, generation);
+            } else if (missing > 0 && missing > total * maxRetireRatio) {
+                log.warn("Skipping retirement of missing animals: {} of {} not seen in generation {} (limit ratio {})",
+                        missing, total, generation, maxRetireRatio);
+            } else {
+                int retired;
+                do {
+                    retired = adoptionAnimalBatchWriter.retireMissingChunk(generation, sweepChunkSize);
+                    report.addRetired(retired);
+                } while (retired > 0);
+            }
+        } else {
+            log.info("Adoption sync generation {} incomplete, retirement of missing animals deferred", generation);
+        }
+        
+        LocalDate cutoff = LocalDate.now().minusDays(noticeGraceDays);
+        int expired;
+        do {
+            expired = adoptionAnimalBatchWriter.expireNoticeChunk(cutoff, sweepChunkSize);
+            report.addExpired(expired);
+        } while (expired > 0);
         
+        log.info("Adoption sweep finished: generation={}, retired={}, expired={}",
+                generation, report.getRetiredCount(), report.getExpiredCount());
+    }
+    
+    /**
+     * 공공 API 증분 동기화 (수동 실행용)
+     * 마지막 성공 기준일 이후 접수된 동물만 조회하며, 내용이 바뀌지 않은 동물은 UPDATE를 생략
+     */
+    public Map<String, Object> syncAdoptionDelta() {
+        log.info("Starting adoption delta synchronization...");
+        
+        AdoptionSyncEngine.SyncReport report = adoptionSyncEngine.syncDelta(this::syncPage);
+        rebuildReadModels();
+        
+        log.info("Adoption delta synchronization completed. API total: {}, Processed: {}, Unchanged: {}, Failed: {}",
+                report.getApiTotalCount(), report.getTotalProcessed(), report.getUnchangedCount(),
+                report.getFailureCount());
+        
+        return report.toMap();
+    }
+    
+    /**
+     * 동기화 후 메인 랜덤 후보 풀 / 검색 색인 재구성 (실패해도 동기화 결과에는 영향 없음)
+     */
+    private void rebuildReadModels() {
         try {
-            int pageNo = 1;
-            int numOfRows = 1000;  // 페이지당 1000개 (최대값)
-            
-            // 지역 코드 없이 전국 데이터 조회
-            String uprCd = null;
-            
-            log.info("Starting animal data synchronization with pageNo={}, numOfRows={}, uprCd={}", pageNo, numOfRows, uprCd);
-            
-            // 1페이지만 호출 (페이지네이션 없음)
-            Map<String, Object> response = publicDataApiClient.getAbandonmentAnimals(
-                    null, null, null, null, pageNo, numOfRows, uprCd);
-            
-            if (response != null && response.containsKey("response")) {
-                Map<String, Object> responseBody = (Map<String, Object>) 
-                        ((Map<String, Object>) response.get("response")).get("body");
-                
-                if (responseBody != null && responseBody.containsKey("items")) {
-                    Map<String, Object> items = (Map<String, Object>) responseBody.get("items");
-                    List<Map<String, Object>> itemList = (List<Map<String, Object>>) items.get("item");
-                    
-                    if (itemList != null && !itemList.isEmpty()) {
-                        log.info("Processing {} animals from API response", itemList.size());
-                        for (Map<String, Object> item : itemList) {
-                            totalProcessed++;
-                            try {
-                                syncAnimalData(item);
-                                successCount++;
-                            } catch (Exception e) {
-                                failureCount++;
-                                String desertionNo = item.get("desertionNo") != null ? item.get("desertionNo").toString() : "unknown";
-                                log.error("Failed to sync animal: desertionNo={}, error={}", desertionNo, e.getMessage(), e);
-                            }
+            adoptionRandomPool.rebuild();
+        } catch (Exception e) {
+            log.error("Failed to rebuild random animal pool", e);
+        }
+        try {
+            adoptionSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Failed to rebuild adoption search index", e);
+        }
+        try {
+            adoptionStatsCounter.reseed();
+        } catch (Exception e) {
+            log.error("Failed to reseed adoption stats counters", e);
+        }
+    }
+    
+    /**
+     * 저장된 기존 동물을 랜덤 후보 풀 / 검색 색인에 반영
+     */
+    private void refreshReadModels(List<AdoptionAnimal> animals) {
+        if (animals.isEmpty()) {
+            return;
+        }
+        adoptionRandomPool.refresh(animals);
+        adoptionSearchIndex.patch(animals.stream()
+                .map(AdoptionAnimal::getAnimalId)
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * 한 페이지 분량의 동물 데이터 저장 (동기화 엔진의 저장 단계)
+     * 청크 단위로 기존 유기번호를 IN 조회한 뒤 JDBC 배치로 INSERT/UPDATE 하며,
+     * 청크 저장이 실패하면 해당 청크만 건별로 다시 저장해 실패 건을 격리한다.
+     */
+    private void syncPage(List<PublicAnimalApiResponse.Item> itemList, AdoptionSyncEngine.SyncReport report) {
+        log.info("Processing {} animals from API response", itemList.size());
+        
+        // API 데이터 -> DTO 변환 (동일 유기번호가 중복되면 마지막 값 사용)
+        Map<String, AdoptionAnimalDto> dtoMap = new LinkedHashMap<>();
+        for (PublicAnimalApiResponse.Item item : itemList) {
+            try {
+                AdoptionAnimalDto dto = toAnimalDto(item);
+                if (dto.getDesertionNo() == null) {
+                    throw new IllegalArgumentException("desertionNo is missing");
+                }
+                if (dtoMap.put(dto.getDesertionNo(), dto) != null) {
+                    report.recordSuccess();
+                }
+            } catch (Exception e) {
+                report.recordFailure();
+                log.error("Failed to convert animal: desertionNo={}, error={}", item.getDesertionNo(), e.getMessage());
+            }
+        }
+        
+        Long generation = report.getSyncGeneration();
+        List<AdoptionAnimalDto> dtos = new ArrayList<>(dtoMap.values());
+        for (int from = 0; from < dtos.size(); from += syncBatchSize) {
+            List<AdoptionAnimalDto> chunk = dtos.subList(from, Math.min(from + syncBatchSize, dtos.size()));
+            try {
+                int unchanged = upsertChunk(chunk, generation);
+                chunk.forEach(dto -> report.recordSuccess());
+                for (int i = 0; i < unchanged; i++) {
+                    report.recordUnchanged();
+                }
+            } catch (Exception e) {
+                log.warn("Batch upsert failed for {} animals, retrying one by one: {}", chunk.size(), e.getMessage());
+                for (AdoptionAnimalDto dto : chunk) {
+                    try {
+                        if (upsertChunk(List.of(dto), generation) > 0) {
+                            report.recordUnchanged();
                         }
-                        
-                        // 전체 건수 로그
-                        Integer totalCount = (Integer) responseBody.get("totalCount");
-                        log.info("Total available animals in API: {}, Processed: {}", totalCount, totalProcessed);
-                    } else {
-                        log.warn("No items found in API response");
+                        report.recordSuccess();
+                    } catch (Exception rowError) {
+                        report.recordFailure();
+                        log.error("Failed to sync animal: desertionNo={}, error={}",
+                                dto.getDesertionNo(), rowError.getMessage(), rowError);
                     }
-                } else {
-                    log.error("Invalid response structure: no items found");
                 }
+            }
+        }
+    }
+    
+    /**
+     * 청크 단위 UPSERT - 기존 데이터 일괄 조회 후 하나의 트랜잭션에서 배치 저장
+     * @param generation 전체 동기화 세대 (증분 동기화는 null)
+     * @return 내용 해시가 같아 UPDATE를 생략한 건수
+     */
+    private int upsertChunk(List<AdoptionAnimalDto> chunk, Long generation) {
+        List<String> desertionNos = chunk.stream()
+                .map(AdoptionAnimalDto::getDesertionNo)
+                .collect(Collectors.toList());
+        
+        Map<String, AdoptionAnimal> existing = adoptionAnimalRepository.findByDesertionNoIn(desertionNos)
+                .stream()
+                .collect(Collectors.toMap(AdoptionAnimal::getDesertionNo, animal -> animal, (a, b) -> a));
+        
+        List<AdoptionAnimal> inserts = new ArrayList<>();
+        List<AdoptionAnimal> updates = new ArrayList<>();
+        List<AdoptionAnimal> links = new ArrayList<>();
+        List<Long> stampIds = new ArrayList<>();
+        List<AdoptionStatsCounter.StatKey> removedKeys = new ArrayList<>();
+        int unchanged = 0;
+        for (AdoptionAnimalDto dto : chunk) {
+            AdoptionAnimal animal = existing.get(dto.getDesertionNo());
+            if (animal != null && dto.computeContentHash().equals(animal.getContentHash())) {
+                unchanged++;
+                if (linkShelterInfo(animal, dto)) {
+                    links.add(animal);
+                }
+                if (generation != null && !generation.equals(animal.getSyncGeneration())) {
+                    stampIds.add(animal.getAnimalId());
+                }
+            } else if (animal != null) {
+                removedKeys.add(AdoptionStatsCounter.StatKey.of(animal));
+                updateAnimalFromDto(animal, dto);
+                if (generation != null) {
+                    animal.setSyncGeneration(generation);
+                }
+                updates.add(animal);
             } else {
-                log.error("Failed to get response from API");
+                AdoptionAnimal created = createAnimalFromDto(dto);
+                created.setSyncGeneration(generation);
+                inserts.add(created);
             }
-            
-            result.put("totalProcessed", totalProcessed);
-            result.put("successCount", successCount);
-            result.put("failureCount", failureCount);
-            
-            log.info("Adoption data synchronization completed. Total: {}, Success: {}, Failed: {}", 
-                    totalProcessed, successCount, failureCount);
-            
-        } catch (Exception e) {
-            log.error("Error during adoption data synchronization", e);
-            result.put("totalProcessed", totalProcessed);
-            result.put("successCount", successCount);
-            result.put("failureCount", failureCount);
-            result.put("error", e.getMessage());
         }
         
+        adoptionAnimalBatchWriter.write(inserts, updates, links, stampIds, generation);
+        
+        List<AdoptionStatsCounter.StatKey> addedKeys = new ArrayList<>();
+        inserts.forEach(animal -> addedKeys.add(AdoptionStatsCounter.StatKey.of(animal)));
+        updates.forEach(animal -> addedKeys.add(AdoptionStatsCounter.StatKey.of(animal)));
+        adoptionStatsCounter.apply(removedKeys, addedKeys);
+        
+        refreshReadModels(updates);
+        prefetchImages(inserts);
+        adoptionAlertService.notifyNewAnimals(inserts);
+        return unchanged;
+    }
+    
+    /**
+     * 보호소 관리번호/전화번호/이름으로 공공데이터 보호소(SHELTER_INFO)를 찾아 연결
+     * @return 저장된 연결 정보가 바뀌었는지 여부
+     */
+    private boolean linkShelterInfo(AdoptionAnimal animal, AdoptionAnimalDto dto) {
+        String careRegNo = dto.getCareRegNo() != null ? dto.getCareRegNo() : animal.getApiCareRegNo();
+        Long shelterInfoId = shelterInfoLinker.resolveId(careRegNo, dto.getShelterName(), dto.getShelterPhone());
+        if (Objects.equals(careRegNo, animal.getApiCareRegNo())
+                && Objects.equals(shelterInfoId, animal.getShelterInfoId())) {
+            return false;
+        }
+        animal.setApiCareRegNo(careRegNo);
+        animal.setShelterInfoId(shelterInfoId);
+        return true;
+    }
+    
+    /**
+     * 저장된 동물 전체의 보호소 연결 재계산 (보호소 데이터 동기화 후 관리자 실행용)
+     * 보호소 키 맵을 새로 읽은 뒤 동물 테이블을 한 번만 훑는다.
+     */
+    public Map<String, Object> relinkShelterInfo() {
+        long start = System.currentTimeMillis();
+        shelterInfoLinker.invalidate();
+        int relinked = adoptionAnimalBatchWriter.relinkShelterInfo(shelterInfoLinker, sweepChunkSize);
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("relinked", relinked);
+        result.put("elapsedMs", System.currentTimeMillis() - start);
+        log.info("Shelter info relink completed: relinked={}, elapsed={}ms", relinked, result.get("elapsedMs"));
         return result;
     }
     
     /**
-     * 개별 동물 데이터 동기화
+     * API 응답 아이템을 DTO로 변환하고 나이 파싱 결과를 로깅
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void syncAnimalData(Map<String, Object> itemData) {
-        try {
-            // Map을 PublicAnimalApiResponse.Item으로 변환
-            PublicAnimalApiResponse.Item item = objectMapper.convertValue(
-                    itemData, PublicAnimalApiResponse.Item.class);
-            
-            // DTO로 변환
-            AdoptionAnimalDto dto = PublicAnimalApiResponse.toDto(item);
-            
-            // 나이 파싱 문제 로깅 (개선된 로깅)
-            if (item.getAge() != null) {
-                if (dto.getAge() == null) {
-                    log.warn("Age parsing failed for desertionNo: {}, original age: '{}', format not recognized", 
-                            item.getDesertionNo(), item.getAge());
-                } else if (dto.getAge() < 0 || dto.getAge() > 35) {
-                    log.warn("Suspicious age value for desertionNo: {}, parsed age: {}, original: '{}', age out of valid range", 
-                            item.getDesertionNo(), dto.getAge(), item.getAge());
-                } else {
-                    log.debug("Age parsed successfully for desertionNo: {}, age: {}, original: '{}'", 
-                            item.getDesertionNo(), dto.getAge(), item.getAge());
-                }
-            }
-            
-            // 중복 체크 없이 항상 새로운 엔티티 생성 (임시 해결책)
-            AdoptionAnimal animal = createAnimalFromDto(dto);
-            
-            // 중복 체크 및 업데이트
-            Optional<AdoptionAnimal> existingAnimal = adoptionAnimalRepository.findByDesertionNo(item.getDesertionNo());
-            if (existingAnimal.isPresent()) {
-                log.debug("Animal with desertionNo {} already exists, updating", item.getDesertionNo());
-                // 기존 동물 정보 업데이트
-                updateAnimalFromDto(existingAnimal.get(), dto);
-                adoptionAnimalRepository.save(existingAnimal.get());
-                return;
-            }
-            
-            // 공공 API 보호소 정보 저장 (FK 매핑은 추후 진행)
-            if (dto.getShelterName() != null) {
-                animal.setApiShelterName(dto.getShelterName());
-                animal.setApiShelterTel(dto.getShelterPhone());
-                animal.setApiShelterAddr(dto.getShelterAddress());
+    private AdoptionAnimalDto toAnimalDto(PublicAnimalApiResponse.Item item) {
+        // DTO로 변환
+        AdoptionAnimalDto dto = PublicAnimalApiResponse.toDto(item);
+        
+        // 나이 파싱 문제 로깅 (개선된 로깅)
+        if (item.getAge() != null) {
+            if (dto.getAge() == null) {
+                log.warn("Age parsing failed for desertionNo: {}, original age: '{}', format not recognized", 
+                        item.getDesertionNo(), item.getAge());
+            } else if (dto.getAge() < 0 || dto.getAge() > 35) {
+                log.warn("Suspicious age value for desertionNo: {}, parsed age: {}, original: '{}', age out of valid range", 
+                        item.getDesertionNo(), dto.getAge(), item.getAge());
+            } else {
+                log.debug("Age parsed successfully for desertionNo: {}, age: {}, original: '{}'", 
+                        item.getDesertionNo(), dto.getAge(), item.getAge());
             }
-            
-            adoptionAnimalRepository.save(animal);
-            
-        } catch (Exception e) {
-            log.error("Error syncing animal data: " + itemData, e);
-            // 독립적인 트랜잭션이므로 예외를 다시 던져서 해당 트랜잭션만 롤백
-            throw new RuntimeException("Sync failed: " + e.getMessage(), e);
         }
+        
+        return dto;
     }
     
     /**
@@ -234,7 +526,7 @@ public class AdoptionService {
             name = name + "-" + dto.getDesertionNo().substring(dto.getDesertionNo().length() - 4);
         }
         
-        return AdoptionAnimal.builder()
+        AdoptionAnimal animal = AdoptionAnimal.builder()
                 .desertionNo(dto.getDesertionNo())
                 .name(name)  // NAME 필드 추가
                 .animalType(dto.getAnimalType())
@@ -259,7 +551,10 @@ public class AdoptionService {
                 .apiShelterTel(dto.getShelterPhone())
                 .apiShelterAddr(dto.getShelterAddress())
                 .apiOrgNm(dto.getOrgNm())
+                .contentHash(dto.computeContentHash())
                 .build();
+        linkShelterInfo(animal, dto);
+        return animal;
     }
     
     /**
@@ -281,6 +576,7 @@ public class AdoptionService {
         animal.setWeight(dto.getWeight());
         animal.setColorCd(dto.getColorCd());
         animal.setProcessState(dto.getProcessState());
+        animal.setContentHash(dto.computeContentHash());
         
         // intake_date가 없으면 happen_date로 설정
         if (animal.getIntakeDate() == null && dto.getHappenDate() != null) {
@@ -294,6 +590,7 @@ public class AdoptionService {
             animal.setApiShelterAddr(dto.getShelterAddress());
             animal.setApiOrgNm(dto.getOrgNm());
         }
+        linkShelterInfo(animal, dto);
     }
     
     /**
@@ -447,14 +744,11 @@ public class AdoptionService {
         long totalCount = adoptionAnimalRepository.count();
         status.put("totalCount", totalCount);
         
-        // 상태별 동물 수
-        List<AdoptionAnimal> allAnimals = adoptionAnimalRepository.findAll();
-        Map<String, Long> statusCount = allAnimals.stream()
-                .collect(Collectors.groupingBy(
-                        animal -> animal.getProcessState() != null ? animal.getProcessState() : "null",
-                        Collectors.counting()
-                ));
-        status.put("statusCount", statusCount);
+        // 상태별 / 축종별 / 시도별 동물 수 (GROUP BY 집계 + 동기화 시 증감되는 카운터)
+        Map<String, Object> counters = adoptionStatsCounter.snapshot();
+        status.put("statusCount", counters.get("byProcessState"));
+        status.put("typeCount", counters.get("byAnimalType"));
+        status.put("regionCount", counters.get("byRegion"));
         
         // 최근 저장된 동물 5개
         List<Map<String, Object>> recentAnimals = adoptionAnimalRepository.findTop5ByOrderByCreatedAtDesc()
@@ -470,6 +764,9 @@ public class AdoptionService {
                 .collect(Collectors.toList());
         status.put("recentAnimals", recentAnimals);
         
+        // 메인 랜덤 후보 풀 크기
+        status.put("randomPoolSize", adoptionRandomPool.size());
+        
         return status;
     }
     
@@ -527,23 +824,32 @@ public class AdoptionService {
         return result;
     }
     
+    /**
+     * 유기동물 통계 (전체 건수 + 보호상태별 / 축종별 / 시도별 건수)
+     */
+    public Map<String, Object> getAdoptionStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalCount", adoptionAnimalRepository.count());
+        stats.putAll(adoptionStatsCounter.snapshot());
+        return stats;
+    }
+    
     /**
      * 잘못된 나이 데이터 확인 및 정리
+     * 전체를 읽지 않고 건수 + 샘플만 조회한 뒤, 청크 단위 UPDATE 로 나이를 NULL 처리
      * @return 정리 결과
      */
     public Map<String, Object> cleanupInvalidAgeData() {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            // 비정상적인 나이 값을 가진 동물들 조회
-            List<AdoptionAnimal> problematicAnimals = adoptionAnimalRepository.findAll().stream()
-                    .filter(animal -> animal.getAge() != null && (animal.getAge() < 0 || animal.getAge() > 30))
-                    .collect(Collectors.toList());
+            long problematicCount = adoptionAnimalRepository.countInvalidAge(MIN_VALID_AGE, MAX_VALID_AGE);
+            result.put("totalProblematicAnimals", problematicCount);
             
-            result.put("totalProblematicAnimals", problematicAnimals.size());
-            
-            // 문제가 있는 데이터 상세 정보
-            List<Map<String, Object>> details = problematicAnimals.stream()
+            // 문제가 있는 데이터 샘플 (최대 100건)
+            List<Map<String, Object>> details = adoptionAnimalRepository
+                    .findInvalidAge(MIN_VALID_AGE, MAX_VALID_AGE, PageRequest.of(0, 100))
+                    .stream()
                     .map(animal -> {
                         Map<String, Object> detail = new HashMap<>();
                         detail.put("animalId", animal.getAnimalId());
@@ -557,12 +863,16 @@ public class AdoptionService {
             
             result.put("problematicData", details);
             
-            // 비정상적인 나이 값을 null로 설정
+            // 비정상적인 나이 값을 null로 설정 (청크마다 커밋)
             int updatedCount = 0;
-            for (AdoptionAnimal animal : problematicAnimals) {
-                animal.setAge(null);
-                adoptionAnimalRepository.save(animal);
-                updatedCount++;
+            int updated;
+            do {
+                updated = adoptionAnimalRepository.clearInvalidAgeChunk(MIN_VALID_AGE, MAX_VALID_AGE, cleanupChunkSize);
+                updatedCount += updated;
+            } while (updated > 0);
+            
+            if (updatedCount > 0) {
+                rebuildReadModels();
             }
             
             result.put("updatedCount", updatedCount);
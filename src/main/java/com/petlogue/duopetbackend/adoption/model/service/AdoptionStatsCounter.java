@@ -0,0 +1,141 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import com.petlogue.duopetbackend.admin.model.dto.StatItemDto;
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAnimalRepository;
+import com.petlogue.duopetbackend.common.RegionName;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유기동물 통계 카운터 (보호상태별 / 축종별 / 시도별 건수)
+ * GROUP BY 집계로 초기값을 채우고, 동기화 청크 저장 시 변경 전후 값을 받아 증감한다.
+ * 전체 동기화가 끝나면 다시 집계해 누적 오차를 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdoptionStatsCounter {
+
+    private static final String UNKNOWN = "null";
+
+    private final AdoptionAnimalRepository adoptionAnimalRepository;
+
+    private volatile Counters counters;
+
+    /**
+     * 통계 한 건의 분류 키 (변경 전 값을 저장해 두었다가 apply 에 전달)
+     */
+    public record StatKey(String processState, String animalType, String region) {
+
+        public static StatKey of(AdoptionAnimal animal) {
+            return new StatKey(
+                    orUnknown(animal.getProcessState()),
+                    orUnknown(animal.getAnimalType()),
+                    regionOf(animal.getApiOrgNm(), animal.getApiShelterAddr()));
+        }
+    }
+
+    /**
+     * 저장 완료된 변경 반영 - removed 는 UPDATE 전 키, added 는 저장된 키 (INSERT 는 added 만)
+     */
+    public void apply(Collection<StatKey> removed, Collection<StatKey> added) {
+        Counters current = counters;
+        if (current == null) {
+            return;
+        }
+        removed.forEach(key -> current.add(key, -1));
+        added.forEach(key -> current.add(key, 1));
+    }
+
+    /**
+     * GROUP BY 집계로 카운터를 다시 채움
+     */
+    public void reseed() {
+        Counters fresh = new Counters();
+        adoptionAnimalRepository.countGroupByProcessState()
+                .forEach(item -> fresh.byState.put(orUnknown(item.getItem()), adder(item.getCount())));
+        adoptionAnimalRepository.countGroupByAnimalType()
+                .forEach(item -> fresh.byType.put(orUnknown(item.getItem()), adder(item.getCount())));
+
+        // 지역은 관할기관명(api_org_nm) 단위로 집계한 뒤 시도로 합산
+        for (Object[] row : adoptionAnimalRepository.countGroupByOrgAndAddress()) {
+            String region = regionOf((String) row[0], (String) row[1]);
+            fresh.byRegion.computeIfAbsent(region, k -> new LongAdder()).add(((Number) row[2]).longValue());
+        }
+
+        counters = fresh;
+        log.info("Adoption stats counters reseeded: states={}, types={}, regions={}",
+                fresh.byState.size(), fresh.byType.size(), fresh.byRegion.size());
+    }
+
+    /**
+     * 현재 카운터 스냅샷 (처음 호출 시 집계)
+     */
+    public Map<String, Object> snapshot() {
+        Counters current = counters;
+        if (current == null) {
+            reseed();
+            current = counters;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("byProcessState", toSortedMap(current.byState));
+        result.put("byAnimalType", toSortedMap(current.byType));
+        result.put("byRegion", toSortedMap(current.byRegion));
+        return result;
+    }
+
+    private static Map<String, Long> toSortedMap(ConcurrentMap<String, LongAdder> source) {
+        Map<String, Long> result = new TreeMap<>();
+        source.forEach((key, adder) -> {
+            long value = adder.sum();
+            if (value != 0) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    private static String regionOf(String orgNm, String shelterAddr) {
+        String sido = RegionName.parse(orgNm).sido();
+        if (sido == null) {
+            sido = RegionName.parse(shelterAddr).sido();
+        }
+        return orUnknown(sido);
+    }
+
+    private static String orUnknown(String value) {
+        return value != null ? value : UNKNOWN;
+    }
+
+    private static LongAdder adder(Long initial) {
+        LongAdder adder = new LongAdder();
+        if (initial != null) {
+            adder.add(initial);
+        }
+        return adder;
+    }
+
+    private static class Counters {
+        private final ConcurrentMap<String, LongAdder> byState = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> byType = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> byRegion = new ConcurrentHashMap<>();
+
+        void add(StatKey key, int delta) {
+            byState.computeIfAbsent(key.processState(), k -> new LongAdder()).add(delta);
+            byType.computeIfAbsent(key.animalType(), k -> new LongAdder()).add(delta);
+            byRegion.computeIfAbsent(key.region(), k -> new LongAdder()).add(delta);
+        }
+    }
+}
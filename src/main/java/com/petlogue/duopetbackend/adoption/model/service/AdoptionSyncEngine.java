@@ -0,0 +1,546 @@
+package com.petlogue.duopetbackend.adoption.model.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSyncState;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionSyncStateRepository;
+import com.petlogue.duopetbackend.adoption.model.dto.PublicAnimalApiResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공공 API 유기동물 전체 목록 동기화 엔진
+ * - totalCount 기준으로 전체 페이지를 계산해 가상 스레드로 병렬 조회
+ * - 동시 조회 수는 세마포어로 제한하고, 저장은 호출 스레드 한 곳에서만 수행
+ * - 연속으로 저장이 끝난 페이지를 체크포인트로 남겨 실패 시 이어서 진행
+ * - 증분 모드는 마지막 성공 기준일(watermark) 이후 기간(bgnde~endde)만 조회
+ * - 전체 모드는 실행마다 세대 번호를 부여하고, 모든 페이지를 저장한 경우에만 정리(sweep) 단계를 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdoptionSyncEngine {
+
+    /**
+     * 공공 API 시도 코드 (upr_cd)
+     */
+    public static final List<String> PROVINCE_CODES = List.of(
+            "6110000", // 서울특별시
+            "6260000", // 부산광역시
+            "6270000", // 대구광역시
+            "6280000", // 인천광역시
+            "6290000", // 광주광역시
+            "5690000", // 세종특별자치시
+            "6300000", // 대전광역시
+            "6310000", // 울산광역시
+            "6410000", // 경기도
+            "6530000", // 강원특별자치도
+            "6430000", // 충청북도
+            "6440000", // 충청남도
+            "6540000", // 전북특별자치도
+            "6460000", // 전라남도
+            "6470000", // 경상북도
+            "6480000", // 경상남도
+            "6500000"  // 제주특별자치도
+    );
+
+    private static final String DELTA_SYNC_KEY = "DELTA:ALL";
+
+    private final PublicDataApiClient publicDataApiClient;
+    private final AdoptionSyncStateRepository syncStateRepository;
+
+    @Value("${adoption.sync.page-size:1000}")
+    private int pageSize;
+
+    @Value("${adoption.sync.concurrency:4}")
+    private int concurrency;
+
+    @Value("${adoption.sync.split-by-province:false}")
+    private boolean splitByProvince;
+
+    @Value("${adoption.sync.max-duration-minutes:120}")
+    private long maxDurationMinutes;
+
+    @Value("${adoption.sync.resume-window-hours:24}")
+    private long resumeWindowHours;
+
+    @Value("${adoption.sync.delta-overlap-days:1}")
+    private long deltaOverlapDays;
+
+    @Value("${adoption.sync.delta-initial-days:7}")
+    private long deltaInitialDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 페이지 단위 저장 처리기 (저장 스레드 한 곳에서만 호출됨)
+     */
+    @FunctionalInterface
+    public interface PageHandler {
+        void handle(List<PublicAnimalApiResponse.Item> items, SyncReport report);
+    }
+
+    /**
+     * 전체 동기화 후 정리 처리기 (동기화 잠금 안에서 호출됨)
+     */
+    @FunctionalInterface
+    public interface SweepHandler {
+        /**
+         * @param generation 이번 전체 동기화 세대
+         * @param complete 모든 시도 단위가 이번 세대로 빠짐없이 저장되었는지 여부
+         * @param feedTotal 각 단위 첫 페이지 조회 시 API 가 알려준 전체 건수의 합
+         */
+        void sweep(long generation, boolean complete, long feedTotal, SyncReport report);
+    }
+
+    /**
+     * 전체 데이터 동기화
+     * @param handler 페이지별 저장 처리기
+     * @param sweepHandler 저장이 끝난 뒤 실행할 정리 처리기
+     * @return 동기화 결과
+     */
+    public SyncReport syncAll(PageHandler handler, SweepHandler sweepHandler) {
+        return runExclusive((report, deadline) -> {
+            List<String> partitions = splitByProvince ? PROVINCE_CODES : Collections.singletonList(null);
+            List<String> syncKeys = partitions.stream()
+                    .map(uprCd -> "FULL:" + (uprCd != null ? uprCd : "ALL"))
+                    .toList();
+
+            long generation = resolveGeneration(syncKeys);
+            report.setSyncGeneration(generation);
+
+            for (int i = 0; i < partitions.size(); i++) {
+                if (Instant.now().isAfter(deadline)) {
+                    report.markTimedOut();
+                    log.warn("Adoption sync time window exceeded, remaining partitions will resume next run");
+                    break;
+                }
+                syncPartition(new SyncScope(syncKeys.get(i), partitions.get(i), null, null, true, null, generation),
+                        handler, report, deadline);
+            }
+
+            // 이번 세대로 모든 단위가 완료되어야 "피드에서 사라진 동물"을 판단할 수 있음
+            List<AdoptionSyncState> states = syncStateRepository.findAllById(syncKeys);
+            boolean complete = !report.isTimedOut()
+                    && report.getPagesFailed() == 0
+                    && report.getPagesSkipped() == 0
+                    && report.getFailureCount() == 0
+                    && states.stream()
+                            .filter(state -> AdoptionSyncState.STATUS_COMPLETED.equals(state.getStatus()))
+                            .filter(state -> Long.valueOf(generation).equals(state.getGeneration()))
+                            .count() == syncKeys.size();
+            long feedTotal = states.stream()
+                    .map(AdoptionSyncState::getTotalCount)
+                    .filter(Objects::nonNull)
+                    .mapToLong(Integer::longValue)
+                    .sum();
+            sweepHandler.sweep(generation, complete, feedTotal, report);
+        });
+    }
+
+    /**
+     * 이번 전체 동기화 세대 결정
+     * 체크포인트에서 이어지는 단위가 있으면 그 세대를 그대로 쓰고 (이전 페이지가 이미 그 세대로 기록됨),
+     * 없으면 지금까지의 최대 세대 + 1 로 새 세대를 시작한다.
+     */
+    private long resolveGeneration(List<String> syncKeys) {
+        List<AdoptionSyncState> states = syncStateRepository.findAllById(syncKeys);
+
+        OptionalLong resumed = states.stream()
+                .filter(this::isResumable)
+                .filter(state -> state.getGeneration() != null)
+                .mapToLong(AdoptionSyncState::getGeneration)
+                .max();
+        if (resumed.isPresent()) {
+            return resumed.getAsLong();
+        }
+
+        return states.stream()
+                .map(AdoptionSyncState::getGeneration)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L) + 1;
+    }
+
+    /**
+     * 증분 동기화 - 마지막 성공 기준일 이후 접수된 동물만 조회
+     * 기준일은 전체 페이지 저장이 끝나고 실패한 행이 없을 때만 갱신된다.
+     * @param handler 페이지별 저장 처리기
+     * @return 동기화 결과
+     */
+    public SyncReport syncDelta(PageHandler handler) {
+        return runExclusive((report, deadline) -> {
+            LocalDate today = LocalDate.now();
+            LocalDate watermark = syncStateRepository.findById(DELTA_SYNC_KEY)
+                    .map(AdoptionSyncState::getWatermark)
+                    .orElse(null);
+            LocalDate from = watermark != null
+                    ? watermark.minusDays(deltaOverlapDays)
+                    : today.minusDays(deltaInitialDays);
+
+            log.info("Starting adoption delta sync: bgnde={}, endde={}", from, today);
+            syncPartition(new SyncScope(DELTA_SYNC_KEY, null,
+                    from.format(DateTimeFormatter.BASIC_ISO_DATE),
+                    today.format(DateTimeFormatter.BASIC_ISO_DATE),
+                    false, today, null), handler, report, deadline);
+        });
+    }
+
+    /**
+     * 동시에 하나의 동기화만 실행되도록 보장
+     */
+    private SyncReport runExclusive(SyncRun run) {
+        SyncReport report = new SyncReport();
+
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Adoption sync is already running, skipping this request");
+            report.setError("Synchronization already in progress");
+            return report;
+        }
+
+        try {
+            Instant deadline = Instant.now().plus(Duration.ofMinutes(maxDurationMinutes));
+            run.run(report, deadline);
+        } catch (Exception e) {
+            log.error("Error during adoption data synchronization", e);
+            report.setError(e.getMessage());
+        } finally {
+            running.set(false);
+        }
+
+        return report;
+    }
+
+    /**
+     * 동기화 단위(전국 또는 시도) 하나를 처리
+     */
+    private void syncPartition(SyncScope scope, PageHandler handler, SyncReport report, Instant deadline) {
+        String syncKey = scope.syncKey();
+        AdoptionSyncState state = syncStateRepository.findById(syncKey)
+                .orElseGet(() -> AdoptionSyncState.builder().syncKey(syncKey).lastCompletedPage(0).build());
+
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        // 체크포인트는 같은 세대일 때만 이어감 (다른 세대의 앞 페이지는 이번 세대로 기록되지 않았으므로)
+        boolean resume = scope.resumable() && isResumable(state)
+                && Objects.equals(state.getGeneration(), scope.generation());
+        int startPage = resume ? state.getLastCompletedPage() + 1 : 1;
+        int failuresBefore = report.getFailureCount();
+
+        // 시작 페이지를 먼저 조회해 totalCount 확인
+        PageResult first = fetchPage(scope, startPage, deadline, cancelled);
+        if (startPage > 1 && first.error() == null && !first.skipped()
+                && startPage > pagesFor(first.totalCount())) {
+            log.info("Checkpoint page {} is beyond current total pages for {}, restarting from page 1", startPage, syncKey);
+            startPage = 1;
+            first = fetchPage(scope, startPage, deadline, cancelled);
+        }
+
+        if (first.error() != null || first.skipped()) {
+            recordUnfinished(first, report);
+            state.setStatus(AdoptionSyncState.STATUS_INCOMPLETE);
+            syncStateRepository.save(state);
+            return;
+        }
+
+        int totalPages = pagesFor(first.totalCount());
+        report.addTotalCount(first.totalCount());
+        if (startPage > 1) {
+            log.info("Resuming adoption sync {} from page {} of {} (checkpoint)", syncKey, startPage, totalPages);
+        } else {
+            state.setStartedAt(LocalDateTime.now());
+            log.info("Starting adoption sync {}: totalCount={}, totalPages={}, pageSize={}",
+                    syncKey, first.totalCount(), totalPages, pageSize);
+        }
+
+        state.setStatus(AdoptionSyncState.STATUS_RUNNING);
+        if (scope.generation() != null) {
+            state.setGeneration(scope.generation());
+        }
+        state.setTotalCount(first.totalCount());
+        state.setTotalPages(totalPages);
+        state.setLastCompletedPage(startPage - 1);
+        state.setCompletedAt(null);
+        syncStateRepository.save(state);
+
+        BitSet completed = new BitSet(totalPages + 1);
+        int lastCompleted = startPage - 1;
+
+        BlockingQueue<PageResult> results = new LinkedBlockingQueue<>();
+        Semaphore inFlight = new Semaphore(Math.max(1, concurrency));
+        int submitted = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 조회는 가상 스레드에서 병렬로, 저장 전 대기 중인 페이지 수는 concurrency 이하로 제한
+            for (int pageNo = startPage + 1; pageNo <= totalPages; pageNo++) {
+                final int page = pageNo;
+                executor.submit(() -> {
+                    inFlight.acquireUninterruptibly();
+                    results.add(fetchPage(scope, page, deadline, cancelled));
+                });
+                submitted++;
+            }
+
+            if (persistPage(first, handler, report)) {
+                completed.set(first.pageNo());
+            }
+            lastCompleted = advanceCheckpoint(state, completed, lastCompleted);
+
+            for (int i = 0; i < submitted; i++) {
+                PageResult result;
+                try {
+                    result = results.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelled.set(true);
+                    inFlight.release(submitted);
+                    log.warn("Adoption sync {} interrupted", syncKey);
+                    break;
+                }
+
+                try {
+                    if (persistPage(result, handler, report)) {
+                        completed.set(result.pageNo());
+                        lastCompleted = advanceCheckpoint(state, completed, lastCompleted);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            }
+        }
+
+        boolean finished = lastCompleted >= totalPages;
+        state.setLastCompletedPage(lastCompleted);
+        state.setStatus(finished ? AdoptionSyncState.STATUS_COMPLETED : AdoptionSyncState.STATUS_INCOMPLETE);
+        if (finished) {
+            state.setCompletedAt(LocalDateTime.now());
+            // 행 단위 실패가 있으면 기준일을 유지해 다음 증분 동기화에서 다시 조회
+            if (scope.watermark() != null) {
+                if (report.getFailureCount() == failuresBefore) {
+                    state.setWatermark(scope.watermark());
+                } else {
+                    log.warn("Adoption sync {} had {} failed rows, watermark kept at {}", syncKey,
+                            report.getFailureCount() - failuresBefore, state.getWatermark());
+                }
+            }
+        }
+        syncStateRepository.save(state);
+
+        log.info("Adoption sync {} {}: checkpoint page {}/{}", syncKey,
+                finished ? "completed" : "stopped", lastCompleted, totalPages);
+    }
+
+    /**
+     * 체크포인트가 남아 있고 재개 가능 시간 이내인지 확인
+     */
+    private boolean isResumable(AdoptionSyncState state) {
+        return state.getLastCompletedPage() != null
+                && state.getLastCompletedPage() > 0
+                && !AdoptionSyncState.STATUS_COMPLETED.equals(state.getStatus())
+                && state.getUpdatedAt() != null
+                && state.getUpdatedAt().isAfter(LocalDateTime.now().minusHours(resumeWindowHours));
+    }
+
+    /**
+     * 1페이지부터 연속으로 완료된 지점까지 체크포인트 이동
+     */
+    private int advanceCheckpoint(AdoptionSyncState state, BitSet completed, int lastCompleted) {
+        int next = lastCompleted;
+        while (completed.get(next + 1)) {
+            next++;
+        }
+        if (next != lastCompleted) {
+            state.setLastCompletedPage(next);
+            syncStateRepository.save(state);
+        }
+        return next;
+    }
+
+    /**
+     * 조회된 페이지 저장 (저장 스레드)
+     * @return 저장 완료 여부
+     */
+    private boolean persistPage(PageResult result, PageHandler handler, SyncReport report) {
+        if (result.error() != null || result.skipped()) {
+            recordUnfinished(result, report);
+            return false;
+        }
+
+        try {
+            handler.handle(result.items(), report);
+            report.pageCompleted();
+            return true;
+        } catch (Exception e) {
+            report.pageFailed();
+            log.error("Failed to persist page {}: {}", result.pageNo(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private void recordUnfinished(PageResult result, SyncReport report) {
+        if (result.skipped()) {
+            report.pageSkipped();
+            report.markTimedOut();
+        } else {
+            report.pageFailed();
+            log.error("Failed to fetch page {}: {}", result.pageNo(), result.error().getMessage());
+        }
+    }
+
+    /**
+     * 페이지 조회 (가상 스레드에서 실행)
+     * 연결 오류 / 429 / 5xx 재시도는 outboundRestClient 인터셉터가 맡으므로 여기서는 다시 시도하지 않는다.
+     * 실패한 페이지는 실패로 집계되고, 재개 가능한 동기화는 다음 실행에서 이어서 받는다.
+     */
+    private PageResult fetchPage(SyncScope scope, int pageNo, Instant deadline, AtomicBoolean cancelled) {
+        if (cancelled.get() || Instant.now().isAfter(deadline)) {
+            return PageResult.skipped(pageNo);
+        }
+
+        try {
+            List<PublicAnimalApiResponse.Item> items = new ArrayList<>(pageSize);
+            int totalCount = publicDataApiClient.streamAbandonmentAnimals(
+                    scope.bgnde(), scope.endde(), null, null, pageNo, pageSize, scope.uprCd(), items::add);
+            return new PageResult(pageNo, totalCount, items, null, false);
+        } catch (Exception e) {
+            log.warn("Page fetch failed: syncKey={}, pageNo={}, error={}", scope.syncKey(), pageNo, e.getMessage());
+            return new PageResult(pageNo, 0, List.of(), e, false);
+        }
+    }
+
+    private int pagesFor(int totalCount) {
+        return Math.max(1, (totalCount + pageSize - 1) / pageSize);
+    }
+
+    @FunctionalInterface
+    private interface SyncRun {
+        void run(SyncReport report, Instant deadline);
+    }
+
+    /**
+     * 동기화 범위 (체크포인트 키, 시도 코드, 조회 기간, 재개 가능 여부, 완료 시 기록할 기준일, 전체 동기화 세대)
+     */
+    private record SyncScope(String syncKey, String uprCd, String bgnde, String endde,
+                             boolean resumable, LocalDate watermark, Long generation) {
+    }
+
+    /**
+     * 페이지 조회 결과
+     */
+    private record PageResult(int pageNo, int totalCount, List<PublicAnimalApiResponse.Item> items,
+                              Exception error, boolean skipped) {
+        static PageResult skipped(int pageNo) {
+            return new PageResult(pageNo, 0, List.of(), null, true);
+        }
+    }
+
+    /**
+     * 동기화 결과 집계 (저장 스레드에서만 갱신)
+     */
+    @Getter
+    public static class SyncReport {
+        private int apiTotalCount;
+        private int totalProcessed;
+        private int successCount;
+        private int failureCount;
+        private int unchangedCount;
+        private int pagesCompleted;
+        private int pagesFailed;
+        private int pagesSkipped;
+        private boolean timedOut;
+        private int retiredCount;
+        private int expiredCount;
+        @Setter
+        private String error;
+        // 전체 동기화 세대 (증분 동기화는 null - 저장 시 기존 세대를 유지)
+        @Setter(AccessLevel.PACKAGE)
+        private Long syncGeneration;
+
+        public void recordSuccess() {
+            totalProcessed++;
+            successCount++;
+        }
+
+        public void recordFailure() {
+            totalProcessed++;
+            failureCount++;
+        }
+
+        public void recordUnchanged() {
+            unchangedCount++;
+        }
+
+        public void addRetired(int count) {
+            retiredCount += count;
+        }
+
+        public void addExpired(int count) {
+            expiredCount += count;
+        }
+
+        void addTotalCount(int count) {
+            apiTotalCount += count;
+        }
+
+        void pageCompleted() {
+            pagesCompleted++;
+        }
+
+        void pageFailed() {
+            pagesFailed++;
+        }
+
+        void pageSkipped() {
+            pagesSkipped++;
+        }
+
+        void markTimedOut() {
+            timedOut = true;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> result = new HashMap<>();
+            result.put("totalProcessed", totalProcessed);
+            result.put("successCount", successCount);
+            result.put("failureCount", failureCount);
+            result.put("unchangedCount", unchangedCount);
+            result.put("apiTotalCount", apiTotalCount);
+            result.put("pagesCompleted", pagesCompleted);
+            result.put("pagesFailed", pagesFailed);
+            result.put("pagesSkipped", pagesSkipped);
+            result.put("timedOut", timedOut);
+            if (syncGeneration != null) {
+                result.put("syncGeneration", syncGeneration);
+                result.put("retiredCount", retiredCount);
+                result.put("expiredCount", expiredCount);
+            }
+            if (error != null) {
+                result.put("error", error);
+            }
+            return result;
+        }
+    }
+}
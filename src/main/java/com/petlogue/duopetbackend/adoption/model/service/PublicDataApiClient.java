@@ -1,33 +1,46 @@
 package com.petlogue.duopetbackend.adoption.model.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.petlogue.duopetbackend.adoption.model.dto.PublicAnimalApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PublicDataApiClient {
     
-    private final WebClient.Builder webClientBuilder;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    // 스레드 안전한 공유 리더 (동기화 시 페이지마다 새로 만들지 않음)
+    private static final ObjectReader ITEM_READER = OBJECT_MAPPER.readerFor(PublicAnimalApiResponse.Item.class);
+    
+    private final RestClient outboundRestClient;
     
     @Value("${api.animal.protection.service-key}")
     private String shelterServiceKey;
@@ -59,12 +72,10 @@ public class PublicDataApiClient {
         
         log.info("Calling Shelter API: {}", uri);
         
-        return webClientBuilder.build()
-                .get()
+        return outboundRestClient.get()
                 .uri(uri)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+                .body(Map.class);
     }
     
     /**
@@ -101,19 +112,17 @@ public class PublicDataApiClient {
             
             log.info("Calling Animal API with URL: {}", url);
             
-            // Java 11 HttpClient 사용
-            HttpClient client = HttpClient.newHttpClient();
-            HttpRequest request = HttpRequest.newBuilder()
+            // 공용 클라이언트 사용 (오류 응답도 본문을 그대로 받아 아래에서 판단)
+            ResponseEntity<String> httpResponse = outboundRestClient.get()
                     .uri(URI.create(url))
                     .header("Accept", "application/json")
                     .header("User-Agent", "Mozilla/5.0")
-                    .GET()
-                    .build();
-                    
-            HttpResponse<String> httpResponse = client.send(request, HttpResponse.BodyHandlers.ofString());
-            String response = httpResponse.body();
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, (req, res) -> { })
+                    .toEntity(String.class);
+            String response = httpResponse.getBody() != null ? httpResponse.getBody() : "";
             
-            log.info("Response status: {}", httpResponse.statusCode());
+            log.info("Response status: {}", httpResponse.getStatusCode().value());
                     
             log.info("API Response (first 200 chars): {}", 
                 response.substring(0, Math.min(200, response.length())));
@@ -126,8 +135,7 @@ public class PublicDataApiClient {
                 throw new RuntimeException("API returned XML. Response: " + response.substring(0, 200) + "\nURL: " + url);
             }
             
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            return mapper.readValue(response, Map.class);
+            return OBJECT_MAPPER.readValue(response, Map.class);
                     
         } catch (Exception e) {
             log.error("Error calling Animal API", e);
@@ -135,6 +143,130 @@ public class PublicDataApiClient {
         }
     }
     
+    /**
+     * 유기동물 정보 스트리밍 조회 (동기화용)
+     * 응답 본문을 문자열/Map으로 만들지 않고 InputStream에서 item 을 하나씩 읽어 전달한다.
+     * @param itemConsumer item 하나마다 호출되는 소비자
+     * @return API 전체 건수 (totalCount)
+     */
+    public int streamAbandonmentAnimals(
+            String bgnde, String endde, String upkind,
+            String state, int pageNo, int numOfRows, String uprCd,
+            Consumer<PublicAnimalApiResponse.Item> itemConsumer) {
+        
+        String url = buildAnimalApiUrl(bgnde, endde, upkind, state, pageNo, numOfRows, uprCd);
+        log.debug("Streaming Animal API: pageNo={}, numOfRows={}, uprCd={}", pageNo, numOfRows, uprCd);
+        
+        try {
+            return outboundRestClient.get()
+                    .uri(URI.create(url))
+                    .header("Accept", "application/json")
+                    .header("User-Agent", "Mozilla/5.0")
+                    .exchange((request, response) -> {
+                        try (InputStream body = new BufferedInputStream(response.getBody())) {
+                            int status = response.getStatusCode().value();
+                            if (status != 200) {
+                                throw new RuntimeException("Animal API returned status " + status
+                                        + ": " + readSnippet(body));
+                            }
+                            
+                            // 서비스 키 오류 등은 XML 로 응답됨
+                            if (peekFirstNonWhitespace(body) == '<') {
+                                throw new RuntimeException("API returned XML. Response: " + readSnippet(body));
+                            }
+                            
+                            return readItems(body, itemConsumer);
+                        }
+                    });
+        } catch (RestClientException e) {
+            throw new RuntimeException("Failed to call Animal API: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * response.header / response.body 를 따라가며 totalCount 와 items.item 만 읽고 나머지는 건너뜀
+     */
+    private int readItems(InputStream in, Consumer<PublicAnimalApiResponse.Item> itemConsumer) throws IOException {
+        int totalCount = 0;
+        String resultCode = null;
+        String resultMsg = null;
+        
+        try (JsonParser parser = ITEM_READER.createParser(in)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.FIELD_NAME) {
+                    continue;
+                }
+                
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                
+                switch (field) {
+                    case "response", "header", "body", "items" -> {
+                        // 하위 객체로 진입 (items 가 빈 문자열이면 결과 없음)
+                    }
+                    case "resultCode" -> resultCode = parser.getValueAsString();
+                    case "resultMsg" -> resultMsg = parser.getValueAsString();
+                    case "totalCount" -> totalCount = parser.getValueAsInt();
+                    case "item" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                itemConsumer.accept(ITEM_READER.readValue(parser));
+                            }
+                        } else if (value == JsonToken.START_OBJECT) {
+                            // 결과가 1건이면 배열이 아닌 객체로 옴
+                            itemConsumer.accept(ITEM_READER.readValue(parser));
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        
+        if (resultCode != null && !"00".equals(resultCode)) {
+            throw new RuntimeException("Animal API error: resultCode=" + resultCode + ", resultMsg=" + resultMsg);
+        }
+        
+        return totalCount;
+    }
+    
+    private int peekFirstNonWhitespace(InputStream in) throws IOException {
+        in.mark(64);
+        int c;
+        do {
+            c = in.read();
+        } while (c != -1 && Character.isWhitespace(c));
+        in.reset();
+        return c;
+    }
+    
+    private String readSnippet(InputStream in) throws IOException {
+        byte[] buffer = in.readNBytes(200);
+        return new String(buffer, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 유기동물 API URL 구성 (서비스 키는 인코딩해서 직접 붙임)
+     */
+    private String buildAnimalApiUrl(String bgnde, String endde, String upkind,
+                                     String state, int pageNo, int numOfRows, String uprCd) {
+        String encodedServiceKey = URLEncoder.encode(animalServiceKey, StandardCharsets.UTF_8);
+        
+        StringBuilder url = new StringBuilder(animalBaseUrl)
+                .append("?serviceKey=").append(encodedServiceKey)
+                .append("&pageNo=").append(pageNo)
+                .append("&numOfRows=").append(numOfRows)
+                .append("&_type=json");
+        
+        if (bgnde != null) url.append("&bgnde=").append(bgnde);
+        if (endde != null) url.append("&endde=").append(endde);
+        if (upkind != null) url.append("&upkind=").append(upkind);
+        if (state != null) url.append("&state=").append(state);
+        if (uprCd != null) url.append("&upr_cd=").append(uprCd);
+        
+        return url.toString();
+    }
+    
     public int getServiceKeyLength() {
         return animalServiceKey != null ? animalServiceKey.length() : 0;
     }
@@ -164,11 +296,9 @@ public class PublicDataApiClient {
         
         log.info("Calling Animals by Shelter API: {}", uri);
         
-        return webClientBuilder.build()
-                .get()
+        return outboundRestClient.get()
                 .uri(uri)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+                .body(Map.class);
     }
 }
\ No newline at end of file
@@ -9,7 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.client.RestClient;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -24,9 +24,9 @@ public class VideoRecommendService {
 
     private final BoardRepository boardRepository;
 
-    private final WebClient webClient = WebClient.builder()
-            .baseUrl("http://localhost:8000/api/v1/video-recommend") // FastAPI 서버 주소
-            .build();
+    private final RestClient outboundRestClient;
+
+    private static final String VIDEO_RECOMMEND_URL = "http://localhost:8000/api/v1/video-recommend"; // FastAPI 서버 주소
 
     public List<VideoInfo> recommendVideos(VideoRecommendRequest request) {
         try {
@@ -48,16 +48,15 @@ public class VideoRecommendService {
             log.info("추천 키워드 추출: {}", keywords);
 
             // 2. FastAPI로 요청
-            JsonNode response = webClient.post()
-                    .uri("/recommend")
-                    .bodyValue(Map.of(
+            JsonNode response = outboundRestClient.post()
+                    .uri(VIDEO_RECOMMEND_URL + "/recommend")
+                    .body(Map.of(
                             "keywords", keywords,
                             "category", request.getCategory(),
                             "max_results", request.getMaxResults()
                     ))
                     .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
+                    .body(JsonNode.class);
 
             // 3. 응답 파싱
             List<VideoInfo> videos = new ArrayList<>();
@@ -0,0 +1,96 @@
+package com.petlogue.duopetbackend.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주소 문자열에서 시도 / 시군구를 추출해 표준 약칭으로 정규화
+ * 예) "서울특별시 강남구 역삼동" -> sido "서울", sigungu "강남구"
+ *     "강원특별자치도 춘천시"     -> sido "강원", sigungu "춘천시"
+ *     "서울 강남"                 -> sido "서울", district "강남" (시군구 접두어로 추가 필터)
+ */
+public record RegionName(String sido, String sigungu, String district) {
+
+    // 경기도 광주시와 겹치므로 시도 별칭으로 두지 않고, 뒤에 자치구가 올 때만 광주광역시로 본다
+    private static final String GWANGJU_CITY = "광주시";
+
+    private static final Map<String, String> SIDO_ALIASES = new HashMap<>();
+
+    static {
+        alias("서울", "서울특별시", "서울시");
+        alias("부산", "부산광역시", "부산시");
+        alias("대구", "대구광역시", "대구시");
+        alias("인천", "인천광역시", "인천시");
+        alias("광주", "광주광역시");
+        alias("대전", "대전광역시", "대전시");
+        alias("울산", "울산광역시", "울산시");
+        alias("세종", "세종특별자치시", "세종시");
+        alias("경기", "경기도");
+        alias("강원", "강원도", "강원특별자치도");
+        alias("충북", "충청북도");
+        alias("충남", "충청남도");
+        alias("전북", "전라북도", "전북특별자치도");
+        alias("전남", "전라남도");
+        alias("경북", "경상북도");
+        alias("경남", "경상남도");
+        alias("제주", "제주도", "제주특별자치도");
+    }
+
+    private static void alias(String shortName, String... names) {
+        SIDO_ALIASES.put(shortName, shortName);
+        for (String name : names) {
+            SIDO_ALIASES.put(name, shortName);
+        }
+    }
+
+    /**
+     * 주소 파싱 - 첫 단어는 시도, 두 번째 단어가 시/군/구로 끝나면 시군구, 아니면 시군구 접두어(district)
+     * 시도를 알 수 없으면 sido 는 null, 첫 단어가 시군구 형태면 sigungu 만 채운다.
+     */
+    public static RegionName parse(String address) {
+        if (address == null || address.isBlank()) {
+            return new RegionName(null, null, null);
+        }
+
+        String[] tokens = address.trim().split("\\s+");
+        String sido = normalizeSido(tokens[0]);
+        if (sido == null && GWANGJU_CITY.equals(tokens[0]) && tokens.length > 1 && tokens[1].endsWith("구")) {
+            sido = "광주";
+        }
+        if (sido == null) {
+            return new RegionName(null, isSigungu(tokens[0]) ? tokens[0] : null, null);
+        }
+        if (tokens.length < 2) {
+            return new RegionName(sido, null, null);
+        }
+        return isSigungu(tokens[1])
+                ? new RegionName(sido, tokens[1], null)
+                : new RegionName(sido, null, tokens[1]);
+    }
+
+    /**
+     * 시도 명칭을 약칭으로 변환 (알 수 없으면 null)
+     */
+    public static String normalizeSido(String name) {
+        return name == null ? null : SIDO_ALIASES.get(name.trim());
+    }
+
+    private static boolean isSigungu(String token) {
+        return token.length() >= 2
+                && (token.endsWith("시") || token.endsWith("군") || token.endsWith("구"));
+    }
+
+    /**
+     * 시군구 색인 키 ("서울 강남구"), 시도나 시군구가 없으면 null
+     */
+    public String sigunguKey() {
+        return sido != null && sigungu != null ? sido + " " + sigungu : null;
+    }
+
+    /**
+     * 시군구 키 접두어 ("서울 강남" -> "서울 강남구" 등과 일치), 시도나 district 가 없으면 null
+     */
+    public String sigunguKeyPrefix() {
+        return sido != null && district != null ? sido + " " + district : null;
+    }
+}
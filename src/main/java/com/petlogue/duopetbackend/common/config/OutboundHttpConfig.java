@@ -0,0 +1,54 @@
+package com.petlogue.duopetbackend.common.config;
+
+import com.petlogue.duopetbackend.common.http.OutboundHttpInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API 호출 공용 클라이언트 설정
+ * - JDK HttpClient 하나를 공유해 커넥션 풀 / keep-alive 를 재사용 (https 는 ALPN 으로 HTTP/2 협상, 미지원 시 HTTP/1.1)
+ * - 연결 / 읽기 타임아웃 공통 적용
+ * - 호스트별 동시 요청 제한, 재시도, 엔드포인트별 지표는 OutboundHttpInterceptor 에서 처리
+ * 공공데이터, 결제(Toss), 쇼핑(Naver), AI 서버 호출은 모두 outboundRestClient 를 사용한다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    @Value("${http.outbound.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${http.outbound.read-timeout-ms:${api.public.timeout:30000}}")
+    private int readTimeoutMs;
+
+    @Bean
+    public HttpClient outboundHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Bean
+    public JdkClientHttpRequestFactory outboundRequestFactory(HttpClient outboundHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(outboundHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return requestFactory;
+    }
+
+    @Bean
+    public RestClient outboundRestClient(RestClient.Builder builder,
+                                         JdkClientHttpRequestFactory outboundRequestFactory,
+                                         OutboundHttpInterceptor outboundHttpInterceptor) {
+        return builder
+                .requestFactory(outboundRequestFactory)
+                .requestInterceptor(outboundHttpInterceptor)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.petlogue.duopetbackend.common.geo;
+
+/**
+ * EPSG:5174 (Korean 1985 / Modified Central Belt) -> WGS84 위경도 변환
+ * Bessel 타원체 TM 역투영 후 국토지리정보원 7 변수(Bessel -> GRS80)로 측지계를 변환한다.
+ * GRS80 과 WGS84 의 차이는 0.1mm 수준이므로 결과를 WGS84 좌표로 그대로 사용한다.
+ */
+public final class Epsg5174 {
+
+    // 중앙 자오선 127°00'10.405" (중부원점 보정 경도)
+    private static final double CENTRAL_MERIDIAN = 127.0 + 10.405 / 3600.0;
+
+    private static final TransverseMercator PROJECTION = new TransverseMercator(
+            HelmertTransform.Ellipsoid.BESSEL_1841.semiMajorAxis(),
+            HelmertTransform.Ellipsoid.BESSEL_1841.inverseFlattening(),
+            38.0, CENTRAL_MERIDIAN, 1.0, 200000.0, 500000.0);
+
+    private static final HelmertTransform BESSEL_TO_GRS80 = new HelmertTransform(
+            HelmertTransform.Ellipsoid.BESSEL_1841, HelmertTransform.Ellipsoid.GRS80,
+            -115.80, 474.99, 674.11, 1.16, -2.31, -1.63, 6.43);
+
+    private Epsg5174() {
+    }
+
+    /**
+     * 좌표 묶음 변환
+     * @param x 동향 좌표 (m)
+     * @param y 북향 좌표 (m)
+     * @param outLat 위도 결과 (도)
+     * @param outLng 경도 결과 (도)
+     */
+    public static void toWgs84(double[] x, double[] y, double[] outLat, double[] outLng, int count) {
+        PROJECTION.inverse(x, y, outLat, outLng, count);
+        BESSEL_TO_GRS80.transform(outLat, outLng, count);
+    }
+
+    /**
+     * 좌표 하나 변환 - {위도, 경도}
+     */
+    public static double[] toWgs84(double x, double y) {
+        double[] lat = new double[1];
+        double[] lng = new double[1];
+        toWgs84(new double[] {x}, new double[] {y}, lat, lng, 1);
+        return new double[] {lat[0], lng[0]};
+    }
+}
@@ -0,0 +1,26 @@
+package com.petlogue.duopetbackend.common.geo;
+
+/**
+ * 반경을 감싸는 위경도 사각형
+ * 좌표 인덱스(범위 조건)로 후보를 먼저 좁히고, 정확한 거리는 후보에 대해서만 계산할 때 사용한다.
+ */
+public record GeoBounds(double minLat, double maxLat, double minLng, double maxLng) {
+
+    // 위도 1도 거리 (km)
+    private static final double KM_PER_DEGREE = Math.PI * GeoGridIndex.EARTH_RADIUS_KM / 180.0;
+
+    /**
+     * (lat, lng) 중심 반경 radiusKm 원을 포함하는 사각형
+     * 경도 폭은 중심보다 극에 가까운 쪽 위도 기준으로 잡아 원이 잘리지 않게 한다.
+     */
+    public static GeoBounds around(double lat, double lng, double radiusKm) {
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double highestLat = Math.min(89.0, Math.abs(lat) + latSpan);
+        double lngSpan = Math.min(180.0, radiusKm / Math.max(KM_PER_DEGREE * Math.cos(Math.toRadians(highestLat)), 1e-6));
+        return new GeoBounds(lat - latSpan, lat + latSpan, lng - lngSpan, lng + lngSpan);
+    }
+
+    public boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+}
@@ -0,0 +1,206 @@
+package com.petlogue.duopetbackend.common.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 지도 마커 군집 피라미드 (읽기 전용)
+ * 웹 메르카토르 타일(256px) 기준으로 줌 단계마다 cellPixels 크기 격자에 좌표를 모아 개수와 무게중심을 미리 계산해 둔다.
+ * 격자 칸은 타일 경계에 맞춰 나뉘므로 타일 하나(z/x/y)의 군집은 항상 같고, 타일 단위로 캐시할 수 있다.
+ * 칸은 (행, 열) 순 키로 정렬해 두어 타일 조회는 행마다 이진 탐색 한 번으로 끝난다.
+ */
+public final class GeoClusterGrid {
+
+    public static final int TILE_PIXELS = 256;
+    public static final int MAX_ZOOM = 22;
+
+    // 칸 키 + 좌표 순번을 long 하나로 묶어 정렬할 때 순번에 쓰는 비트 수
+    private static final int INDEX_BITS = 23;
+    // 칸 키의 축 하나당 최대 비트 수 (2 x 20 + 23 < 64)
+    private static final int MAX_AXIS_BITS = 20;
+
+    private final int maxZoom;
+    // 타일 한 변의 칸 수 = 2^cellShift
+    private final int cellShift;
+    private final Tier[] tiers;
+
+    /**
+     * 군집 (칸 안 좌표의 무게중심과 개수)
+     * @param id 칸에 좌표가 하나뿐이면 그 대상 ID, 아니면 -1
+     */
+    public record Cluster(double lat, double lng, int count, long id) {
+    }
+
+    // 줌 단계 하나의 칸 목록 (키 오름차순)
+    private record Tier(long[] keys, double[] lats, double[] lngs, int[] counts, long[] ids) {
+    }
+
+    /**
+     * @param ids 대상 ID
+     * @param lats 위도 (ids 와 같은 순서)
+     * @param lngs 경도 (ids 와 같은 순서)
+     * @param maxZoom 미리 계산할 최대 줌 (더 큰 줌은 이 단계의 군집을 잘라서 사용)
+     * @param cellPixels 격자 한 칸 크기 (px, 256 을 나누는 2의 거듭제곱)
+     */
+    public static GeoClusterGrid build(long[] ids, double[] lats, double[] lngs, int maxZoom, int cellPixels) {
+        if (ids.length != lats.length || ids.length != lngs.length) {
+            throw new IllegalArgumentException("ids, lats and lngs must have the same length");
+        }
+        if (cellPixels <= 0 || cellPixels > TILE_PIXELS || TILE_PIXELS % cellPixels != 0
+                || Integer.bitCount(cellPixels) != 1) {
+            throw new IllegalArgumentException("cellPixels must be a power of two dividing 256: " + cellPixels);
+        }
+        int cellShift = Integer.numberOfTrailingZeros(TILE_PIXELS / cellPixels);
+        if (maxZoom < 0 || maxZoom + cellShift > MAX_AXIS_BITS) {
+            throw new IllegalArgumentException("maxZoom out of range: " + maxZoom);
+        }
+        if (ids.length >= 1 << INDEX_BITS) {
+            throw new IllegalArgumentException("too many points: " + ids.length);
+        }
+        return new GeoClusterGrid(ids, lats, lngs, maxZoom, cellShift);
+    }
+
+    private GeoClusterGrid(long[] ids, double[] lats, double[] lngs, int maxZoom, int cellShift) {
+        this.maxZoom = maxZoom;
+        this.cellShift = cellShift;
+        this.tiers = new Tier[maxZoom + 1];
+
+        int n = ids.length;
+        double[] mx = new double[n];
+        double[] my = new double[n];
+        for (int i = 0; i < n; i++) {
+            mx[i] = mercatorX(lngs[i]);
+            my[i] = mercatorY(lats[i]);
+        }
+
+        long[] packed = new long[n];
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            long axis = 1L << (zoom + cellShift);
+            for (int i = 0; i < n; i++) {
+                long cx = Math.min(axis - 1, (long) (mx[i] * axis));
+                long cy = Math.min(axis - 1, (long) (my[i] * axis));
+                packed[i] = (cy * axis + cx) << INDEX_BITS | i;
+            }
+            Arrays.sort(packed);
+            tiers[zoom] = aggregate(packed, ids, lats, lngs);
+        }
+    }
+
+    /**
+     * 정렬된 (칸 키, 순번) 을 칸별로 묶어 개수 / 무게중심 계산
+     */
+    private static Tier aggregate(long[] packed, long[] ids, double[] lats, double[] lngs) {
+        int n = packed.length;
+        long[] keys = new long[n];
+        double[] cellLats = new double[n];
+        double[] cellLngs = new double[n];
+        int[] counts = new int[n];
+        long[] cellIds = new long[n];
+        int cells = -1;
+        long previous = -1;
+        for (long value : packed) {
+            long key = value >>> INDEX_BITS;
+            int i = (int) (value & ((1L << INDEX_BITS) - 1));
+            if (key != previous) {
+                cells++;
+                keys[cells] = key;
+                cellIds[cells] = ids[i];
+                previous = key;
+            } else {
+                cellIds[cells] = -1;
+            }
+            cellLats[cells] += lats[i];
+            cellLngs[cells] += lngs[i];
+            counts[cells]++;
+        }
+        int size = cells + 1;
+        for (int c = 0; c < size; c++) {
+            cellLats[c] /= counts[c];
+            cellLngs[c] /= counts[c];
+        }
+        return new Tier(Arrays.copyOf(keys, size), Arrays.copyOf(cellLats, size), Arrays.copyOf(cellLngs, size),
+                Arrays.copyOf(counts, size), Arrays.copyOf(cellIds, size));
+    }
+
+    public int maxZoom() {
+        return maxZoom;
+    }
+
+    /**
+     * 전체 좌표 수
+     */
+    public int size() {
+        int total = 0;
+        for (int count : tiers[0].counts()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 타일 z/x/y 안의 군집 (칸 키 순)
+     * maxZoom 보다 큰 줌은 maxZoom 의 상위 타일 군집 중 무게중심이 요청 타일 안에 있는 것만 반환한다.
+     */
+    public List<Cluster> tile(int zoom, int x, int y) {
+        if (zoom < 0 || zoom > MAX_ZOOM || x < 0 || y < 0 || x >= 1L << zoom || y >= 1L << zoom) {
+            throw new IllegalArgumentException("invalid tile: " + zoom + "/" + x + "/" + y);
+        }
+        int tierZoom = Math.min(zoom, maxZoom);
+        int shift = zoom - tierZoom;
+        Tier tier = tiers[tierZoom];
+
+        long axis = 1L << (tierZoom + cellShift);
+        int cellsPerTile = 1 << cellShift;
+        long firstCol = (long) (x >> shift) * cellsPerTile;
+        long firstRow = (long) (y >> shift) * cellsPerTile;
+
+        List<Cluster> clusters = new ArrayList<>();
+        for (long row = firstRow; row < firstRow + cellsPerTile; row++) {
+            long from = row * axis + firstCol;
+            long to = from + cellsPerTile - 1;
+            int c = Arrays.binarySearch(tier.keys(), from);
+            if (c < 0) {
+                c = -c - 1;
+            }
+            for (; c < tier.keys().length && tier.keys()[c] <= to; c++) {
+                double lat = tier.lats()[c];
+                double lng = tier.lngs()[c];
+                if (shift > 0 && (tileX(lng, zoom) != x || tileY(lat, zoom) != y)) {
+                    continue;
+                }
+                clusters.add(new Cluster(lat, lng, tier.counts()[c], tier.ids()[c]));
+            }
+        }
+        return clusters;
+    }
+
+    /**
+     * 경도 -> 타일 x
+     */
+    public static int tileX(double lng, int zoom) {
+        long axis = 1L << zoom;
+        return (int) Math.min(axis - 1, (long) (mercatorX(lng) * axis));
+    }
+
+    /**
+     * 위도 -> 타일 y (북쪽이 0)
+     */
+    public static int tileY(double lat, int zoom) {
+        long axis = 1L << zoom;
+        return (int) Math.min(axis - 1, (long) (mercatorY(lat) * axis));
+    }
+
+    // 경도 -> [0, 1)
+    private static double mercatorX(double lng) {
+        double x = (lng + 180.0) / 360.0;
+        return Math.min(Math.max(x, 0.0), Math.nextDown(1.0));
+    }
+
+    // 위도 -> [0, 1) (극 근처는 잘림)
+    private static double mercatorY(double lat) {
+        double sin = Math.sin(Math.toRadians(lat));
+        double y = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+        return Double.isNaN(y) ? (lat > 0 ? 0.0 : Math.nextDown(1.0)) : Math.min(Math.max(y, 0.0), Math.nextDown(1.0));
+    }
+}
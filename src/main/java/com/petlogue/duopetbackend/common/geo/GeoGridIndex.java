@@ -0,0 +1,306 @@
+package com.petlogue.duopetbackend.common.geo;
+
+import java.util.Arrays;
+
+/**
+ * 위경도 균등 격자 공간 색인 (읽기 전용)
+ * 좌표를 격자 칸 순서로 정렬한 기본형 배열에 담고, 칸별 시작 위치(CSR)만 따로 둔다.
+ * 반경 검색은 반경을 덮는 칸만, 최근접 검색은 가까운 칸부터 고리 모양으로 넓혀 가며 확인한다.
+ */
+public final class GeoGridIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // 위도 1도 거리 (km)
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    // 좌표 범위가 넓어 칸 수가 이보다 많아지면 칸 크기를 키움
+    private static final long MAX_CELLS = 1L << 20;
+
+    private static final GeoGridIndex EMPTY = new GeoGridIndex(new long[0], new double[0], new double[0], 0.05);
+
+    private final double cellDegrees;
+    private final double minLat;
+    private final double minLng;
+    private final int rows;
+    private final int cols;
+    // 색인 좌표 중 가장 높은 위도 (절대값) - 최근접 검색 종료 조건용
+    private final double maxAbsLat;
+
+    // 칸 순서로 정렬된 좌표 / ID
+    private final long[] ids;
+    private final double[] lats;
+    private final double[] lngs;
+    // 칸 c 의 좌표는 [cellStart[c], cellStart[c + 1])
+    private final int[] cellStart;
+
+    /**
+     * 검색 결과 (거리 오름차순)
+     */
+    public record Hits(long[] ids, double[] distancesKm) {
+
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * @param ids 대상 ID
+     * @param lats 위도 (ids 와 같은 순서)
+     * @param lngs 경도 (ids 와 같은 순서)
+     * @param cellDegrees 격자 한 칸 크기 (도)
+     */
+    public static GeoGridIndex build(long[] ids, double[] lats, double[] lngs, double cellDegrees) {
+        if (ids.length != lats.length || ids.length != lngs.length) {
+            throw new IllegalArgumentException("ids, lats and lngs must have the same length");
+        }
+        if (!(cellDegrees > 0)) {
+            throw new IllegalArgumentException("cellDegrees must be positive: " + cellDegrees);
+        }
+        return ids.length == 0 ? EMPTY : new GeoGridIndex(ids, lats, lngs, cellDegrees);
+    }
+
+    public static GeoGridIndex empty() {
+        return EMPTY;
+    }
+
+    private GeoGridIndex(long[] ids, double[] lats, double[] lngs, double cellDegrees) {
+        int n = ids.length;
+
+        double lowLat = Double.MAX_VALUE, highLat = -Double.MAX_VALUE;
+        double lowLng = Double.MAX_VALUE, highLng = -Double.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            lowLat = Math.min(lowLat, lats[i]);
+            highLat = Math.max(highLat, lats[i]);
+            lowLng = Math.min(lowLng, lngs[i]);
+            highLng = Math.max(highLng, lngs[i]);
+        }
+        while (n > 0 && ((highLat - lowLat) / cellDegrees + 1) * ((highLng - lowLng) / cellDegrees + 1) > MAX_CELLS) {
+            cellDegrees *= 2;
+        }
+        this.cellDegrees = cellDegrees;
+        this.minLat = n > 0 ? lowLat : 0;
+        this.minLng = n > 0 ? lowLng : 0;
+        this.rows = n > 0 ? (int) ((highLat - lowLat) / cellDegrees) + 1 : 0;
+        this.cols = n > 0 ? (int) ((highLng - lowLng) / cellDegrees) + 1 : 0;
+        this.maxAbsLat = n > 0 ? Math.max(Math.abs(lowLat), Math.abs(highLat)) : 0;
+
+        // 칸별 개수 -> 시작 위치 -> 칸 순서로 배치 (계수 정렬)
+        int[] cellOf = new int[n];
+        this.cellStart = new int[rows * cols + 1];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = cellIndex(row(lats[i]), col(lngs[i]));
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < rows * cols; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] next = Arrays.copyOf(cellStart, rows * cols);
+        this.ids = new long[n];
+        this.lats = new double[n];
+        this.lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            int slot = next[cellOf[i]]++;
+            this.ids[slot] = ids[i];
+            this.lats[slot] = lats[i];
+            this.lngs[slot] = lngs[i];
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 반경 내 좌표 (거리 오름차순)
+     * @param limit 최대 건수 (0 이하면 제한 없음)
+     */
+    public Hits within(double lat, double lng, double radiusKm, int limit) {
+        if (ids.length == 0 || !(radiusKm >= 0)) {
+            return new Hits(new long[0], new double[0]);
+        }
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double lngSpan = radiusKm / Math.max(KM_PER_DEGREE * Math.cos(Math.toRadians(Math.min(89.0, Math.abs(lat) + latSpan))), 1e-6);
+        int rowFrom = Math.max(0, row(lat - latSpan));
+        int rowTo = Math.min(rows - 1, row(lat + latSpan));
+        int colFrom = Math.max(0, col(lng - lngSpan));
+        int colTo = Math.min(cols - 1, col(lng + lngSpan));
+
+        Collector collector = new Collector(limit > 0 ? limit : Integer.MAX_VALUE);
+        for (int r = rowFrom; r <= rowTo; r++) {
+            for (int c = colFrom; c <= colTo; c++) {
+                scanCell(cellIndex(r, c), lat, lng, radiusKm, collector);
+            }
+        }
+        return collector.toHits();
+    }
+
+    /**
+     * 가장 가까운 k 개 (거리 오름차순)
+     * @param maxRadiusKm 이 거리보다 먼 좌표는 제외 (0 이하면 제한 없음)
+     */
+    public Hits nearest(double lat, double lng, int k, double maxRadiusKm) {
+        if (ids.length == 0 || k <= 0) {
+            return new Hits(new long[0], new double[0]);
+        }
+        double radius = maxRadiusKm > 0 ? maxRadiusKm : Double.MAX_VALUE;
+        Collector collector = new Collector(k);
+
+        int centerRow = row(lat);
+        int centerCol = col(lng);
+        // 가장 먼 칸까지 닿는 고리
+        int maxRing = Math.max(Math.max(Math.abs(centerRow), Math.abs(centerRow - (rows - 1))),
+                Math.max(Math.abs(centerCol), Math.abs(centerCol - (cols - 1))));
+        // 한 칸의 최소 거리 - 경도 방향은 높은 위도일수록 짧고, 대권 거리는 위선보다 약간 짧으므로 여유를 둠
+        double highestLat = Math.min(89.0, Math.max(maxAbsLat, Math.abs(lat)));
+        double cellKm = cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(highestLat)) * 0.99;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // 이 고리의 칸은 질의 지점에서 적어도 (ring - 1) 칸 떨어져 있음
+            double ringLowerBoundKm = Math.max(0, ring - 1) * cellKm;
+            if (ringLowerBoundKm > radius || collector.isFull() && ringLowerBoundKm > collector.worstDistance()) {
+                break;
+            }
+            double limitKm = collector.isFull() ? Math.min(radius, collector.worstDistance()) : radius;
+            for (int r = centerRow - ring; r <= centerRow + ring; r++) {
+                if (r < 0 || r >= rows) {
+                    continue;
+                }
+                boolean edgeRow = r == centerRow - ring || r == centerRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int c = centerCol - ring; c <= centerCol + ring; c += step) {
+                    if (c >= 0 && c < cols) {
+                        scanCell(cellIndex(r, c), lat, lng, limitKm, collector);
+                    }
+                }
+            }
+        }
+        return collector.toHits();
+    }
+
+    /**
+     * 두 좌표 사이 거리 (Haversine, km)
+     */
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private void scanCell(int cell, double lat, double lng, double radiusKm, Collector collector) {
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+            double distance = distanceKm(lat, lng, lats[i], lngs[i]);
+            if (distance <= radiusKm) {
+                collector.offer(ids[i], distance);
+            }
+        }
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor((lat - minLat) / cellDegrees);
+    }
+
+    private int col(double lng) {
+        return (int) Math.floor((lng - minLng) / cellDegrees);
+    }
+
+    private int cellIndex(int row, int col) {
+        return row * cols + col;
+    }
+
+    /**
+     * 거리 기준 상위 k 개 수집기 (최대 힙, 기본형 배열)
+     */
+    private static final class Collector {
+
+        private final int capacity;
+        private long[] heapIds;
+        private double[] heapDistances;
+        private int size;
+
+        Collector(int capacity) {
+            this.capacity = capacity;
+            int initial = Math.min(capacity, 64);
+            this.heapIds = new long[initial];
+            this.heapDistances = new double[initial];
+        }
+
+        boolean isFull() {
+            return size >= capacity;
+        }
+
+        double worstDistance() {
+            return heapDistances[0];
+        }
+
+        void offer(long id, double distance) {
+            if (size < capacity) {
+                if (size == heapIds.length) {
+                    int grown = (int) Math.min(capacity, (long) heapIds.length * 2);
+                    heapIds = Arrays.copyOf(heapIds, grown);
+                    heapDistances = Arrays.copyOf(heapDistances, grown);
+                }
+                heapIds[size] = id;
+                heapDistances[size] = distance;
+                siftUp(size++);
+            } else if (distance < heapDistances[0]) {
+                heapIds[0] = id;
+                heapDistances[0] = distance;
+                siftDown(0);
+            }
+        }
+
+        Hits toHits() {
+            // 힙에서 가장 먼 것부터 꺼내 뒤에서부터 채움
+            long[] outIds = new long[size];
+            double[] outDistances = new double[size];
+            for (int i = size - 1; i >= 0; i--) {
+                outIds[i] = heapIds[0];
+                outDistances[i] = heapDistances[0];
+                size--;
+                heapIds[0] = heapIds[size];
+                heapDistances[0] = heapDistances[size];
+                siftDown(0);
+            }
+            return new Hits(outIds, outDistances);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (heapDistances[parent] >= heapDistances[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int largest = left + 1 < size && heapDistances[left + 1] > heapDistances[left] ? left + 1 : left;
+                if (heapDistances[index] >= heapDistances[largest]) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = heapIds[a];
+            heapIds[a] = heapIds[b];
+            heapIds[b] = id;
+            double distance = heapDistances[a];
+            heapDistances[a] = heapDistances[b];
+            heapDistances[b] = distance;
+        }
+    }
+}
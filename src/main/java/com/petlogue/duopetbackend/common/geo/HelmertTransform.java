@@ -0,0 +1,126 @@
+package com.petlogue.duopetbackend.common.geo;
+
+/**
+ * 7 변수 Helmert 측지계 변환 (Position Vector 방식, PROJ 의 towgs84 와 같은 부호)
+ * 원본 타원체 위경도 -> 지심 직교좌표 -> 이동/회전/축척 -> 대상 타원체 위경도 순으로 처리한다.
+ * 좌표는 기본형 배열 단위로 처리하며, 각도는 도(degree) 단위, 타원체고는 0 으로 본다.
+ */
+public final class HelmertTransform {
+
+    private static final double ARC_SECOND = Math.PI / 648000.0;
+
+    private final Ellipsoid source;
+    private final Ellipsoid target;
+    private final double tx, ty, tz;
+    private final double rx, ry, rz;
+    private final double scale;
+
+    /**
+     * 타원체 (장반경 m, 역편평률)
+     */
+    public record Ellipsoid(double semiMajorAxis, double inverseFlattening) {
+
+        public static final Ellipsoid BESSEL_1841 = new Ellipsoid(6377397.155, 299.1528128);
+        public static final Ellipsoid GRS80 = new Ellipsoid(6378137.0, 298.257222101);
+        public static final Ellipsoid WGS84 = new Ellipsoid(6378137.0, 298.257223563);
+
+        public double eccentricitySquared() {
+            double f = 1 / inverseFlattening;
+            return f * (2 - f);
+        }
+
+        /**
+         * 위경도 (도) + 타원체고 (m) -> 지심 직교좌표 (m), 결과는 x/y/z 배열에 기록
+         */
+        public void toGeocentric(double[] lat, double[] lng, double[] height,
+                                 double[] x, double[] y, double[] z, int count) {
+            double a = semiMajorAxis;
+            double e2 = eccentricitySquared();
+            for (int i = 0; i < count; i++) {
+                double phi = Math.toRadians(lat[i]);
+                double lambda = Math.toRadians(lng[i]);
+                double h = height != null ? height[i] : 0;
+                double sinPhi = Math.sin(phi);
+                double cosPhi = Math.cos(phi);
+                double n = a / Math.sqrt(1 - e2 * sinPhi * sinPhi);
+                x[i] = (n + h) * cosPhi * Math.cos(lambda);
+                y[i] = (n + h) * cosPhi * Math.sin(lambda);
+                z[i] = (n * (1 - e2) + h) * sinPhi;
+            }
+        }
+
+        /**
+         * 지심 직교좌표 (m) -> 위경도 (도), 타원체고가 필요하면 height 배열 전달 (Bowring 초기값 + 반복 보정)
+         */
+        public void toGeodetic(double[] x, double[] y, double[] z,
+                               double[] lat, double[] lng, double[] height, int count) {
+            double a = semiMajorAxis;
+            double e2 = eccentricitySquared();
+            double b = a * Math.sqrt(1 - e2);
+            double ep2 = e2 / (1 - e2);
+            for (int i = 0; i < count; i++) {
+                double p = Math.hypot(x[i], y[i]);
+                double theta = Math.atan2(z[i] * a, p * b);
+                double sinTheta = Math.sin(theta);
+                double cosTheta = Math.cos(theta);
+                double phi = Math.atan2(z[i] + ep2 * b * sinTheta * sinTheta * sinTheta,
+                        p - e2 * a * cosTheta * cosTheta * cosTheta);
+                double h = 0;
+                for (int iteration = 0; iteration < 2; iteration++) {
+                    double sinPhi = Math.sin(phi);
+                    double n = a / Math.sqrt(1 - e2 * sinPhi * sinPhi);
+                    h = p / Math.cos(phi) - n;
+                    phi = Math.atan2(z[i], p * (1 - e2 * n / (n + h)));
+                }
+                lat[i] = Math.toDegrees(phi);
+                lng[i] = Math.toDegrees(Math.atan2(y[i], x[i]));
+                if (height != null) {
+                    height[i] = h;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param tx 이동량 X (m)
+     * @param rx 회전 X (초)
+     * @param scalePpm 축척 변화 (ppm)
+     */
+    public HelmertTransform(Ellipsoid source, Ellipsoid target,
+                            double tx, double ty, double tz,
+                            double rx, double ry, double rz, double scalePpm) {
+        this.source = source;
+        this.target = target;
+        this.tx = tx;
+        this.ty = ty;
+        this.tz = tz;
+        this.rx = rx * ARC_SECOND;
+        this.ry = ry * ARC_SECOND;
+        this.rz = rz * ARC_SECOND;
+        this.scale = 1 + scalePpm * 1e-6;
+    }
+
+    /**
+     * 지심 직교좌표 변환 (제자리)
+     */
+    public void transformGeocentric(double[] x, double[] y, double[] z, int count) {
+        for (int i = 0; i < count; i++) {
+            double x0 = x[i], y0 = y[i], z0 = z[i];
+            x[i] = tx + scale * (x0 - rz * y0 + ry * z0);
+            y[i] = ty + scale * (rz * x0 + y0 - rx * z0);
+            z[i] = tz + scale * (-ry * x0 + rx * y0 + z0);
+        }
+    }
+
+    /**
+     * 원본 측지계 위경도 -> 대상 측지계 위경도 (제자리, 도 단위)
+     */
+    public void transform(double[] lat, double[] lng, int count) {
+        double[] x = new double[count];
+        double[] y = new double[count];
+        double[] z = new double[count];
+        source.toGeocentric(lat, lng, null, x, y, z, count);
+        transformGeocentric(x, y, z, count);
+        target.toGeodetic(x, y, z, lat, lng, null, count);
+    }
+}
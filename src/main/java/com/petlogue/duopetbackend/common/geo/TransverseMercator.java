@@ -0,0 +1,144 @@
+package com.petlogue.duopetbackend.common.geo;
+
+/**
+ * 횡단 메르카토르(TM) 투영 - Krüger 급수 (n 의 6차까지)
+ * 중앙 자오선에서 수 도 떨어진 곳까지 mm 이하 정확도로 투영 / 역투영한다.
+ * 좌표는 기본형 배열 단위로 처리하며, 각도는 도(degree) 단위다.
+ */
+public final class TransverseMercator {
+
+    private final double e;
+    private final double lon0;
+    private final double k0A;
+    private final double falseEasting;
+    private final double falseNorthing;
+    // 원점 위도의 정규화 자오선 호 길이 (ξ)
+    private final double xi0;
+    private final double[] alpha;
+    private final double[] beta;
+
+    /**
+     * @param semiMajorAxis 타원체 장반경 (m)
+     * @param inverseFlattening 타원체 역편평률
+     * @param latitudeOfOrigin 원점 위도 (도)
+     * @param centralMeridian 중앙 자오선 경도 (도)
+     * @param scaleFactor 축척 계수
+     */
+    public TransverseMercator(double semiMajorAxis, double inverseFlattening, double latitudeOfOrigin,
+                              double centralMeridian, double scaleFactor, double falseEasting, double falseNorthing) {
+        double f = 1 / inverseFlattening;
+        double n = f / (2 - f);
+        double n2 = n * n, n3 = n2 * n, n4 = n3 * n, n5 = n4 * n, n6 = n5 * n;
+
+        this.e = Math.sqrt(f * (2 - f));
+        this.lon0 = Math.toRadians(centralMeridian);
+        this.k0A = scaleFactor * semiMajorAxis / (1 + n) * (1 + n2 / 4 + n4 / 64 + n6 / 256);
+        this.falseEasting = falseEasting;
+        this.falseNorthing = falseNorthing;
+
+        this.alpha = new double[] {
+                n / 2 - 2 * n2 / 3 + 5 * n3 / 16 + 41 * n4 / 180 - 127 * n5 / 288 + 7891 * n6 / 37800,
+                13 * n2 / 48 - 3 * n3 / 5 + 557 * n4 / 1440 + 281 * n5 / 630 - 1983433 * n6 / 1935360,
+                61 * n3 / 240 - 103 * n4 / 140 + 15061 * n5 / 26880 + 167603 * n6 / 181440,
+                49561 * n4 / 161280 - 179 * n5 / 168 + 6601661 * n6 / 7257600,
+                34729 * n5 / 80640 - 3418889 * n6 / 1995840,
+                212378941 * n6 / 319334400
+        };
+        this.beta = new double[] {
+                n / 2 - 2 * n2 / 3 + 37 * n3 / 96 - n4 / 360 - 81 * n5 / 512 + 96199 * n6 / 604800,
+                n2 / 48 + n3 / 15 - 437 * n4 / 1440 + 46 * n5 / 105 - 1118711 * n6 / 3870720,
+                17 * n3 / 480 - 37 * n4 / 840 - 209 * n5 / 4480 + 5569 * n6 / 90720,
+                4397 * n4 / 161280 - 11 * n5 / 504 - 830251 * n6 / 7257600,
+                4583 * n5 / 161280 - 108847 * n6 / 3991680,
+                20648693 * n6 / 638668800
+        };
+
+        // 원점 위도의 ξ (중앙 자오선 위이므로 η = 0)
+        double chi = Math.atan(conformalTan(Math.tan(Math.toRadians(latitudeOfOrigin))));
+        double xi = chi;
+        for (int j = 1; j <= 6; j++) {
+            xi += alpha[j - 1] * Math.sin(2 * j * chi);
+        }
+        this.xi0 = xi;
+    }
+
+    /**
+     * 투영 좌표 -> 위경도 (도)
+     */
+    public void inverse(double[] easting, double[] northing, double[] outLat, double[] outLng, int count) {
+        for (int i = 0; i < count; i++) {
+            double xi = (northing[i] - falseNorthing) / k0A + xi0;
+            double eta = (easting[i] - falseEasting) / k0A;
+
+            double xiPrime = xi;
+            double etaPrime = eta;
+            for (int j = 1; j <= 6; j++) {
+                double b = beta[j - 1];
+                xiPrime -= b * Math.sin(2 * j * xi) * Math.cosh(2 * j * eta);
+                etaPrime -= b * Math.cos(2 * j * xi) * Math.sinh(2 * j * eta);
+            }
+
+            double sinhEta = Math.sinh(etaPrime);
+            double cosXi = Math.cos(xiPrime);
+            double tauPrime = Math.sin(xiPrime) / Math.sqrt(sinhEta * sinhEta + cosXi * cosXi);
+
+            outLat[i] = Math.toDegrees(Math.atan(geodeticTan(tauPrime)));
+            outLng[i] = Math.toDegrees(lon0 + Math.atan2(sinhEta, cosXi));
+        }
+    }
+
+    /**
+     * 위경도 (도) -> 투영 좌표
+     */
+    public void forward(double[] lat, double[] lng, double[] outEasting, double[] outNorthing, int count) {
+        for (int i = 0; i < count; i++) {
+            double lambda = Math.toRadians(lng[i]) - lon0;
+            double tauPrime = conformalTan(Math.tan(Math.toRadians(lat[i])));
+
+            double cosLambda = Math.cos(lambda);
+            double xiPrime = Math.atan2(tauPrime, cosLambda);
+            double etaPrime = asinh(Math.sin(lambda) / Math.sqrt(tauPrime * tauPrime + cosLambda * cosLambda));
+
+            double xi = xiPrime;
+            double eta = etaPrime;
+            for (int j = 1; j <= 6; j++) {
+                double a = alpha[j - 1];
+                xi += a * Math.sin(2 * j * xiPrime) * Math.cosh(2 * j * etaPrime);
+                eta += a * Math.cos(2 * j * xiPrime) * Math.sinh(2 * j * etaPrime);
+            }
+
+            outEasting[i] = falseEasting + k0A * eta;
+            outNorthing[i] = falseNorthing + k0A * (xi - xi0);
+        }
+    }
+
+    // 지리 위도의 tan -> 등각 위도의 tan
+    private double conformalTan(double tau) {
+        double sigma = Math.sinh(e * atanh(e * tau / Math.sqrt(1 + tau * tau)));
+        return tau * Math.sqrt(1 + sigma * sigma) - sigma * Math.sqrt(1 + tau * tau);
+    }
+
+    // 등각 위도의 tan -> 지리 위도의 tan (Newton 반복, 보통 2~3회)
+    private double geodeticTan(double tauPrime) {
+        double e2m = 1 - e * e;
+        double tau = tauPrime;
+        for (int iteration = 0; iteration < 8; iteration++) {
+            double tauPrimeI = conformalTan(tau);
+            double delta = (tauPrime - tauPrimeI) / Math.sqrt(1 + tauPrimeI * tauPrimeI)
+                    * (1 + e2m * tau * tau) / (e2m * Math.sqrt(1 + tau * tau));
+            tau += delta;
+            if (Math.abs(delta) < 1e-14 * Math.max(1, Math.abs(tau))) {
+                break;
+            }
+        }
+        return tau;
+    }
+
+    private static double atanh(double x) {
+        return 0.5 * Math.log((1 + x) / (1 - x));
+    }
+
+    private static double asinh(double x) {
+        return Math.log(x + Math.sqrt(x * x + 1));
+    }
+}
@@ -0,0 +1,121 @@
+package com.petlogue.duopetbackend.common.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 대용량 파일 조건부 다운로드
+ * 이전 응답의 ETag / Last-Modified 로 조건부 요청을 보내 304 면 받지 않고,
+ * 받는 경우에는 메모리에 담지 않고 채널로 바로 파일에 쓰면서 SHA-256 을 계산해 내용이 같으면 변경 없음으로 본다.
+ * 수십 MB 응답을 재시도하지 않도록 outboundRestClient 인터셉터 대신 공용 HttpClient 를 직접 사용한다.
+ */
+@Slf4j
+@Component
+public class ConditionalDownloader {
+
+    // transferFrom 한 번에 옮길 최대 바이트
+    private static final long TRANSFER_CHUNK = 1L << 20;
+
+    private final HttpClient httpClient;
+
+    public ConditionalDownloader(HttpClient outboundHttpClient) {
+        this.httpClient = outboundHttpClient;
+    }
+
+    /**
+     * 이전 다운로드의 검증 값 (없으면 null)
+     */
+    public record Validators(String etag, String lastModified, String sha256) {
+
+        public static final Validators NONE = new Validators(null, null, null);
+    }
+
+    /**
+     * 다운로드 결과
+     * @param changed 새 내용이면 true (file 에 저장됨), 304 이거나 내용 해시가 같으면 false
+     * @param file 저장된 파일 (변경 없으면 null)
+     * @param bytes 받은 바이트 수 (304 면 0)
+     * @param validators 다음 요청에 사용할 검증 값
+     */
+    public record Result(boolean changed, Path file, long bytes, Validators validators) {
+    }
+
+    public Result download(URI uri, Path target, Validators previous, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(timeout).GET();
+        if (previous.etag() != null) {
+            request.header("If-None-Match", previous.etag());
+        }
+        if (previous.lastModified() != null) {
+            request.header("If-Modified-Since", previous.lastModified());
+        }
+
+        HttpResponse<InputStream> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            int status = response.statusCode();
+            if (status == 304) {
+                log.info("Download not modified: {}", uri);
+                return new Result(false, null, 0, previous);
+            }
+            if (status < 200 || status >= 300) {
+                throw new IOException("Download failed: HTTP " + status + " " + uri);
+            }
+
+            MessageDigest digest = sha256();
+            Path partial = target.resolveSibling(target.getFileName() + ".part");
+            long bytes = 0;
+            try (ReadableByteChannel in = Channels.newChannel(new DigestInputStream(body, digest));
+                 FileChannel out = FileChannel.open(partial, StandardOpenOption.CREATE,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long transferred;
+                while ((transferred = out.transferFrom(in, bytes, TRANSFER_CHUNK)) > 0) {
+                    bytes += transferred;
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(partial);
+                throw e;
+            }
+
+            Validators current = new Validators(
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null),
+                    HexFormat.of().formatHex(digest.digest()));
+
+            if (current.sha256().equals(previous.sha256())) {
+                Files.deleteIfExists(partial);
+                log.info("Download unchanged (same content hash): {} ({} bytes)", uri, bytes);
+                return new Result(false, null, bytes, current);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+            log.info("Downloaded {} -> {} ({} bytes)", uri, target, bytes);
+            return new Result(true, target, bytes, current);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
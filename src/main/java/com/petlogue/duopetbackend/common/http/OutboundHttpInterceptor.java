@@ -0,0 +1,174 @@
+package com.petlogue.duopetbackend.common.http;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API 공용 인터셉터
+ * - 호스트별 동시 요청 수 제한 (허가를 얻지 못하면 대기하지 않고 실패 처리)
+ * - GET/HEAD 요청의 연결 오류, 429, 5xx 응답은 full-jitter 지수 백오프로 재시도
+ * - 엔드포인트별 호출 수 / 오류 수 / 지연 시간 기록
+ * 허가는 응답 본문을 닫을 때 반납되므로 스트리밍 다운로드도 제한에 포함된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private final OutboundHttpMetrics metrics;
+    private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    @Value("${http.outbound.max-concurrent-per-host:16}")
+    private int maxConcurrentPerHost;
+
+    @Value("${http.outbound.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs;
+
+    @Value("${http.outbound.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${http.outbound.retry-base-delay-ms:200}")
+    private long retryBaseDelayMs;
+
+    @Value("${http.outbound.retry-max-delay-ms:3000}")
+    private long retryMaxDelayMs;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        URI uri = request.getURI();
+        String host = uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+        String endpoint = OutboundHttpMetrics.endpointKey(request.getMethod(), uri);
+        boolean retryable = HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod());
+
+        Semaphore permits = hostPermits.computeIfAbsent(host, h -> new Semaphore(maxConcurrentPerHost));
+        acquire(permits, host);
+
+        boolean handedOff = false;
+        try {
+            for (int attempt = 0; ; attempt++) {
+                long start = System.nanoTime();
+                ClientHttpResponse response;
+                try {
+                    response = execution.execute(request, body);
+                } catch (IOException e) {
+                    metrics.record(endpoint, System.nanoTime() - start, true);
+                    if (!retryable || attempt >= maxRetries || e instanceof InterruptedIOException) {
+                        throw e;
+                    }
+                    log.warn("외부 API 연결 실패, 재시도 {}/{}: {} - {}", attempt + 1, maxRetries, endpoint, e.getMessage());
+                    backoff(attempt);
+                    continue;
+                }
+
+                HttpStatusCode status = response.getStatusCode();
+                boolean failed = status.is5xxServerError() || status.value() == 429;
+                metrics.record(endpoint, System.nanoTime() - start, failed);
+
+                if (failed && retryable && attempt < maxRetries) {
+                    response.close();
+                    log.warn("외부 API 오류 응답 {}, 재시도 {}/{}: {}", status.value(), attempt + 1, maxRetries, endpoint);
+                    backoff(attempt);
+                    continue;
+                }
+
+                handedOff = true;
+                return new PermitReleasingResponse(response, permits);
+            }
+        } finally {
+            if (!handedOff) {
+                permits.release();
+            }
+        }
+    }
+
+    private void acquire(Semaphore permits, String host) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new IOException("외부 API 동시 요청 한도 초과: " + host + " (최대 " + maxConcurrentPerHost + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("외부 API 요청 대기 중 인터럽트: " + host);
+        }
+    }
+
+    /**
+     * full jitter: 0 ~ min(max, base * 2^attempt) 사이 임의 시간 대기
+     */
+    private void backoff(int attempt) throws IOException {
+        long ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(attempt, 16));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("외부 API 재시도 대기 중 인터럽트");
+        }
+    }
+
+    /**
+     * 응답을 닫을 때 호스트 허가를 반납하는 래퍼 (중복 close 에도 한 번만 반납)
+     */
+    private static class PermitReleasingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingResponse(ClientHttpResponse delegate, Semaphore permits) {
+            this.delegate = delegate;
+            this.permits = permits;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
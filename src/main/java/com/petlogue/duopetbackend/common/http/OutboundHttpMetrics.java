@@ -0,0 +1,169 @@
+package com.petlogue.duopetbackend.common.http;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 API 호출 지표 (엔드포인트별 호출 수 / 오류 수 / 지연 시간)
+ * 지연 시간은 응답 헤더 수신까지의 시간이며, 고정 구간 히스토그램으로 p50/p95 를 근사한다.
+ */
+@Component
+public class OutboundHttpMetrics {
+
+    // 히스토그램 구간 상한 (ms), 마지막 구간은 그 이상 전부
+    private static final long[] BUCKET_BOUNDS_MS = {50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 호출 1건 기록
+     * @param endpoint endpointKey() 로 만든 키
+     * @param elapsedNanos 요청 시작부터 응답 헤더 수신(또는 실패)까지 걸린 시간
+     * @param error 연결 실패 또는 5xx/429 응답 여부
+     */
+    public void record(String endpoint, long elapsedNanos, boolean error) {
+        stats.computeIfAbsent(endpoint, k -> new EndpointStats()).record(elapsedNanos, error);
+    }
+
+    /**
+     * 엔드포인트별 지표 스냅샷 (관리자 조회용)
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        stats.forEach((endpoint, s) -> result.put(endpoint, s.toMap()));
+        return result;
+    }
+
+    /**
+     * 지표 키 생성: "GET apis.data.go.kr/{id}/abandonmentPublicSrvc_v2/abandonmentPublic_v2"
+     * 숫자로만 된 경로 조각(기관코드, 번호)과 UUID 는 {id} 로 묶어 키 수가 늘어나지 않게 한다.
+     * "_v2" 처럼 숫자가 섞인 이름은 그대로 둔다.
+     */
+    public static String endpointKey(HttpMethod method, URI uri) {
+        StringBuilder key = new StringBuilder()
+                .append(method.name()).append(' ')
+                .append(uri.getHost());
+        if (uri.getPort() != -1) {
+            key.append(':').append(uri.getPort());
+        }
+
+        String path = uri.getRawPath();
+        if (path != null) {
+            for (String segment : path.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                key.append('/').append(isIdentifier(segment) ? "{id}" : segment);
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean isIdentifier(String segment) {
+        return isNumeric(segment) || isUuid(segment);
+    }
+
+    private static boolean isNumeric(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 8-4-4-4-12 자리 16진수
+    private static boolean isUuid(String segment) {
+        if (segment.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = segment.charAt(i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class EndpointStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+
+        EndpointStats() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long elapsedNanos, boolean error) {
+            calls.increment();
+            if (error) {
+                errors.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MS.length && elapsedMs > BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+
+        Map<String, Object> toMap() {
+            long count = calls.sum();
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("calls", count);
+            map.put("errors", errors.sum());
+            map.put("avgMs", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count));
+            map.put("maxMs", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+            map.put("p50Ms", percentileBound(counts, 0.50));
+            map.put("p95Ms", percentileBound(counts, 0.95));
+            return map;
+        }
+
+        /**
+         * 해당 백분위가 속한 구간의 상한 (마지막 구간이면 -1 = 상한 초과)
+         */
+        private static long percentileBound(long[] counts, double percentile) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return i < BUCKET_BOUNDS_MS.length ? BUCKET_BOUNDS_MS[i] : -1;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.petlogue.duopetbackend.common.text;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이름 / 주소 n-gram 역색인 (읽기 전용, 자동완성용)
+ * 공백과 기호를 뺀 소문자 문자열의 글자 단위 1-gram / 2-gram 과 이름의 초성 문자열 n-gram 을 키로 두고,
+ * 키마다 문서 순번을 오름차순 배열로 저장한다. 검색은 키 목록 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인한다.
+ * - 초성만 입력 ("ㄷㅁㅂㅇ") 하거나 섞어서 입력 ("동물ㅂ") 해도 해당 초성의 음절과 일치
+ * - 마지막 글자가 받침 없는 음절이면 받침을 입력하는 중으로 보고 같은 초성 + 중성 음절과 일치 ("동무" -> "동물")
+ * 순위는 이름 일치 -> 이름 앞부분 일치 -> 이름 중간 일치 -> 주소 일치 순이며, 같은 순위는 일치 위치, 이름 길이 순이다.
+ */
+public final class HangulNgramIndex {
+
+    public static final int RANK_EXACT = 0;
+    public static final int RANK_NAME_PREFIX = 1;
+    public static final int RANK_NAME = 2;
+    public static final int RANK_ADDRESS = 3;
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    // 초성 하나에 속한 음절 수 (중성 21 x 종성 28)
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int[] EMPTY_POSTING = new int[0];
+
+    private final long[] ids;
+    private final String[] names;
+    private final String[] addresses;
+    // 정규화한 이름 / 주소 (검색 대상)
+    private final String[] nameKeys;
+    private final String[] addressKeys;
+    // 이름 초성 문자열 (초성만 입력한 검색어 비교용)
+    private final String[] nameChosungKeys;
+    // 이름 + 주소 글자 n-gram -> 문서 순번 (오름차순)
+    private final Map<Integer, int[]> textPostings;
+    // 이름 초성 n-gram -> 문서 순번 (오름차순)
+    private final Map<Integer, int[]> chosungPostings;
+
+    /**
+     * 검색 결과 (순위 오름차순)
+     * @param docs 문서 순번 - {@link #id(int)}, {@link #name(int)}, {@link #address(int)} 로 조회
+     * @param ranks RANK_* 값
+     */
+    public record Hits(int[] docs, int[] ranks) {
+
+        public int size() {
+            return docs.length;
+        }
+    }
+
+    /**
+     * @param ids 대상 ID
+     * @param names 이름 (ids 와 같은 순서)
+     * @param addresses 주소 (ids 와 같은 순서, null 허용)
+     */
+    public static HangulNgramIndex build(long[] ids, String[] names, String[] addresses) {
+        if (ids.length != names.length || ids.length != addresses.length) {
+            throw new IllegalArgumentException("ids, names and addresses must have the same length");
+        }
+        return new HangulNgramIndex(ids, names, addresses);
+    }
+
+    private HangulNgramIndex(long[] ids, String[] names, String[] addresses) {
+        int count = ids.length;
+        this.ids = ids.clone();
+        this.names = names.clone();
+        this.addresses = addresses.clone();
+        this.nameKeys = new String[count];
+        this.addressKeys = new String[count];
+        this.nameChosungKeys = new String[count];
+
+        PostingsBuilder text = new PostingsBuilder();
+        PostingsBuilder chosung = new PostingsBuilder();
+        for (int doc = 0; doc < count; doc++) {
+            nameKeys[doc] = normalize(names[doc]);
+            addressKeys[doc] = normalize(addresses[doc]);
+            text.addGrams(nameKeys[doc], doc);
+            text.addGrams(addressKeys[doc], doc);
+            nameChosungKeys[doc] = chosungOf(nameKeys[doc]);
+            chosung.addGrams(nameChosungKeys[doc], doc);
+        }
+        this.textPostings = text.build();
+        this.chosungPostings = chosung.build();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int doc) {
+        return ids[doc];
+    }
+
+    public String name(int doc) {
+        return names[doc];
+    }
+
+    public String address(int doc) {
+        return addresses[doc];
+    }
+
+    /**
+     * 이름 / 주소에 검색어가 포함된 문서 상위 limit 개
+     */
+    public Hits search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0 || ids.length == 0) {
+            return new Hits(new int[0], new int[0]);
+        }
+        boolean openLast = q.length() > 1 && isOpenSyllable(q.charAt(q.length() - 1));
+
+        // 초성 / 입력 중인 음절이 없으면 글자 그대로, 초성만 있으면 이름 초성 문자열과 비교 (String.indexOf)
+        int chosungCount = countChosung(q);
+        boolean plain = !openLast && chosungCount == 0;
+        boolean chosungOnly = chosungCount == q.length();
+
+        int[] candidates = candidates(q, openLast);
+        // 순위 | 일치 위치 | 이름 길이 | 문서 순번 을 long 하나로 묶어 상위 limit 개만 정렬 상태로 유지
+        long[] top = new long[Math.min(limit, candidates.length)];
+        int size = 0;
+        for (int doc : candidates) {
+            int rank;
+            int position = plain ? nameKeys[doc].indexOf(q)
+                    : chosungOnly ? nameChosungKeys[doc].indexOf(q)
+                    : indexOf(nameKeys[doc], q, openLast);
+            if (position == 0) {
+                rank = nameKeys[doc].length() == q.length() ? RANK_EXACT : RANK_NAME_PREFIX;
+            } else if (position > 0) {
+                rank = RANK_NAME;
+            } else {
+                // 상위 목록이 이름 일치로 이미 찼으면 주소 일치는 들어갈 수 없음
+                if (size == top.length && top[size - 1] >>> 56 < RANK_ADDRESS) {
+                    continue;
+                }
+                position = plain ? addressKeys[doc].indexOf(q) : indexOf(addressKeys[doc], q, openLast);
+                if (position < 0) {
+                    continue;
+                }
+                rank = RANK_ADDRESS;
+            }
+            long key = (long) rank << 56
+                    | (long) Math.min(position, 0xFFF) << 44
+                    | (long) Math.min(nameKeys[doc].length(), 0xFFF) << 32
+                    | doc;
+            if (size == top.length && key >= top[size - 1]) {
+                continue;
+            }
+            int i = size < top.length ? size++ : size - 1;
+            while (i > 0 && top[i - 1] > key) {
+                top[i] = top[i - 1];
+                i--;
+            }
+            top[i] = key;
+        }
+
+        int[] docs = new int[size];
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++) {
+            docs[i] = (int) top[i];
+            ranks[i] = (int) (top[i] >>> 56);
+        }
+        return new Hits(docs, ranks);
+    }
+
+    /**
+     * 후보 문서 - 완성된 글자가 있으면 글자 n-gram, 초성만 있으면 이름 초성 n-gram 교집합
+     */
+    private int[] candidates(String q, boolean openLast) {
+        int end = openLast ? q.length() - 1 : q.length();
+        StringBuilder run = new StringBuilder();
+        int[][] postings = new int[q.length() + 1][];
+        int found = 0;
+        for (int i = 0; i <= end; i++) {
+            char c = i < end ? q.charAt(i) : 0;
+            if (i < end && !isChosung(c)) {
+                run.append(c);
+                continue;
+            }
+            if (run.length() > 0) {
+                for (int key : grams(run)) {
+                    int[] posting = textPostings.get(key);
+                    if (posting == null) {
+                        return EMPTY_POSTING;
+                    }
+                    postings[found++] = posting;
+                }
+                run.setLength(0);
+            }
+        }
+        if (found == 0) {
+            // 초성 (+ 입력 중인 마지막 음절) 만 입력
+            for (int key : grams(chosungOf(q))) {
+                int[] posting = chosungPostings.get(key);
+                if (posting == null) {
+                    return EMPTY_POSTING;
+                }
+                postings[found++] = posting;
+            }
+        }
+        return intersect(Arrays.copyOf(postings, found));
+    }
+
+    private static int[] intersect(int[][] postings) {
+        if (postings.length == 0) {
+            return EMPTY_POSTING;
+        }
+        Arrays.sort(postings, Comparator.comparingInt(posting -> posting.length));
+        int[] result = postings[0];
+        for (int p = 1; p < postings.length && result.length > 0; p++) {
+            int[] other = postings[p];
+            int[] next = new int[result.length];
+            int size = 0;
+            for (int i = 0, j = 0; i < result.length && j < other.length; ) {
+                if (result[i] < other[j]) {
+                    i++;
+                } else if (result[i] > other[j]) {
+                    j++;
+                } else {
+                    next[size++] = result[i];
+                    i++;
+                    j++;
+                }
+            }
+            result = Arrays.copyOf(next, size);
+        }
+        return result;
+    }
+
+    /**
+     * 검색어 위치 (글자 단위 비교, 초성 / 입력 중인 마지막 음절 고려), 없으면 -1
+     */
+    private static int indexOf(String text, String q, boolean openLast) {
+        int last = q.length() - 1;
+        for (int start = 0; start + last < text.length(); start++) {
+            int j = 0;
+            while (j <= last && matches(text.charAt(start + j), q.charAt(j), openLast && j == last)) {
+                j++;
+            }
+            if (j > last) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(char t, char p, boolean open) {
+        if (t == p) {
+            return true;
+        }
+        if (!isSyllable(t)) {
+            return false;
+        }
+        if (isChosung(p)) {
+            return chosungOf(t) == p;
+        }
+        // 받침 없는 음절은 초성 + 중성이 같은 음절과 일치
+        return open && (t - SYLLABLE_FIRST) / 28 == (p - SYLLABLE_FIRST) / 28;
+    }
+
+    /**
+     * 1-gram (한 글자) 또는 2-gram 키 - 글자 두 개를 int 하나로 묶음
+     */
+    private static int[] grams(CharSequence s) {
+        if (s.length() == 0) {
+            return EMPTY_POSTING;
+        }
+        if (s.length() == 1) {
+            return new int[] {s.charAt(0) << 16};
+        }
+        int[] keys = new int[s.length() - 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = s.charAt(i) << 16 | s.charAt(i + 1);
+        }
+        return keys;
+    }
+
+    /**
+     * 소문자로 바꾸고 글자 / 숫자만 남김
+     */
+    static String normalize(String s) {
+        if (s == null || s.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        String lower = s.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 음절을 초성으로 바꾼 문자열 (음절이 아닌 글자는 그대로)
+     */
+    static String chosungOf(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isSyllable(chars[i])) {
+                chars[i] = chosungOf(chars[i]);
+            }
+        }
+        return new String(chars);
+    }
+
+    private static char chosungOf(char syllable) {
+        return CHOSUNG[(syllable - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isOpenSyllable(char c) {
+        return isSyllable(c) && (c - SYLLABLE_FIRST) % 28 == 0;
+    }
+
+    private static int countChosung(String s) {
+        int count = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (isChosung(s.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    /**
+     * 키 -> 문서 순번 목록 (문서 순번 순으로 추가되므로 정렬 불필요, 같은 문서 중복만 제거)
+     */
+    private static final class PostingsBuilder {
+
+        // 배열 0번 칸은 사용 길이
+        private final Map<Integer, int[]> lists = new HashMap<>();
+
+        void addGrams(String s, int doc) {
+            if (s.isEmpty()) {
+                return;
+            }
+            for (int i = 0; i < s.length(); i++) {
+                add(s.charAt(i) << 16, doc);
+                if (i + 1 < s.length()) {
+                    add(s.charAt(i) << 16 | s.charAt(i + 1), doc);
+                }
+            }
+        }
+
+        private void add(int key, int doc) {
+            int[] list = lists.get(key);
+            if (list == null) {
+                list = new int[4];
+            } else if (list[list[0]] == doc) {
+                return;
+            } else if (list[0] + 1 == list.length) {
+                list = Arrays.copyOf(list, list.length * 2);
+            }
+            list[++list[0]] = doc;
+            lists.put(key, list);
+        }
+
+        Map<Integer, int[]> build() {
+            Map<Integer, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, list) -> postings.put(key, Arrays.copyOfRange(list, 1, list[0] + 1)));
+            return postings;
+        }
+    }
+}
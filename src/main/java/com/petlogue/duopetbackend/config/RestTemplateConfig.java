@@ -3,15 +3,16 @@ package com.petlogue.duopetbackend.config;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.petlogue.duopetbackend.common.http.OutboundHttpInterceptor;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 
 /**
  * RestTemplate 및 ObjectMapper 설정
@@ -22,14 +23,16 @@ public class RestTemplateConfig {
     
     /**
      * RestTemplate Bean 설정
-     * - 타임아웃 설정
+     * - 커넥션 풀 / 타임아웃 / 재시도 / 지표는 outboundRestClient 와 공유 (OutboundHttpConfig)
      * - JSON 변환기 설정
      */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder, ObjectMapper objectMapper) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ObjectMapper objectMapper,
+                                     JdkClientHttpRequestFactory outboundRequestFactory,
+                                     OutboundHttpInterceptor outboundHttpInterceptor) {
         return builder
-                .connectTimeout(Duration.ofSeconds(30))
-                .readTimeout(Duration.ofSeconds(30))
+                .requestFactory(() -> outboundRequestFactory)
+                .additionalInterceptors(outboundHttpInterceptor)
                 .additionalMessageConverters(
                     new StringHttpMessageConverter(StandardCharsets.UTF_8),
                     mappingJackson2HttpMessageConverter(objectMapper)
@@ -3,15 +3,15 @@ package com.petlogue.duopetbackend.consultation.model.service;
 import com.petlogue.duopetbackend.consultation.jpa.entity.Payment;
 import com.petlogue.duopetbackend.consultation.jpa.repository.PaymentRepository;
 import com.petlogue.duopetbackend.consultation.model.dto.PaymentVerificationDto;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.client.RestClient;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -23,7 +23,7 @@ import java.util.Base64;
 public class PaymentService {
     
     private final PaymentRepository paymentRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final RestClient outboundRestClient;
     
     @Value("${toss.payments.secret-key}")
     private String secretKey;
@@ -31,6 +31,21 @@ public class PaymentService {
     @Value("${toss.payments.api-base-url}")
     private String tossApiBaseUrl;
     
+    // 토스페이먼츠 전용 클라이언트 (공용 클라이언트의 커넥션 풀을 공유하고 인증 헤더만 추가)
+    private RestClient tossClient;
+    
+    @PostConstruct
+    void initTossClient() {
+        String credentials = Base64.getEncoder()
+            .encodeToString((secretKey + ":").getBytes());
+        
+        tossClient = outboundRestClient.mutate()
+            .baseUrl(tossApiBaseUrl)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .build();
+    }
+    
     /**
      * 토스페이먼츠 결제 검증
      */
@@ -41,20 +56,10 @@ public class PaymentService {
         
         try {
             // 토스페이먼츠 API 호출하여 결제 정보 확인
-            String credentials = Base64.getEncoder()
-                .encodeToString((secretKey + ":").getBytes());
-            
-            WebClient webClient = webClientBuilder
-                .baseUrl(tossApiBaseUrl)
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-            
-            PaymentVerificationDto verification = webClient.get()
+            PaymentVerificationDto verification = tossClient.get()
                 .uri(paymentKey)
                 .retrieve()
-                .bodyToMono(PaymentVerificationDto.class)
-                .block();
+                .body(PaymentVerificationDto.class);
             
             if (verification == null) {
                 throw new RuntimeException("결제 정보를 확인할 수 없습니다.");
@@ -111,23 +116,13 @@ public class PaymentService {
                 .orElseThrow(() -> new RuntimeException("결제 정보를 찾을 수 없습니다."));
             
             // 토스페이먼츠 API 호출하여 결제 취소
-            String credentials = Base64.getEncoder()
-                .encodeToString((secretKey + ":").getBytes());
-            
-            WebClient webClient = webClientBuilder
-                .baseUrl(tossApiBaseUrl)
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-            
             String requestBody = "{\"cancelReason\":\"" + cancelReason + "\"}";
             
-            String response = webClient.post()
+            String response = tossClient.post()
                 .uri(paymentKey + "/cancel")
-                .bodyValue(requestBody)
+                .body(requestBody)
                 .retrieve()
-                .bodyToMono(String.class)
-                .block();
+                .body(String.class);
             
             log.info("결제 취소 응답: {}", response);
             
@@ -1,23 +1,30 @@
 package com.petlogue.duopetbackend.info.controller;
 
 import com.petlogue.duopetbackend.info.model.dto.HospitalDto;
+import com.petlogue.duopetbackend.info.model.dto.MapClusterDto;
 import com.petlogue.duopetbackend.info.model.dto.ShelterDto;
 import com.petlogue.duopetbackend.info.model.dto.ShelterInfoDto;
+import com.petlogue.duopetbackend.info.model.dto.SuggestionDto;
 import com.petlogue.duopetbackend.info.model.service.HospitalService;
 import com.petlogue.duopetbackend.info.model.service.ShelterInfoService;
 import com.petlogue.duopetbackend.info.model.service.ShelterService;
 import com.petlogue.duopetbackend.info.model.service.AnimalHospitalService;
+import com.petlogue.duopetbackend.info.model.service.InfoTextIndex;
+import com.petlogue.duopetbackend.info.model.service.MapClusterService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -33,15 +40,21 @@ public class InfoController {
     private final ShelterService shelterService;
     private final ShelterInfoService shelterInfoService;
     private final AnimalHospitalService animalHospitalService;
+    private final InfoTextIndex infoTextIndex;
+    private final MapClusterService mapClusterService;
 
     public InfoController(HospitalService hospitalService, 
                          @Qualifier("infoShelterService") ShelterService shelterService,
                          ShelterInfoService shelterInfoService,
-                         AnimalHospitalService animalHospitalService) {
+                         AnimalHospitalService animalHospitalService,
+                         InfoTextIndex infoTextIndex,
+                         MapClusterService mapClusterService) {
         this.hospitalService = hospitalService;
         this.shelterService = shelterService;
         this.shelterInfoService = shelterInfoService;
         this.animalHospitalService = animalHospitalService;
+        this.infoTextIndex = infoTextIndex;
+        this.mapClusterService = mapClusterService;
     }
 
     /**
@@ -108,13 +121,15 @@ public class InfoController {
 
     /**
      * 간단한 키워드 검색 (GET 방식)
-     * GET /api/info/hospitals/search?keyword=서울&emergency=true&service=진료
+     * GET /api/info/hospitals/search?keyword=서울&emergency=true&service=진료&city=서울특별시
      */
     @GetMapping("/hospitals/search")
     public ResponseEntity<Page<HospitalDto.Response>> searchHospitalsSimple(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Boolean emergency,
             @RequestParam(required = false) String service,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district,
             @RequestParam(required = false) BigDecimal minRating,
             @RequestParam(required = false) BigDecimal userLat,
             @RequestParam(required = false) BigDecimal userLng,
@@ -130,6 +145,8 @@ public class InfoController {
                 .keyword(keyword)
                 .isEmergency(emergency)
                 .service(service)
+                .city(city)
+                .district(district)
                 .minRating(minRating)
                 .userLatitude(userLat)
                 .userLongitude(userLng)
@@ -196,6 +213,88 @@ public class InfoController {
         return ResponseEntity.ok(nearbyHospitals);
     }
 
+    /**
+     * 가장 가까운 병원 k 곳 (응급 상황용)
+     * GET /api/info/hospitals/nearest?lat=37.5665&lng=126.9780&k=5&maxRadius=20
+     */
+    @GetMapping("/hospitals/nearest")
+    public ResponseEntity<List<HospitalDto.Response>> getNearestHospitals(
+            @RequestParam BigDecimal lat,
+            @RequestParam BigDecimal lng,
+            @RequestParam(defaultValue = "5") int k,
+            @RequestParam(defaultValue = "0") double maxRadius) {
+        
+        log.info("최근접 병원 검색 요청 - lat: {}, lng: {}, k: {}, maxRadius: {}km", lat, lng, k, maxRadius);
+        
+        List<HospitalDto.Response> nearestHospitals = hospitalService.getNearestHospitals(lat, lng, Math.min(k, 50), maxRadius);
+        
+        return ResponseEntity.ok(nearestHospitals);
+    }
+
+    /**
+     * 병원 / 공공 보호소 이름 / 주소 자동완성 (초성 입력 지원)
+     * GET /api/info/suggest?q=ㄷㅁㅂㅇ&type=hospital&limit=10
+     * type: hospital, shelter, all
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "all") String type,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        return ResponseEntity.ok(infoTextIndex.suggest(q, type, Math.max(0, Math.min(limit, 20))));
+    }
+
+    /**
+     * 지도 마커 군집 (화면 범위)
+     * GET /api/info/map/clusters?type=all&zoom=12&minLat=37.4&minLng=126.8&maxLat=37.7&maxLng=127.2
+     * 화면을 덮는 타일(z/x/y)별 군집을 반환하므로 타일 키 + 버전으로 캐시할 수 있다.
+     */
+    @GetMapping("/map/clusters")
+    public ResponseEntity<?> getMapClusters(
+            @RequestParam(defaultValue = "all") String type,
+            @RequestParam int zoom,
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng) {
+        
+        try {
+            return ResponseEntity.ok(mapClusterService.getClusters(type, zoom, minLat, minLng, maxLat, maxLng));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * 지도 마커 군집 (타일 하나)
+     * GET /api/info/map/clusters/hospital/12/3493/1586
+     * 색인 버전(좌표 내용 해시)을 ETag 로 내려 주므로 좌표가 바뀌기 전까지는 서버가 달라도 304 로 응답한다.
+     */
+    @GetMapping("/map/clusters/{type}/{z}/{x}/{y}")
+    public ResponseEntity<?> getMapClusterTile(
+            @PathVariable String type,
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        
+        try {
+            String etag = "\"" + mapClusterService.version(type) + "\"";
+            CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+            if (etag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+            }
+            MapClusterDto.Tile tile = mapClusterService.getTile(type, z, x, y);
+            return ResponseEntity.ok()
+                    .eTag("\"" + tile.getVersion() + "\"")
+                    .cacheControl(cacheControl)
+                    .body(tile);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     /**
      * CSV 파일 임포트 (관리자 전용)
      * POST /api/info/hospitals/import/csv
@@ -354,6 +453,7 @@ public class InfoController {
     /**
      * 보호소 검색 (키워드 기반) - DTO 기반
      * GET /api/info/shelters/search?keyword=서울&type=public&minRating=4.0&userLat=37.5665&userLng=126.9780&maxDistance=10&sortBy=distance&sortOrder=asc&size=50
+     * minRating 과 sortBy=rating 은 임시 평점이라 조회한 size 건 안에서만 적용됨 (ShelterService.searchShelters)
      */
     @GetMapping("/shelters/search")
     public ResponseEntity<List<ShelterDto.Response>> searchShelters(
@@ -561,6 +661,22 @@ public class InfoController {
         return ResponseEntity.ok(shelters);
     }
     
+    /**
+     * 가장 가까운 공공 보호소 k 곳
+     * GET /api/info/shelters/public/nearest?lat=37.5665&lng=126.9780&k=5
+     */
+    @GetMapping("/shelters/public/nearest")
+    public ResponseEntity<List<ShelterInfoDto>> getNearestPublicShelters(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(defaultValue = "5") int k,
+            @RequestParam(defaultValue = "0") double maxRadius) {
+        
+        log.info("최근접 공공 보호소 조회 - 위치: ({}, {}), k: {}", lat, lng, k);
+        
+        return ResponseEntity.ok(shelterInfoService.getNearestShelters(lat, lng, Math.min(k, 50), maxRadius));
+    }
+    
     /**
      * 지역별 공공 보호소 조회
      * GET /api/info/shelters/public/region?region=서울
@@ -7,6 +7,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
 @Table(name = "ANIMAL_HOSPITALS", indexes = {
@@ -21,6 +22,10 @@ import java.time.LocalDateTime;
 @Builder
 public class AnimalHospital {
     
+    // 공공데이터에 응급/진료시간 항목이 없어 사업장명으로 구분 (검색 조건과 화면 표시에 같은 기준 사용)
+    public static final List<String> EMERGENCY_NAME_KEYWORDS = List.of("응급", "24시");
+    public static final List<String> OPEN_24_HOURS_NAME_KEYWORDS = List.of("24시");
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "hospital_id")
@@ -121,6 +126,14 @@ public class AnimalHospital {
         return "영업/정상".equals(businessStatus) && "정상".equals(detailedStatus);
     }
     
+    public boolean isEmergencyCare() {
+        return containsAny(businessName, EMERGENCY_NAME_KEYWORDS);
+    }
+    
+    public boolean isOpen24Hours() {
+        return containsAny(businessName, OPEN_24_HOURS_NAME_KEYWORDS);
+    }
+    
     public boolean hasValidLocation() {
         return latitude != null && longitude != null;
     }
@@ -142,4 +155,8 @@ public class AnimalHospital {
         }
         return jibunPostalCode;
     }
+    
+    private static boolean containsAny(String value, List<String> keywords) {
+        return value != null && keywords.stream().anyMatch(value::contains);
+    }
 }
\ No newline at end of file
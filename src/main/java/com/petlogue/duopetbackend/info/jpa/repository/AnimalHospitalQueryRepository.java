@@ -0,0 +1,152 @@
+package com.petlogue.duopetbackend.info.jpa.repository;
+
+import com.petlogue.duopetbackend.common.geo.GeoBounds;
+import com.petlogue.duopetbackend.info.jpa.entity.AnimalHospital;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.petlogue.duopetbackend.info.jpa.entity.QAnimalHospital.animalHospital;
+
+/**
+ * 동물병원 동적 검색 (QueryDSL)
+ * 영업상태(idx_business_status), 지역(idx_city_district), 좌표 범위(idx_coordinates) 조건을 SQL 로 내려보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimalHospitalQueryRepository {
+
+    private static final String OPERATING_STATUS = "영업/정상";
+    private static final String OPERATING_DETAILED_STATUS = "정상";
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 조건에 맞는 병원 한 페이지
+     */
+    public List<AnimalHospital> findPage(Predicate where, OrderSpecifier<?>[] orders, long offset, int limit) {
+        return queryFactory.selectFrom(animalHospital)
+                .where(where)
+                .orderBy(orders)
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    public long count(Predicate where) {
+        Long count = queryFactory.select(animalHospital.count())
+                .from(animalHospital)
+                .where(where)
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 거리 정렬용 후보 (ID, 위도, 경도, 사업장명) - 엔티티 대신 필요한 컬럼만 조회
+     */
+    public List<Tuple> findCandidates(Predicate where) {
+        return queryFactory.select(animalHospital.hospitalId, animalHospital.latitude,
+                        animalHospital.longitude, animalHospital.businessName)
+                .from(animalHospital)
+                .where(where)
+                .fetch();
+    }
+
+    // ===== 검색 조건 =====
+
+    /**
+     * 영업 중 (영업/정상 + 정상)
+     */
+    public static BooleanExpression operating() {
+        return animalHospital.businessStatus.eq(OPERATING_STATUS)
+                .and(animalHospital.detailedStatus.eq(OPERATING_DETAILED_STATUS));
+    }
+
+    /**
+     * 병원명 / 도로명주소 / 지번주소 키워드 (대소문자 무시)
+     */
+    public static BooleanExpression keyword(String keyword) {
+        return animalHospital.businessName.containsIgnoreCase(keyword)
+                .or(animalHospital.roadAddress.containsIgnoreCase(keyword))
+                .or(animalHospital.jibunAddress.containsIgnoreCase(keyword));
+    }
+
+    /**
+     * 주소 일부 (도로명 / 지번)
+     */
+    public static BooleanExpression address(String address) {
+        return animalHospital.roadAddress.contains(address)
+                .or(animalHospital.jibunAddress.contains(address));
+    }
+
+    /**
+     * 시도 / 시군구 (idx_city_district 선두 컬럼부터 사용)
+     */
+    public static BooleanBuilder region(String city, String district) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (city != null) {
+            builder.and(animalHospital.city.eq(city));
+        }
+        if (district != null) {
+            builder.and(animalHospital.district.eq(district));
+        }
+        return builder;
+    }
+
+    /**
+     * 응급 진료 병원 (사업장명 기준, AnimalHospital.EMERGENCY_NAME_KEYWORDS)
+     */
+    public static BooleanBuilder emergency() {
+        return nameContainsAny(AnimalHospital.EMERGENCY_NAME_KEYWORDS);
+    }
+
+    /**
+     * 24시간 병원 (사업장명 기준, AnimalHospital.OPEN_24_HOURS_NAME_KEYWORDS)
+     */
+    public static BooleanBuilder open24Hours() {
+        return nameContainsAny(AnimalHospital.OPEN_24_HOURS_NAME_KEYWORDS);
+    }
+
+    /**
+     * 좌표 범위 (idx_coordinates 범위 조회)
+     */
+    public static BooleanExpression withinBounds(GeoBounds bounds) {
+        return animalHospital.latitude.between(bounds.minLat(), bounds.maxLat())
+                .and(animalHospital.longitude.between(bounds.minLng(), bounds.maxLng()));
+    }
+
+    /**
+     * 좌표가 없는 병원 - 좌표 범위 조건과 OR 로 묶지 말고 따로 조회
+     */
+    public static BooleanExpression noLocation() {
+        return animalHospital.latitude.isNull().or(animalHospital.longitude.isNull());
+    }
+
+    /**
+     * 정렬 - 병원명 또는 ID 순 (같은 이름은 ID 순)
+     */
+    public static OrderSpecifier<?>[] order(boolean byName, boolean ascending) {
+        if (!byName) {
+            return new OrderSpecifier<?>[]{animalHospital.hospitalId.asc()};
+        }
+        return new OrderSpecifier<?>[]{
+                ascending ? animalHospital.businessName.asc() : animalHospital.businessName.desc(),
+                animalHospital.hospitalId.asc()
+        };
+    }
+
+    private static BooleanBuilder nameContainsAny(List<String> keywords) {
+        BooleanBuilder builder = new BooleanBuilder();
+        for (String keyword : keywords) {
+            builder.or(animalHospital.businessName.contains(keyword));
+        }
+        return builder;
+    }
+}
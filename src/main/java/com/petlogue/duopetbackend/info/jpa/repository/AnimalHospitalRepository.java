@@ -36,20 +36,13 @@ public interface AnimalHospitalRepository extends JpaRepository<AnimalHospital,
            "OR LOWER(h.jibunAddress) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     Page<AnimalHospital> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
     
-    // 근처 병원 찾기 (Haversine formula 사용)
-    @Query(value = "SELECT h.*, " +
-           "(6371 * acos(cos(radians(:lat)) * cos(radians(h.latitude)) * " +
-           "cos(radians(h.longitude) - radians(:lon)) + " +
-           "sin(radians(:lat)) * sin(radians(h.latitude)))) AS distance " +
-           "FROM ANIMAL_HOSPITALS h " +
-           "WHERE h.business_status = '영업/정상' AND h.detailed_status = '정상' " +
-           "AND h.latitude IS NOT NULL AND h.longitude IS NOT NULL " +
-           "HAVING distance < :radius " +
-           "ORDER BY distance", 
-           nativeQuery = true)
-    List<AnimalHospital> findNearbyHospitals(@Param("lat") double latitude, 
-                                             @Param("lon") double longitude, 
-                                             @Param("radius") double radiusInKm);
+    // 공간 색인용 좌표 (영업 중, 좌표 있음)
+    @Query("SELECT h.hospitalId, h.latitude, h.longitude FROM AnimalHospital h WHERE h.businessStatus = '영업/정상' AND h.detailedStatus = '정상' AND h.latitude IS NOT NULL AND h.longitude IS NOT NULL")
+    List<Object[]> findOperatingCoordinates();
+    
+    // 자동완성 색인용 이름 / 주소 (영업 중)
+    @Query("SELECT h.hospitalId, h.businessName, h.roadAddress, h.jibunAddress FROM AnimalHospital h WHERE h.businessStatus = '영업/정상' AND h.detailedStatus = '정상'")
+    List<Object[]> findOperatingSearchKeys();
     
     // 전화번호가 있는 영업 중인 병원 수
     @Query("SELECT COUNT(h) FROM AnimalHospital h WHERE h.businessStatus = '영업/정상' AND h.detailedStatus = '정상' AND h.phone IS NOT NULL AND h.phone != ''")
@@ -33,21 +33,13 @@ public interface ShelterInfoRepository extends JpaRepository<ShelterInfo, Long>
     @Query("SELECT s FROM ShelterInfo s WHERE s.careAddr LIKE %:region% OR s.jibunAddr LIKE %:region%")
     Page<ShelterInfo> findByRegion(@Param("region") String region, Pageable pageable);
     
-    // 위치 기반 근처 보호소 조회 (거리 계산)
-    @Query(value = "SELECT s.*, " +
-            "(6371 * acos(cos(radians(:lat)) * cos(radians(s.lat)) * " +
-            "cos(radians(s.lng) - radians(:lng)) + sin(radians(:lat)) * " +
-            "sin(radians(s.lat)))) AS distance " +
-            "FROM SHELTER_INFO s " +
-            "WHERE s.lat IS NOT NULL AND s.lng IS NOT NULL " +
-            "HAVING distance <= :radius " +
-            "ORDER BY distance", 
-            nativeQuery = true)
-    List<ShelterInfo> findNearbySheleters(
-            @Param("lat") Double lat, 
-            @Param("lng") Double lng, 
-            @Param("radius") Double radius
-    );
+    // 공간 색인용 좌표
+    @Query("SELECT s.shelterInfoId, s.lat, s.lng FROM ShelterInfo s WHERE s.lat IS NOT NULL AND s.lng IS NOT NULL")
+    List<Object[]> findCoordinates();
+    
+    // 자동완성 색인용 이름 / 주소
+    @Query("SELECT s.shelterInfoId, s.careNm, s.careAddr, s.jibunAddr FROM ShelterInfo s")
+    List<Object[]> findSearchKeys();
     
     // 동물 종류별 조회 (개/고양이)
     @Query("SELECT s FROM ShelterInfo s WHERE s.saveTrgtAnimal LIKE %:animal%")
@@ -76,4 +68,31 @@ public interface ShelterInfoRepository extends JpaRepository<ShelterInfo, Long>
     
     // 관리번호 리스트로 일괄 조회 (동기화시 사용)
     List<ShelterInfo> findByCareRegNoIn(List<String> careRegNos);
-}
\ No newline at end of file
+    
+    // 해시 조인용 연결 키 (ID, 관리번호, 보호소명, 전화번호)
+    @Query("SELECT s.shelterInfoId, s.careRegNo, s.careNm, s.careTel FROM ShelterInfo s")
+    List<Object[]> findLinkKeys();
+    
+    /**
+     * 통계 집계 (한 번의 GROUP BY GROUPING SETS)
+     * 행: 집계 구분(division / sido / total), 키, 보호소 수, 수의사 보유 보호소 수, 수의사 수 합계, 사양관리사 수 합계
+     * 시도는 도로명주소(없으면 지번주소)의 첫 어절
+     */
+    @Query(value = """
+        SELECT CASE WHEN GROUPING(t.division_nm) = 0 THEN 'division'
+                    WHEN GROUPING(t.sido) = 0 THEN 'sido'
+                    ELSE 'total' END AS stat_group,
+               CASE WHEN GROUPING(t.division_nm) = 0 THEN t.division_nm ELSE t.sido END AS stat_key,
+               COUNT(*) AS shelter_count,
+               SUM(CASE WHEN t.vet_person_cnt > 0 THEN 1 ELSE 0 END) AS vet_shelter_count,
+               NVL(SUM(t.vet_person_cnt), 0) AS vet_count,
+               NVL(SUM(t.specs_person_cnt), 0) AS specs_count
+        FROM (SELECT division_nm,
+                     REGEXP_SUBSTR(NVL(care_addr, jibun_addr), '[^ ]+') AS sido,
+                     vet_person_cnt, specs_person_cnt
+              FROM SHELTER_INFO) t
+        GROUP BY GROUPING SETS ((t.division_nm), (t.sido), ())
+        ORDER BY stat_group, shelter_count DESC
+        """, nativeQuery = true)
+    List<Object[]> findStatistics();
+}
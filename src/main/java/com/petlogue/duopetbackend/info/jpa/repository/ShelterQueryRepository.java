@@ -0,0 +1,170 @@
+package com.petlogue.duopetbackend.info.jpa.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.petlogue.duopetbackend.info.jpa.entity.QShelterEntity.shelterEntity;
+import static com.petlogue.duopetbackend.user.jpa.entity.QUserEntity.userEntity;
+
+/**
+ * 보호소 목록 / 검색 (QueryDSL)
+ * SHELTER + USERS 조인에서 화면에 쓰는 컬럼만 생성자 프로젝션으로 조회하고, 필터 / 정렬 / 페이징을 SQL 로 내려보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShelterQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 목록 한 행 (SHELTER 컬럼 + 관리자 정보)
+     */
+    public record ShelterRow(Long shelterId, Long userId, String shelterName, String phone, String email,
+                             String address, String website, Integer capacity, String operatingHours,
+                             String renameFilename, String originalFilename,
+                             String managerName, String role, String status) {
+    }
+
+    /**
+     * 조건에 맞는 활성 보호소 한 페이지
+     */
+    public List<ShelterRow> findPage(Predicate where, OrderSpecifier<?>[] orders, long offset, int limit) {
+        return queryFactory.select(Projections.constructor(ShelterRow.class,
+                        shelterEntity.shelterId, shelterEntity.userId, shelterEntity.shelterName,
+                        shelterEntity.phone, shelterEntity.email, shelterEntity.address, shelterEntity.website,
+                        shelterEntity.capacity, shelterEntity.operatingHours,
+                        shelterEntity.renameFilename, shelterEntity.originalFilename,
+                        userEntity.userName, userEntity.role, userEntity.status))
+                .from(shelterEntity)
+                .join(userEntity).on(shelterEntity.userId.eq(userEntity.userId))
+                .where(active(), where)
+                .orderBy(orders)
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    public Optional<ShelterRow> findActiveById(Long shelterId) {
+        return findPage(shelterEntity.shelterId.eq(shelterId), order("name", true), 0, 1)
+                .stream()
+                .findFirst();
+    }
+
+    public long count(Predicate where) {
+        Long count = queryFactory.select(shelterEntity.count())
+                .from(shelterEntity)
+                .join(userEntity).on(shelterEntity.userId.eq(userEntity.userId))
+                .where(active(), where)
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    // ===== 검색 조건 =====
+
+    /**
+     * 활성 보호소 계정 (role = shelter, status = active)
+     */
+    private static BooleanExpression active() {
+        return userEntity.role.eq("shelter").and(userEntity.status.eq("active"));
+    }
+
+    /**
+     * 보호소명 / 주소 / 관리자명 키워드 (대소문자 무시)
+     */
+    public static BooleanExpression keyword(String keyword) {
+        return shelterEntity.shelterName.containsIgnoreCase(keyword)
+                .or(shelterEntity.address.containsIgnoreCase(keyword))
+                .or(userEntity.userName.containsIgnoreCase(keyword));
+    }
+
+    public static BooleanExpression managerName(String managerName) {
+        return userEntity.userName.containsIgnoreCase(managerName);
+    }
+
+    public static BooleanBuilder capacityBetween(Integer minCapacity, Integer maxCapacity) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (minCapacity != null) {
+            builder.and(shelterEntity.capacity.goe(minCapacity));
+        }
+        if (maxCapacity != null) {
+            builder.and(shelterEntity.capacity.loe(maxCapacity));
+        }
+        return builder;
+    }
+
+    /**
+     * 공공보호소 - 이름에 "시" 와 "보호센터" 또는 "동물보호" 포함
+     */
+    public static BooleanExpression publicType() {
+        return shelterEntity.shelterName.contains("시")
+                .and(shelterEntity.shelterName.contains("보호센터")
+                        .or(shelterEntity.shelterName.contains("동물보호")));
+    }
+
+    /**
+     * 단체보호소 - 공공보호소가 아니고 이름에 "협회" / "단체" / "사단법인" 포함
+     */
+    public static BooleanExpression organizationType() {
+        return publicType().not()
+                .and(shelterEntity.shelterName.contains("협회")
+                        .or(shelterEntity.shelterName.contains("단체"))
+                        .or(shelterEntity.shelterName.contains("사단법인")));
+    }
+
+    /**
+     * 민간보호소 - 이름이 없거나 공공 / 단체가 아닌 경우
+     */
+    public static BooleanExpression privateType() {
+        return shelterEntity.shelterName.isNull()
+                .or(publicType().not().and(organizationType().not()));
+    }
+
+    /**
+     * 주소 키워드별 값 - 먼저 나열한 키워드가 우선, 어느 것도 포함하지 않으면 otherwise
+     * @param valuesByKeyword 순서가 있는 키워드 -> 값
+     */
+    public static NumberExpression<Double> byAddressKeyword(Map<String, Double> valuesByKeyword, double otherwise) {
+        CaseBuilder.Cases<Double, NumberExpression<Double>> cases = null;
+        for (Map.Entry<String, Double> entry : valuesByKeyword.entrySet()) {
+            BooleanExpression matches = shelterEntity.address.contains(entry.getKey());
+            cases = cases == null
+                    ? new CaseBuilder().when(matches).then(entry.getValue())
+                    : cases.when(matches).then(entry.getValue());
+        }
+        return cases.otherwise(otherwise);
+    }
+
+    /**
+     * 정렬 - 이름 / 수용 인원 (같은 값은 ID 순)
+     */
+    public static OrderSpecifier<?>[] order(String sortBy, boolean ascending) {
+        OrderSpecifier<?> primary = switch (sortBy) {
+            case "capacity" -> ascending ? shelterEntity.capacity.asc().nullsLast() : shelterEntity.capacity.desc().nullsLast();
+            default -> ascending ? shelterEntity.shelterName.asc() : shelterEntity.shelterName.desc();
+        };
+        return new OrderSpecifier<?>[]{primary, shelterEntity.shelterId.asc()};
+    }
+
+    /**
+     * 정렬 - 계산 값 우선 (같은 값은 이름, ID 순)
+     */
+    public static OrderSpecifier<?>[] orderByValue(NumberExpression<Double> value, boolean ascending) {
+        return new OrderSpecifier<?>[]{
+                ascending ? value.asc() : value.desc(),
+                shelterEntity.shelterName.asc(),
+                shelterEntity.shelterId.asc()
+        };
+    }
+}
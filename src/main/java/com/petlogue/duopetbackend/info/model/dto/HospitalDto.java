@@ -72,6 +72,8 @@ public class HospitalDto {
     public static class SearchRequest {
         private String keyword;
         private String address;
+        private String city; // 시도
+        private String district; // 시군구
         private String specialization;
         private String service;
         private Boolean isEmergency;
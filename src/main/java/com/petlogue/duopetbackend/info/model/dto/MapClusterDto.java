@@ -0,0 +1,46 @@
+package com.petlogue.duopetbackend.info.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+public class MapClusterDto {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Cluster {
+        private String type; // hospital, shelter
+        private Double lat; // 무게중심 위도
+        private Double lng; // 무게중심 경도
+        private Integer count;
+        private Long id; // count 가 1 일 때만 hospitalId 또는 shelterInfoId
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Tile {
+        private String key; // z/x/y - 클라이언트 캐시 키
+        private String version; // 좌표 내용 해시 - 좌표가 바뀌면 바뀜
+        private List<Cluster> clusters;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private Integer zoom;
+        private List<Tile> tiles;
+    }
+}
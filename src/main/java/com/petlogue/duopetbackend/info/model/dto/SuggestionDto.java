@@ -0,0 +1,22 @@
+package com.petlogue.duopetbackend.info.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 병원 / 공공 보호소 자동완성 항목
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionDto {
+    private String type; // hospital, shelter
+    private Long id; // hospitalId 또는 shelterInfoId
+    private String name;
+    private String address;
+}
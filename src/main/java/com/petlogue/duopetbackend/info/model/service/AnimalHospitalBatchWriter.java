@@ -0,0 +1,250 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import com.petlogue.duopetbackend.info.jpa.entity.AnimalHospital;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 동물병원 CSV 임포트 / 좌표 재계산용 JDBC 배치 저장소
+ * 청크 하나를 하나의 트랜잭션에서 INSERT / UPDATE 배치로 반영하고, 배치가 실패하면 건별로 다시 실행해 실패한 행만 골라낸다.
+ */
+@Slf4j
+@Component
+public class AnimalHospitalBatchWriter {
+
+    // Oracle IN 목록 최대 개수
+    private static final int MAX_IN_LIST = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO ANIMAL_HOSPITALS (" +
+            "management_no, business_name, road_address, jibun_address, phone, road_postal_code, jibun_postal_code, " +
+            "latitude, longitude, epsg5174_x, epsg5174_y, business_status, business_status_code, " +
+            "detailed_status, detailed_status_code, license_date, closed_date, suspended_start_date, " +
+            "suspended_end_date, reopened_date, city, district, area_size, employee_count, data_source, " +
+            "data_update_type, data_update_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 관리번호 기준 전체 컬럼 갱신 (created_at 제외)
+    private static final String UPDATE_SQL =
+            "UPDATE ANIMAL_HOSPITALS SET " +
+            "business_name = ?, road_address = ?, jibun_address = ?, phone = ?, road_postal_code = ?, " +
+            "jibun_postal_code = ?, latitude = ?, longitude = ?, epsg5174_x = ?, epsg5174_y = ?, " +
+            "business_status = ?, business_status_code = ?, detailed_status = ?, detailed_status_code = ?, " +
+            "license_date = ?, closed_date = ?, suspended_start_date = ?, suspended_end_date = ?, " +
+            "reopened_date = ?, city = ?, district = ?, area_size = ?, employee_count = ?, data_source = ?, " +
+            "data_update_type = ?, data_update_date = ?, updated_at = ? " +
+            "WHERE management_no = ?";
+
+    private static final String EXISTING_MANAGEMENT_NO_SQL =
+            "SELECT management_no FROM ANIMAL_HOSPITALS WHERE management_no IN (%s)";
+
+    private static final String PROJECTED_COORDINATES_SQL =
+            "SELECT hospital_id, epsg5174_x, epsg5174_y FROM ANIMAL_HOSPITALS " +
+            "WHERE epsg5174_x IS NOT NULL AND epsg5174_y IS NOT NULL";
+
+    private static final String UPDATE_COORDINATES_SQL =
+            "UPDATE ANIMAL_HOSPITALS SET latitude = ?, longitude = ?, updated_at = ? WHERE hospital_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AnimalHospitalBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * EPSG:5174 원본 좌표 (CSV 문자열 그대로)
+     */
+    public record ProjectedCoordinate(long hospitalId, String x, String y) {
+    }
+
+    /**
+     * EPSG:5174 좌표가 있는 모든 병원의 원본 좌표 (엔티티를 만들지 않고 세 컬럼만 조회)
+     */
+    public List<ProjectedCoordinate> findProjectedCoordinates() {
+        return jdbcTemplate.query(PROJECTED_COORDINATES_SQL, (rs, rowNum) ->
+                new ProjectedCoordinate(rs.getLong(1), rs.getString(2), rs.getString(3)));
+    }
+
+    /**
+     * 위경도 배치 UPDATE (한 트랜잭션)
+     * @param count 앞에서부터 반영할 개수
+     */
+    public void updateCoordinates(long[] hospitalIds, double[] latitudes, double[] longitudes, int count) {
+        if (count == 0) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(UPDATE_COORDINATES_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setDouble(1, latitudes[i]);
+                        ps.setDouble(2, longitudes[i]);
+                        ps.setTimestamp(3, now);
+                        ps.setLong(4, hospitalIds[i]);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return count;
+                    }
+                }));
+    }
+
+    /**
+     * 이미 저장된 관리번호 (IN 조회, 1000 건씩)
+     */
+    public Set<String> findExistingManagementNos(Collection<String> managementNos) {
+        if (managementNos.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<String> values = new ArrayList<>(managementNos);
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < values.size(); from += MAX_IN_LIST) {
+            List<String> part = values.subList(from, Math.min(from + MAX_IN_LIST, values.size()));
+            String placeholders = String.join(", ", Collections.nCopies(part.size(), "?"));
+            existing.addAll(jdbcTemplate.queryForList(
+                    String.format(EXISTING_MANAGEMENT_NO_SQL, placeholders), String.class, part.toArray()));
+        }
+        return existing;
+    }
+
+    /**
+     * 병원 목록을 한 트랜잭션에서 배치 INSERT
+     * 배치가 실패하면 건별 트랜잭션으로 다시 시도해 실패한 행만 돌려준다.
+     * @return 실패한 행 (목록 내 위치 -> 오류 메시지), 모두 성공하면 비어 있음
+     */
+    public Map<Integer, String> insert(List<AnimalHospital> hospitals) {
+        return write(INSERT_SQL, hospitals, this::bindInsert);
+    }
+
+    /**
+     * 이미 저장된 병원을 관리번호 기준으로 배치 UPDATE (실패 처리는 insert 와 같음)
+     * @return 실패한 행 (목록 내 위치 -> 오류 메시지), 모두 성공하면 비어 있음
+     */
+    public Map<Integer, String> update(List<AnimalHospital> hospitals) {
+        return write(UPDATE_SQL, hospitals, this::bindUpdate);
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement ps, AnimalHospital hospital, Timestamp now) throws SQLException;
+    }
+
+    private Map<Integer, String> write(String sql, List<AnimalHospital> hospitals, Binder binder) {
+        if (hospitals.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(sql, hospitals, hospitals.size(),
+                            (ps, hospital) -> binder.bind(ps, hospital, now)));
+            return Collections.emptyMap();
+        } catch (DataAccessException e) {
+            log.warn("Hospital batch write failed, retrying row by row: {}", e.getMostSpecificCause().getMessage());
+        }
+
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < hospitals.size(); i++) {
+            AnimalHospital hospital = hospitals.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.update(sql, ps -> binder.bind(ps, hospital, now)));
+            } catch (DataAccessException e) {
+                failures.put(i, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return failures;
+    }
+
+    private void bindInsert(PreparedStatement ps, AnimalHospital h, Timestamp now) throws SQLException {
+        ps.setString(1, h.getManagementNo());
+        int i = bindColumns(ps, h, 2);
+        ps.setTimestamp(i++, now);
+        ps.setTimestamp(i, now);
+    }
+
+    private void bindUpdate(PreparedStatement ps, AnimalHospital h, Timestamp now) throws SQLException {
+        int i = bindColumns(ps, h, 1);
+        ps.setTimestamp(i++, now);
+        ps.setString(i, h.getManagementNo());
+    }
+
+    /**
+     * business_name 부터 data_update_date 까지 바인딩
+     * @return 다음 파라미터 위치
+     */
+    private static int bindColumns(PreparedStatement ps, AnimalHospital h, int i) throws SQLException {
+        ps.setString(i++, h.getBusinessName());
+        ps.setString(i++, h.getRoadAddress());
+        ps.setString(i++, h.getJibunAddress());
+        ps.setString(i++, h.getPhone());
+        ps.setString(i++, h.getRoadPostalCode());
+        ps.setString(i++, h.getJibunPostalCode());
+        setDouble(ps, i++, h.getLatitude());
+        setDouble(ps, i++, h.getLongitude());
+        ps.setString(i++, h.getEpsg5174X());
+        ps.setString(i++, h.getEpsg5174Y());
+        ps.setString(i++, h.getBusinessStatus());
+        ps.setString(i++, h.getBusinessStatusCode());
+        ps.setString(i++, h.getDetailedStatus());
+        ps.setString(i++, h.getDetailedStatusCode());
+        setDate(ps, i++, h.getLicenseDate());
+        setDate(ps, i++, h.getClosedDate());
+        setDate(ps, i++, h.getSuspendedStartDate());
+        setDate(ps, i++, h.getSuspendedEndDate());
+        setDate(ps, i++, h.getReopenedDate());
+        ps.setString(i++, h.getCity());
+        ps.setString(i++, h.getDistrict());
+        ps.setString(i++, h.getAreaSize());
+        if (h.getEmployeeCount() != null) {
+            ps.setInt(i++, h.getEmployeeCount());
+        } else {
+            ps.setNull(i++, Types.INTEGER);
+        }
+        ps.setString(i++, h.getDataSource());
+        ps.setString(i++, h.getDataUpdateType());
+        ps.setTimestamp(i++, h.getDataUpdateDate() != null ? Timestamp.valueOf(h.getDataUpdateDate()) : null);
+        return i;
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) {
+            ps.setDouble(index, value);
+        } else {
+            ps.setNull(index, Types.DOUBLE);
+        }
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate value) throws SQLException {
+        if (value != null) {
+            ps.setDate(index, Date.valueOf(value));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+}
@@ -1,32 +1,48 @@
 package com.petlogue.duopetbackend.info.model.service;
 
+import com.petlogue.duopetbackend.common.http.ConditionalDownloader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-
-import java.io.File;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AnimalHospitalSchedulerService {
-    
+
+    private static final String CSV_FILE_NAME = "animal_hospitals.csv";
+    private static final String STATE_FILE_NAME = "animal_hospitals.download.properties";
+
     private final AnimalHospitalService hospitalService;
-    private static final String CSV_DOWNLOAD_URL = "https://www.data.go.kr/download/15045050/standard.do?dataType=csv";
-    
+    private final ConditionalDownloader conditionalDownloader;
+
+    @Value("${info.hospital.download.url:https://www.data.go.kr/download/15045050/standard.do?dataType=csv}")
+    private String downloadUrl;
+
+    // 다운로드 파일 / 검증 값(ETag, Last-Modified, SHA-256) 저장 위치
+    @Value("${info.hospital.download.dir:${java.io.tmpdir}/duopet-hospital-import}")
+    private String downloadDir;
+
+    @Value("${info.hospital.download.timeout-ms:60000}")
+    private long downloadTimeoutMs;
+
     /**
      * 매월 1일 새벽 3시에 실행
      * 공공데이터포털에서 최신 CSV 다운로드 후 자동 임포트
@@ -34,51 +50,96 @@ public class AnimalHospitalSchedulerService {
     @Scheduled(cron = "0 0 3 1 * *")
     public void updateHospitalData() {
         log.info("동물병원 데이터 자동 갱신 시작: {}", LocalDateTime.now());
-        
-        try {
-            // 1. CSV 파일 다운로드
-            Path tempFile = downloadCsvFile();
-            
-            // 2. MultipartFile로 변환하여 임포트
-            // 실제 구현 시 MockMultipartFile 또는 custom implementation 필요
-            log.info("CSV 파일 다운로드 완료: {}", tempFile);
-            
-            // 3. 임포트 결과 로깅
-            // Map<String, Object> result = hospitalService.importFromCsv(multipartFile);
-            // log.info("동물병원 데이터 갱신 완료: {}", result);
-            
-            // 4. 임시 파일 삭제
-            Files.deleteIfExists(tempFile);
-            
-        } catch (Exception e) {
-            log.error("동물병원 데이터 자동 갱신 실패", e);
-        }
+        Map<String, Object> result = refreshHospitalData();
+        log.info("동물병원 데이터 자동 갱신 종료: {}", result);
     }
-    
+
     /**
-     * 공공데이터포털에서 CSV 파일 다운로드
+     * 수동 갱신 트리거
      */
-    private Path downloadCsvFile() throws Exception {
-        RestTemplate restTemplate = new RestTemplate();
-        
-        // 임시 파일 생성
-        Path tempFile = Files.createTempFile("animal_hospitals_", ".csv");
-        
-        // 다운로드 (실제 URL과 인증 방식은 공공데이터포털 API에 맞게 조정 필요)
-        URI uri = new URI(CSV_DOWNLOAD_URL);
-        byte[] csvData = restTemplate.getForObject(uri, byte[].class);
-        
-        // 파일 저장
-        Files.write(tempFile, csvData);
-        
-        return tempFile;
+    public Map<String, Object> triggerManualUpdate() {
+        log.info("동물병원 데이터 수동 갱신 시작");
+        return refreshHospitalData();
     }
-    
+
     /**
-     * 수동 갱신 트리거
+     * 조건부 다운로드 -> 바뀐 경우에만 임포트
+     * 검증 값은 임포트까지 성공한 뒤에 저장하므로, 임포트가 실패하면 다음 실행에서 다시 받는다.
      */
-    public void triggerManualUpdate() {
-        log.info("동물병원 데이터 수동 갱신 시작");
-        updateHospitalData();
+    public Map<String, Object> refreshHospitalData() {
+        Map<String, Object> result = new HashMap<>();
+        Path dir = Paths.get(downloadDir);
+        Path csvFile = dir.resolve(CSV_FILE_NAME);
+
+        try {
+            Files.createDirectories(dir);
+            ConditionalDownloader.Validators previous = loadValidators(dir.resolve(STATE_FILE_NAME));
+
+            ConditionalDownloader.Result download = conditionalDownloader.download(
+                    URI.create(downloadUrl), csvFile, previous, Duration.ofMillis(downloadTimeoutMs));
+            result.put("downloadedBytes", download.bytes());
+
+            if (!download.changed()) {
+                // 304 이어도 서버가 새 검증 값을 줄 수 있으므로 저장
+                saveValidators(dir.resolve(STATE_FILE_NAME), download.validators());
+                result.put("success", true);
+                result.put("changed", false);
+                result.put("message", "변경된 데이터가 없어 임포트를 건너뜁니다");
+                return result;
+            }
+
+            Map<String, Object> importResult;
+            try (InputStream in = Files.newInputStream(download.file())) {
+                importResult = hospitalService.importFromCsv(in, CSV_FILE_NAME);
+            } finally {
+                Files.deleteIfExists(download.file());
+            }
+
+            if (Boolean.TRUE.equals(importResult.get("success"))) {
+                saveValidators(dir.resolve(STATE_FILE_NAME), download.validators());
+            }
+            result.putAll(importResult);
+            result.put("changed", true);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.put("success", false);
+            result.put("message", "동물병원 데이터 갱신이 중단되었습니다");
+        } catch (Exception e) {
+            log.error("동물병원 데이터 자동 갱신 실패", e);
+            result.put("success", false);
+            result.put("message", "동물병원 데이터 갱신 실패: " + e.getMessage());
+        }
+        return result;
+    }
+
+    private ConditionalDownloader.Validators loadValidators(Path stateFile) throws IOException {
+        if (!Files.exists(stateFile)) {
+            return ConditionalDownloader.Validators.NONE;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return new ConditionalDownloader.Validators(
+                properties.getProperty("etag"),
+                properties.getProperty("lastModified"),
+                properties.getProperty("sha256"));
+    }
+
+    private void saveValidators(Path stateFile, ConditionalDownloader.Validators validators) throws IOException {
+        Properties properties = new Properties();
+        if (validators.etag() != null) {
+            properties.setProperty("etag", validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            properties.setProperty("lastModified", validators.lastModified());
+        }
+        if (validators.sha256() != null) {
+            properties.setProperty("sha256", validators.sha256());
+        }
+        try (Writer writer = Files.newBufferedWriter(stateFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "animal hospital CSV download validators");
+        }
     }
 }
\ No newline at end of file
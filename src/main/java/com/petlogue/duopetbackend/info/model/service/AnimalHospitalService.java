@@ -2,27 +2,41 @@ package com.petlogue.duopetbackend.info.model.service;
 
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CSVWriter;
+import com.petlogue.duopetbackend.common.geo.Epsg5174;
+import com.petlogue.duopetbackend.common.geo.GeoGridIndex;
 import com.petlogue.duopetbackend.info.jpa.entity.AnimalHospital;
 import com.petlogue.duopetbackend.info.jpa.repository.AnimalHospitalRepository;
 import com.petlogue.duopetbackend.info.model.dto.AnimalHospitalDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,82 +45,269 @@ import java.util.stream.Collectors;
 public class AnimalHospitalService {
     
     private final AnimalHospitalRepository hospitalRepository;
+    private final AnimalHospitalBatchWriter hospitalBatchWriter;
+    private final InfoSpatialIndex infoSpatialIndex;
+    private final InfoTextIndex infoTextIndex;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
+    // 결과에 담는 오류 메시지 최대 개수 (전체는 거부 파일에 기록)
+    private static final int MAX_REPORTED_ERRORS = 100;
+    
+    // 임포트 청크 크기 (변환 / IN 조회 / 배치 INSERT 단위)
+    @Value("${info.hospital.import.chunk-size:1000}")
+    private int importChunkSize;
+    
+    // 거부 행 기록 위치
+    @Value("${info.hospital.import.reject-dir:${java.io.tmpdir}/duopet-hospital-import}")
+    private String rejectDir;
+    
+    private record CsvRow(int lineNumber, String[] columns) {
+    }
+    
+    // active: 영업/정상 행 여부 (아니면 기존 병원의 상태 갱신에만 사용)
+    private record ParsedRow(CsvRow source, AnimalHospital hospital, String error, boolean active) {
+    }
+    
+    private static final class ImportCounts {
+        int total;
+        int inserted;
+        int updated;
+        int skip;
+        int error;
+        
+        int success() {
+            return inserted + updated;
+        }
+    }
+    
+    /**
+     * 거부 행 파일 (첫 거부 행이 나올 때 생성) - 줄 번호, 사유, 원본 컬럼
+     */
+    private static final class RejectFile implements Closeable {
+        
+        private final String dir;
+        private final String sourceName;
+        private Path path;
+        private CSVWriter writer;
+        
+        RejectFile(String dir, String sourceName) {
+            this.dir = dir;
+            this.sourceName = sourceName;
+        }
+        
+        void write(CsvRow row, String reason) throws IOException {
+            if (writer == null) {
+                Files.createDirectories(Paths.get(dir));
+                String baseName = sourceName != null ? Paths.get(sourceName).getFileName().toString() : "animal-hospitals";
+                path = Paths.get(dir, baseName.replaceAll("\\.csv$", "") + "-rejects-"
+                        + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + ".csv");
+                writer = new CSVWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+            }
+            String[] line = new String[row.columns().length + 2];
+            line[0] = String.valueOf(row.lineNumber());
+            line[1] = reason;
+            System.arraycopy(row.columns(), 0, line, 2, row.columns().length);
+            writer.writeNext(line);
+        }
+        
+        Path path() {
+            return path;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+    
     /**
      * CSV 파일 임포트
      */
-    @Transactional
     public Map<String, Object> importFromCsv(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return importFromCsv(in, file.getOriginalFilename());
+        } catch (IOException e) {
+            log.error("CSV import failed", e);
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", false);
+            result.put("message", "CSV 파일 처리 중 오류 발생: " + e.getMessage());
+            return result;
+        }
+    }
+    
+    /**
+     * CSV 스트림 임포트
+     * 행을 청크 단위로 읽어 변환(좌표 변환 포함)은 병렬로 처리하고,
+     * 청크마다 관리번호 IN 조회로 새 병원은 배치 INSERT, 기존 병원은 배치 UPDATE 한다 (청크마다 별도 트랜잭션).
+     * 폐업/휴업으로 바뀐 기존 병원도 상태가 갱신되어 영업 중 목록에서 빠진다.
+     * 변환/저장에 실패한 행은 원본과 사유를 거부 파일에 남긴다.
+     */
+    public Map<String, Object> importFromCsv(InputStream in, String sourceName) {
         Map<String, Object> result = new HashMap<>();
         List<String> errors = new ArrayList<>();
-        int totalCount = 0;
-        int successCount = 0;
-        int skipCount = 0;
-        int errorCount = 0;
+        ImportCounts counts = new ImportCounts();
+        // 파일 안에서 이미 처리한 관리번호 (파일 내 중복 제거)
+        Set<String> seenManagementNos = new HashSet<>();
+        long start = System.currentTimeMillis();
         
         try (CSVReader csvReader = new CSVReaderBuilder(
-                new InputStreamReader(file.getInputStream(), Charset.forName("UTF-8")))
+                new InputStreamReader(in, StandardCharsets.UTF_8))
                 .withSkipLines(1) // 헤더 스킵
-                .build()) {
+                .build();
+             RejectFile rejects = new RejectFile(rejectDir, sourceName)) {
             
+            List<CsvRow> chunk = new ArrayList<>(importChunkSize);
             String[] nextLine;
             int lineNumber = 1;
             
             while ((nextLine = csvReader.readNext()) != null) {
-                lineNumber++;
-                totalCount++;
-                
-                try {
-                    // CSV 라인을 DTO로 변환
-                    AnimalHospitalDto.CsvImportDto csvDto = parseCsvLine(nextLine);
-                    
-                    // 데이터 품질 검증
-                    if (!csvDto.isValid()) {
-                        skipCount++;
-                        log.debug("Line {} skipped: invalid data", lineNumber);
-                        continue;
-                    }
-                    
-                    // 중복 체크 (관리번호)
-                    if (hospitalRepository.findByManagementNo(csvDto.get관리번호()).isPresent()) {
-                        skipCount++;
-                        log.debug("Line {} skipped: duplicate management number", lineNumber);
-                        continue;
-                    }
-                    
-                    // Entity 생성 및 저장
-                    AnimalHospital hospital = createHospitalFromCsv(csvDto);
-                    hospitalRepository.save(hospital);
-                    successCount++;
-                    
-                } catch (Exception e) {
-                    errorCount++;
-                    String errorMsg = String.format("Line %d error: %s", lineNumber, e.getMessage());
-                    errors.add(errorMsg);
-                    log.error(errorMsg, e);
+                chunk.add(new CsvRow(++lineNumber, nextLine));
+                if (chunk.size() >= importChunkSize) {
+                    importChunk(chunk, seenManagementNos, counts, errors, rejects);
+                    chunk.clear();
+                    log.info("CSV import progress - {}: lines={}, inserted={}, updated={}, skip={}, error={}",
+                            sourceName, counts.total, counts.inserted, counts.updated, counts.skip, counts.error);
                 }
             }
+            importChunk(chunk, seenManagementNos, counts, errors, rejects);
+            
+            if (rejects.path() != null) {
+                result.put("rejectFile", rejects.path().toString());
+            }
             
         } catch (Exception e) {
             log.error("CSV import failed", e);
             result.put("success", false);
             result.put("message", "CSV 파일 처리 중 오류 발생: " + e.getMessage());
+            result.put("successCount", counts.success());
+            // 앞서 커밋된 청크가 있으면 색인에 반영
+            infoSpatialIndex.refreshHospitals();
+            infoTextIndex.refreshHospitals();
             return result;
         }
         
+        log.info("CSV import finished - {}: lines={}, inserted={}, updated={}, skip={}, error={}, {}ms",
+                sourceName, counts.total, counts.inserted, counts.updated, counts.skip, counts.error,
+                System.currentTimeMillis() - start);
+        
         result.put("success", true);
-        result.put("totalCount", totalCount);
-        result.put("successCount", successCount);
-        result.put("skipCount", skipCount);
-        result.put("errorCount", errorCount);
+        result.put("totalCount", counts.total);
+        result.put("successCount", counts.success());
+        result.put("insertCount", counts.inserted);
+        result.put("updateCount", counts.updated);
+        result.put("skipCount", counts.skip);
+        result.put("errorCount", counts.error);
         result.put("errors", errors);
-        result.put("message", String.format("총 %d건 중 %d건 성공, %d건 스킵, %d건 실패", 
-                                          totalCount, successCount, skipCount, errorCount));
+        result.put("message", String.format("총 %d건 중 %d건 추가, %d건 갱신, %d건 스킵, %d건 실패", 
+                                          counts.total, counts.inserted, counts.updated, counts.skip, counts.error));
+        
+        // 공간 / 자동완성 색인 교체
+        infoSpatialIndex.refreshHospitals();
+        infoTextIndex.refreshHospitals();
         
         return result;
     }
     
+    /**
+     * 청크 하나 처리 - 병렬 변환 -> 기존 관리번호 조회 -> 배치 INSERT / UPDATE
+     */
+    private void importChunk(List<CsvRow> chunk, Set<String> seenManagementNos, ImportCounts counts,
+                             List<String> errors, RejectFile rejects) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        counts.total += chunk.size();
+        
+        List<ParsedRow> parsed = chunk.parallelStream()
+                .map(this::parseRow)
+                .collect(Collectors.toList());
+        
+        Set<String> managementNos = parsed.stream()
+                .filter(row -> row.hospital() != null && row.hospital().getManagementNo() != null)
+                .map(row -> row.hospital().getManagementNo())
+                .filter(no -> !seenManagementNos.contains(no))
+                .collect(Collectors.toSet());
+        Set<String> existing = hospitalBatchWriter.findExistingManagementNos(managementNos);
+        
+        List<ParsedRow> inserts = new ArrayList<>();
+        List<ParsedRow> updates = new ArrayList<>();
+        for (ParsedRow row : parsed) {
+            if (row.error() != null) {
+                reject(row.source(), row.error(), counts, errors, rejects);
+                continue;
+            }
+            if (row.hospital() == null) {
+                counts.skip++; // 필수 정보 없음
+                continue;
+            }
+            String managementNo = row.hospital().getManagementNo();
+            if (managementNo != null && !seenManagementNos.add(managementNo)) {
+                counts.skip++; // 파일 내 중복 관리번호
+                continue;
+            }
+            if (managementNo != null && existing.contains(managementNo)) {
+                updates.add(row);
+            } else if (row.active()) {
+                inserts.add(row);
+            } else {
+                counts.skip++; // 저장된 적 없는 폐업/휴업 병원
+            }
+        }
+        
+        Map<Integer, String> insertFailures = hospitalBatchWriter.insert(
+                inserts.stream().map(ParsedRow::hospital).collect(Collectors.toList()));
+        counts.inserted += inserts.size() - insertFailures.size();
+        for (Map.Entry<Integer, String> failure : insertFailures.entrySet()) {
+            reject(inserts.get(failure.getKey()).source(), failure.getValue(), counts, errors, rejects);
+        }
+        
+        Map<Integer, String> updateFailures = hospitalBatchWriter.update(
+                updates.stream().map(ParsedRow::hospital).collect(Collectors.toList()));
+        counts.updated += updates.size() - updateFailures.size();
+        for (Map.Entry<Integer, String> failure : updateFailures.entrySet()) {
+            reject(updates.get(failure.getKey()).source(), failure.getValue(), counts, errors, rejects);
+        }
+    }
+    
+    /**
+     * 행 변환 (병렬 단계) - 변환 실패면 오류와 함께 반환
+     * 영업 중이 아닌 행은 기존 병원의 상태 갱신용으로만 변환하고, 관리번호나 병원명이 없으면 병원 없이 반환
+     */
+    private ParsedRow parseRow(CsvRow row) {
+        AnimalHospitalDto.CsvImportDto csvDto;
+        try {
+            csvDto = parseCsvLine(row.columns());
+            if (csvDto.isValid()) {
+                return new ParsedRow(row, createHospitalFromCsv(csvDto), null, true);
+            }
+        } catch (Exception e) {
+            return new ParsedRow(row, null, e.getMessage() != null ? e.getMessage() : e.toString(), true);
+        }
+        
+        if (!StringUtils.hasText(csvDto.get관리번호()) || !StringUtils.hasText(csvDto.get사업장명())) {
+            return new ParsedRow(row, null, null, false);
+        }
+        try {
+            return new ParsedRow(row, createHospitalFromCsv(csvDto), null, false);
+        } catch (Exception e) {
+            // 영업 중이 아닌 행은 이전처럼 스킵으로 처리
+            return new ParsedRow(row, null, null, false);
+        }
+    }
+    
+    private void reject(CsvRow row, String reason, ImportCounts counts, List<String> errors,
+                        RejectFile rejects) throws IOException {
+        counts.error++;
+        rejects.write(row, reason);
+        String errorMsg = String.format("Line %d error: %s", row.lineNumber(), reason);
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(errorMsg);
+        }
+        log.debug(errorMsg);
+    }
+    
     /**
      * CSV 라인 파싱
      */
@@ -172,7 +373,7 @@ public class AnimalHospitalService {
         // 좌표 변환 (EPSG:5174 -> WGS84)
         if (csv.get좌표정보x() != null && csv.get좌표정보y() != null) {
             try {
-                double[] wgs84 = convertEPSG5174ToWGS84(
+                double[] wgs84 = Epsg5174.toWgs84(
                     Double.parseDouble(csv.get좌표정보x()),
                     Double.parseDouble(csv.get좌표정보y())
                 );
@@ -205,34 +406,6 @@ public class AnimalHospitalService {
         return builder.build();
     }
     
-    /**
-     * EPSG:5174 좌표계를 WGS84로 변환
-     * 중부원점(Korean Central Belt 2000)
-     * 간소화된 변환 공식 사용 (한국 지역에 최적화)
-     */
-    private double[] convertEPSG5174ToWGS84(double x, double y) {
-        // TM Projection parameters for Central Belt
-        double falseEasting = 200000.0;
-        double falseNorthing = 500000.0;
-        double centralMeridian = 127.0;
-        double latitudeOfOrigin = 38.0;
-        
-        // Remove false easting and northing
-        double E = x - falseEasting;
-        double N = y - falseNorthing;
-        
-        // 근사 변환 공식 (한국 지역에 충분히 정확함)
-        // 1도당 약 111km 기준
-        double lat = latitudeOfOrigin + (N / 111000.0);
-        double lon = centralMeridian + (E / (111000.0 * Math.cos(Math.toRadians(lat))));
-        
-        // 미세 조정 (경험적 보정값)
-        lat = lat - 0.0023;  // 약 250m 남쪽 보정
-        lon = lon - 0.0008;  // 약 90m 서쪽 보정
-        
-        return new double[]{lat, lon};
-    }
-    
     /**
      * 전화번호 정규화
      */
@@ -326,8 +499,15 @@ public class AnimalHospitalService {
      */
     @Transactional(readOnly = true)
     public List<AnimalHospitalDto> getNearbyHospitals(double latitude, double longitude, double radiusInKm) {
-        return hospitalRepository.findNearbyHospitals(latitude, longitude, radiusInKm)
-                .stream()
+        // 공간 색인에서 반경 내 ID 를 거리순으로 찾고 해당 병원만 조회
+        GeoGridIndex.Hits hits = infoSpatialIndex.hospitalsWithin(latitude, longitude, radiusInKm, 0);
+        List<Long> ids = Arrays.stream(hits.ids()).boxed().collect(Collectors.toList());
+        Map<Long, AnimalHospital> byId = hospitalRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(AnimalHospital::getHospitalId, Function.identity()));
+        
+        return ids.stream()
+                .map(byId::get)
+                .filter(hospital -> hospital != null)
                 .map(AnimalHospitalDto::from)
                 .collect(Collectors.toList());
     }
@@ -357,52 +537,36 @@ public class AnimalHospitalService {
     
     /**
      * 모든 병원의 좌표를 재계산하여 업데이트
+     * 원본 좌표만 JDBC 로 읽어 청크 단위로 병렬 변환하고, 청크마다 한 트랜잭션에서 배치 UPDATE 한다.
      */
-    @Transactional
     public Map<String, Object> recalculateAllCoordinates() {
         Map<String, Object> result = new HashMap<>();
-        int successCount = 0;
-        int errorCount = 0;
-        int totalCount = 0;
-        List<String> errors = new ArrayList<>();
         
         try {
-            // 모든 영업 중인 병원 조회
-            Page<AnimalHospital> allHospitals = hospitalRepository.findOperatingHospitals(
-                PageRequest.of(0, 10000) // 모든 데이터 조회
-            );
+            List<AnimalHospitalBatchWriter.ProjectedCoordinate> rows = hospitalBatchWriter.findProjectedCoordinates();
+            int totalCount = rows.size();
             
-            totalCount = (int) allHospitals.getTotalElements();
+            List<List<AnimalHospitalBatchWriter.ProjectedCoordinate>> chunks = new ArrayList<>();
+            for (int from = 0; from < totalCount; from += importChunkSize) {
+                chunks.add(rows.subList(from, Math.min(from + importChunkSize, totalCount)));
+            }
+            List<ConvertedChunk> converted = chunks.parallelStream()
+                    .map(this::convertChunk)
+                    .collect(Collectors.toList());
             
-            for (AnimalHospital hospital : allHospitals.getContent()) {
-                try {
-                    // EPSG:5174 좌표가 있는 경우에만 재계산
-                    if (hospital.getEpsg5174X() != null && hospital.getEpsg5174Y() != null) {
-                        double x = Double.parseDouble(hospital.getEpsg5174X());
-                        double y = Double.parseDouble(hospital.getEpsg5174Y());
-                        
-                        // 좌표 재계산
-                        double[] wgs84 = convertEPSG5174ToWGS84(x, y);
-                        
-                        // 업데이트
-                        hospital.setLatitude(wgs84[0]);
-                        hospital.setLongitude(wgs84[1]);
-                        hospitalRepository.save(hospital);
-                        
-                        successCount++;
-                        
-                        // 진행상황 로그
-                        if (successCount % 100 == 0) {
-                            log.info("좌표 재계산 진행중: {}/{}", successCount, totalCount);
-                        }
+            int successCount = 0;
+            int errorCount = 0;
+            List<String> errors = new ArrayList<>();
+            for (ConvertedChunk chunk : converted) {
+                hospitalBatchWriter.updateCoordinates(chunk.hospitalIds(), chunk.latitudes(), chunk.longitudes(), chunk.count());
+                successCount += chunk.count();
+                errorCount += chunk.errors().size();
+                for (String error : chunk.errors()) {
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(error);
                     }
-                } catch (Exception e) {
-                    errorCount++;
-                    String errorMsg = String.format("병원 ID %d 좌표 변환 실패: %s", 
-                        hospital.getHospitalId(), e.getMessage());
-                    errors.add(errorMsg);
-                    log.error(errorMsg, e);
                 }
+                log.info("좌표 재계산 진행중: {}/{}", successCount + errorCount, totalCount);
             }
             
             result.put("success", true);
@@ -413,6 +577,8 @@ public class AnimalHospitalService {
             result.put("message", String.format("총 %d개 중 %d개 성공, %d개 실패", 
                                               totalCount, successCount, errorCount));
             
+            infoSpatialIndex.refreshHospitals();
+            
         } catch (Exception e) {
             log.error("좌표 재계산 중 오류 발생", e);
             result.put("success", false);
@@ -421,4 +587,37 @@ public class AnimalHospitalService {
         
         return result;
     }
+    
+    /**
+     * 좌표 변환 결과 - 앞에서부터 count 개가 유효
+     */
+    private record ConvertedChunk(long[] hospitalIds, double[] latitudes, double[] longitudes, int count,
+                                  List<String> errors) {
+    }
+    
+    /**
+     * 청크 하나 변환 (병렬 단계) - 숫자로 읽히는 좌표만 모아 배열 단위로 변환
+     */
+    private ConvertedChunk convertChunk(List<AnimalHospitalBatchWriter.ProjectedCoordinate> chunk) {
+        int size = chunk.size();
+        long[] ids = new long[size];
+        double[] x = new double[size];
+        double[] y = new double[size];
+        List<String> errors = new ArrayList<>();
+        int count = 0;
+        for (AnimalHospitalBatchWriter.ProjectedCoordinate row : chunk) {
+            try {
+                x[count] = Double.parseDouble(row.x().trim());
+                y[count] = Double.parseDouble(row.y().trim());
+                ids[count] = row.hospitalId();
+                count++;
+            } catch (NumberFormatException e) {
+                errors.add(String.format("병원 ID %d 좌표 변환 실패: %s", row.hospitalId(), e.getMessage()));
+            }
+        }
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        Epsg5174.toWgs84(x, y, latitudes, longitudes, count);
+        return new ConvertedChunk(ids, latitudes, longitudes, count, errors);
+    }
 }
\ No newline at end of file
@@ -1,12 +1,19 @@
 package com.petlogue.duopetbackend.info.model.service;
 
+import com.petlogue.duopetbackend.common.geo.GeoBounds;
+import com.petlogue.duopetbackend.common.geo.GeoGridIndex;
 import com.petlogue.duopetbackend.info.jpa.entity.AnimalHospital;
 import com.petlogue.duopetbackend.info.jpa.entity.HospitalEntity;
+import com.petlogue.duopetbackend.info.jpa.repository.AnimalHospitalQueryRepository;
 import com.petlogue.duopetbackend.info.jpa.repository.AnimalHospitalRepository;
 import com.petlogue.duopetbackend.info.jpa.repository.HospitalRepository;
 import com.petlogue.duopetbackend.info.model.dto.HospitalDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -15,9 +22,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +40,20 @@ public class HospitalService {
 
     private final HospitalRepository hospitalRepository;
     private final AnimalHospitalRepository animalHospitalRepository;
+    private final AnimalHospitalQueryRepository hospitalQueryRepository;
+    private final InfoSpatialIndex infoSpatialIndex;
+
+    // 응급 / 24시간 병원 목록 최대 건수 (병원명 순 앞부분)
+    @Value("${hospital.list.max-results:300}")
+    private int maxListResults;
+
+    // ANIMAL_HOSPITALS 에 없는 항목의 표시용 기본값
+    private static final List<String> DEFAULT_SERVICES = List.of("진료", "건강검진", "예방접종");
+    private static final BigDecimal DEFAULT_RATING = new BigDecimal("4.5");
+
+    // 후보 병원 (거리 정렬용)
+    private record Candidate(long hospitalId, Double distance, String name) {
+    }
 
     /**
      * 모든 병원 조회 (ANIMAL_HOSPITALS 테이블에서)
@@ -50,124 +76,207 @@ public class HospitalService {
 
     /**
      * 복합 검색
+     * 키워드 / 영업상태 / 지역 / 응급 / 좌표 범위 조건은 SQL 로 처리하고,
+     * 사용자 위치 기준 거리 정렬만 후보 좌표를 읽어 상위 k 개 힙으로 처리한다.
      */
     public Page<HospitalDto.Response> searchHospitals(HospitalDto.SearchRequest searchRequest) {
-        List<AnimalHospital> hospitals;
-        
-        // 키워드로 검색
+        Pageable pageable = PageRequest.of(
+                searchRequest.getPage() != null ? searchRequest.getPage() : 0,
+                searchRequest.getSize() != null ? searchRequest.getSize() : 10);
+
+        // 서비스 / 평점은 모든 병원이 같은 기본값이므로 조회 없이 판단
+        String service = searchRequest.getService();
+        if (service != null && !service.trim().isEmpty() && !DEFAULT_SERVICES.contains(service)) {
+            return Page.empty(pageable);
+        }
+        if (searchRequest.getMinRating() != null && DEFAULT_RATING.compareTo(searchRequest.getMinRating()) < 0) {
+            return Page.empty(pageable);
+        }
+
+        BooleanBuilder where = new BooleanBuilder(AnimalHospitalQueryRepository.operating());
         if (searchRequest.getKeyword() != null && !searchRequest.getKeyword().trim().isEmpty()) {
-            // ANIMAL_HOSPITALS 테이블에서 키워드 검색
-            Page<AnimalHospital> searchResults = animalHospitalRepository.searchByKeyword(
-                searchRequest.getKeyword(), 
-                PageRequest.of(0, 1000) // 최대 1000개 결과
-            );
-            hospitals = searchResults.getContent();
-        } else {
-            // 영업 중인 모든 병원 조회
-            Page<AnimalHospital> allHospitals = animalHospitalRepository.findOperatingHospitals(
-                PageRequest.of(0, 1000)
-            );
-            hospitals = allHospitals.getContent();
+            where.and(AnimalHospitalQueryRepository.keyword(searchRequest.getKeyword()));
+        }
+        if (searchRequest.getAddress() != null && !searchRequest.getAddress().trim().isEmpty()) {
+            where.and(AnimalHospitalQueryRepository.address(searchRequest.getAddress().trim()));
+        }
+        where.and(AnimalHospitalQueryRepository.region(searchRequest.getCity(), searchRequest.getDistrict()));
+        if (Boolean.TRUE.equals(searchRequest.getIsEmergency())) {
+            where.and(AnimalHospitalQueryRepository.emergency());
         }
 
-        // DTO로 변환하면서 거리 계산
-        List<HospitalDto.Response> responses = hospitals.stream()
-                .map(hospital -> convertAnimalHospitalToResponseWithDistance(hospital, 
-                     searchRequest.getUserLatitude(), 
-                     searchRequest.getUserLongitude()))
-                .collect(Collectors.toList());
+        BigDecimal userLat = searchRequest.getUserLatitude();
+        BigDecimal userLng = searchRequest.getUserLongitude();
+        boolean hasLocation = userLat != null && userLng != null;
+        Integer maxDistance = hasLocation ? searchRequest.getMaxDistance() : null;
 
-        // 서비스 필터 적용 (기본값이 있으므로 필터링 가능)
-        if (searchRequest.getService() != null && !searchRequest.getService().trim().isEmpty()) {
-            responses = responses.stream()
-                    .filter(response -> response.getServices() != null && 
-                           response.getServices().contains(searchRequest.getService()))
-                    .collect(Collectors.toList());
-        }
+        String sortBy = searchRequest.getSortBy() != null ? searchRequest.getSortBy().toLowerCase() : "distance";
+        boolean ascending = "asc".equalsIgnoreCase(searchRequest.getSortOrder() != null ? searchRequest.getSortOrder() : "asc");
 
-        // 응급병원 필터 적용
-        if (searchRequest.getIsEmergency() != null && searchRequest.getIsEmergency()) {
-            responses = responses.stream()
-                    .filter(response -> response.getIsEmergency() != null && response.getIsEmergency())
-                    .collect(Collectors.toList());
+        // 거리 정렬 또는 정확한 거리 필터가 필요한 경우
+        if (hasLocation && ("distance".equals(sortBy) || maxDistance != null)) {
+            return searchByDistance(where, userLat, userLng, maxDistance, candidateOrder(sortBy, ascending), pageable);
         }
 
-        // 최소 평점 필터 적용
-        if (searchRequest.getMinRating() != null) {
-            responses = responses.stream()
-                    .filter(response -> response.getRating() != null && 
-                           response.getRating().compareTo(searchRequest.getMinRating()) >= 0)
-                    .collect(Collectors.toList());
+        // 위치가 없으면 거리/평점이 모두 같으므로 이름 정렬만 의미가 있음
+        long total = hospitalQueryRepository.count(where);
+        List<AnimalHospital> hospitals = total > pageable.getOffset()
+                ? hospitalQueryRepository.findPage(where,
+                        AnimalHospitalQueryRepository.order("name".equals(sortBy), ascending),
+                        pageable.getOffset(), pageable.getPageSize())
+                : List.of();
+
+        List<HospitalDto.Response> content = hospitals.stream()
+                .map(hospital -> convertAnimalHospitalToResponseWithDistance(hospital, userLat, userLng))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 후보 좌표만 읽어 거리를 계산하고, 요청 페이지까지의 상위 k 개만 힙에 유지한 뒤 해당 병원만 조회
+     * 최대 거리가 있으면 좌표 범위(idx_coordinates 범위 조회)와 좌표 없는 병원을 따로 조회한다.
+     * (OR 로 묶으면 NULL 좌표 행은 인덱스에 없어 전체 조회가 됨)
+     */
+    private Page<HospitalDto.Response> searchByDistance(Predicate where, BigDecimal userLat, BigDecimal userLng,
+                                                       Integer maxDistance, Comparator<Candidate> order,
+                                                       Pageable pageable) {
+        double lat = userLat.doubleValue();
+        double lng = userLng.doubleValue();
+        int k = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+
+        // 순위가 가장 낮은 후보가 맨 위에 오는 힙
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(order.reversed());
+        List<Tuple> rows;
+        if (maxDistance != null) {
+            GeoBounds bounds = GeoBounds.around(lat, lng, maxDistance);
+            rows = new ArrayList<>(hospitalQueryRepository.findCandidates(
+                    new BooleanBuilder(where).and(AnimalHospitalQueryRepository.withinBounds(bounds))));
+            rows.addAll(hospitalQueryRepository.findCandidates(
+                    new BooleanBuilder(where).and(AnimalHospitalQueryRepository.noLocation())));
+        } else {
+            rows = hospitalQueryRepository.findCandidates(where);
         }
 
-        // 거리 필터 적용
-        if (searchRequest.getMaxDistance() != null && searchRequest.getUserLatitude() != null) {
-            responses = responses.stream()
-                    .filter(response -> response.getDistance() == null || 
-                           response.getDistance() <= searchRequest.getMaxDistance())
-                    .collect(Collectors.toList());
+        long total = 0;
+        for (Tuple row : rows) {
+            Double hospitalLat = row.get(1, Double.class);
+            Double hospitalLng = row.get(2, Double.class);
+            Double distance = hospitalLat != null && hospitalLng != null
+                    ? calculateDistance(lat, lng, hospitalLat, hospitalLng)
+                    : null;
+            // 좌표 범위 조건은 사각형이므로 모서리 부분은 여기서 제외 (좌표 없는 병원은 기존처럼 포함)
+            if (maxDistance != null && distance != null && distance > maxDistance) {
+                continue;
+            }
+            total++;
+
+            Candidate candidate = new Candidate(row.get(0, Long.class), distance, row.get(3, String.class));
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
         }
 
-        // 정렬
-        responses = sortResults(responses, searchRequest.getSortBy(), searchRequest.getSortOrder());
+        List<Candidate> top = new ArrayList<>(heap);
+        top.sort(order);
+        List<Candidate> pageCandidates = pageable.getOffset() < top.size()
+                ? top.subList((int) pageable.getOffset(), top.size())
+                : List.of();
+
+        List<Long> ids = pageCandidates.stream().map(Candidate::hospitalId).collect(Collectors.toList());
+        Map<Long, AnimalHospital> byId = animalHospitalRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(AnimalHospital::getHospitalId, Function.identity()));
+        List<HospitalDto.Response> content = ids.stream()
+                .map(byId::get)
+                .filter(hospital -> hospital != null)
+                .map(hospital -> convertAnimalHospitalToResponseWithDistance(hospital, userLat, userLng))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, total);
+    }
 
-        // 페이징 처리
-        return createPageFromList(responses, 
-                                searchRequest.getPage() != null ? searchRequest.getPage() : 0,
-                                searchRequest.getSize() != null ? searchRequest.getSize() : 10);
+    /**
+     * 후보 정렬 기준 - 거리는 오름차순일 때 좌표 없는 병원을 뒤로, 내림차순이면 앞으로 (기존 정렬과 동일)
+     * 평점은 모든 병원이 같으므로 ID 순
+     */
+    private static Comparator<Candidate> candidateOrder(String sortBy, boolean ascending) {
+        Comparator<Candidate> order = switch (sortBy) {
+            case "distance" -> Comparator.comparing(Candidate::distance, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "name" -> Comparator.comparing(Candidate::name, Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> (a, b) -> 0;
+        };
+        if (!ascending) {
+            order = order.reversed();
+        }
+        return order.thenComparingLong(Candidate::hospitalId);
     }
 
     /**
-     * 응급 병원 조회
+     * 응급 병원 조회 (영업 중 + 응급 조건, 병원명 순 최대 maxListResults 건)
      */
     public List<HospitalDto.Summary> getEmergencyHospitals() {
-        // ANIMAL_HOSPITALS 테이블에서 영업 중인 병원 조회
-        Page<AnimalHospital> hospitals = animalHospitalRepository.findOperatingHospitals(
-            PageRequest.of(0, 100) // 상위 100개만
-        );
-        
-        return hospitals.stream()
+        return hospitalQueryRepository.findPage(
+                    new BooleanBuilder(AnimalHospitalQueryRepository.operating())
+                            .and(AnimalHospitalQueryRepository.emergency()),
+                    AnimalHospitalQueryRepository.order(true, true), 0, maxListResults)
+                .stream()
                 .map(this::convertAnimalHospitalToSummary)
-                .filter(summary -> summary.getIsEmergency() != null && summary.getIsEmergency())
                 .collect(Collectors.toList());
     }
 
     /**
-     * 24시간 병원 조회
+     * 24시간 병원 조회 (영업 중 + 24시간 조건, 병원명 순 최대 maxListResults 건)
      */
     public List<HospitalDto.Summary> get24HourHospitals() {
-        // ANIMAL_HOSPITALS 테이블에서 영업 중인 병원 조회
-        Page<AnimalHospital> hospitals = animalHospitalRepository.findOperatingHospitals(
-            PageRequest.of(0, 100) // 상위 100개만
-        );
-        
-        return hospitals.stream()
+        return hospitalQueryRepository.findPage(
+                    new BooleanBuilder(AnimalHospitalQueryRepository.operating())
+                            .and(AnimalHospitalQueryRepository.open24Hours()),
+                    AnimalHospitalQueryRepository.order(true, true), 0, maxListResults)
+                .stream()
                 .map(this::convertAnimalHospitalToSummary)
-                .filter(summary -> summary.getOpenHours() != null && summary.getOpenHours().contains("24"))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 위치 기반 병원 검색
+     * 위치 기반 병원 검색 (공간 색인으로 반경 내 병원을 거리순으로 찾은 뒤 해당 병원만 조회)
      */
     public List<HospitalDto.Response> getHospitalsByLocation(BigDecimal latitude, BigDecimal longitude, 
                                                           Double radiusKm) {
-        // ANIMAL_HOSPITALS 테이블에서 근처 병원 조회
-        List<AnimalHospital> hospitals = animalHospitalRepository.findNearbyHospitals(
-            latitude.doubleValue(), 
-            longitude.doubleValue(), 
-            radiusKm
-        );
-        
-        return hospitals.stream()
-                .map(hospital -> convertAnimalHospitalToResponseWithDistance(hospital, latitude, longitude))
-                .sorted((a, b) -> {
-                    if (a.getDistance() == null && b.getDistance() == null) return 0;
-                    if (a.getDistance() == null) return 1;
-                    if (b.getDistance() == null) return -1;
-                    return Double.compare(a.getDistance(), b.getDistance());
-                })
-                .collect(Collectors.toList());
+        GeoGridIndex.Hits hits = infoSpatialIndex.hospitalsWithin(
+            latitude.doubleValue(), longitude.doubleValue(), radiusKm, 0);
+        return toResponses(hits, latitude, longitude);
+    }
+
+    /**
+     * 가장 가까운 병원 k 곳 (응급 상황용, 거리순)
+     * @param maxRadiusKm 0 이하면 거리 제한 없음
+     */
+    public List<HospitalDto.Response> getNearestHospitals(BigDecimal latitude, BigDecimal longitude,
+                                                        int k, double maxRadiusKm) {
+        GeoGridIndex.Hits hits = infoSpatialIndex.nearestHospitals(
+            latitude.doubleValue(), longitude.doubleValue(), k, maxRadiusKm);
+        return toResponses(hits, latitude, longitude);
+    }
+
+    /**
+     * 색인 검색 결과 순서대로 병원 응답 생성
+     */
+    private List<HospitalDto.Response> toResponses(GeoGridIndex.Hits hits, BigDecimal latitude, BigDecimal longitude) {
+        List<Long> ids = Arrays.stream(hits.ids()).boxed().collect(Collectors.toList());
+        Map<Long, AnimalHospital> byId = animalHospitalRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(AnimalHospital::getHospitalId, Function.identity()));
+
+        List<HospitalDto.Response> responses = new ArrayList<>(ids.size());
+        for (int i = 0; i < hits.size(); i++) {
+            AnimalHospital hospital = byId.get(hits.ids()[i]);
+            if (hospital != null) {
+                HospitalDto.Response response = convertAnimalHospitalToResponseWithDistance(hospital, latitude, longitude);
+                response.setDistance(hits.distancesKm()[i]);
+                responses.add(response);
+            }
+        }
+        return responses;
     }
 
     private HospitalDto.Response convertToResponse(HospitalEntity entity) {
@@ -244,10 +353,10 @@ public class HospitalService {
                 .address(hospital.getRoadAddress() != null ? hospital.getRoadAddress() : hospital.getJibunAddress())
                 .phone(hospital.getPhone())
                 .specialization("종합진료") // 기본값
-                .isEmergency(false) // 기본값
-                .rating(new BigDecimal("4.5")) // 기본값
+                .isEmergency(hospital.isEmergencyCare())
+                .rating(DEFAULT_RATING) // 기본값
                 .reviewCount(0)
-                .openHours("09:00 - 18:00") // 기본값
+                .openHours(openHoursOf(hospital))
                 .build();
     }
 
@@ -255,7 +364,7 @@ public class HospitalService {
                                                                            BigDecimal userLat,
                                                                            BigDecimal userLng) {
         // 기본 서비스 목록
-        List<String> services = Arrays.asList("진료", "건강검진", "예방접종");
+        List<String> services = DEFAULT_SERVICES;
         
         Double distance = null;
         if (userLat != null && userLng != null && 
@@ -279,10 +388,10 @@ public class HospitalService {
                 .originalFilename(null)
                 .latitude(hospital.getLatitude() != null ? new BigDecimal(hospital.getLatitude()) : null)
                 .longitude(hospital.getLongitude() != null ? new BigDecimal(hospital.getLongitude()) : null)
-                .openHours("09:00 - 18:00") // 기본값
-                .isEmergency(false) // 기본값
+                .openHours(openHoursOf(hospital))
+                .isEmergency(hospital.isEmergencyCare())
                 .services(services)
-                .rating(new BigDecimal("4.5")) // 기본값
+                .rating(DEFAULT_RATING) // 기본값
                 .reviewCount(0)
                 .description("반려동물의 건강을 책임지는 " + hospital.getBusinessName() + "입니다.")
                 .distance(distance)
@@ -291,6 +400,11 @@ public class HospitalService {
                 .build();
     }
 
+    // 진료시간 정보가 없어 24시간 병원만 구분하고 나머지는 기본값
+    private String openHoursOf(AnimalHospital hospital) {
+        return hospital.isOpen24Hours() ? "24시간" : "09:00 - 18:00";
+    }
+
     private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
         final int R = 6371; // 지구 반지름 (km)
         double latDistance = Math.toRadians(lat2 - lat1);
@@ -302,53 +416,6 @@ public class HospitalService {
         return R * c;
     }
 
-    private List<HospitalDto.Response> sortResults(List<HospitalDto.Response> responses, 
-                                                 String sortBy, String sortOrder) {
-        final String finalSortBy = sortBy != null ? sortBy : "distance";
-        final String finalSortOrder = sortOrder != null ? sortOrder : "asc";
-
-        boolean ascending = "asc".equalsIgnoreCase(finalSortOrder);
-
-        return responses.stream()
-                .sorted((a, b) -> {
-                    int result = 0;
-                    switch (finalSortBy.toLowerCase()) {
-                        case "distance":
-                            if (a.getDistance() == null && b.getDistance() == null) result = 0;
-                            else if (a.getDistance() == null) result = 1;
-                            else if (b.getDistance() == null) result = -1;
-                            else result = Double.compare(a.getDistance(), b.getDistance());
-                            break;
-                        case "rating":
-                            if (a.getRating() == null && b.getRating() == null) result = 0;
-                            else if (a.getRating() == null) result = 1;
-                            else if (b.getRating() == null) result = -1;
-                            else result = a.getRating().compareTo(b.getRating());
-                            break;
-                        case "name":
-                            result = a.getName().compareTo(b.getName());
-                            break;
-                        default:
-                            result = 0;
-                    }
-                    return ascending ? result : -result;
-                })
-                .collect(Collectors.toList());
-    }
-
-    private Page<HospitalDto.Response> createPageFromList(List<HospitalDto.Response> list, 
-                                                        int page, int size) {
-        int start = page * size;
-        int end = Math.min(start + size, list.size());
-        
-        if (start >= list.size()) {
-            return new PageImpl<>(List.of(), PageRequest.of(page, size), list.size());
-        }
-        
-        List<HospitalDto.Response> pageContent = list.subList(start, end);
-        return new PageImpl<>(pageContent, PageRequest.of(page, size), list.size());
-    }
-
     /**
      * 디버깅용 데이터베이스 정보 조회
      */
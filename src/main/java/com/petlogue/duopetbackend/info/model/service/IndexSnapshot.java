@@ -0,0 +1,74 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 메모리 색인 하나의 보관 / 교체 (InfoSpatialIndex, InfoTextIndex 공용)
+ * 처음 조회할 때 한 번 만들고, 갱신은 트랜잭션 커밋 후 새 색인을 만들어 참조를 통째로 교체한다.
+ * 색인은 만들어진 뒤 바뀌지 않으므로 조회 스레드는 잠금 없이 volatile 참조만 읽는다.
+ * 만들기는 이 객체의 잠금 안에서 한 번에 하나씩만 하고, 실패하면 기존 색인을 계속 사용한다.
+ */
+@Slf4j
+final class IndexSnapshot<T> {
+
+    private final String name;
+    private final Supplier<T> loader;
+
+    private volatile T current;
+
+    /**
+     * @param name 로그용 이름
+     * @param loader 색인을 새로 만드는 함수 (DB 조회 포함)
+     */
+    IndexSnapshot(String name, Supplier<T> loader) {
+        this.name = name;
+        this.loader = loader;
+    }
+
+    /**
+     * 현재 색인 - 아직 없으면 만들어서 반환
+     */
+    T get() {
+        T snapshot = current;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = current;
+                if (snapshot == null) {
+                    snapshot = loader.get();
+                    current = snapshot;
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 색인 재구성 - 트랜잭션 안이면 커밋 후에 재구성
+     */
+    void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rebuild();
+                }
+            });
+        } else {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        try {
+            synchronized (this) {
+                current = loader.get();
+            }
+        } catch (Exception e) {
+            log.error("Failed to rebuild {} index", name, e);
+        }
+    }
+}
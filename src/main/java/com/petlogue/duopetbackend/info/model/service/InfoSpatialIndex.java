@@ -0,0 +1,202 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import com.petlogue.duopetbackend.common.geo.GeoClusterGrid;
+import com.petlogue.duopetbackend.common.geo.GeoGridIndex;
+import com.petlogue.duopetbackend.info.jpa.repository.AnimalHospitalRepository;
+import com.petlogue.duopetbackend.info.jpa.repository.ShelterInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 동물병원 / 공공 보호소 좌표 공간 색인
+ * 좌표를 한 번 읽어 격자 색인과 지도 군집 피라미드로 만들어 두고 반경 / 최근접 검색, 지도 군집을 메모리에서 처리한다.
+ * CSV 임포트, 좌표 재계산, 보호소 동기화가 끝나면 새 색인을 만들어 통째로 교체한다 (보관 / 교체 방식은 IndexSnapshot).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InfoSpatialIndex {
+
+    private final AnimalHospitalRepository animalHospitalRepository;
+    private final ShelterInfoRepository shelterInfoRepository;
+
+    // 격자 한 칸 크기 (도) - 0.05도는 위도 방향 약 5.5km
+    @Value("${info.spatial.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    // 지도 군집을 미리 계산할 최대 줌 / 군집 격자 한 칸 크기 (px)
+    @Value("${info.spatial.cluster.max-zoom:16}")
+    private int clusterMaxZoom;
+
+    @Value("${info.spatial.cluster.cell-pixels:64}")
+    private int clusterCellPixels;
+
+    private final IndexSnapshot<Layer> hospitals = new IndexSnapshot<>("hospital spatial", this::loadHospitals);
+    private final IndexSnapshot<Layer> shelters = new IndexSnapshot<>("shelter spatial", this::loadShelters);
+
+    /**
+     * 같은 좌표로 만든 색인 묶음
+     * @param version 좌표 내용 해시 (같은 좌표면 서버가 달라도, 재시작해도 같음)
+     */
+    private record Layer(GeoGridIndex grid, GeoClusterGrid clusters, long version) {
+    }
+
+    /**
+     * 반경 내 영업 중인 병원 (거리 오름차순)
+     */
+    public GeoGridIndex.Hits hospitalsWithin(double lat, double lng, double radiusKm, int limit) {
+        return hospitals.get().grid().within(lat, lng, radiusKm, limit);
+    }
+
+    /**
+     * 가장 가까운 영업 중인 병원 k 곳
+     * @param maxRadiusKm 0 이하면 거리 제한 없음
+     */
+    public GeoGridIndex.Hits nearestHospitals(double lat, double lng, int k, double maxRadiusKm) {
+        return hospitals.get().grid().nearest(lat, lng, k, maxRadiusKm);
+    }
+
+    /**
+     * 반경 내 공공 보호소 (거리 오름차순)
+     */
+    public GeoGridIndex.Hits sheltersWithin(double lat, double lng, double radiusKm, int limit) {
+        return shelters.get().grid().within(lat, lng, radiusKm, limit);
+    }
+
+    /**
+     * 가장 가까운 공공 보호소 k 곳
+     */
+    public GeoGridIndex.Hits nearestShelters(double lat, double lng, int k, double maxRadiusKm) {
+        return shelters.get().grid().nearest(lat, lng, k, maxRadiusKm);
+    }
+
+    /**
+     * 타일 z/x/y 안의 영업 중인 병원 군집
+     */
+    public List<GeoClusterGrid.Cluster> hospitalClusters(int zoom, int x, int y) {
+        return hospitals.get().clusters().tile(zoom, x, y);
+    }
+
+    /**
+     * 타일 z/x/y 안의 공공 보호소 군집
+     */
+    public List<GeoClusterGrid.Cluster> shelterClusters(int zoom, int x, int y) {
+        return shelters.get().clusters().tile(zoom, x, y);
+    }
+
+    /**
+     * 현재 병원 색인 버전 (좌표가 바뀌면 바뀜)
+     */
+    public long hospitalVersion() {
+        return hospitals.get().version();
+    }
+
+    /**
+     * 현재 보호소 색인 버전 (좌표가 바뀌면 바뀜)
+     */
+    public long shelterVersion() {
+        return shelters.get().version();
+    }
+
+    /**
+     * 병원 색인 재구성 - 트랜잭션 안이면 커밋 후에 재구성
+     */
+    public void refreshHospitals() {
+        hospitals.refresh();
+    }
+
+    /**
+     * 보호소 색인 재구성 - 트랜잭션 안이면 커밋 후에 재구성
+     */
+    public void refreshShelters() {
+        shelters.refresh();
+    }
+
+    private Layer loadHospitals() {
+        return load("hospital", animalHospitalRepository::findOperatingCoordinates);
+    }
+
+    private Layer loadShelters() {
+        return load("shelter", shelterInfoRepository::findCoordinates);
+    }
+
+    /**
+     * (ID, 위도, 경도) 행으로 색인 / 군집 피라미드 생성 - 좌표 범위를 벗어난 행은 제외
+     * 조회 순서와 무관하게 같은 결과가 나오도록 ID 순으로 정렬해서 만든다.
+     */
+    private Layer load(String name, Supplier<List<Object[]>> query) {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = query.get();
+
+        long[] ids = new long[rows.size()];
+        double[] lats = new double[rows.size()];
+        double[] lngs = new double[rows.size()];
+        int count = 0;
+        for (Object[] row : rows) {
+            if (row[0] == null || row[1] == null || row[2] == null) {
+                continue;
+            }
+            double lat = ((Number) row[1]).doubleValue();
+            double lng = ((Number) row[2]).doubleValue();
+            if (!(lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180) || lat == 0 && lng == 0) {
+                continue;
+            }
+            ids[count] = ((Number) row[0]).longValue();
+            lats[count] = lat;
+            lngs[count] = lng;
+            count++;
+        }
+
+        long[] sourceIds = ids;
+        double[] sourceLats = lats;
+        double[] sourceLngs = lngs;
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> sourceIds[i]));
+        ids = new long[count];
+        lats = new double[count];
+        lngs = new double[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = sourceIds[order[i]];
+            lats[i] = sourceLats[order[i]];
+            lngs[i] = sourceLngs[order[i]];
+        }
+
+        Layer layer = new Layer(GeoGridIndex.build(ids, lats, lngs, cellDegrees),
+                GeoClusterGrid.build(ids, lats, lngs, clusterMaxZoom, clusterCellPixels),
+                contentHash(ids, lats, lngs));
+        log.info("Spatial index built: {} points={} (skipped {}), {}ms",
+                name, count, rows.size() - count, System.currentTimeMillis() - start);
+        return layer;
+    }
+
+    /**
+     * 색인 내용 해시 - (ID, 위도, 경도) 와 군집 설정이 같으면 같은 값
+     * 여러 서버 / 재시작 사이에도 같은 타일에 같은 ETag 를 내려 주기 위해 사용
+     */
+    private long contentHash(long[] ids, double[] lats, double[] lngs) {
+        long hash = mix(clusterMaxZoom * 31L + clusterCellPixels);
+        for (int i = 0; i < ids.length; i++) {
+            hash = mix(hash ^ ids[i]);
+            hash = mix(hash ^ Double.doubleToLongBits(lats[i]));
+            hash = mix(hash ^ Double.doubleToLongBits(lngs[i]));
+        }
+        return hash;
+    }
+
+    // splitmix64 마무리 단계
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,125 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import com.petlogue.duopetbackend.common.text.HangulNgramIndex;
+import com.petlogue.duopetbackend.info.jpa.repository.AnimalHospitalRepository;
+import com.petlogue.duopetbackend.info.jpa.repository.ShelterInfoRepository;
+import com.petlogue.duopetbackend.info.model.dto.SuggestionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 동물병원 / 공공 보호소 이름 / 주소 자동완성 색인
+ * 이름과 주소를 한 번 읽어 n-gram 역색인으로 만들어 두고 자동완성 검색을 메모리에서 처리한다.
+ * 병원 CSV 임포트, 보호소 동기화가 끝나면 새 색인을 만들어 통째로 교체한다 (좌표 재계산은 이름 / 주소를 바꾸지 않으므로 제외).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InfoTextIndex {
+
+    public static final String TYPE_HOSPITAL = "hospital";
+    public static final String TYPE_SHELTER = "shelter";
+
+    private final AnimalHospitalRepository animalHospitalRepository;
+    private final ShelterInfoRepository shelterInfoRepository;
+
+    private final IndexSnapshot<HangulNgramIndex> hospitals = new IndexSnapshot<>("hospital text", this::loadHospitals);
+    private final IndexSnapshot<HangulNgramIndex> shelters = new IndexSnapshot<>("shelter text", this::loadShelters);
+
+    // 순위가 붙은 자동완성 후보 (병원 / 보호소 병합용)
+    private record Ranked(int rank, int nameLength, SuggestionDto suggestion) {
+    }
+
+    /**
+     * 자동완성 - 병원 / 보호소 결과를 순위, 이름 길이 순으로 병합
+     * @param type hospital, shelter, 그 외는 둘 다
+     */
+    public List<SuggestionDto> suggest(String query, String type, int limit) {
+        List<Ranked> ranked = new ArrayList<>();
+        if (!TYPE_SHELTER.equals(type)) {
+            collect(hospitals.get(), TYPE_HOSPITAL, query, limit, ranked);
+        }
+        if (!TYPE_HOSPITAL.equals(type)) {
+            collect(shelters.get(), TYPE_SHELTER, query, limit, ranked);
+        }
+        // 정렬은 안정 정렬이므로 같은 순위 안에서는 각 색인의 순서가 유지됨
+        ranked.sort((a, b) -> a.rank() != b.rank()
+                ? Integer.compare(a.rank(), b.rank())
+                : Integer.compare(a.nameLength(), b.nameLength()));
+        return ranked.stream()
+                .limit(limit)
+                .map(Ranked::suggestion)
+                .toList();
+    }
+
+    /**
+     * 병원 색인 재구성 - 트랜잭션 안이면 커밋 후에 재구성
+     */
+    public void refreshHospitals() {
+        hospitals.refresh();
+    }
+
+    /**
+     * 보호소 색인 재구성 - 트랜잭션 안이면 커밋 후에 재구성
+     */
+    public void refreshShelters() {
+        shelters.refresh();
+    }
+
+    private static void collect(HangulNgramIndex index, String type, String query, int limit, List<Ranked> out) {
+        HangulNgramIndex.Hits hits = index.search(query, limit);
+        for (int i = 0; i < hits.size(); i++) {
+            int doc = hits.docs()[i];
+            String name = index.name(doc);
+            out.add(new Ranked(hits.ranks()[i], name.length(), SuggestionDto.builder()
+                    .type(type)
+                    .id(index.id(doc))
+                    .name(name)
+                    .address(index.address(doc))
+                    .build()));
+        }
+    }
+
+    private HangulNgramIndex loadHospitals() {
+        return load(TYPE_HOSPITAL, animalHospitalRepository::findOperatingSearchKeys);
+    }
+
+    private HangulNgramIndex loadShelters() {
+        return load(TYPE_SHELTER, shelterInfoRepository::findSearchKeys);
+    }
+
+    /**
+     * (ID, 이름, 도로명주소, 지번주소) 행으로 색인 생성 - 이름이 없는 행은 제외, 주소는 도로명 우선
+     */
+    private HangulNgramIndex load(String name, Supplier<List<Object[]>> query) {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = query.get();
+
+        long[] ids = new long[rows.size()];
+        String[] names = new String[rows.size()];
+        String[] addresses = new String[rows.size()];
+        int count = 0;
+        for (Object[] row : rows) {
+            if (row[0] == null || row[1] == null || ((String) row[1]).isBlank()) {
+                continue;
+            }
+            String roadAddress = (String) row[2];
+            ids[count] = ((Number) row[0]).longValue();
+            names[count] = ((String) row[1]).trim();
+            addresses[count] = roadAddress != null && !roadAddress.isBlank() ? roadAddress : (String) row[3];
+            count++;
+        }
+
+        HangulNgramIndex index = HangulNgramIndex.build(Arrays.copyOf(ids, count),
+                Arrays.copyOf(names, count), Arrays.copyOf(addresses, count));
+        log.info("Text index built: {} entries={} (skipped {}), {}ms",
+                name, count, rows.size() - count, System.currentTimeMillis() - start);
+        return index;
+    }
+}
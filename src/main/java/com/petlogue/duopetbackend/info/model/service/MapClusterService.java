@@ -0,0 +1,114 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import com.petlogue.duopetbackend.common.geo.GeoClusterGrid;
+import com.petlogue.duopetbackend.info.model.dto.MapClusterDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지도 마커 군집 조회
+ * 공간 색인에 미리 계산된 줌별 군집을 타일(z/x/y) 단위로 꺼내 준다.
+ * 타일 하나의 결과는 색인 버전(좌표 내용 해시)이 같으면 항상 같으므로 버전을 캐시 검증 값으로 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MapClusterService {
+
+    public static final String TYPE_HOSPITAL = "hospital";
+    public static final String TYPE_SHELTER = "shelter";
+    public static final String TYPE_ALL = "all";
+
+    // 화면 범위 조회 한 번에 허용하는 최대 타일 수
+    private static final int MAX_TILES = 64;
+
+    private final InfoSpatialIndex infoSpatialIndex;
+
+    /**
+     * 타일 z/x/y 의 군집
+     * @param type hospital, shelter, all
+     */
+    public MapClusterDto.Tile getTile(String type, int zoom, int x, int y) {
+        // 군집보다 먼저 읽어 두면 조회 중 색인이 바뀌어도 다음 조회에서 다시 받게 됨
+        String version = version(type);
+        List<MapClusterDto.Cluster> clusters = new ArrayList<>();
+        if (!TYPE_SHELTER.equals(type)) {
+            addClusters(TYPE_HOSPITAL, infoSpatialIndex.hospitalClusters(zoom, x, y), clusters);
+        }
+        if (!TYPE_HOSPITAL.equals(type)) {
+            addClusters(TYPE_SHELTER, infoSpatialIndex.shelterClusters(zoom, x, y), clusters);
+        }
+        return MapClusterDto.Tile.builder()
+                .key(zoom + "/" + x + "/" + y)
+                .version(version)
+                .clusters(clusters)
+                .build();
+    }
+
+    /**
+     * 화면 범위(위경도 사각형)를 덮는 타일들의 군집
+     */
+    public MapClusterDto.Response getClusters(String type, int zoom,
+                                              double minLat, double minLng, double maxLat, double maxLng) {
+        checkType(type);
+        if (zoom < 0 || zoom > GeoClusterGrid.MAX_ZOOM) {
+            throw new IllegalArgumentException("zoom 은 0 ~ " + GeoClusterGrid.MAX_ZOOM + " 사이여야 합니다.");
+        }
+        if (!(minLat <= maxLat) || !(minLng <= maxLng)) {
+            throw new IllegalArgumentException("잘못된 지도 범위입니다.");
+        }
+
+        int minX = GeoClusterGrid.tileX(minLng, zoom);
+        int maxX = GeoClusterGrid.tileX(maxLng, zoom);
+        // 타일 y 는 북쪽이 0
+        int minY = GeoClusterGrid.tileY(maxLat, zoom);
+        int maxY = GeoClusterGrid.tileY(minLat, zoom);
+        if ((long) (maxX - minX + 1) * (maxY - minY + 1) > MAX_TILES) {
+            throw new IllegalArgumentException("지도 범위가 너무 넓습니다. 줌을 높여 주세요.");
+        }
+
+        List<MapClusterDto.Tile> tiles = new ArrayList<>();
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                tiles.add(getTile(type, zoom, x, y));
+            }
+        }
+        return MapClusterDto.Response.builder()
+                .zoom(zoom)
+                .tiles(tiles)
+                .build();
+    }
+
+    /**
+     * 현재 색인 버전 - 병원 / 보호소 좌표 중 하나라도 바뀌면 바뀜
+     */
+    public String version(String type) {
+        checkType(type);
+        return switch (type) {
+            case TYPE_HOSPITAL -> "h" + Long.toHexString(infoSpatialIndex.hospitalVersion());
+            case TYPE_SHELTER -> "s" + Long.toHexString(infoSpatialIndex.shelterVersion());
+            default -> "h" + Long.toHexString(infoSpatialIndex.hospitalVersion())
+                    + "s" + Long.toHexString(infoSpatialIndex.shelterVersion());
+        };
+    }
+
+    private static void addClusters(String type, List<GeoClusterGrid.Cluster> source, List<MapClusterDto.Cluster> out) {
+        for (GeoClusterGrid.Cluster cluster : source) {
+            out.add(MapClusterDto.Cluster.builder()
+                    .type(type)
+                    .lat(cluster.lat())
+                    .lng(cluster.lng())
+                    .count(cluster.count())
+                    .id(cluster.count() == 1 ? cluster.id() : null)
+                    .build());
+        }
+    }
+
+    private static void checkType(String type) {
+        if (!TYPE_HOSPITAL.equals(type) && !TYPE_SHELTER.equals(type) && !TYPE_ALL.equals(type)) {
+            throw new IllegalArgumentException("type 은 hospital, shelter, all 중 하나여야 합니다.");
+        }
+    }
+}
@@ -2,28 +2,37 @@ package com.petlogue.duopetbackend.info.model.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.petlogue.duopetbackend.info.jpa.entity.ShelterInfo;
-import com.petlogue.duopetbackend.info.jpa.repository.ShelterInfoRepository;
 import com.petlogue.duopetbackend.info.model.dto.ShelterInfoDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 공공데이터 API를 통한 보호소 데이터 동기화 서비스
@@ -33,9 +42,26 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ShelterDataSyncService {
     
-    private final ShelterInfoRepository shelterInfoRepository;
-    private final RestTemplate restTemplate;
+    // 아직 공공데이터와 연결되지 않은 회원 보호소
+    private static final String UNLINKED_SHELTERS_SQL =
+            "SELECT shelter_id, shelter_name, phone FROM SHELTER WHERE shelter_info_id IS NULL";
+    
+    private static final String LINK_SHELTER_SQL =
+            "UPDATE SHELTER SET shelter_info_id = ? WHERE shelter_id = ? AND shelter_info_id IS NULL";
+    
+    private static final String INSERT_MAPPING_SQL =
+            "INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(SHELTER_MAPPING, UQ_SHELTER_MAPPING) */ " +
+            "INTO SHELTER_MAPPING (shelter_id, shelter_info_id, match_type, match_score, matched_by) " +
+            "VALUES (?, ?, 'auto', ?, ?)";
+    
+    private final RestClient outboundRestClient;
     private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShelterInfoLinker shelterInfoLinker;
+    private final InfoSpatialIndex infoSpatialIndex;
+    private final InfoTextIndex infoTextIndex;
+    private final ShelterStatisticsCache shelterStatisticsCache;
+    private final ShelterInfoBatchWriter shelterInfoBatchWriter;
     
     @Value("${api.animal.protection.service-key}")
     private String serviceKey;
@@ -43,6 +69,48 @@ public class ShelterDataSyncService {
     @Value("${api.animal.protection.base-url}")
     private String baseUrl;
     
+    // 한 페이지 조회 건수
+    @Value("${info.shelter.sync.page-size:600}")
+    private int pageSize;
+    
+    // 동시에 조회 / 저장 대기 중일 수 있는 페이지 수
+    @Value("${info.shelter.sync.concurrency:4}")
+    private int concurrency;
+    
+    // 피드에서 빠진 보호소가 전체의 이 비율을 넘으면 정리하지 않음 (API 이상 응답 보호)
+    @Value("${info.shelter.sync.max-remove-ratio:0.3}")
+    private double maxRemoveRatio;
+    
+    @Value("${info.shelter.sync.sweep-chunk-size:500}")
+    private int sweepChunkSize;
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    /**
+     * 조회한 페이지 (실패 시 error)
+     */
+    private record FetchedPage(int pageNo, List<ShelterInfoDto.ApiResponseDto.ItemDto> items, int totalCount,
+                               String error) {
+        
+        static FetchedPage failed(int pageNo, String error) {
+            return new FetchedPage(pageNo, List.of(), 0, error);
+        }
+    }
+    
+    /**
+     * 동기화 집계
+     */
+    private static final class SyncCounts {
+        int inserted;
+        int updated;
+        int unchanged;
+        int skipped;
+        int errors;
+        int failedPages;
+        int removed;
+        int retained;
+    }
+    
     /**
      * 매월 1일 새벽 2시에 실행
      * 공공데이터포털에서 최신 보호소 정보 동기화
@@ -55,90 +123,203 @@ public class ShelterDataSyncService {
     
     /**
      * 보호소 데이터 동기화 메인 로직
+     * - 1페이지로 전체 건수를 확인한 뒤 나머지 페이지를 가상 스레드로 병렬 조회 (동시 페이지 수는 세마포어로 제한)
+     * - 저장은 호출 스레드에서 페이지마다 짧은 트랜잭션으로 처리하므로 한 페이지가 실패해도 다른 페이지는 유지
+     * - 모든 페이지를 저장한 경우에만 피드에서 빠진 보호소를 정리
+     * @return 동기화 결과 건수
      */
-    @Transactional
-    public void syncShelterData() {
-        int totalSynced = 0;
-        int totalSkipped = 0;
-        int totalError = 0;
-        int pageNo = 1;
-        boolean hasMoreData = true;
+    public Map<String, Object> syncShelterData() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (!running.compareAndSet(false, true)) {
+            log.warn("보호소 데이터 동기화가 이미 실행 중입니다.");
+            result.put("success", false);
+            result.put("alreadyRunning", true);
+            result.put("message", "이미 실행 중입니다");
+            return result;
+        }
         
+        long start = System.currentTimeMillis();
+        SyncCounts counts = new SyncCounts();
+        Set<String> seenCareRegNos = new HashSet<>();
+        int totalPages = 0;
         try {
-            HttpClient client = HttpClient.newHttpClient();
+            FetchedPage first = fetchPage(1);
+            if (first.error() != null) {
+                log.error("보호소 데이터 동기화 중단 - 1페이지 조회 실패: {}", first.error());
+                result.put("success", false);
+                result.put("message", first.error());
+                return result;
+            }
+            totalPages = Math.max(1, (int) Math.ceil((double) first.totalCount() / pageSize));
+            log.info("보호소 데이터 동기화 - 전체 {}건, {}페이지", first.totalCount(), totalPages);
             
-            // 페이징 처리로 모든 데이터 가져오기
-            while (hasMoreData) {
-                // 1. API 호출 준비
-                String apiUrl = buildApiUrl(pageNo);
-                log.info("API 호출 URL (페이지 {}): {}", pageNo, apiUrl);
-                
-                // 2. HttpClient로 API 호출
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(apiUrl))
-                        .header("Accept", "application/json")
-                        .header("User-Agent", "Mozilla/5.0")
-                        .GET()
-                        .build();
-                        
-                HttpResponse<String> httpResponse = client.send(request, HttpResponse.BodyHandlers.ofString());
-                String responseBody = httpResponse.body();
+            BlockingQueue<FetchedPage> fetched = new LinkedBlockingQueue<>();
+            Semaphore inFlight = new Semaphore(Math.max(1, concurrency));
+            int submitted = 0;
+            
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int pageNo = 2; pageNo <= totalPages; pageNo++) {
+                    final int page = pageNo;
+                    executor.submit(() -> {
+                        inFlight.acquireUninterruptibly();
+                        fetched.add(fetchPage(page));
+                    });
+                    submitted++;
+                }
                 
-                log.info("Response status (페이지 {}): {}", pageNo, httpResponse.statusCode());
+                persistPage(first, seenCareRegNos, counts);
                 
-                if (httpResponse.statusCode() == 200 && responseBody != null) {
-                    // 3. JSON 파싱
-                    ShelterInfoDto.ApiResponseDto apiResponse = 
-                        objectMapper.readValue(responseBody, ShelterInfoDto.ApiResponseDto.class);
-                    
-                    // 4. 응답 검증
-                    if (isValidResponse(apiResponse)) {
-                        List<ShelterInfoDto.ApiResponseDto.ItemDto> items = 
-                            apiResponse.getResponse().getBody().getItems().getItem();
-                        
-                        log.info("페이지 {}: {}개의 보호소 데이터 수신", pageNo, items.size());
-                        
-                        // 5. 각 보호소 데이터 처리
-                        for (ShelterInfoDto.ApiResponseDto.ItemDto item : items) {
-                            try {
-                                boolean result = processShelterData(item);
-                                if (result) {
-                                    totalSynced++;
-                                } else {
-                                    totalSkipped++;
-                                }
-                            } catch (Exception e) {
-                                totalError++;
-                                log.error("보호소 데이터 처리 중 오류 - careRegNo: {}", item.getCareRegNo(), e);
-                            }
-                        }
-                        
-                        // 다음 페이지 확인
-                        int totalCount = apiResponse.getResponse().getBody().getTotalCount();
-                        int numOfRows = 600;
-                        int totalPages = (int) Math.ceil((double) totalCount / numOfRows);
-                        
-                        if (pageNo >= totalPages || items.size() < numOfRows) {
-                            hasMoreData = false;
-                        } else {
-                            pageNo++;
-                        }
-                    } else {
-                        log.error("API 응답이 유효하지 않습니다.");
-                        hasMoreData = false;
+                for (int i = 0; i < submitted; i++) {
+                    FetchedPage page;
+                    try {
+                        page = fetched.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        inFlight.release(submitted);
+                        counts.failedPages += submitted - i;
+                        log.warn("보호소 데이터 동기화 중단됨");
+                        break;
+                    }
+                    try {
+                        persistPage(page, seenCareRegNos, counts);
+                    } finally {
+                        inFlight.release();
                     }
-                } else {
-                    log.error("API 호출 실패 - Status: {}", httpResponse.statusCode());
-                    hasMoreData = false;
                 }
             }
             
+            if (counts.failedPages == 0) {
+                sweepMissing(seenCareRegNos, counts);
+            } else {
+                log.warn("실패한 페이지 {}개 - 피드에서 빠진 보호소 정리를 다음 동기화로 미룸", counts.failedPages);
+            }
+            
+            result.put("success", counts.failedPages == 0);
         } catch (Exception e) {
             log.error("보호소 데이터 동기화 중 오류 발생", e);
+            result.put("success", false);
+            result.put("message", e.getMessage());
+        } finally {
+            // 보호소 키 맵은 다음 연결 시 다시 읽음
+            shelterInfoLinker.invalidate();
+            // 보호소 공간 색인은 새로 만들어 교체
+            infoSpatialIndex.refreshShelters();
+            // 자동완성 색인도 새로 만들어 교체
+            infoTextIndex.refreshShelters();
+            // 통계는 버전을 올려 다음 조회에서 다시 집계
+            shelterStatisticsCache.invalidate();
+            running.set(false);
         }
         
-        log.info("보호소 데이터 동기화 완료 - 성공: {}, 스킵: {}, 오류: {}", 
-                totalSynced, totalSkipped, totalError);
+        result.put("totalPages", totalPages);
+        result.put("failedPages", counts.failedPages);
+        result.put("inserted", counts.inserted);
+        result.put("updated", counts.updated);
+        result.put("unchanged", counts.unchanged);
+        result.put("skipped", counts.skipped);
+        result.put("errors", counts.errors);
+        result.put("removed", counts.removed);
+        result.put("retained", counts.retained);
+        log.info("보호소 데이터 동기화 완료 ({}ms) - {}", System.currentTimeMillis() - start, result);
+        return result;
+    }
+    
+    /**
+     * 페이지 하나 조회 (가상 스레드에서 실행, 예외 대신 실패 결과 반환)
+     */
+    private FetchedPage fetchPage(int pageNo) {
+        try {
+            ResponseEntity<String> httpResponse = outboundRestClient.get()
+                    .uri(URI.create(buildApiUrl(pageNo)))
+                    .header("Accept", "application/json")
+                    .header("User-Agent", "Mozilla/5.0")
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, (req, res) -> { })
+                    .toEntity(String.class);
+            int statusCode = httpResponse.getStatusCode().value();
+            if (statusCode != 200 || httpResponse.getBody() == null) {
+                return FetchedPage.failed(pageNo, "API 호출 실패 - Status: " + statusCode);
+            }
+            
+            ShelterInfoDto.ApiResponseDto apiResponse =
+                    objectMapper.readValue(httpResponse.getBody(), ShelterInfoDto.ApiResponseDto.class);
+            if (!isValidResponse(apiResponse)) {
+                return FetchedPage.failed(pageNo, "API 응답이 유효하지 않습니다");
+            }
+            ShelterInfoDto.ApiResponseDto.BodyDto body = apiResponse.getResponse().getBody();
+            List<ShelterInfoDto.ApiResponseDto.ItemDto> items = body.getItems().getItem();
+            log.info("페이지 {}: {}개의 보호소 데이터 수신", pageNo, items.size());
+            return new FetchedPage(pageNo, items, body.getTotalCount() != null ? body.getTotalCount() : items.size(), null);
+        } catch (Exception e) {
+            return FetchedPage.failed(pageNo, "페이지 조회 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 페이지 하나 저장 - 관리번호 일괄 조회 후 배치 INSERT / UPDATE (한 트랜잭션)
+     */
+    private void persistPage(FetchedPage page, Set<String> seenCareRegNos, SyncCounts counts) {
+        if (page.error() != null) {
+            counts.failedPages++;
+            log.error("보호소 페이지 {} 건너뜀: {}", page.pageNo(), page.error());
+            return;
+        }
+        
+        Map<String, ShelterInfo> shelters = new LinkedHashMap<>();
+        for (ShelterInfoDto.ApiResponseDto.ItemDto item : page.items()) {
+            String careRegNo = item.getCareRegNo() != null ? item.getCareRegNo().trim() : "";
+            if (careRegNo.isEmpty()) {
+                counts.skipped++;
+                continue;
+            }
+            // 피드에는 있으므로 저장하지 못해도 정리 대상에서는 빠져야 함
+            seenCareRegNos.add(careRegNo);
+            if (item.getCareNm() == null) {
+                counts.skipped++;
+                continue;
+            }
+            try {
+                ShelterInfo shelter = item.toEntity();
+                shelter.setCareRegNo(careRegNo);
+                if (shelters.put(careRegNo, shelter) != null) {
+                    counts.skipped++; // 같은 페이지 안의 관리번호 중복 (마지막 값 사용)
+                }
+            } catch (Exception e) {
+                counts.errors++;
+                log.error("보호소 데이터 변환 중 오류 - careRegNo: {}", careRegNo, e);
+            }
+        }
+        
+        try {
+            ShelterInfoBatchWriter.PageCounts written = shelterInfoBatchWriter.write(new ArrayList<>(shelters.values()));
+            counts.inserted += written.inserted();
+            counts.updated += written.updated();
+            counts.unchanged += written.unchanged();
+        } catch (Exception e) {
+            counts.failedPages++;
+            counts.errors += shelters.size();
+            log.error("보호소 페이지 {} 저장 실패 ({}건 롤백)", page.pageNo(), shelters.size(), e);
+        }
+    }
+    
+    /**
+     * 이번 피드에 없는 보호소 정리 - 참조되지 않는 보호소만 삭제하고 나머지는 남김
+     */
+    private void sweepMissing(Set<String> seenCareRegNos, SyncCounts counts) {
+        List<Long> missing = shelterInfoBatchWriter.findMissing(seenCareRegNos);
+        if (missing.isEmpty()) {
+            return;
+        }
+        long total = (long) seenCareRegNos.size() + missing.size();
+        if (missing.size() > total * maxRemoveRatio) {
+            log.warn("피드에서 빠진 보호소 {}건 / 전체 {}건 - 비율 한도({}) 초과로 정리하지 않음",
+                    missing.size(), total, maxRemoveRatio);
+            counts.retained += missing.size();
+            return;
+        }
+        counts.removed += shelterInfoBatchWriter.deleteUnreferenced(missing, Math.max(1, sweepChunkSize));
+        counts.retained += missing.size() - counts.removed;
+        log.info("피드에서 빠진 보호소 정리 - 삭제 {}건, 참조 중이라 유지 {}건", counts.removed, counts.retained);
     }
     
     /**
@@ -152,7 +333,7 @@ public class ShelterDataSyncService {
             // 직접 URL 구성 (PublicDataApiClient와 동일한 방식)
             String url = baseUrl + "?serviceKey=" + encodedServiceKey;
             url += "&pageNo=" + pageNo;
-            url += "&numOfRows=600";
+            url += "&numOfRows=" + pageSize;
             url += "&_type=json";
             
             return url;
@@ -175,70 +356,55 @@ public class ShelterDataSyncService {
                response.getResponse().getBody().getItems().getItem() != null;
     }
     
-    /**
-     * 개별 보호소 데이터 처리 (UPSERT)
-     */
-    private boolean processShelterData(ShelterInfoDto.ApiResponseDto.ItemDto item) {
-        // 관리번호로 기존 데이터 확인
-        Optional<ShelterInfo> existingOpt = shelterInfoRepository.findByCareRegNo(item.getCareRegNo());
-        
-        if (existingOpt.isPresent()) {
-            // 기존 데이터 업데이트
-            ShelterInfo existing = existingOpt.get();
-            updateShelterInfo(existing, item);
-            shelterInfoRepository.save(existing);
-            log.debug("보호소 정보 업데이트 - careRegNo: {}", item.getCareRegNo());
-        } else {
-            // 신규 데이터 삽입
-            ShelterInfo newShelter = item.toEntity();
-            shelterInfoRepository.save(newShelter);
-            log.debug("새로운 보호소 추가 - careRegNo: {}", item.getCareRegNo());
-        }
-        
-        return true;
-    }
-    
-    /**
-     * 기존 엔티티 업데이트
-     */
-    private void updateShelterInfo(ShelterInfo existing, ShelterInfoDto.ApiResponseDto.ItemDto item) {
-        existing.setCareNm(item.getCareNm());
-        existing.setOrgNm(item.getOrgNm());
-        existing.setDivisionNm(item.getDivisionNm());
-        existing.setSaveTrgtAnimal(item.getSaveTrgtAnimal());
-        existing.setCareAddr(item.getCareAddr());
-        existing.setJibunAddr(item.getJibunAddr());
-        existing.setLat(item.getLatAsDouble());
-        existing.setLng(item.getLngAsDouble());
-        existing.setCareTel(item.getCareTel());
-        existing.setDsignationDate(item.getParsedDsignationDate());
-        existing.setWeekOprStime(item.getWeekOprStime());
-        existing.setWeekOprEtime(item.getWeekOprEtime());
-        existing.setCloseDay(item.getCloseDay());
-        existing.setVetPersonCnt(item.getVetPersonCntAsInteger());
-        existing.setSpecsPersonCnt(item.getSpecsPersonCntAsInteger());
-        existing.setDataStdDt(item.getParsedDataStdDt());
-    }
-    
     /**
      * 수동 동기화 트리거
      */
-    public void triggerManualSync() {
+    public Map<String, Object> triggerManualSync() {
         log.info("보호소 데이터 수동 동기화 시작");
-        syncShelterData();
+        return syncShelterData();
     }
     
     /**
      * 기존 회원 보호소와 공공데이터 매칭
-     * 전화번호 기반으로 매칭 시도
+     * 공공데이터 보호소 키 맵(전화번호 > 이름)에 연결되지 않은 회원 보호소를 한 번에 대조하고,
+     * 매칭된 보호소는 shelter_info_id 를 채운 뒤 SHELTER_MAPPING 에 자동 매칭으로 기록
+     * @return 대상/매칭 건수 (매칭 기준별 건수 포함)
      */
     @Transactional
-    public void matchExistingShelters() {
+    public Map<String, Object> matchExistingShelters() {
         log.info("기존 회원 보호소와 공공데이터 매칭 시작");
         
-        // TODO: user 패키지의 ShelterRepository를 주입받아 처리
-        // 이 부분은 순환 참조를 피하기 위해 별도 서비스에서 처리하는 것이 좋음
+        List<Object[]> matches = new ArrayList<>();
+        Map<ShelterInfoLinker.MatchType, Integer> byType = new EnumMap<>(ShelterInfoLinker.MatchType.class);
+        int[] candidates = {0};
+        jdbcTemplate.query(UNLINKED_SHELTERS_SQL, (RowCallbackHandler) rs -> {
+            candidates[0]++;
+            ShelterInfoLinker.Link link = shelterInfoLinker.resolve(null, rs.getString("shelter_name"), rs.getString("phone"));
+            if (link != null) {
+                matches.add(new Object[] {rs.getLong("shelter_id"), link});
+                byType.merge(link.matchType(), 1, Integer::sum);
+            }
+        });
+        
+        if (!matches.isEmpty()) {
+            jdbcTemplate.batchUpdate(LINK_SHELTER_SQL, matches, matches.size(), (ps, match) -> {
+                ps.setLong(1, ((ShelterInfoLinker.Link) match[1]).shelterInfoId());
+                ps.setLong(2, (Long) match[0]);
+            });
+            jdbcTemplate.batchUpdate(INSERT_MAPPING_SQL, matches, matches.size(), (ps, match) -> {
+                ShelterInfoLinker.Link link = (ShelterInfoLinker.Link) match[1];
+                ps.setLong(1, (Long) match[0]);
+                ps.setLong(2, link.shelterInfoId());
+                ps.setDouble(3, link.matchType().score());
+                ps.setString(4, "system:" + link.matchType().name().toLowerCase());
+            });
+        }
         
-        log.info("보호소 매칭 완료");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("candidates", candidates[0]);
+        result.put("matched", matches.size());
+        byType.forEach((type, count) -> result.put(type.name().toLowerCase(), count));
+        log.info("보호소 매칭 완료 - 대상: {}, 매칭: {} {}", candidates[0], matches.size(), byType);
+        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import com.petlogue.duopetbackend.info.jpa.entity.ShelterInfo;
+import com.petlogue.duopetbackend.info.jpa.repository.ShelterInfoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공공데이터 보호소(SHELTER_INFO) 동기화용 JDBC 배치 저장소
+ * 페이지 하나를 하나의 짧은 트랜잭션에서 관리번호 일괄 조회 -> INSERT / UPDATE 배치로 반영한다.
+ * 내용이 같은 보호소는 UPDATE 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ShelterInfoBatchWriter {
+
+    // Oracle IN 목록 최대 개수
+    private static final int MAX_IN_LIST = 1000;
+
+    private static final double COORDINATE_EPSILON = 0.5e-7;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO SHELTER_INFO (" +
+            "care_reg_no, care_nm, org_nm, division_nm, save_trgt_animal, care_addr, jibun_addr, lat, lng, " +
+            "care_tel, dsignation_date, week_opr_stime, week_opr_etime, close_day, vet_person_cnt, " +
+            "specs_person_cnt, data_std_dt, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE SHELTER_INFO SET care_nm = ?, org_nm = ?, division_nm = ?, save_trgt_animal = ?, " +
+            "care_addr = ?, jibun_addr = ?, lat = ?, lng = ?, care_tel = ?, dsignation_date = ?, " +
+            "week_opr_stime = ?, week_opr_etime = ?, close_day = ?, vet_person_cnt = ?, specs_person_cnt = ?, " +
+            "data_std_dt = ?, updated_at = ? WHERE shelter_info_id = ?";
+
+    // 회원 보호소 / 매칭 기록 / 유기동물이 참조하지 않는 보호소만 삭제
+    private static final String DELETE_UNREFERENCED_SQL =
+            "DELETE FROM SHELTER_INFO s WHERE s.shelter_info_id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM SHELTER x WHERE x.shelter_info_id = s.shelter_info_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM SHELTER_MAPPING m WHERE m.shelter_info_id = s.shelter_info_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM SHELTER_ANIMALS a WHERE a.shelter_info_id = s.shelter_info_id)";
+
+    private final ShelterInfoRepository shelterInfoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ShelterInfoBatchWriter(ShelterInfoRepository shelterInfoRepository, JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.shelterInfoRepository = shelterInfoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 페이지 저장 결과
+     */
+    public record PageCounts(int inserted, int updated, int unchanged) {
+    }
+
+    /**
+     * 보호소 목록을 한 트랜잭션에서 저장 (관리번호 기준 UPSERT)
+     * 실패하면 페이지 전체가 롤백되며 예외를 그대로 던진다.
+     * @param shelters 관리번호가 서로 다른 보호소
+     */
+    public PageCounts write(List<ShelterInfo> shelters) {
+        if (shelters.isEmpty()) {
+            return new PageCounts(0, 0, 0);
+        }
+        return transactionTemplate.execute(status -> {
+            Map<String, ShelterInfo> existing = findByCareRegNos(
+                    shelters.stream().map(ShelterInfo::getCareRegNo).collect(Collectors.toList()));
+
+            List<ShelterInfo> inserts = new ArrayList<>();
+            List<Object[]> updates = new ArrayList<>();
+            int unchanged = 0;
+            for (ShelterInfo shelter : shelters) {
+                ShelterInfo current = existing.get(shelter.getCareRegNo());
+                if (current == null) {
+                    inserts.add(shelter);
+                } else if (sameContent(current, shelter)) {
+                    unchanged++;
+                } else {
+                    updates.add(new Object[] {current.getShelterInfoId(), shelter});
+                }
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, shelter) -> {
+                    int i = bindContent(ps, 1, shelter, true);
+                    ps.setTimestamp(i++, now);
+                    ps.setTimestamp(i, now);
+                });
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, update) -> {
+                    int i = bindContent(ps, 1, (ShelterInfo) update[1], false);
+                    ps.setTimestamp(i++, now);
+                    ps.setLong(i, (Long) update[0]);
+                });
+            }
+            return new PageCounts(inserts.size(), updates.size(), unchanged);
+        });
+    }
+
+    /**
+     * 이번 동기화에서 확인되지 않은 보호소 ID
+     */
+    public List<Long> findMissing(Set<String> seenCareRegNos) {
+        List<Long> missing = new ArrayList<>();
+        for (Object[] row : shelterInfoRepository.findLinkKeys()) {
+            if (!seenCareRegNos.contains((String) row[1])) {
+                missing.add(((Number) row[0]).longValue());
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 다른 테이블이 참조하지 않는 보호소 삭제 (chunkSize 건씩 별도 트랜잭션)
+     * @return 삭제한 건수 (참조 중인 보호소는 남김)
+     */
+    public int deleteUnreferenced(List<Long> shelterInfoIds, int chunkSize) {
+        int deleted = 0;
+        for (int from = 0; from < shelterInfoIds.size(); from += chunkSize) {
+            List<Long> chunk = shelterInfoIds.subList(from, Math.min(from + chunkSize, shelterInfoIds.size()));
+            int[][] counts = transactionTemplate.execute(status ->
+                    jdbcTemplate.batchUpdate(DELETE_UNREFERENCED_SQL, chunk, chunk.size(),
+                            (ps, id) -> ps.setLong(1, id)));
+            if (counts != null) {
+                for (int[] batch : counts) {
+                    for (int count : batch) {
+                        deleted += Math.max(count, 0);
+                    }
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private Map<String, ShelterInfo> findByCareRegNos(Collection<String> careRegNos) {
+        List<String> values = new ArrayList<>(careRegNos);
+        List<ShelterInfo> found = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += MAX_IN_LIST) {
+            found.addAll(shelterInfoRepository.findByCareRegNoIn(
+                    values.subList(from, Math.min(from + MAX_IN_LIST, values.size()))));
+        }
+        return found.stream().collect(Collectors.toMap(ShelterInfo::getCareRegNo, Function.identity(), (a, b) -> a));
+    }
+
+    /**
+     * 동기화 대상 컬럼이 모두 같은지
+     */
+    static boolean sameContent(ShelterInfo a, ShelterInfo b) {
+        return Objects.equals(a.getCareNm(), b.getCareNm())
+                && Objects.equals(a.getOrgNm(), b.getOrgNm())
+                && Objects.equals(a.getDivisionNm(), b.getDivisionNm())
+                && Objects.equals(a.getSaveTrgtAnimal(), b.getSaveTrgtAnimal())
+                && Objects.equals(a.getCareAddr(), b.getCareAddr())
+                && Objects.equals(a.getJibunAddr(), b.getJibunAddr())
+                && sameCoordinate(a.getLat(), b.getLat())
+                && sameCoordinate(a.getLng(), b.getLng())
+                && Objects.equals(a.getCareTel(), b.getCareTel())
+                && Objects.equals(a.getDsignationDate(), b.getDsignationDate())
+                && Objects.equals(a.getWeekOprStime(), b.getWeekOprStime())
+                && Objects.equals(a.getWeekOprEtime(), b.getWeekOprEtime())
+                && Objects.equals(a.getCloseDay(), b.getCloseDay())
+                && Objects.equals(a.getVetPersonCnt(), b.getVetPersonCnt())
+                && Objects.equals(a.getSpecsPersonCnt(), b.getSpecsPersonCnt())
+                && Objects.equals(a.getDataStdDt(), b.getDataStdDt());
+    }
+
+    // 좌표 컬럼은 NUMBER(10,7) 이므로 소수 7자리까지만 비교
+    private static boolean sameCoordinate(Double a, Double b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Math.abs(a - b) < COORDINATE_EPSILON;
+    }
+
+    /**
+     * 내용 컬럼 바인딩 (INSERT 는 관리번호 포함)
+     * @return 다음 파라미터 위치
+     */
+    private static int bindContent(PreparedStatement ps, int i, ShelterInfo s, boolean withCareRegNo) throws SQLException {
+        if (withCareRegNo) {
+            ps.setString(i++, s.getCareRegNo());
+        }
+        ps.setString(i++, s.getCareNm());
+        ps.setString(i++, s.getOrgNm());
+        ps.setString(i++, s.getDivisionNm());
+        ps.setString(i++, s.getSaveTrgtAnimal());
+        ps.setString(i++, s.getCareAddr());
+        ps.setString(i++, s.getJibunAddr());
+        setDouble(ps, i++, s.getLat());
+        setDouble(ps, i++, s.getLng());
+        ps.setString(i++, s.getCareTel());
+        setDate(ps, i++, s.getDsignationDate());
+        ps.setString(i++, s.getWeekOprStime());
+        ps.setString(i++, s.getWeekOprEtime());
+        ps.setString(i++, s.getCloseDay());
+        setInteger(ps, i++, s.getVetPersonCnt());
+        setInteger(ps, i++, s.getSpecsPersonCnt());
+        setDate(ps, i++, s.getDataStdDt());
+        return i;
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) {
+            ps.setDouble(index, value);
+        } else {
+            ps.setNull(index, Types.DOUBLE);
+        }
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate value) throws SQLException {
+        if (value != null) {
+            ps.setDate(index, Date.valueOf(value));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import com.petlogue.duopetbackend.info.jpa.repository.ShelterInfoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 공공데이터 보호소(SHELTER_INFO) 해시 조인용 키 맵
+ * 보호소 전체를 한 번 읽어 관리번호 / 정규화 전화번호 / 정규화 이름 -> shelter_info_id 맵을 만들어 두고,
+ * 동기화되는 동물이나 회원 보호소는 건별 조회 없이 맵 조회 한 번으로 연결한다.
+ * 같은 전화번호/이름을 가진 보호소가 여럿이면 그 키는 모호하므로 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShelterInfoLinker {
+
+    // 지역번호 없는 번호나 잘못 입력된 값은 다른 보호소와 겹칠 수 있으므로 제외
+    private static final int MIN_PHONE_DIGITS = 8;
+
+    private final ShelterInfoRepository shelterInfoRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 매칭 기준 (신뢰도 순)
+     */
+    public enum MatchType {
+        CARE_REG_NO(1.0), PHONE(0.9), NAME(0.7);
+
+        private final double score;
+
+        MatchType(double score) {
+            this.score = score;
+        }
+
+        public double score() {
+            return score;
+        }
+    }
+
+    /**
+     * 연결 결과
+     */
+    public record Link(long shelterInfoId, MatchType matchType) {
+    }
+
+    /**
+     * 불변 키 맵 - 재구성 시 통째로 교체
+     */
+    private record Snapshot(Map<String, Long> byCareRegNo, Map<String, Long> byPhone, Map<String, Long> byName) {
+    }
+
+    /**
+     * 관리번호 > 전화번호 > 이름 순으로 보호소 연결
+     * @return 연결된 보호소, 어느 키로도 하나로 정해지지 않으면 null
+     */
+    public Link resolve(String careRegNo, String name, String tel) {
+        Snapshot current = snapshot();
+
+        Long id = careRegNo != null ? current.byCareRegNo().get(careRegNo.trim()) : null;
+        if (id != null) {
+            return new Link(id, MatchType.CARE_REG_NO);
+        }
+        String phoneKey = normalizePhone(tel);
+        id = phoneKey != null ? current.byPhone().get(phoneKey) : null;
+        if (id != null) {
+            return new Link(id, MatchType.PHONE);
+        }
+        String nameKey = normalizeName(name);
+        id = nameKey != null ? current.byName().get(nameKey) : null;
+        return id != null ? new Link(id, MatchType.NAME) : null;
+    }
+
+    /**
+     * 연결된 shelter_info_id 만 필요한 경우
+     */
+    public Long resolveId(String careRegNo, String name, String tel) {
+        Link link = resolve(careRegNo, name, tel);
+        return link != null ? link.shelterInfoId() : null;
+    }
+
+    /**
+     * 보호소 데이터가 바뀐 뒤 호출 - 다음 조회 시 다시 읽음
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * 전화번호 정규화 (숫자만, 최소 자릿수 미만이면 null)
+     */
+    static String normalizePhone(String tel) {
+        if (tel == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(tel.length());
+        for (int i = 0; i < tel.length(); i++) {
+            char c = tel.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.length() >= MIN_PHONE_DIGITS ? digits.toString() : null;
+    }
+
+    /**
+     * 보호소명 정규화 (공백/기호 제거, 영문 소문자)
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.length() > 0 ? key.toString() : null;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        List<Object[]> rows = shelterInfoRepository.findLinkKeys();
+
+        Map<String, Long> byCareRegNo = new HashMap<>(rows.size() * 2);
+        Map<String, Long> byPhone = new HashMap<>(rows.size() * 2);
+        Map<String, Long> byName = new HashMap<>(rows.size() * 2);
+        Set<String> ambiguousPhones = new HashSet<>();
+        Set<String> ambiguousNames = new HashSet<>();
+
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            String careRegNo = (String) row[1];
+            if (careRegNo != null && !careRegNo.isBlank()) {
+                byCareRegNo.put(careRegNo.trim(), id);
+            }
+            putUnique(byPhone, ambiguousPhones, normalizePhone((String) row[3]), id);
+            putUnique(byName, ambiguousNames, normalizeName((String) row[2]), id);
+        }
+        ambiguousPhones.forEach(byPhone::remove);
+        ambiguousNames.forEach(byName::remove);
+
+        log.info("Shelter info link keys loaded: shelters={}, phones={} ({} ambiguous), names={} ({} ambiguous)",
+                rows.size(), byPhone.size(), ambiguousPhones.size(), byName.size(), ambiguousNames.size());
+        return new Snapshot(Map.copyOf(byCareRegNo), Map.copyOf(byPhone), Map.copyOf(byName));
+    }
+
+    private static void putUnique(Map<String, Long> map, Set<String> ambiguous, String key, Long id) {
+        if (key == null) {
+            return;
+        }
+        Long previous = map.putIfAbsent(key, id);
+        if (previous != null && !previous.equals(id)) {
+            ambiguous.add(key);
+        }
+    }
+}
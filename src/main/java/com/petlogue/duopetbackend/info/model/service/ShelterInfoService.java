@@ -1,5 +1,6 @@
 package com.petlogue.duopetbackend.info.model.service;
 
+import com.petlogue.duopetbackend.common.geo.GeoGridIndex;
 import com.petlogue.duopetbackend.info.jpa.entity.ShelterInfo;
 import com.petlogue.duopetbackend.info.jpa.repository.ShelterInfoRepository;
 import com.petlogue.duopetbackend.info.model.dto.ShelterInfoDto;
@@ -12,8 +13,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +31,8 @@ import java.util.stream.Collectors;
 public class ShelterInfoService {
     
     private final ShelterInfoRepository shelterInfoRepository;
+    private final InfoSpatialIndex infoSpatialIndex;
+    private final ShelterStatisticsCache shelterStatisticsCache;
     
     /**
      * 전체 보호소 목록 조회 (페이징)
@@ -96,20 +103,18 @@ public class ShelterInfoService {
     }
     
     /**
-     * 위치 기반 근처 보호소 조회
+     * 위치 기반 근처 보호소 조회 (공간 색인으로 반경 내 보호소를 거리순으로 찾은 뒤 해당 보호소만 조회)
      */
     public List<ShelterInfoDto> getNearbyShelters(Double lat, Double lng, Double radiusKm) {
-        List<ShelterInfo> nearbyShelters = shelterInfoRepository.findNearbySheleters(lat, lng, radiusKm);
-        
-        return nearbyShelters.stream()
-                .map(shelter -> {
-                    ShelterInfoDto dto = ShelterInfoDto.fromEntity(shelter);
-                    // 거리 계산 (Haversine formula)
-                    double distance = calculateDistance(lat, lng, shelter.getLat(), shelter.getLng());
-                    dto.setDistance(distance);
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtos(infoSpatialIndex.sheltersWithin(lat, lng, radiusKm, 0));
+    }
+    
+    /**
+     * 가장 가까운 보호소 k 곳 (거리순)
+     * @param maxRadiusKm 0 이하면 거리 제한 없음
+     */
+    public List<ShelterInfoDto> getNearestShelters(Double lat, Double lng, int k, double maxRadiusKm) {
+        return toDtos(infoSpatialIndex.nearestShelters(lat, lng, k, maxRadiusKm));
     }
     
     /**
@@ -126,44 +131,56 @@ public class ShelterInfoService {
     }
     
     /**
-     * 두 지점 간 거리 계산 (Haversine formula)
-     * @return 거리 (km)
+     * 색인 검색 결과 순서대로 보호소 DTO 생성 (거리 포함)
      */
-    private double calculateDistance(double lat1, double lng1, Double lat2, Double lng2) {
-        if (lat2 == null || lng2 == null) {
-            return Double.MAX_VALUE;
-        }
-        
-        final int R = 6371; // 지구 반지름 (km)
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lngDistance = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    private List<ShelterInfoDto> toDtos(GeoGridIndex.Hits hits) {
+        List<Long> ids = Arrays.stream(hits.ids()).boxed().collect(Collectors.toList());
+        Map<Long, ShelterInfo> byId = shelterInfoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ShelterInfo::getShelterInfoId, Function.identity()));
         
-        return R * c;
+        List<ShelterInfoDto> dtos = new ArrayList<>(ids.size());
+        for (int i = 0; i < hits.size(); i++) {
+            ShelterInfo shelter = byId.get(hits.ids()[i]);
+            if (shelter != null) {
+                ShelterInfoDto dto = ShelterInfoDto.fromEntity(shelter);
+                dto.setDistance(hits.distancesKm()[i]);
+                dtos.add(dto);
+            }
+        }
+        return dtos;
     }
     
     /**
-     * 통계 정보 조회
+     * 통계 정보 조회 - 동기화 전까지 캐시된 집계 결과 사용
      */
     public ShelterStatisticsDto getShelterStatistics() {
-        long totalCount = shelterInfoRepository.count();
+        return shelterStatisticsCache.get(this::aggregateStatistics);
+    }
+    
+    /**
+     * 구분별 / 시도별 / 전체 집계를 한 쿼리로 조회
+     */
+    private ShelterStatisticsDto aggregateStatistics() {
+        ShelterStatisticsDto.ShelterStatisticsDtoBuilder builder = ShelterStatisticsDto.builder();
+        List<Object[]> divisionStats = new ArrayList<>();
+        List<Object[]> sidoStats = new ArrayList<>();
         
-        // 보호소 구분별 통계
-        List<Object[]> divisionStats = shelterInfoRepository.findAll().stream()
-            .collect(Collectors.groupingBy(
-                ShelterInfo::getDivisionNm,
-                Collectors.counting()
-            ))
-            .entrySet().stream()
-            .map(entry -> new Object[]{entry.getKey(), entry.getValue()})
-            .collect(Collectors.toList());
+        for (Object[] row : shelterInfoRepository.findStatistics()) {
+            String group = (String) row[0];
+            long count = ((Number) row[2]).longValue();
+            switch (group) {
+                case "division" -> divisionStats.add(new Object[]{row[1], count});
+                case "sido" -> sidoStats.add(new Object[]{row[1], count});
+                default -> builder.totalCount(count)
+                        .sheltersWithVet(((Number) row[3]).longValue())
+                        .totalVetCount(((Number) row[4]).longValue())
+                        .totalSpecsCount(((Number) row[5]).longValue());
+            }
+        }
         
-        return ShelterStatisticsDto.builder()
-            .totalCount(totalCount)
+        return builder
             .divisionStats(divisionStats)
+            .sidoStats(sidoStats)
             .build();
     }
     
@@ -174,6 +191,10 @@ public class ShelterInfoService {
     @lombok.Builder
     public static class ShelterStatisticsDto {
         private long totalCount;
-        private List<Object[]> divisionStats;
+        private List<Object[]> divisionStats; // {보호소구분, 보호소 수}
+        private List<Object[]> sidoStats; // {시도, 보호소 수}
+        private long sheltersWithVet; // 수의사가 있는 보호소 수
+        private long totalVetCount; // 수의사 수 합계
+        private long totalSpecsCount; // 사양관리사 수 합계
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,13 @@
 package com.petlogue.duopetbackend.info.model.service;
 
+import com.petlogue.duopetbackend.common.geo.GeoGridIndex;
 import com.petlogue.duopetbackend.info.jpa.entity.ShelterEntity;
+import com.petlogue.duopetbackend.info.jpa.repository.ShelterQueryRepository;
+import com.petlogue.duopetbackend.info.jpa.repository.ShelterQueryRepository.ShelterRow;
 import com.petlogue.duopetbackend.info.jpa.repository.ShelterRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.petlogue.duopetbackend.info.model.dto.ShelterDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +20,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -23,29 +32,49 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ShelterService {
 
+    // 검색 결과 최대 개수 (size 미지정 시)
+    private static final int MAX_SEARCH_SIZE = 500;
+    
+    // 임시 평점 범위 (4.0~5.0)
+    private static final double MIN_PLACEHOLDER_RATING = 4.0;
+    private static final double MAX_PLACEHOLDER_RATING = 5.0;
+    
+    // 주소 키워드별 대략적인 좌표 (먼저 나열한 키워드 우선, 없으면 서울)
+    private record RegionCenter(String keyword, double latitude, double longitude) {
+    }
+    
+    private static final RegionCenter DEFAULT_REGION = new RegionCenter("서울", 37.5665, 126.9780);
+    
+    private static final List<RegionCenter> REGION_CENTERS = List.of(
+            DEFAULT_REGION,
+            new RegionCenter("부산", 35.1796, 129.0756),
+            new RegionCenter("대구", 35.8714, 128.6014),
+            new RegionCenter("인천", 37.4563, 126.7052),
+            new RegionCenter("광주", 35.1595, 126.8526),
+            new RegionCenter("대전", 36.3504, 127.3845),
+            new RegionCenter("울산", 35.5384, 129.3114),
+            new RegionCenter("경기", 37.4138, 127.5183));
+
     private final ShelterRepository shelterRepository;
+    private final ShelterQueryRepository shelterQueryRepository;
     
-    public ShelterService(@Qualifier("infoShelterRepository") ShelterRepository shelterRepository) {
+    public ShelterService(@Qualifier("infoShelterRepository") ShelterRepository shelterRepository,
+                          ShelterQueryRepository shelterQueryRepository) {
         this.shelterRepository = shelterRepository;
+        this.shelterQueryRepository = shelterQueryRepository;
     }
 
     /**
-     * 모든 활성화된 보호소 조회 (DTO 응답)
+     * 모든 활성화된 보호소 조회 (DTO 응답) - 한 페이지만 조회
      */
     public Page<ShelterDto.Response> getAllShelters(Pageable pageable) {
-        List<Object[]> results = shelterRepository.findActiveShelters();
-        
-        // DTO로 변환
-        List<ShelterDto.Response> responses = results.stream()
+        List<ShelterDto.Response> content = shelterQueryRepository.findPage(
+                        null, ShelterQueryRepository.order("name", true),
+                        pageable.getOffset(), pageable.getPageSize())
+                .stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
-        
-        // 수동으로 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), responses.size());
-        
-        List<ShelterDto.Response> pageContent = responses.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, responses.size());
+        return new PageImpl<>(content, pageable, shelterQueryRepository.count(null));
     }
 
     /**
@@ -59,84 +88,87 @@ public class ShelterService {
         return new PageImpl<>(shelters, pageable, results.getTotalElements());
     }
 
-    /**
-     * 모든 활성화된 보호소 조회 (Entity 반환 - 호환성용)
-     */
-    public List<ShelterEntity> getAllActiveShelters() {
-        List<Object[]> results = shelterRepository.findActiveShelters();
-        return results.stream()
-                .map(this::mapToShelterEntity)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 키워드로 보호소 검색 (DTO 응답)
+     * 키워드 / 유형 / 관리자 / 수용 인원 / 거리 조건과 정렬, 건수 제한을 SQL 로 처리한다.
+     * 거리는 주소로 추정한 좌표 기준이다.
+     * 평점은 저장된 컬럼이 없는 임시 값이라 SQL 로 거르거나 정렬할 수 없다. minRating 과 평점 정렬은
+     * SQL 로 조회한 한 페이지(최대 MAX_SEARCH_SIZE 건, 평점 정렬이면 이름순 페이지) 안에서만 적용되므로
+     * 그 밖의 보호소는 평점과 관계없이 결과에 포함되지 않는다. 평점 컬럼이 생기면 SQL 조건으로 옮겨야 한다.
      */
     public List<ShelterDto.Response> searchShelters(ShelterDto.SearchRequest searchRequest) {
-        List<Object[]> results;
+        Double minRating = searchRequest.getMinRating();
+        if (minRating != null && minRating > MAX_PLACEHOLDER_RATING) {
+            return List.of();
+        }
         
-        // 키워드로 검색
+        BooleanBuilder where = new BooleanBuilder();
         if (searchRequest.getKeyword() != null && !searchRequest.getKeyword().trim().isEmpty()) {
-            results = shelterRepository.findActiveSheltersByKeywordSearch(searchRequest.getKeyword());
-        } else {
-            results = shelterRepository.findActiveShelters();
+            where.and(ShelterQueryRepository.keyword(searchRequest.getKeyword()));
         }
-
-        // DTO로 변환하면서 거리 계산
-        List<ShelterDto.Response> responses = results.stream()
-                .map(row -> convertToResponseWithDistance(row, 
-                     searchRequest.getUserLatitude(), 
-                     searchRequest.getUserLongitude()))
-                .collect(Collectors.toList());
-
-        // 보호소 타입 필터 적용
         if (searchRequest.getType() != null && !searchRequest.getType().trim().isEmpty()) {
-            responses = responses.stream()
-                    .filter(response -> searchRequest.getType().equals(response.getType()))
-                    .collect(Collectors.toList());
+            switch (searchRequest.getType()) {
+                case "public" -> where.and(ShelterQueryRepository.publicType());
+                case "organization" -> where.and(ShelterQueryRepository.organizationType());
+                case "private" -> where.and(ShelterQueryRepository.privateType());
+                default -> {
+                    return List.of();
+                }
+            }
         }
-
-        // 최소 평점 필터 적용
-        if (searchRequest.getMinRating() != null) {
-            responses = responses.stream()
-                    .filter(response -> response.getRating() != null && 
-                           response.getRating() >= searchRequest.getMinRating())
-                    .collect(Collectors.toList());
+        if (searchRequest.getManagerName() != null && !searchRequest.getManagerName().trim().isEmpty()) {
+            where.and(ShelterQueryRepository.managerName(searchRequest.getManagerName()));
         }
-
-        // 거리 필터 적용
-        if (searchRequest.getMaxDistance() != null && searchRequest.getUserLatitude() != null) {
-            responses = responses.stream()
-                    .filter(response -> response.getDistance() == null || 
-                           response.getDistance() <= searchRequest.getMaxDistance())
-                    .collect(Collectors.toList());
+        where.and(ShelterQueryRepository.capacityBetween(searchRequest.getMinCapacity(), searchRequest.getMaxCapacity()));
+        
+        BigDecimal userLat = searchRequest.getUserLatitude();
+        BigDecimal userLng = searchRequest.getUserLongitude();
+        NumberExpression<Double> distance = null;
+        if (userLat != null && userLng != null) {
+            distance = estimatedDistance(userLat.doubleValue(), userLng.doubleValue());
+            if (searchRequest.getMaxDistance() != null) {
+                where.and(distance.loe(searchRequest.getMaxDistance().doubleValue()));
+            }
         }
-
-        // 정렬 적용
-        responses = sortResults(responses, searchRequest.getSortBy(), searchRequest.getSortOrder());
-
-        return responses;
-    }
-
-    /**
-     * 키워드로 보호소 검색 (Entity 반환 - 호환성용)
-     */
-    public List<ShelterEntity> searchSheltersByKeyword(String keyword) {
-        List<Object[]> results = shelterRepository.findActiveSheltersByKeywordSearch(keyword);
-        return results.stream()
-                .map(this::mapToShelterEntity)
+        
+        String sortBy = searchRequest.getSortBy() != null ? searchRequest.getSortBy().toLowerCase() : "distance";
+        boolean ascending = !"desc".equalsIgnoreCase(searchRequest.getSortOrder());
+        OrderSpecifier<?>[] orders;
+        if ("distance".equals(sortBy) && distance != null) {
+            orders = ShelterQueryRepository.orderByValue(distance, ascending);
+        } else if ("name".equals(sortBy) || "capacity".equals(sortBy)) {
+            orders = ShelterQueryRepository.order(sortBy, ascending);
+        } else {
+            orders = ShelterQueryRepository.order("name", true);
+        }
+        
+        int size = searchRequest.getSize() != null
+                ? Math.max(1, Math.min(searchRequest.getSize(), MAX_SEARCH_SIZE))
+                : MAX_SEARCH_SIZE;
+        int page = searchRequest.getPage() != null ? Math.max(0, searchRequest.getPage()) : 0;
+        
+        List<ShelterDto.Response> responses = shelterQueryRepository.findPage(where, orders, (long) page * size, size)
+                .stream()
+                .map(row -> convertToResponseWithDistance(row, userLat, userLng))
                 .collect(Collectors.toList());
+        
+        // 임시 평점 조건 / 정렬 (조회한 결과 안에서)
+        if (minRating != null && minRating > MIN_PLACEHOLDER_RATING) {
+            responses.removeIf(response -> response.getRating() < minRating);
+        }
+        if ("rating".equals(sortBy)) {
+            Comparator<ShelterDto.Response> byRating = Comparator.comparing(ShelterDto.Response::getRating);
+            responses.sort(ascending ? byRating : byRating.reversed());
+        }
+        
+        return responses;
     }
 
     /**
      * 특정 보호소 상세 정보 조회 (DTO 응답)
      */
     public Optional<ShelterDto.Response> getShelterResponseById(Long shelterId) {
-        List<Object[]> results = shelterRepository.findActiveShelterById(shelterId);
-        if (results.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(convertToResponse(results.get(0)));
+        return shelterQueryRepository.findActiveById(shelterId).map(this::convertToResponse);
     }
 
     /**
@@ -150,31 +182,21 @@ public class ShelterService {
         return mapToShelterEntity(results.get(0));
     }
 
-    /**
-     * 거리 기반 정렬 (프론트엔드에서 사용자 위치 기반으로 계산)
-     * 여기서는 기본 정렬만 제공하고, 실제 거리 계산은 프론트엔드에서 수행
-     */
-    public List<ShelterEntity> getSheltersNearLocation(double lat, double lng, int radiusKm) {
-        // 일단 모든 보호소를 반환하고, 프론트엔드에서 거리 계산 및 필터링
-        return getAllActiveShelters();
-    }
-
     /**
      * 디버깅용 메서드 - 데이터베이스 연결 및 데이터 확인
      */
     public String getDebugInfo() {
         try {
-            List<Object[]> results = shelterRepository.findActiveShelters();
+            long total = shelterQueryRepository.count(null);
+            List<ShelterRow> first = shelterQueryRepository.findPage(
+                    null, ShelterQueryRepository.order("name", true), 0, 1);
             StringBuilder debug = new StringBuilder();
             debug.append("=== 보호소 디버깅 정보 ===\n");
-            debug.append("총 활성화된 보호소 수: ").append(results.size()).append("\n");
+            debug.append("총 활성화된 보호소 수: ").append(total).append("\n");
             
-            if (!results.isEmpty()) {
+            if (!first.isEmpty()) {
                 debug.append("첫 번째 보호소 정보:\n");
-                Object[] first = results.get(0);
-                for (int i = 0; i < first.length; i++) {
-                    debug.append("  [").append(i).append("] ").append(first[i]).append("\n");
-                }
+                debug.append("  ").append(first.get(0)).append("\n");
             }
             
             return debug.toString();
@@ -184,33 +206,21 @@ public class ShelterService {
     }
 
     /**
-     * Object[] 배열을 ShelterDto.Response로 변환하는 메서드
+     * 조회 행을 ShelterDto.Response로 변환하는 메서드
      */
-    private ShelterDto.Response convertToResponse(Object[] row) {
+    private ShelterDto.Response convertToResponse(ShelterRow row) {
         return convertToResponseWithDistance(row, null, null);
     }
 
     /**
-     * Object[] 배열을 ShelterDto.Response로 변환하고 거리 계산
+     * 조회 행을 ShelterDto.Response로 변환하고 거리 계산
      */
-    private ShelterDto.Response convertToResponseWithDistance(Object[] row, 
+    private ShelterDto.Response convertToResponseWithDistance(ShelterRow row, 
                                                             BigDecimal userLat, 
                                                             BigDecimal userLng) {
-        // 기본 정보 추출
-        Long shelterId = row[0] != null ? ((Number) row[0]).longValue() : null;
-        Long userId = row[1] != null ? ((Number) row[1]).longValue() : null;
-        String shelterName = (String) row[2];
-        String phone = (String) row[3];
-        String email = (String) row[4];
-        String address = (String) row[5];
-        String website = (String) row[6];
-        Integer capacity = row[7] != null ? ((Number) row[7]).intValue() : null;
-        String operatingHours = (String) row[8];
-        String renameFilename = (String) row[9];
-        String originalFilename = (String) row[10];
-        String managerName = (String) row[11];
-        String role = (String) row[12];
-        String status = (String) row[13];
+        String shelterName = row.shelterName();
+        String address = row.address();
+        Integer capacity = row.capacity();
 
         // 임시 데이터 생성
         Double rating = 4.0 + Math.random(); // 4.0~5.0 임시 평점
@@ -223,32 +233,27 @@ public class ShelterService {
         Double distance = null;
         if (userLat != null && userLng != null) {
             // 실제로는 보호소의 위도/경도가 필요하지만, 임시로 주소 기반 추정
-            BigDecimal shelterLat = getEstimatedLatitude(address);
-            BigDecimal shelterLng = getEstimatedLongitude(address);
-            if (shelterLat != null && shelterLng != null) {
-                distance = calculateDistance(
-                    userLat.doubleValue(), userLng.doubleValue(),
-                    shelterLat.doubleValue(), shelterLng.doubleValue()
-                );
-            }
+            RegionCenter region = estimateRegion(address);
+            distance = GeoGridIndex.distanceKm(userLat.doubleValue(), userLng.doubleValue(),
+                    region.latitude(), region.longitude());
         }
 
         return ShelterDto.Response.builder()
-                .shelterId(shelterId)
-                .userId(userId)
+                .shelterId(row.shelterId())
+                .userId(row.userId())
                 .name(shelterName)
                 .shelterName(shelterName)
-                .phone(phone)
-                .email(email)
+                .phone(row.phone())
+                .email(row.email())
                 .address(address)
-                .website(website)
+                .website(row.website())
                 .capacity(capacity)
-                .operatingHours(operatingHours)
-                .renameFilename(renameFilename)
-                .originalFilename(originalFilename)
-                .managerName(managerName)
-                .role(role)
-                .status(status)
+                .operatingHours(row.operatingHours())
+                .renameFilename(row.renameFilename())
+                .originalFilename(row.originalFilename())
+                .managerName(row.managerName())
+                .role(row.role())
+                .status(row.status())
                 .currentAnimals(currentAnimals)
                 .rating(rating)
                 .type(type)
@@ -313,97 +318,43 @@ public class ShelterService {
     }
 
     /**
-     * 주소로부터 대략적인 위도 추정
+     * 주소로부터 대략적인 지역 추정 (REGION_CENTERS 순서대로 첫 번째 포함 키워드)
      */
-    private BigDecimal getEstimatedLatitude(String address) {
-        if (address == null) return BigDecimal.valueOf(37.5665); // 서울 기본값
-        
-        // 주요 도시별 대략적인 위도
-        if (address.contains("서울")) return BigDecimal.valueOf(37.5665);
-        if (address.contains("부산")) return BigDecimal.valueOf(35.1796);
-        if (address.contains("대구")) return BigDecimal.valueOf(35.8714);
-        if (address.contains("인천")) return BigDecimal.valueOf(37.4563);
-        if (address.contains("광주")) return BigDecimal.valueOf(35.1595);
-        if (address.contains("대전")) return BigDecimal.valueOf(36.3504);
-        if (address.contains("울산")) return BigDecimal.valueOf(35.5384);
-        if (address.contains("경기")) return BigDecimal.valueOf(37.4138);
-        
-        return BigDecimal.valueOf(37.5665); // 기본값
+    private RegionCenter estimateRegion(String address) {
+        if (address != null) {
+            for (RegionCenter region : REGION_CENTERS) {
+                if (address.contains(region.keyword())) {
+                    return region;
+                }
+            }
+        }
+        return DEFAULT_REGION;
     }
 
     /**
-     * 주소로부터 대략적인 경도 추정
+     * 주소로부터 대략적인 위도 추정
      */
-    private BigDecimal getEstimatedLongitude(String address) {
-        if (address == null) return BigDecimal.valueOf(126.9780); // 서울 기본값
-        
-        // 주요 도시별 대략적인 경도
-        if (address.contains("서울")) return BigDecimal.valueOf(126.9780);
-        if (address.contains("부산")) return BigDecimal.valueOf(129.0756);
-        if (address.contains("대구")) return BigDecimal.valueOf(128.6014);
-        if (address.contains("인천")) return BigDecimal.valueOf(126.7052);
-        if (address.contains("광주")) return BigDecimal.valueOf(126.8526);
-        if (address.contains("대전")) return BigDecimal.valueOf(127.3845);
-        if (address.contains("울산")) return BigDecimal.valueOf(129.3114);
-        if (address.contains("경기")) return BigDecimal.valueOf(127.5183);
-        
-        return BigDecimal.valueOf(126.9780); // 기본값
+    private BigDecimal getEstimatedLatitude(String address) {
+        return BigDecimal.valueOf(estimateRegion(address).latitude());
     }
 
     /**
-     * 거리 계산 (Haversine 공식)
+     * 주소로부터 대략적인 경도 추정
      */
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        final int R = 6371; // 지구 반지름 (km)
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lngDistance = Math.toRadians(lng2 - lng1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+    private BigDecimal getEstimatedLongitude(String address) {
+        return BigDecimal.valueOf(estimateRegion(address).longitude());
     }
 
     /**
-     * 검색 결과 정렬
+     * 사용자 위치에서 주소 추정 좌표까지의 거리 (SQL 식, km) - estimateRegion 과 같은 우선순위
      */
-    private List<ShelterDto.Response> sortResults(List<ShelterDto.Response> responses, 
-                                                String sortBy, String sortOrder) {
-        final String finalSortBy = sortBy != null ? sortBy : "distance";
-        final String finalSortOrder = sortOrder != null ? sortOrder : "asc";
-
-        boolean ascending = "asc".equalsIgnoreCase(finalSortOrder);
-
-        return responses.stream()
-                .sorted((a, b) -> {
-                    int result = 0;
-                    switch (finalSortBy.toLowerCase()) {
-                        case "distance":
-                            if (a.getDistance() == null && b.getDistance() == null) result = 0;
-                            else if (a.getDistance() == null) result = 1;
-                            else if (b.getDistance() == null) result = -1;
-                            else result = Double.compare(a.getDistance(), b.getDistance());
-                            break;
-                        case "rating":
-                            if (a.getRating() == null && b.getRating() == null) result = 0;
-                            else if (a.getRating() == null) result = 1;
-                            else if (b.getRating() == null) result = -1;
-                            else result = Double.compare(a.getRating(), b.getRating());
-                            break;
-                        case "name":
-                            result = a.getName().compareTo(b.getName());
-                            break;
-                        case "capacity":
-                            if (a.getCapacity() == null && b.getCapacity() == null) result = 0;
-                            else if (a.getCapacity() == null) result = 1;
-                            else if (b.getCapacity() == null) result = -1;
-                            else result = Integer.compare(a.getCapacity(), b.getCapacity());
-                            break;
-                        default:
-                            result = 0;
-                    }
-                    return ascending ? result : -result;
-                })
-                .collect(Collectors.toList());
+    private NumberExpression<Double> estimatedDistance(double userLat, double userLng) {
+        Map<String, Double> distanceByKeyword = new LinkedHashMap<>();
+        for (RegionCenter region : REGION_CENTERS) {
+            distanceByKeyword.put(region.keyword(),
+                    GeoGridIndex.distanceKm(userLat, userLng, region.latitude(), region.longitude()));
+        }
+        return ShelterQueryRepository.byAddressKeyword(distanceByKeyword,
+                GeoGridIndex.distanceKm(userLat, userLng, DEFAULT_REGION.latitude(), DEFAULT_REGION.longitude()));
     }
 }
\ No newline at end of file
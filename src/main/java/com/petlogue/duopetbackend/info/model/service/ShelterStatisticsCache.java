@@ -0,0 +1,66 @@
+package com.petlogue.duopetbackend.info.model.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공공 보호소 통계 캐시 (버전 기반)
+ * 보호소 동기화가 커밋되면 버전을 올리고, 다음 조회에서 버전이 다르면 집계 쿼리를 다시 실행한다.
+ * 집계 중에 버전이 바뀌면 그 결과는 옛 버전으로 저장되어 다음 조회에서 다시 집계된다.
+ */
+@Slf4j
+@Component
+public class ShelterStatisticsCache {
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Entry entry;
+
+    private record Entry(long version, ShelterInfoService.ShelterStatisticsDto statistics) {
+    }
+
+    /**
+     * 현재 버전의 통계, 없으면 loader 로 집계 (동시에 한 번만 실행)
+     */
+    public ShelterInfoService.ShelterStatisticsDto get(Supplier<ShelterInfoService.ShelterStatisticsDto> loader) {
+        Entry cached = entry;
+        if (cached != null && cached.version() == version.get()) {
+            return cached.statistics();
+        }
+        synchronized (this) {
+            long current = version.get();
+            cached = entry;
+            if (cached != null && cached.version() == current) {
+                return cached.statistics();
+            }
+            ShelterInfoService.ShelterStatisticsDto statistics = loader.get();
+            entry = new Entry(current, statistics);
+            return statistics;
+        }
+    }
+
+    /**
+     * 보호소 데이터가 바뀐 뒤 호출 - 트랜잭션 안이면 커밋 후에 버전을 올림
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        } else {
+            bump();
+        }
+    }
+
+    private void bump() {
+        log.info("Shelter statistics invalidated (version {})", version.incrementAndGet());
+    }
+}
@@ -146,6 +146,9 @@ public class SecurityConfig implements WebMvcConfigurer {
                         
                         // 건강 기록 관련 - 인증 필요
                         .requestMatchers("/api/health/**").authenticated()
+
+                        // 입양 저장된 검색/알림 - 인증 필요 (/api/adoption/** 공개 규칙보다 먼저)
+                        .requestMatchers("/api/adoption/saved-searches/**").authenticated()
                         
                         // 전문가 상담 관련 - 나머지는 인증 필요
                         .requestMatchers("/api/consultation/**").authenticated()
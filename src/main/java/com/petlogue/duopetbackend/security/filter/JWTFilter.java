@@ -56,7 +56,7 @@ public class JWTFilter extends OncePerRequestFilter {
 
                 || url.startsWith("/api/info")
                 || url.startsWith("/info")
-                || url.startsWith("/api/adoption")
+                || (url.startsWith("/api/adoption") && !url.startsWith("/api/adoption/saved-searches"))
                 || url.startsWith("/api/hospitals")
                 || url.equals("/api/summary/public")
 
@@ -37,6 +37,7 @@ public class UserController {
     private final JWTUtil jwtUtil;
     private final com.petlogue.duopetbackend.user.jpa.repository.VetRepository vetRepository;
     private final com.petlogue.duopetbackend.consultation.jpa.repository.VetProfileRepository vetProfileRepository;
+    private final RestTemplate restTemplate;
 
     /**
      * 회원가입 1단계 - 아이디, 비밀번호 입력 처리
@@ -313,7 +314,6 @@ public class UserController {
 
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-            RestTemplate restTemplate = new RestTemplate();
             String fastApiUrl = "http://localhost:8000/api/v1/face-login/register";
             ResponseEntity<String> response = restTemplate.postForEntity(fastApiUrl, requestEntity, String.class);
 
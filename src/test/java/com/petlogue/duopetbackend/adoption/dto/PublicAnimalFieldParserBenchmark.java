@@ -0,0 +1,168 @@
+package com.petlogue.duopetbackend.adoption.dto;
+
+import com.petlogue.duopetbackend.adoption.model.dto.PublicAnimalFieldParser;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 공공 API 필드 파싱 처리량 비교 (테스트가 아닌 수동 실행용)
+ * 기존 PublicAnimalApiResponse 의 정규식 파싱(호출마다 패턴 컴파일, replaceAll)과
+ * PublicAnimalFieldParser 를 같은 입력 분포로 돌려 항목당 시간을 출력한다.
+ * 입력은 실제 피드처럼 "dddd(년생)", "d.d(Kg)", YYYYMMDD 가 대부분이고 나머지 형식이 섞여 있다.
+ *
+ * 실행: java -cp build/classes/java/main:build/classes/java/test \
+ *         com.petlogue.duopetbackend.adoption.dto.PublicAnimalFieldParserBenchmark [항목 수] [반복 수]
+ */
+public class PublicAnimalFieldParserBenchmark {
+
+    private static final String[] RARE_AGES = {"6개월", "3", "2020년생", "추정 2018(년생)", "2025(60일미만)(년생)", "나이 미상"};
+    private static final String[] RARE_WEIGHTS = {"0.5(Kg)", "3.2.1(Kg)", "약 4kg", "(Kg)", "12(Kg)"};
+
+    // 결과를 버리지 않도록 누적
+    private static long sink;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        Random random = new Random(3);
+        String[] ages = new String[size];
+        String[] weights = new String[size];
+        String[] dates = new String[size];
+        for (int i = 0; i < size; i++) {
+            ages[i] = random.nextInt(10) == 0
+                    ? RARE_AGES[random.nextInt(RARE_AGES.length)]
+                    : (2010 + random.nextInt(17)) + "(년생)";
+            weights[i] = random.nextInt(10) == 0
+                    ? RARE_WEIGHTS[random.nextInt(RARE_WEIGHTS.length)]
+                    : (1 + random.nextInt(30)) + "." + random.nextInt(10) + "(Kg)";
+            dates[i] = String.format("2025%02d%02d", 1 + random.nextInt(12), 1 + random.nextInt(28));
+        }
+
+        // JIT 예열 후 측정
+        for (int pass = 0; pass < 2; pass++) {
+            boolean print = pass == 1;
+            run("legacy regex", print, size, rounds, () -> {
+                for (int i = 0; i < size; i++) {
+                    Integer age = Legacy.parseAge(ages[i]);
+                    Double weight = Legacy.parseWeight(weights[i]);
+                    LocalDate date = Legacy.parseDate(dates[i]);
+                    sink += (age != null ? age : 0) + (weight != null ? weight.longValue() : 0)
+                            + (date != null ? date.getDayOfMonth() : 0);
+                }
+            });
+            run("parser, no cache*", print, size, rounds, () -> {
+                for (int i = 0; i < size; i++) {
+                    Integer age = PublicAnimalFieldParser.parseAge(ages[i], 2026);
+                    LocalDate date = PublicAnimalFieldParser.parseDate(dates[i]);
+                    sink += (age != null ? age : 0) + (date != null ? date.getDayOfMonth() : 0);
+                }
+            });
+            run("parser, cached", print, size, rounds, () -> {
+                for (int i = 0; i < size; i++) {
+                    Integer age = PublicAnimalFieldParser.parseAge(ages[i]);
+                    Double weight = PublicAnimalFieldParser.parseWeight(weights[i]);
+                    LocalDate date = PublicAnimalFieldParser.parseDate(dates[i]);
+                    sink += (age != null ? age : 0) + (weight != null ? weight.longValue() : 0)
+                            + (date != null ? date.getDayOfMonth() : 0);
+                }
+            });
+        }
+        System.out.println("* 나이 / 날짜만 (체중은 캐시 경로만 공개)");
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void run(String label, boolean print, int size, int rounds, Runnable body) {
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            body.run();
+        }
+        double nsPerItem = (System.nanoTime() - start) / (double) ((long) size * rounds);
+        if (print) {
+            System.out.printf("%-18s %8.1f ns/item%n", label, nsPerItem);
+        }
+    }
+
+    /**
+     * 기존 PublicAnimalApiResponse 파싱 코드 (비교 기준, 동작 그대로)
+     */
+    static final class Legacy {
+
+        static Integer parseAge(String ageData) {
+            if (ageData == null || ageData.trim().isEmpty()) {
+                return null;
+            }
+            try {
+                String cleanData = ageData.trim();
+
+                Pattern birthYearPattern = Pattern.compile("(\\d{4})\\s*\\(\\s*년생\\s*\\)");
+                Matcher birthYearMatcher = birthYearPattern.matcher(cleanData);
+                if (birthYearMatcher.find()) {
+                    int birthYear = Integer.parseInt(birthYearMatcher.group(1));
+                    int currentYear = java.time.Year.now().getValue();
+                    int age = currentYear - birthYear;
+                    if (birthYear >= 1990 && birthYear <= currentYear && age >= 0 && age <= 35) {
+                        return age;
+                    }
+                    return null;
+                }
+
+                Pattern yearPattern = Pattern.compile("\\b(20[0-2][0-9])\\b");
+                Matcher yearMatcher = yearPattern.matcher(cleanData);
+                if (yearMatcher.find()) {
+                    int birthYear = Integer.parseInt(yearMatcher.group(1));
+                    int currentYear = java.time.Year.now().getValue();
+                    int age = currentYear - birthYear;
+                    if (age >= 0 && age <= 35) {
+                        return age;
+                    }
+                }
+
+                Pattern monthPattern = Pattern.compile("(\\d+)\\s*개월");
+                Matcher monthMatcher = monthPattern.matcher(cleanData);
+                if (monthMatcher.find()) {
+                    int months = Integer.parseInt(monthMatcher.group(1));
+                    if (months >= 0 && months <= 60) {
+                        return months / 12;
+                    }
+                }
+
+                Pattern simpleAgePattern = Pattern.compile("\\b([0-9]|[1-2][0-9]|30)\\b");
+                Matcher simpleAgeMatcher = simpleAgePattern.matcher(cleanData);
+                if (simpleAgeMatcher.find()) {
+                    return Integer.parseInt(simpleAgeMatcher.group(1));
+                }
+                return null;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        static Double parseWeight(String weight) {
+            if (weight == null) {
+                return null;
+            }
+            try {
+                String weightStr = weight.replaceAll("[^0-9.]", "");
+                return weightStr.isEmpty() ? null : Double.parseDouble(weightStr);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        static LocalDate parseDate(String dateStr) {
+            if (dateStr == null || dateStr.length() != 8) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(dateStr, DateTimeFormatter.BASIC_ISO_DATE);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
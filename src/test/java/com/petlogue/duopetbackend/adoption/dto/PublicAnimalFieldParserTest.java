@@ -0,0 +1,93 @@
+package com.petlogue.duopetbackend.adoption.dto;
+
+import com.petlogue.duopetbackend.adoption.model.dto.PublicAnimalFieldParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PublicAnimalFieldParserTest {
+
+    private static final String GOLDEN_FILE = "/adoption/public-animal-field-golden.tsv";
+    private static final int GOLDEN_YEAR = 2026;
+
+    private record Sample(String field, String raw, String expected) {
+    }
+
+    @Test
+    void matchesGoldenResults() throws IOException {
+        List<Sample> samples = loadSamples();
+        assertFalse(samples.isEmpty());
+
+        List<String> failures = new ArrayList<>();
+        for (Sample sample : samples) {
+            Object parsed = switch (sample.field()) {
+                case "age" -> PublicAnimalFieldParser.parseAge(sample.raw(), GOLDEN_YEAR);
+                case "weight" -> PublicAnimalFieldParser.parseWeight(sample.raw());
+                case "date" -> PublicAnimalFieldParser.parseDate(sample.raw());
+                default -> throw new IllegalArgumentException("Unknown field: " + sample.field());
+            };
+            String actual = parsed == null ? "<null>" : parsed.toString();
+            if (!actual.equals(sample.expected())) {
+                failures.add(sample.field() + " [" + sample.raw() + "] expected " + sample.expected() + " but was " + actual);
+            }
+        }
+        assertTrue(failures.isEmpty(), String.join("\n", failures));
+    }
+
+    @Test
+    void cachedAgeMatchesUncached() throws IOException {
+        int currentYear = Year.now().getValue();
+        for (Sample sample : loadSamples()) {
+            if (!sample.field().equals("age")) {
+                continue;
+            }
+            Integer expected = PublicAnimalFieldParser.parseAge(sample.raw(), currentYear);
+            // 두 번째 호출은 캐시에서 반환
+            assertEquals(expected, PublicAnimalFieldParser.parseAge(sample.raw()), sample.raw());
+            assertEquals(expected, PublicAnimalFieldParser.parseAge(sample.raw()), sample.raw());
+        }
+    }
+
+    @Test
+    void cachedWeightIsStable() {
+        assertEquals(3.2, PublicAnimalFieldParser.parseWeight("3.2(Kg)"));
+        assertEquals(3.2, PublicAnimalFieldParser.parseWeight("3.2(Kg)"));
+        assertNull(PublicAnimalFieldParser.parseWeight("3.2.1(Kg)"));
+        assertNull(PublicAnimalFieldParser.parseWeight("3.2.1(Kg)"));
+    }
+
+    private List<Sample> loadSamples() throws IOException {
+        List<Sample> samples = new ArrayList<>();
+        try (InputStream in = Objects.requireNonNull(getClass().getResourceAsStream(GOLDEN_FILE), GOLDEN_FILE);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                assertEquals(3, columns.length, line);
+                samples.add(new Sample(columns[0], decode(columns[1]), columns[2]));
+            }
+        }
+        return samples;
+    }
+
+    private static String decode(String raw) {
+        return switch (raw) {
+            case "<null>" -> null;
+            case "<empty>" -> "";
+            default -> raw;
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.petlogue.duopetbackend.adoption.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAlert;
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSavedSearch;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAlertRepository;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionAnimalRepository;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionSavedSearchRepository;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAlertDto;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionSavedSearchDto;
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionAlertService;
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionSavedSearchMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class AdoptionAlertServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    private AdoptionAlertRepository alertRepository;
+    private AdoptionSavedSearchRepository savedSearchRepository;
+    private AdoptionSavedSearchMatcher matcher;
+    private AdoptionAlertService service;
+
+    // 대기 알림 5건 (최신순)
+    private final List<AdoptionAlert> pending = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 5; id >= 1; id--) {
+            pending.add(AdoptionAlert.builder()
+                    .alertId(id)
+                    .searchId(1L)
+                    .userId(USER_ID)
+                    .desertionNo("D" + id)
+                    .delivered("N")
+                    .build());
+        }
+
+        alertRepository = mock(AdoptionAlertRepository.class);
+        when(alertRepository.findByUserIdAndDeliveredOrderByAlertIdDesc(eq(USER_ID), eq("N"), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    Pageable page = invocation.getArgument(2);
+                    return pending.subList(0, Math.min(page.getPageSize(), pending.size()));
+                });
+
+        savedSearchRepository = mock(AdoptionSavedSearchRepository.class);
+        matcher = mock(AdoptionSavedSearchMatcher.class);
+        service = new AdoptionAlertService(savedSearchRepository, alertRepository,
+                mock(AdoptionAnimalRepository.class), matcher, mock(JdbcTemplate.class),
+                mock(SimpMessagingTemplate.class), mock(SimpUserRegistry.class));
+    }
+
+    @Test
+    void marksOnlyReturnedAlertsDelivered() {
+        List<AdoptionAlertDto> alerts = service.getAlerts(USER_ID, true, 2);
+
+        assertEquals(2, alerts.size());
+        assertEquals("D5", alerts.get(0).getDesertionNo());
+        assertEquals("D4", alerts.get(1).getDesertionNo());
+        // 페이지 밖의 대기 알림 3건은 그대로 남아 다음 조회에서 받아 감
+        verify(alertRepository).markDeliveredByIds(List.of(5L, 4L));
+    }
+
+    @Test
+    void skipsUpdateWhenReturnedAlertsAreAlreadyDelivered() {
+        AdoptionAlert delivered = pending.get(0);
+        delivered.setDelivered("Y");
+        when(alertRepository.findByUserIdOrderByAlertIdDesc(eq(USER_ID), any(Pageable.class)))
+                .thenReturn(List.of(delivered));
+
+        service.getAlerts(USER_ID, false, 20);
+
+        verify(alertRepository, never()).markDeliveredByIds(anyList());
+    }
+
+    @Test
+    void registersSavedSearchInMatcherOnlyAfterCommit() {
+        ReflectionTestUtils.setField(service, "maxSearchesPerUser", 10);
+        when(savedSearchRepository.save(any(AdoptionSavedSearch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        AdoptionSavedSearchDto request = AdoptionSavedSearchDto.builder()
+                .title("강아지")
+                .animalType("개")
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.createSavedSearch(USER_ID, "user7", request);
+            // 롤백되면 afterCommit 이 호출되지 않으므로 매칭 색인에 남지 않음
+            verify(matcher, never()).add(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(matcher).add(any(AdoptionSavedSearch.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.petlogue.duopetbackend.adoption.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionAnimal;
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionAnimalBatchWriter;
+import jakarta.persistence.Column;
+import jakarta.persistence.JoinColumn;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdoptionAnimalBatchWriterTest {
+
+    @Test
+    void historyColumnsCoverEveryMappedColumn() {
+        Set<String> history = Arrays.stream(AdoptionAnimalBatchWriter.HISTORY_COLUMNS.split(","))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+
+        // SHELTER_ANIMALS 에 컬럼을 추가하면 이력 테이블과 HISTORY_COLUMNS 에도 추가해야 함
+        Set<String> missing = new TreeSet<>();
+        for (Field field : AdoptionAnimal.class.getDeclaredFields()) {
+            Column column = field.getAnnotation(Column.class);
+            JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+            String name = column != null ? column.name() : joinColumn != null ? joinColumn.name() : null;
+            if (name != null && !history.contains(name)) {
+                missing.add(name);
+            }
+        }
+        assertTrue(missing.isEmpty(), "SHELTER_ANIMALS_HISTORY 에 없는 컬럼: " + missing);
+    }
+}
@@ -0,0 +1,197 @@
+package com.petlogue.duopetbackend.adoption.service;
+
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionImageCache;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestClient;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdoptionImageCacheTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private String baseUrl;
+    private byte[] png;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    private AdoptionImageCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        png = createPng(800, 600);
+
+        // 공공데이터 이미지 서버 대역: /missing.png 는 404, 그 외에는 같은 PNG 반환
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+            if (path.equals("/missing.png")) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, png.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(png);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.shutdown();
+        }
+        server.stop(0);
+    }
+
+    private AdoptionImageCache newCache(long maxBytes) {
+        return newCache(maxBytes, 25_000_000);
+    }
+
+    private AdoptionImageCache newCache(long maxBytes, long maxPixels) {
+        cache = new AdoptionImageCache(RestClient.create(), cacheDir.toString(), maxBytes, 5_000_000, maxPixels, 320, 1);
+        return cache;
+    }
+
+    @Test
+    void fetchesOriginalOnceAndServesFromDisk() {
+        newCache(10_000_000);
+
+        AdoptionImageCache.CachedImage first = cache.get("448000202500001", baseUrl + "/a.png", false);
+        AdoptionImageCache.CachedImage second = cache.get("448000202500001", baseUrl + "/a.png", false);
+
+        assertEquals(1, hits.get("/a.png").get());
+        assertEquals(png.length, first.size());
+        assertEquals("image/png", first.contentType());
+        assertEquals(first.etag(), second.etag());
+        assertTrue(Files.exists(first.path()));
+    }
+
+    @Test
+    void createsFixedWidthThumbnailOnFirstRequest() throws IOException {
+        newCache(10_000_000);
+
+        AdoptionImageCache.CachedImage thumbnail = cache.get("448000202500002", baseUrl + "/b.png", true);
+        cache.get("448000202500002", baseUrl + "/b.png", true);
+
+        BufferedImage image = ImageIO.read(thumbnail.path().toFile());
+        assertEquals(320, image.getWidth());
+        assertEquals(240, image.getHeight());
+        assertEquals("image/jpeg", thumbnail.contentType());
+        assertEquals(1, hits.get("/b.png").get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverCapacity() {
+        // 원본 두 장은 들어가지만 세 장은 넘치는 용량
+        newCache(png.length * 2L + 10);
+
+        AdoptionImageCache.CachedImage a = cache.get("1", baseUrl + "/1.png", false);
+        AdoptionImageCache.CachedImage b = cache.get("2", baseUrl + "/2.png", false);
+        cache.get("1", baseUrl + "/1.png", false); // a 를 최근 사용으로
+        AdoptionImageCache.CachedImage c = cache.get("3", baseUrl + "/3.png", false);
+
+        assertTrue(Files.exists(a.path()));
+        assertFalse(Files.exists(b.path()));
+        assertTrue(Files.exists(c.path()));
+        assertTrue(cache.getTotalBytes() <= png.length * 2L + 10);
+
+        // 삭제된 항목은 다시 요청하면 새로 내려받음
+        cache.get("2", baseUrl + "/2.png", false);
+        assertEquals(2, hits.get("/2.png").get());
+    }
+
+    @Test
+    void defersDeletingEvictedFileUntilStreamIsClosed() throws IOException {
+        newCache(png.length * 2L + 10);
+
+        AdoptionImageCache.CachedImage a = cache.get("6", baseUrl + "/6.png", false);
+        try (InputStream stream = cache.openStream(a)) {
+            cache.get("7", baseUrl + "/7.png", false);
+            cache.get("8", baseUrl + "/8.png", false); // a 는 캐시에서 밀려남
+
+            assertTrue(cache.getTotalBytes() <= png.length * 2L + 10);
+            assertTrue(Files.exists(a.path()));
+            assertArrayEquals(png, stream.readAllBytes());
+        }
+        assertFalse(Files.exists(a.path()));
+    }
+
+    @Test
+    void rejectsOversizedImageBeforeDecoding() {
+        // 800 x 600 원본, 화소 수 제한 10만
+        newCache(10_000_000, 100_000);
+
+        assertThrows(RuntimeException.class, () -> cache.get("9", baseUrl + "/9.png", true));
+
+        // 원본은 그대로 제공
+        AdoptionImageCache.CachedImage original = cache.get("9", baseUrl + "/9.png", false);
+        assertEquals(png.length, original.size());
+        assertEquals(1, hits.get("/9.png").get());
+    }
+
+    @Test
+    void restoresEntriesFromDiskAfterRestart() {
+        newCache(10_000_000);
+        cache.get("4", baseUrl + "/4.png", false);
+        cache.shutdown();
+
+        AdoptionImageCache restarted = newCache(10_000_000);
+        restarted.get("4", baseUrl + "/4.png", false);
+
+        assertEquals(1, hits.get("/4.png").get());
+        assertEquals(png.length, restarted.getTotalBytes());
+    }
+
+    @Test
+    void upstreamErrorLeavesNoPartialFile() throws IOException {
+        newCache(10_000_000);
+
+        assertThrows(RuntimeException.class, () -> cache.get("5", baseUrl + "/missing.png", false));
+
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            assertEquals(0, files.count());
+        }
+        assertEquals(0, cache.getTotalBytes());
+    }
+
+    private static byte[] createPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.DARK_GRAY);
+        g.fillOval(width / 4, height / 4, width / 2, height / 2);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
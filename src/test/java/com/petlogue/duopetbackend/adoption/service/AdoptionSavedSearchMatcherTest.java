@@ -0,0 +1,69 @@
+package com.petlogue.duopetbackend.adoption.service;
+
+import com.petlogue.duopetbackend.adoption.jpa.entity.AdoptionSavedSearch;
+import com.petlogue.duopetbackend.adoption.jpa.repository.AdoptionSavedSearchRepository;
+import com.petlogue.duopetbackend.adoption.model.dto.AdoptionAnimalDto;
+import com.petlogue.duopetbackend.adoption.model.service.AdoptionSavedSearchMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AdoptionSavedSearchMatcherTest {
+
+    private AdoptionSavedSearchRepository repository;
+    private AdoptionSavedSearchMatcher matcher;
+
+    private final AdoptionAnimalDto dog = AdoptionAnimalDto.builder()
+            .animalId(1L)
+            .animalType("개")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(AdoptionSavedSearchRepository.class);
+        // 저장 트랜잭션이 아직 커밋되지 않아 전체 조회에는 없는 상황
+        when(repository.findAll()).thenReturn(List.of());
+        matcher = new AdoptionSavedSearchMatcher(repository);
+    }
+
+    @Test
+    void searchSavedBeforeFirstLoadIsKept() {
+        matcher.add(search(10L));
+
+        List<AdoptionSavedSearchMatcher.Match> matches = matcher.match(List.of(dog));
+
+        assertEquals(1, matches.size());
+        assertEquals(10L, matches.get(0).criteria().searchId());
+        assertEquals(1, matcher.size());
+    }
+
+    @Test
+    void searchRemovedBeforeFirstLoadIsDropped() {
+        matcher.add(search(10L));
+        matcher.remove(10L);
+
+        assertTrue(matcher.match(List.of(dog)).isEmpty());
+    }
+
+    @Test
+    void loadsOnlyOnceAcrossMatches() {
+        matcher.match(List.of(dog));
+        matcher.match(List.of(dog));
+
+        verify(repository, times(1)).findAll();
+    }
+
+    private static AdoptionSavedSearch search(Long searchId) {
+        return AdoptionSavedSearch.builder()
+                .searchId(searchId)
+                .userId(7L)
+                .loginId("user7")
+                .title("강아지")
+                .animalType("개")
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.petlogue.duopetbackend.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionNameTest {
+
+    @Test
+    void gwangjuCityNeedsProvinceOrDistrict() {
+        assertEquals(new RegionName("경기", "광주시", null), RegionName.parse("경기도 광주시 오포읍"));
+        assertEquals(new RegionName(null, "광주시", null), RegionName.parse("광주시 오포읍"));
+        assertEquals(new RegionName("광주", "북구", null), RegionName.parse("광주시 북구"));
+        assertEquals(new RegionName("광주", "북구", null), RegionName.parse("광주광역시 북구 용봉동"));
+    }
+
+    @Test
+    void keepsDistrictTokenAsSigunguPrefix() {
+        RegionName region = RegionName.parse("서울 강남");
+
+        assertEquals("서울", region.sido());
+        assertNull(region.sigunguKey());
+        assertEquals("서울 강남", region.sigunguKeyPrefix());
+        assertNull(RegionName.parse("서울").sigunguKeyPrefix());
+    }
+}
@@ -0,0 +1,67 @@
+package com.petlogue.duopetbackend.common.geo;
+
+import java.util.Random;
+
+/**
+ * EPSG:5174 -> WGS84 변환 처리량 측정 (테스트가 아닌 수동 실행용)
+ * 국내 범위 좌표를 묶음 API(청크 단위)와 좌표 하나씩 API 로 변환해 단일 스레드 초당 처리 건수를 출력한다.
+ *
+ * 실행: java -cp build/classes/java/main:build/classes/java/test \
+ *         com.petlogue.duopetbackend.common.geo.Epsg5174Benchmark [좌표 수] [청크 크기] [반복 수]
+ */
+public class Epsg5174Benchmark {
+
+    // 결과를 버리지 않도록 누적
+    private static double sink;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int chunk = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        // 동향 90~400km, 북향 0~700km (제주 ~ 강원 북부)
+        Random random = new Random(5);
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = 90_000 + random.nextDouble() * 310_000;
+            y[i] = random.nextDouble() * 700_000;
+        }
+
+        double[] chunkX = new double[chunk];
+        double[] chunkY = new double[chunk];
+        double[] lat = new double[chunk];
+        double[] lng = new double[chunk];
+
+        // JIT 예열 후 측정
+        for (int pass = 0; pass < 2; pass++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                for (int from = 0; from < size; from += chunk) {
+                    int count = Math.min(chunk, size - from);
+                    System.arraycopy(x, from, chunkX, 0, count);
+                    System.arraycopy(y, from, chunkY, 0, count);
+                    Epsg5174.toWgs84(chunkX, chunkY, lat, lng, count);
+                    sink += lat[0] + lng[count - 1];
+                }
+            }
+            long batchNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                for (int i = 0; i < size; i++) {
+                    double[] wgs84 = Epsg5174.toWgs84(x[i], y[i]);
+                    sink += wgs84[0];
+                }
+            }
+            long singleNanos = System.nanoTime() - start;
+
+            if (pass == 1) {
+                double points = (double) size * rounds;
+                System.out.printf("batch (chunk %d)  %.2fM points/s%n", chunk, points / batchNanos * 1e3);
+                System.out.printf("single            %.2fM points/s%n", points / singleNanos * 1e3);
+            }
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+}
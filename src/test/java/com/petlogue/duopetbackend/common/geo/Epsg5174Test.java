@@ -0,0 +1,155 @@
+package com.petlogue.duopetbackend.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기준점 검증 - TM / Helmert / 지심좌표 예제는 EPSG Guidance Note 7-2 의 계산 예
+ */
+public class Epsg5174Test {
+
+    private static final double CM = 0.01;
+
+    @Test
+    void transverseMercatorMatchesEpsgWorkedExample() {
+        // OSGB 1936 / British National Grid: 50°30'N, 0°30'E <-> E 577274.99, N 69740.50
+        TransverseMercator tm = new TransverseMercator(6377563.396, 299.3249646, 49, -2, 0.9996012717, 400000, -100000);
+
+        double[] easting = new double[1];
+        double[] northing = new double[1];
+        tm.forward(new double[] {50.5}, new double[] {0.5}, easting, northing, 1);
+        assertEquals(577274.99, easting[0], CM);
+        assertEquals(69740.50, northing[0], CM);
+
+        double[] lat = new double[1];
+        double[] lng = new double[1];
+        tm.inverse(new double[] {577274.99}, new double[] {69740.50}, lat, lng, 1);
+        // 1e-6 도는 약 0.1m
+        assertEquals(50.5, lat[0], 1e-6);
+        assertEquals(0.5, lng[0], 1e-6);
+    }
+
+    @Test
+    void helmertMatchesEpsgWorkedExample() {
+        // WGS 72 -> WGS 84 (Position Vector): tz 4.5m, rz 0.554", ds 0.219ppm
+        HelmertTransform helmert = new HelmertTransform(HelmertTransform.Ellipsoid.WGS84, HelmertTransform.Ellipsoid.WGS84,
+                0, 0, 4.5, 0, 0, 0.554, 0.219);
+        double[] x = {3657660.66};
+        double[] y = {255768.55};
+        double[] z = {5201382.11};
+        helmert.transformGeocentric(x, y, z, 1);
+        assertEquals(3657660.78, x[0], CM);
+        assertEquals(255778.43, y[0], CM);
+        assertEquals(5201387.75, z[0], CM);
+    }
+
+    @Test
+    void geocentricToGeodeticMatchesEpsgWorkedExample() {
+        // WGS 84: X 3771793.968, Y 140253.342, Z 5124304.349 <-> 53°48'33.820"N, 2°07'46.380"E, h 73.0m
+        double[] lat = new double[1];
+        double[] lng = new double[1];
+        double[] height = new double[1];
+        HelmertTransform.Ellipsoid.WGS84.toGeodetic(new double[] {3771793.968}, new double[] {140253.342},
+                new double[] {5124304.349}, lat, lng, height, 1);
+        assertEquals(53 + 48 / 60.0 + 33.820 / 3600, lat[0], 1e-7);
+        assertEquals(2 + 7 / 60.0 + 46.380 / 3600, lng[0], 1e-7);
+        assertEquals(73.0, height[0], CM);
+    }
+
+    @Test
+    void originOfModifiedCentralBeltIsExact() {
+        TransverseMercator tm = new TransverseMercator(6377397.155, 299.1528128, 38, 127.0 + 10.405 / 3600, 1, 200000, 500000);
+        double[] lat = new double[1];
+        double[] lng = new double[1];
+        tm.inverse(new double[] {200000}, new double[] {500000}, lat, lng, 1);
+        assertEquals(38.0, lat[0], 1e-12);
+        assertEquals(127.0 + 10.405 / 3600, lng[0], 1e-12);
+    }
+
+    @Test
+    void projectionRoundTripsAcrossKorea() {
+        TransverseMercator tm = new TransverseMercator(6377397.155, 299.1528128, 38, 127.0 + 10.405 / 3600, 1, 200000, 500000);
+        int count = 0;
+        double[] lat = new double[41 * 41];
+        double[] lng = new double[41 * 41];
+        for (int i = 0; i <= 40; i++) {
+            for (int j = 0; j <= 40; j++) {
+                lat[count] = 33.0 + i * 0.2;   // 33 ~ 41
+                lng[count] = 124.0 + j * 0.2;  // 124 ~ 132
+                count++;
+            }
+        }
+        double[] easting = new double[count];
+        double[] northing = new double[count];
+        double[] lat2 = new double[count];
+        double[] lng2 = new double[count];
+        tm.forward(lat, lng, easting, northing, count);
+        tm.inverse(easting, northing, lat2, lng2, count);
+        for (int i = 0; i < count; i++) {
+            // 1e-8 도는 약 1mm
+            assertEquals(lat[i], lat2[i], 1e-8);
+            assertEquals(lng[i], lng2[i], 1e-8);
+        }
+    }
+
+    @Test
+    void datumShiftIsAboutThreeHundredSixtyMetresInSeoul() {
+        // 서울 부근에서 Bessel -> 세계측지계 차이는 북서쪽으로 약 365m
+        TransverseMercator tm = new TransverseMercator(6377397.155, 299.1528128, 38, 127.0 + 10.405 / 3600, 1, 200000, 500000);
+        double[] besselLat = new double[1];
+        double[] besselLng = new double[1];
+        tm.inverse(new double[] {198000}, new double[] {452000}, besselLat, besselLng, 1);
+
+        double[] wgs84 = Epsg5174.toWgs84(198000, 452000);
+        double shiftKm = GeoGridIndex.distanceKm(besselLat[0], besselLng[0], wgs84[0], wgs84[1]);
+        assertTrue(shiftKm > 0.34 && shiftKm < 0.39, "shiftKm=" + shiftKm);
+        assertTrue(wgs84[0] > besselLat[0]);
+        assertTrue(wgs84[1] < besselLng[0]);
+    }
+
+    @Test
+    void followsProjDefinition() {
+        // PROJ 의 EPSG:5174 정의
+        //   +proj=tmerc +lat_0=38 +lon_0=127.0028902777778 +k=1 +x_0=200000 +y_0=500000 +ellps=bessel
+        //   +towgs84=-115.80,474.99,674.11,1.16,-2.31,-1.63,6.43 (Position Vector, 초 / ppm)
+        // TM 과 Helmert 는 위의 EPSG 계산 예로 각각 검증되므로, 정의 문자열대로 조립한 결과와 같은지 확인
+        // (대상 타원체 GRS80 / WGS84 차이는 1mm 미만, 1e-8 도는 약 1mm)
+        double[] towgs84 = Arrays.stream("-115.80,474.99,674.11,1.16,-2.31,-1.63,6.43".split(","))
+                .mapToDouble(Double::parseDouble)
+                .toArray();
+        TransverseMercator tm = new TransverseMercator(6377397.155, 299.1528128, 38, 127.0028902777778, 1, 200000, 500000);
+        HelmertTransform helmert = new HelmertTransform(HelmertTransform.Ellipsoid.BESSEL_1841,
+                HelmertTransform.Ellipsoid.WGS84, towgs84[0], towgs84[1], towgs84[2],
+                towgs84[3], towgs84[4], towgs84[5], towgs84[6]);
+
+        // 서울 시청 / 부산 / 제주 부근
+        double[] x = {198000, 385000, 154000};
+        double[] y = {452000, 186000, 4000};
+        double[] lat = new double[x.length];
+        double[] lng = new double[x.length];
+        tm.inverse(x, y, lat, lng, x.length);
+        helmert.transform(lat, lng, x.length);
+        for (int i = 0; i < x.length; i++) {
+            double[] wgs84 = Epsg5174.toWgs84(x[i], y[i]);
+            assertEquals(lat[i], wgs84[0], 1e-8, "lat " + x[i] + "," + y[i]);
+            assertEquals(lng[i], wgs84[1], 1e-8, "lng " + x[i] + "," + y[i]);
+        }
+    }
+
+    @Test
+    void batchMatchesSingleConversion() {
+        double[] x = {150000, 198000, 250000, 320000, 90000};
+        double[] y = {200000, 452000, 600000, 350000, 120000};
+        double[] lat = new double[x.length];
+        double[] lng = new double[x.length];
+        Epsg5174.toWgs84(x, y, lat, lng, x.length);
+        for (int i = 0; i < x.length; i++) {
+            double[] single = Epsg5174.toWgs84(x[i], y[i]);
+            assertEquals(single[0], lat[i], 0.0);
+            assertEquals(single[1], lng[i], 0.0);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.petlogue.duopetbackend.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeoBoundsTest {
+
+    @Test
+    void boundsContainEveryPointWithinRadius() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            // 국내 좌표 위주, 일부는 고위도
+            double lat = i % 10 == 0 ? -80 + random.nextDouble() * 160 : 33 + random.nextDouble() * 5;
+            double lng = 124 + random.nextDouble() * 8;
+            double radiusKm = 0.1 + random.nextDouble() * 50;
+            GeoBounds bounds = GeoBounds.around(lat, lng, radiusKm);
+
+            // 반경 경계 근처의 점 (임의 방향)
+            double[] point = destination(lat, lng, random.nextDouble() * 360, radiusKm * (0.9 + random.nextDouble() * 0.0999));
+            assertTrue(GeoGridIndex.distanceKm(lat, lng, point[0], point[1]) <= radiusKm);
+            assertTrue(bounds.contains(point[0], point[1]),
+                    () -> String.format("(%f, %f) r=%f point=(%f, %f)", lat, lng, radiusKm, point[0], point[1]));
+        }
+    }
+
+    @Test
+    void boundsAreTightAroundKoreanLatitudes() {
+        GeoBounds bounds = GeoBounds.around(37.5665, 126.9780, 5);
+        double latKm = GeoGridIndex.distanceKm(bounds.minLat(), 126.9780, bounds.maxLat(), 126.9780);
+        double lngKm = GeoGridIndex.distanceKm(37.5665, bounds.minLng(), 37.5665, bounds.maxLng());
+        assertEquals(10.0, latKm, 0.01);
+        // 극 쪽 위도 기준으로 넓히므로 약간 크지만 크게 벗어나지 않음
+        assertTrue(lngKm >= 10.0 && lngKm < 10.2, "lngKm=" + lngKm);
+    }
+
+    // 시작점에서 방위각 / 거리만큼 이동한 좌표
+    private static double[] destination(double lat, double lng, double bearingDegrees, double distanceKm) {
+        double angular = distanceKm / GeoGridIndex.EARTH_RADIUS_KM;
+        double bearing = Math.toRadians(bearingDegrees);
+        double lat1 = Math.toRadians(lat);
+        double lng1 = Math.toRadians(lng);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular) + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lng2 = lng1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        return new double[]{Math.toDegrees(lat2), Math.toDegrees(lng2)};
+    }
+}
@@ -0,0 +1,115 @@
+package com.petlogue.duopetbackend.common.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeoClusterGridTest {
+
+    private static final int N = 5_000;
+
+    private final long[] ids = new long[N];
+    private final double[] lats = new double[N];
+    private final double[] lngs = new double[N];
+
+    {
+        // 국내 범위 + 서울 도심 밀집
+        Random random = new Random(7);
+        for (int i = 0; i < N; i++) {
+            ids[i] = 1000 + i;
+            boolean seoul = i % 3 == 0;
+            lats[i] = seoul ? 37.5 + random.nextDouble() * 0.1 : 33.2 + random.nextDouble() * 5;
+            lngs[i] = seoul ? 126.95 + random.nextDouble() * 0.1 : 124.6 + random.nextDouble() * 7;
+        }
+    }
+
+    private final GeoClusterGrid grid = GeoClusterGrid.build(ids, lats, lngs, 14, 64);
+
+    @Test
+    void everyPointIsCountedOnceAtEveryZoom() {
+        for (int zoom = 0; zoom <= 16; zoom += 2) {
+            int total = 0;
+            for (int y = GeoClusterGrid.tileY(38.3, zoom); y <= GeoClusterGrid.tileY(33.1, zoom); y++) {
+                for (int x = GeoClusterGrid.tileX(124.5, zoom); x <= GeoClusterGrid.tileX(131.7, zoom); x++) {
+                    for (GeoClusterGrid.Cluster cluster : grid.tile(zoom, x, y)) {
+                        total += cluster.count();
+                        assertEquals(x, GeoClusterGrid.tileX(cluster.lng(), zoom));
+                        assertEquals(y, GeoClusterGrid.tileY(cluster.lat(), zoom));
+                    }
+                }
+            }
+            assertEquals(N, total, "zoom " + zoom);
+        }
+        assertEquals(N, grid.size());
+    }
+
+    @Test
+    void childTilesSplitTheParentTile() {
+        int zoom = 11;
+        int x = GeoClusterGrid.tileX(127.0, zoom);
+        int y = GeoClusterGrid.tileY(37.55, zoom);
+        int parent = count(grid.tile(zoom, x, y));
+        int children = count(grid.tile(zoom + 1, 2 * x, 2 * y)) + count(grid.tile(zoom + 1, 2 * x + 1, 2 * y))
+                + count(grid.tile(zoom + 1, 2 * x, 2 * y + 1)) + count(grid.tile(zoom + 1, 2 * x + 1, 2 * y + 1));
+
+        assertTrue(parent > 0);
+        assertEquals(parent, children);
+        // 한 타일 안에는 최대 4 x 4 칸
+        assertTrue(grid.tile(zoom, x, y).size() <= 16);
+    }
+
+    @Test
+    void singlePointClusterCarriesItsId() {
+        GeoClusterGrid single = GeoClusterGrid.build(new long[] {42, 43}, new double[] {37.5665, 35.1796},
+                new double[] {126.9780, 129.0756}, 12, 64);
+        int zoom = 12;
+        List<GeoClusterGrid.Cluster> clusters = single.tile(zoom,
+                GeoClusterGrid.tileX(126.9780, zoom), GeoClusterGrid.tileY(37.5665, zoom));
+
+        assertEquals(1, clusters.size());
+        assertEquals(42, clusters.get(0).id());
+        assertEquals(37.5665, clusters.get(0).lat(), 1e-12);
+
+        // 전국 한 칸이면 무게중심과 개수만
+        GeoClusterGrid.Cluster country = single.tile(0, 0, 0).get(0);
+        assertEquals(2, country.count());
+        assertEquals(-1, country.id());
+        assertEquals((37.5665 + 35.1796) / 2, country.lat(), 1e-12);
+    }
+
+    @Test
+    void zoomBeyondPyramidSplitsFinestTierByCentroid() {
+        int x = GeoClusterGrid.tileX(127.0, 14);
+        int y = GeoClusterGrid.tileY(37.55, 14);
+        int parent = count(grid.tile(14, x, y));
+
+        // 18 단계의 16 x 16 하위 타일은 14 단계 군집을 무게중심 위치로 나눠 가짐
+        int children = 0;
+        for (int dy = 0; dy < 16; dy++) {
+            for (int dx = 0; dx < 16; dx++) {
+                for (GeoClusterGrid.Cluster cluster : grid.tile(18, 16 * x + dx, 16 * y + dy)) {
+                    assertEquals(16 * x + dx, GeoClusterGrid.tileX(cluster.lng(), 18));
+                    assertEquals(16 * y + dy, GeoClusterGrid.tileY(cluster.lat(), 18));
+                    children += cluster.count();
+                }
+            }
+        }
+        assertTrue(parent > 0);
+        assertEquals(parent, children);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> grid.tile(3, 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> grid.tile(-1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> GeoClusterGrid.build(ids, lats, lngs, 14, 100));
+        assertThrows(IllegalArgumentException.class, () -> GeoClusterGrid.build(ids, lats, lngs, 19, 64));
+    }
+
+    private static int count(List<GeoClusterGrid.Cluster> clusters) {
+        return clusters.stream().mapToInt(GeoClusterGrid.Cluster::count).sum();
+    }
+}
@@ -0,0 +1,134 @@
+package com.petlogue.duopetbackend.common.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConditionalDownloaderTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String LAST_MODIFIED = "Wed, 01 Oct 2026 00:00:00 GMT";
+
+    private HttpServer server;
+    private Path dir;
+    private ConditionalDownloader downloader;
+
+    // 로컬 서버가 돌려줄 내용 / ETag (null 이면 조건부 요청을 지원하지 않는 서버)
+    private volatile byte[] content;
+    private volatile String etag;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hospitals.csv", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (etag != null && etag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            if (etag != null) {
+                exchange.getResponseHeaders().add("ETag", etag);
+                exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+            }
+            fullResponses.incrementAndGet();
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        });
+        server.start();
+        dir = Files.createTempDirectory("conditional-download");
+        downloader = new ConditionalDownloader(HttpClient.newHttpClient());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void downloadsThenSkipsWhenNotModified() throws Exception {
+        content = randomBytes(3 * 1024 * 1024 + 17);
+        etag = "\"v1\"";
+        Path target = dir.resolve("hospitals.csv");
+
+        ConditionalDownloader.Result first = downloader.download(uri(), target, ConditionalDownloader.Validators.NONE, TIMEOUT);
+        assertTrue(first.changed());
+        assertEquals(content.length, first.bytes());
+        assertArrayEquals(content, Files.readAllBytes(target));
+        assertEquals("\"v1\"", first.validators().etag());
+        assertEquals(LAST_MODIFIED, first.validators().lastModified());
+        assertNotNull(first.validators().sha256());
+        assertFalse(Files.exists(dir.resolve("hospitals.csv.part")));
+
+        Files.delete(target);
+        ConditionalDownloader.Result second = downloader.download(uri(), target, first.validators(), TIMEOUT);
+        assertFalse(second.changed());
+        assertEquals(0, second.bytes());
+        assertEquals(first.validators(), second.validators());
+        assertFalse(Files.exists(target));
+        assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void detectsUnchangedContentByHashWithoutValidators() throws Exception {
+        content = randomBytes(64 * 1024);
+        etag = null;
+        Path target = dir.resolve("hospitals.csv");
+
+        ConditionalDownloader.Result first = downloader.download(uri(), target, ConditionalDownloader.Validators.NONE, TIMEOUT);
+        assertTrue(first.changed());
+        assertNull(first.validators().etag());
+
+        ConditionalDownloader.Result same = downloader.download(uri(), target, first.validators(), TIMEOUT);
+        assertFalse(same.changed());
+        assertEquals(first.validators().sha256(), same.validators().sha256());
+
+        content = randomBytes(64 * 1024 + 1);
+        ConditionalDownloader.Result changed = downloader.download(uri(), target, same.validators(), TIMEOUT);
+        assertTrue(changed.changed());
+        assertArrayEquals(content, Files.readAllBytes(target));
+        assertNotEquals(first.validators().sha256(), changed.validators().sha256());
+    }
+
+    @Test
+    void failsOnErrorStatus() {
+        content = new byte[0];
+        etag = null;
+        URI missing = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/missing.csv");
+        assertThrows(IOException.class, () ->
+                downloader.download(missing, dir.resolve("missing.csv"), ConditionalDownloader.Validators.NONE, TIMEOUT));
+        assertFalse(Files.exists(dir.resolve("missing.csv.part")));
+    }
+
+    private URI uri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/hospitals.csv");
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,21 @@
+package com.petlogue.duopetbackend.common.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutboundHttpMetricsTest {
+
+    @Test
+    void groupsOnlyNumericAndUuidSegments() {
+        assertEquals("GET apis.data.go.kr/{id}/abandonmentPublicSrvc_v2/abandonmentPublic_v2",
+                OutboundHttpMetrics.endpointKey(HttpMethod.GET,
+                        URI.create("https://apis.data.go.kr/1543061/abandonmentPublicSrvc_v2/abandonmentPublic_v2?pageNo=3")));
+        assertEquals("POST api.example.com:8443/v1/orders/{id}/items/{id}",
+                OutboundHttpMetrics.endpointKey(HttpMethod.POST,
+                        URI.create("https://api.example.com:8443/v1/orders/0f8fad5b-d9cb-469f-a165-70867728950e/items/42")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.petlogue.duopetbackend.common.text;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 자동완성 검색 지연 측정 (테스트가 아닌 수동 실행용)
+ * 병원명 / 주소 형태의 합성 데이터로 색인을 만든 뒤 질의별 p50 / p99 / 최대 지연을 출력한다.
+ * "시" 처럼 대부분의 주소에 들어 있는 한 글자 질의가 가장 느린 경로다.
+ *
+ * 실행: java -cp build/classes/java/main:build/classes/java/test \
+ *         com.petlogue.duopetbackend.common.text.HangulNgramIndexBenchmark [건수] [질의당 반복 수]
+ */
+public class HangulNgramIndexBenchmark {
+
+    private static final String[] NAME_PREFIXES = {"행복", "사랑", "서울", "24시", "강남", "해피", "우리", "튼튼", "365", "늘푸른"};
+    private static final String[] NAME_SUFFIXES = {"동물병원", "동물의료센터", "펫클리닉", "동물메디컬센터"};
+    private static final String[] SIDO = {"서울특별시", "경기도", "부산광역시", "인천광역시"};
+    private static final String[] SIGUNGU = {"강남구", "송파구", "수원시", "분당구", "해운대구", "중구"};
+
+    // 한 글자 / 초성 / 이름 앞부분 / 주소 / 섞어 쓴 질의
+    private static final String[] QUERIES = {"시", "동", "ㅎ", "서", "동물", "동물병", "ㄷㅁ", "ㄷㅁㅂㅇ", "서울", "강남", "24", "행복동무", "사랑ㄷ"};
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 30_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+
+        Random random = new Random(1);
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        String[] addresses = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i;
+            names[i] = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + (char) ('가' + random.nextInt(2000))
+                    + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)];
+            addresses[i] = SIDO[random.nextInt(SIDO.length)] + " " + SIGUNGU[random.nextInt(SIGUNGU.length)] + " "
+                    + (char) ('가' + random.nextInt(2000)) + "로 " + random.nextInt(500);
+        }
+
+        long start = System.nanoTime();
+        HangulNgramIndex index = HangulNgramIndex.build(ids, names, addresses);
+        System.out.printf("build: %d entries, %.1f ms%n", size, (System.nanoTime() - start) / 1e6);
+
+        // JIT 예열
+        for (int i = 0; i < iterations; i++) {
+            for (String query : QUERIES) {
+                index.search(query, 10);
+            }
+        }
+
+        long[] all = new long[iterations * QUERIES.length];
+        int n = 0;
+        for (String query : QUERIES) {
+            long[] latencies = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long t = System.nanoTime();
+                index.search(query, 10);
+                latencies[i] = System.nanoTime() - t;
+                all[n++] = latencies[i];
+            }
+            print(query, latencies);
+        }
+        print("(all)", all);
+    }
+
+    private static void print(String label, long[] latencies) {
+        Arrays.sort(latencies);
+        System.out.printf("%-10s p50 %.3f ms  p99 %.3f ms  max %.3f ms%n", label,
+                latencies[latencies.length / 2] / 1e6,
+                latencies[latencies.length * 99 / 100] / 1e6,
+                latencies[latencies.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,76 @@
+package com.petlogue.duopetbackend.common.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HangulNgramIndexTest {
+
+    private final HangulNgramIndex index = HangulNgramIndex.build(
+            new long[] {1, 2, 3, 4, 5, 6},
+            new String[] {"행복동물병원", "동물병원", "24시 동물 메디컬센터", "강남 펫 클리닉", "서울동물병원", "VIP Animal Clinic"},
+            new String[] {"서울특별시 강남구 테헤란로 1", "부산광역시 동래구 원동로 2", "서울특별시 송파구 올림픽로 3",
+                    "서울특별시 강남구 역삼로 4", null, "경기도 성남시 분당구 5"});
+
+    private List<Long> ids(String query) {
+        HangulNgramIndex.Hits hits = index.search(query, 10);
+        List<Long> ids = new ArrayList<>();
+        for (int doc : hits.docs()) {
+            ids.add(index.id(doc));
+        }
+        return ids;
+    }
+
+    @Test
+    void ranksExactThenPrefixThenInnerThenAddress() {
+        HangulNgramIndex.Hits hits = index.search("동물병원", 10);
+
+        assertEquals(List.of(2L, 1L, 5L), ids("동물병원"));
+        assertEquals(HangulNgramIndex.RANK_EXACT, hits.ranks()[0]);
+        assertEquals(HangulNgramIndex.RANK_NAME, hits.ranks()[1]);
+        // 이름 일치가 주소 일치보다 앞
+        assertEquals(List.of(4L, 1L), ids("강남"));
+    }
+
+    @Test
+    void ignoresSpacesCaseAndPunctuation() {
+        assertEquals(List.of(3L), ids("동물메디컬"));
+        assertEquals(List.of(3L), ids("24시"));
+        assertEquals(List.of(6L), ids("vip ANIMAL"));
+        assertEquals(List.of(), ids("  - "));
+    }
+
+    @Test
+    void matchesInitialConsonants() {
+        assertEquals(List.of(2L, 1L, 5L, 3L), ids("ㄷㅁ"));
+        assertEquals(List.of(2L, 1L, 5L), ids("ㄷㅁㅂㅇ"));
+        assertEquals(List.of(4L), ids("ㄱㄴㅍ"));
+    }
+
+    @Test
+    void matchesWhileTypingTheLastSyllable() {
+        // 초성까지 입력
+        assertEquals(List.of(2L, 1L, 5L), ids("동물ㅂ"));
+        // 받침 입력 전
+        assertEquals(List.of(2L, 1L, 5L, 3L), ids("동무"));
+        assertEquals(List.of(2L, 1L, 5L), ids("동물벼"));
+        assertEquals(List.of(), ids("동물벼원"));
+    }
+
+    @Test
+    void rejectsBigramFalsePositives() {
+        // "물병" 과 "병원" 은 있지만 "물병원" 으로 이어지는 곳은 "동물병원" 뿐, "원물" 은 어디에도 없음
+        assertEquals(List.of(2L, 1L, 5L), ids("물병원"));
+        assertEquals(List.of(), ids("병원동물"));
+    }
+
+    @Test
+    void limitsResults() {
+        assertEquals(2, index.search("서울", 2).size());
+        assertEquals(0, index.search("서울", 0).size());
+        assertEquals(0, HangulNgramIndex.build(new long[0], new String[0], new String[0]).search("서울", 10).size());
+    }
+}
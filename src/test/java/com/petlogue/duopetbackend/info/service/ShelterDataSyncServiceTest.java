@@ -0,0 +1,235 @@
+package com.petlogue.duopetbackend.info.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petlogue.duopetbackend.info.jpa.entity.ShelterInfo;
+import com.petlogue.duopetbackend.info.model.service.InfoSpatialIndex;
+import com.petlogue.duopetbackend.info.model.service.InfoTextIndex;
+import com.petlogue.duopetbackend.info.model.service.ShelterDataSyncService;
+import com.petlogue.duopetbackend.info.model.service.ShelterInfoBatchWriter;
+import com.petlogue.duopetbackend.info.model.service.ShelterInfoLinker;
+import com.petlogue.duopetbackend.info.model.service.ShelterStatisticsCache;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+public class ShelterDataSyncServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final int TOTAL_COUNT = 11; // 6 페이지
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<Integer> failingPages = Collections.synchronizedSet(new TreeSet<>());
+    // 보호소명이 빠진 항목 (저장은 건너뛰지만 피드에는 있음)
+    private final Set<Integer> namelessItems = Collections.synchronizedSet(new TreeSet<>());
+
+    private ShelterInfoBatchWriter writer;
+    private ShelterStatisticsCache statisticsCache;
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private ShelterDataSyncService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 공공데이터 보호소 API 대역: pageNo 별로 PAGE_SIZE 건씩, failingPages 는 500
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/shelters", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                int pageNo = pageNo(exchange.getRequestURI().getQuery());
+                Thread.sleep(30);
+                if (failingPages.contains(pageNo)) {
+                    exchange.sendResponseHeaders(500, -1);
+                    return;
+                }
+                byte[] body = pageJson(pageNo).getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+
+        writer = mock(ShelterInfoBatchWriter.class);
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            List<ShelterInfo> shelters = invocation.getArgument(0);
+            shelters.forEach(shelter -> written.add(shelter.getCareRegNo()));
+            return new ShelterInfoBatchWriter.PageCounts(shelters.size(), 0, 0);
+        });
+        statisticsCache = mock(ShelterStatisticsCache.class);
+
+        service = new ShelterDataSyncService(RestClient.create(), new ObjectMapper(), mock(JdbcTemplate.class),
+                mock(ShelterInfoLinker.class), mock(InfoSpatialIndex.class), mock(InfoTextIndex.class),
+                statisticsCache, writer);
+        ReflectionTestUtils.setField(service, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(service, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/shelters");
+        ReflectionTestUtils.setField(service, "pageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(service, "concurrency", 2);
+        ReflectionTestUtils.setField(service, "maxRemoveRatio", 0.3);
+        ReflectionTestUtils.setField(service, "sweepChunkSize", 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void writesEveryPageAndSweepsMissingShelters() {
+        when(writer.findMissing(anySet())).thenReturn(List.of(101L, 102L));
+        when(writer.deleteUnreferenced(anyList(), anyInt())).thenReturn(1);
+
+        Map<String, Object> result = service.syncShelterData();
+
+        assertEquals(true, result.get("success"));
+        assertEquals(6, result.get("totalPages"));
+        assertEquals(TOTAL_COUNT, result.get("inserted"));
+        assertEquals(new TreeSet<>(allCareRegNos()), new TreeSet<>(written));
+        verify(writer, times(6)).write(anyList());
+        verify(writer).deleteUnreferenced(List.of(101L, 102L), 500);
+        assertEquals(1, result.get("removed"));
+        assertEquals(1, result.get("retained"));
+        verify(statisticsCache).invalidate();
+    }
+
+    @Test
+    void limitsConcurrentPageFetches() {
+        when(writer.findMissing(anySet())).thenReturn(List.of());
+
+        service.syncShelterData();
+
+        assertTrue(maxInFlight.get() <= 2, "maxInFlight=" + maxInFlight.get());
+    }
+
+    @Test
+    void failedPageKeepsOtherPagesAndDefersSweep() {
+        failingPages.add(3);
+
+        Map<String, Object> result = service.syncShelterData();
+
+        assertEquals(false, result.get("success"));
+        assertEquals(1, result.get("failedPages"));
+        assertEquals(TOTAL_COUNT - PAGE_SIZE, written.size());
+        assertFalse(written.contains("C004"));
+        assertFalse(written.contains("C005"));
+        verify(writer, never()).findMissing(anySet());
+        verify(writer, never()).deleteUnreferenced(anyList(), anyInt());
+    }
+
+    @Test
+    void writerFailureRollsBackOnlyThatPage() {
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            List<ShelterInfo> shelters = invocation.getArgument(0);
+            if (shelters.stream().anyMatch(shelter -> shelter.getCareRegNo().equals("C001"))) {
+                throw new IllegalStateException("ORA-00001");
+            }
+            shelters.forEach(shelter -> written.add(shelter.getCareRegNo()));
+            return new ShelterInfoBatchWriter.PageCounts(shelters.size(), 0, 0);
+        });
+
+        Map<String, Object> result = service.syncShelterData();
+
+        assertEquals(1, result.get("failedPages"));
+        assertEquals(PAGE_SIZE, result.get("errors"));
+        assertEquals(TOTAL_COUNT - PAGE_SIZE, written.size());
+        verify(writer, never()).findMissing(anySet());
+    }
+
+    @Test
+    void skipsSweepWhenTooManySheltersAreMissing() {
+        List<Long> missing = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            missing.add(id);
+        }
+        when(writer.findMissing(anySet())).thenReturn(missing);
+
+        Map<String, Object> result = service.syncShelterData();
+
+        assertEquals(true, result.get("success"));
+        verify(writer, never()).deleteUnreferenced(anyList(), anyInt());
+        assertEquals(20, result.get("retained"));
+    }
+
+    @Test
+    void skippedItemsAreNotSwept() {
+        namelessItems.add(3);
+        when(writer.findMissing(anySet())).thenReturn(List.of());
+
+        Map<String, Object> result = service.syncShelterData();
+
+        assertEquals(true, result.get("success"));
+        assertFalse(written.contains("C003"));
+        verify(writer).findMissing(argThat(seen -> seen.contains("C003") && seen.size() == TOTAL_COUNT));
+    }
+
+    private static List<String> allCareRegNos() {
+        List<String> careRegNos = new ArrayList<>();
+        for (int i = 0; i < TOTAL_COUNT; i++) {
+            careRegNos.add(String.format("C%03d", i));
+        }
+        return careRegNos;
+    }
+
+    private static int pageNo(String query) {
+        for (String param : query.split("&")) {
+            if (param.startsWith("pageNo=")) {
+                return Integer.parseInt(param.substring("pageNo=".length()));
+            }
+        }
+        return 1;
+    }
+
+    private String pageJson(int pageNo) {
+        StringBuilder items = new StringBuilder();
+        int from = (pageNo - 1) * PAGE_SIZE;
+        for (int i = from; i < Math.min(from + PAGE_SIZE, TOTAL_COUNT); i++) {
+            if (items.length() > 0) {
+                items.append(',');
+            }
+            String careNm = namelessItems.contains(i) ? "" : String.format("\"careNm\":\"보호소 %d\",", i);
+            items.append(String.format(
+                    "{\"careRegNo\":\"C%03d\",%s\"careAddr\":\"서울특별시 중구 %d\"," +
+                    "\"lat\":\"37.5\",\"lng\":\"126.9\",\"vetPersonCnt\":\"1\"}", i, careNm, i));
+        }
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"}," +
+                "\"body\":{\"items\":{\"item\":[" + items + "]},\"numOfRows\":" + PAGE_SIZE +
+                ",\"pageNo\":" + pageNo + ",\"totalCount\":" + TOTAL_COUNT + "}}}";
+    }
+}